@@ -0,0 +1,56 @@
+package com.spendwise.config;
+
+import com.spendwise.model.auth.User;
+import com.spendwise.service.interfaces.IDataVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Objects;
+
+/**
+ * Strong ETags for GET endpoints whose response is a pure function of the caller's data.
+ * The tag is the user's data version plus a hash of user and URL, so it is answered from
+ * {@link IDataVersionService}'s memory: a matching {@code If-None-Match} gets a 304 before
+ * the controller (and any query) runs. A write served by another instance is reflected
+ * within the version's TTL ({@code data-version.ttl-ms}), which bounds how long a stale 304
+ * can be returned.
+ */
+@Component
+public class DataVersionETagInterceptor implements HandlerInterceptor {
+
+    static final String CACHE_CONTROL = "private, no-cache";
+
+    private final IDataVersionService dataVersionService;
+
+    @Autowired
+    public DataVersionETagInterceptor(IDataVersionService dataVersionService) {
+        this.dataVersionService = dataVersionService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        String etag = etag(dataVersionService.current(user.getId()), user.getId(), request);
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+    static String etag(long version, Long userId, HttpServletRequest request) {
+        int resource = Objects.hash(userId, request.getRequestURI(), request.getQueryString());
+        return "\"" + version + "-" + Integer.toHexString(resource) + "\"";
+    }
+
+}
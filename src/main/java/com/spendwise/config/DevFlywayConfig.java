@@ -0,0 +1,25 @@
+package com.spendwise.config;
+
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * In dev the schema is rebuilt on every start, as it was with {@code ddl-auto=create}:
+ * the database is cleaned, the versioned migrations run and the repeatable seed
+ * (db/dev/R__dev_seed.sql) loads the test user and its data.
+ */
+@Configuration
+@Profile("dev")
+public class DevFlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy cleanMigrateStrategy() {
+        return flyway -> {
+            flyway.clean();
+            flyway.migrate();
+        };
+    }
+
+}
@@ -1,8 +1,9 @@
 package com.spendwise.config;
 
-import com.spendwise.repository.UserRepository;
 import com.spendwise.security.JwtAuthenticationFilter;
 import com.spendwise.security.JwtUtil;
+import com.spendwise.security.PrincipalCache;
+import com.spendwise.service.interfaces.ITokenRevocationService;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,8 +13,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -22,21 +21,19 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final ITokenRevocationService tokenRevocationService;
 
-    public SecurityConfig(JwtUtil jwtUtil, UserRepository userRepository) {
+    public SecurityConfig(JwtUtil jwtUtil, PrincipalCache principalCache,
+                          ITokenRevocationService tokenRevocationService) {
         this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
-    }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        this.principalCache = principalCache;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil, userRepository);
+        return new JwtAuthenticationFilter(jwtUtil, principalCache, tokenRevocationService);
     }
 
     @Bean
@@ -47,7 +44,7 @@ public class SecurityConfig {
             .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(HttpMethod.POST, "/auth/register", "/auth/login", "/auth/refresh", "/auth/logout", "/auth/forgot-password", "/auth/reset-password").permitAll()
-                .requestMatchers(HttpMethod.GET, "/auth/verify", "/setup/recommendations").permitAll()
+                .requestMatchers(HttpMethod.GET, "/auth/verify", "/auth/account/deletions/*", "/setup/recommendations").permitAll()
                 .requestMatchers("/h2-console/**", "/error", "/health").permitAll()
                 .requestMatchers("/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
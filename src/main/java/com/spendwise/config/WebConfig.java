@@ -1,27 +1,50 @@
 package com.spendwise.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.Arrays;
 import java.util.List;
 
 @Configuration
-public class WebConfig {
+public class WebConfig implements WebMvcConfigurer {
 
     @Value("${cors.allowed-origins:http://localhost:3000}")
     private String[] allowedOrigins;
 
+    private final DataVersionETagInterceptor dataVersionETagInterceptor;
+
+    @Autowired
+    public WebConfig(DataVersionETagInterceptor dataVersionETagInterceptor) {
+        this.dataVersionETagInterceptor = dataVersionETagInterceptor;
+    }
+
+    /**
+     * Endpoints polled by the clients; everything they return is derived from the
+     * caller's own rows, so the user's data version is a valid validator for them.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(dataVersionETagInterceptor)
+                .addPathPatterns("/expenses", "/expenses/**", "/budgets", "/budgets/**", "/transactions",
+                        "/history/summary", "/mail/imports/pending-count");
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowedOrigins(Arrays.asList(allowedOrigins));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of(HttpHeaders.ETAG, IdempotencyFilter.REPLAYED_HEADER));
         config.setAllowCredentials(true);
         config.setMaxAge(3600L);
 
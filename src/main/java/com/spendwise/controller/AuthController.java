@@ -1,13 +1,17 @@
 package com.spendwise.controller;
 
+import com.spendwise.dto.AccountDeletionDTO;
 import com.spendwise.dto.RegisterWithSetupDTO;
 import com.spendwise.dto.UserDTO;
 import com.spendwise.dto.auth.AuthResponseDTO;
 import com.spendwise.dto.auth.LoginRequestDTO;
 import com.spendwise.dto.auth.UpdateProfileDTO;
+import com.spendwise.enums.AccountDeletionStatus;
 import com.spendwise.service.interfaces.IAuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -40,8 +44,10 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponseDTO> login(@RequestBody LoginRequestDTO dto) {
-        AuthResponseDTO response = authService.login(dto);
+    public ResponseEntity<AuthResponseDTO> login(@RequestBody LoginRequestDTO dto, HttpServletRequest request) {
+        // behind the proxy this is the right-most X-Forwarded-For hop that is not an internal proxy
+        // (server.tomcat.remoteip.*), so a client cannot pick its own IP by sending the header
+        AuthResponseDTO response = authService.login(dto, request.getRemoteAddr());
         log.debug("POST /auth/login finished for {}", dto.getEmail());
         return ResponseEntity.ok(response);
     }
@@ -56,10 +62,18 @@ public class AuthController {
         return ResponseEntity.ok(authService.updateProfile(dto));
     }
 
+    /** 200 when the account is already gone, 202 when it was queued for the background purge. */
     @DeleteMapping("/account")
-    public ResponseEntity<Void> deleteAccount() {
-        authService.deleteAccount();
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<AccountDeletionDTO> deleteAccount() {
+        AccountDeletionDTO deletion = authService.deleteAccount();
+        HttpStatus status = deletion.getStatus() == AccountDeletionStatus.COMPLETED ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(deletion);
+    }
+
+    // Public: the account can no longer authenticate; the random id is the only handle
+    @GetMapping("/account/deletions/{id}")
+    public ResponseEntity<AccountDeletionDTO> getAccountDeletion(@PathVariable String id) {
+        return ResponseEntity.ok(authService.getAccountDeletion(id));
     }
 
     @PostMapping("/refresh")
@@ -74,6 +88,12 @@ public class AuthController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll() {
+        authService.logoutAll();
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/forgot-password")
     public ResponseEntity<Map<String, String>> forgotPassword(@RequestBody Map<String, String> body) {
         authService.forgotPassword(body.get("email"));
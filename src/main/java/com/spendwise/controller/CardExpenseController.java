@@ -2,6 +2,8 @@ package com.spendwise.controller;
 
 import com.spendwise.dto.CardExpenseDTO;
 import com.spendwise.dto.CardExpenseFilterDTO;
+import com.spendwise.dto.CursorPageDTO;
+import com.spendwise.dto.SliceDTO;
 import com.spendwise.service.interfaces.ICardExpenseService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +13,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/card-expenses")
 public class CardExpenseController {
@@ -38,6 +42,23 @@ public class CardExpenseController {
         return ResponseEntity.ok(service.list(filters, pageable));
     }
 
+    @GetMapping("/slice")
+    public ResponseEntity<SliceDTO<CardExpenseDTO>> listSlice(@ModelAttribute CardExpenseFilterDTO filters, Pageable pageable) {
+        return ResponseEntity.ok(service.listSlice(filters, pageable));
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<Map<String, Long>> count(@ModelAttribute CardExpenseFilterDTO filters) {
+        return ResponseEntity.ok(Map.of("count", service.approximateCount(filters)));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<CardExpenseDTO>> listByCursor(@ModelAttribute CardExpenseFilterDTO filters,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(service.listByCursor(filters, cursor, size));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<CardExpenseDTO> update(@PathVariable Long id, @RequestBody CardExpenseDTO dto) throws ChangeSetPersister.NotFoundException {
         return ResponseEntity.ok(service.update(id, dto));
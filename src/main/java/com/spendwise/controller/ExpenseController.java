@@ -1,7 +1,10 @@
 package com.spendwise.controller;
 
+import com.spendwise.dto.CursorPageDTO;
 import com.spendwise.dto.ExpenseDTO;
 import com.spendwise.dto.ExpenseFilterDTO;
+import com.spendwise.dto.SliceDTO;
+import com.spendwise.dto.SparsePageDTO;
 import com.spendwise.service.interfaces.IExpenseService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/expenses")
@@ -35,6 +39,14 @@ public class ExpenseController {
                 .ok(expense);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<ExpenseDTO>> createBulk(@RequestBody List<ExpenseDTO> dtos) {
+        List<ExpenseDTO> expenses = iExpenseService.createBulk(dtos);
+        log.debug("POST to Expense bulk Finished, {} created", expenses.size());
+        return ResponseEntity
+                .ok(expenses);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ExpenseDTO> getById(@PathVariable Long id) throws ChangeSetPersister.NotFoundException {
         ExpenseDTO expense = iExpenseService.findById(id);
@@ -43,16 +55,61 @@ public class ExpenseController {
                 .ok(expense);
     }
 
+    /**
+     * With {@code fields} (comma-separated) and/or {@code refs=id|embed} the page is returned in
+     * sparse form: only the selected columns are read, and with {@code refs=id} each referenced
+     * object is sent once in {@code references} instead of nested in every row.
+     */
     @GetMapping
     public ResponseEntity<?> list(
         @ModelAttribute ExpenseFilterDTO filters,
-        Pageable pageable
+        Pageable pageable,
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) String refs
     ) {
+        if (fields != null || refs != null) {
+            SparsePageDTO page = iExpenseService.listSparse(filters, pageable, fields, refs);
+            log.debug("LIST Expenses (sparse) Finished");
+            return ResponseEntity.ok(page);
+        }
         Page<ExpenseDTO> categories = iExpenseService.list(filters, pageable);
         log.debug("LIST Categories Finished");
         return ResponseEntity.ok(categories);
     }
 
+    @GetMapping("/slice")
+    public ResponseEntity<SliceDTO<ExpenseDTO>> listSlice(
+        @ModelAttribute ExpenseFilterDTO filters,
+        Pageable pageable
+    ) {
+        SliceDTO<ExpenseDTO> result = iExpenseService.listSlice(filters, pageable);
+        log.debug("LIST Expenses slice Finished");
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<Map<String, Long>> count(@ModelAttribute ExpenseFilterDTO filters) {
+        return ResponseEntity.ok(Map.of("count", iExpenseService.approximateCount(filters)));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SliceDTO<ExpenseDTO>> search(@RequestParam("q") String query, Pageable pageable) {
+        SliceDTO<ExpenseDTO> result = iExpenseService.search(query, pageable);
+        log.debug("SEARCH Expenses Finished");
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<ExpenseDTO>> listByCursor(
+        @ModelAttribute ExpenseFilterDTO filters,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        CursorPageDTO<ExpenseDTO> result = iExpenseService.listByCursor(filters, cursor, size);
+        log.debug("LIST Expenses by cursor Finished");
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ExpenseDTO> update(@PathVariable Long id, @RequestBody ExpenseDTO dto) throws ChangeSetPersister.NotFoundException {
         ExpenseDTO expense = iExpenseService.update(id, dto);
@@ -1,7 +1,10 @@
 package com.spendwise.controller;
 
+import com.spendwise.dto.CursorPageDTO;
 import com.spendwise.dto.IncomeDTO;
 import com.spendwise.dto.IncomeFilterDTO;
+import com.spendwise.dto.SliceDTO;
+import com.spendwise.dto.SparsePageDTO;
 import com.spendwise.service.interfaces.IIncomeService;
 import com.spendwise.service.interfaces.IIncomeService;
 import org.slf4j.Logger;
@@ -13,6 +16,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/income")
 public class IncomeController {
@@ -42,16 +47,54 @@ public class IncomeController {
                 .ok(income);
     }
 
+    /**
+     * With {@code fields} (comma-separated) and/or {@code refs=id|embed} the page is returned in
+     * sparse form: only the selected columns are read, and with {@code refs=id} each referenced
+     * object is sent once in {@code references} instead of nested in every row.
+     */
     @GetMapping
     public ResponseEntity<?> list(
         @ModelAttribute IncomeFilterDTO filters,
-        Pageable pageable
+        Pageable pageable,
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) String refs
     ) {
+        if (fields != null || refs != null) {
+            SparsePageDTO page = iIncomeService.listSparse(filters, pageable, fields, refs);
+            log.debug("LIST Income (sparse) Finished");
+            return ResponseEntity.ok(page);
+        }
         Page<IncomeDTO> categories = iIncomeService.list(filters, pageable);
         log.debug("LIST Categories Finished");
         return ResponseEntity.ok(categories);
     }
 
+    @GetMapping("/slice")
+    public ResponseEntity<SliceDTO<IncomeDTO>> listSlice(
+        @ModelAttribute IncomeFilterDTO filters,
+        Pageable pageable
+    ) {
+        SliceDTO<IncomeDTO> result = iIncomeService.listSlice(filters, pageable);
+        log.debug("LIST Incomes slice Finished");
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<Map<String, Long>> count(@ModelAttribute IncomeFilterDTO filters) {
+        return ResponseEntity.ok(Map.of("count", iIncomeService.approximateCount(filters)));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<IncomeDTO>> listByCursor(
+        @ModelAttribute IncomeFilterDTO filters,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        CursorPageDTO<IncomeDTO> result = iIncomeService.listByCursor(filters, cursor, size);
+        log.debug("LIST Incomes by cursor Finished");
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<IncomeDTO> update(@PathVariable Long id, @RequestBody IncomeDTO dto) throws ChangeSetPersister.NotFoundException {
         IncomeDTO income = iIncomeService.update(id, dto);
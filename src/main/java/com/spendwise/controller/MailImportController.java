@@ -1,5 +1,6 @@
 package com.spendwise.controller;
 
+import com.spendwise.dto.MailImportBulkConfirmDTO;
 import com.spendwise.dto.MailImportConfirmDTO;
 import com.spendwise.dto.MailImportDTO;
 import com.spendwise.dto.MailImportFilterDTO;
@@ -14,6 +15,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -59,6 +61,20 @@ public class MailImportController {
         return ResponseEntity.ok(result);
     }
 
+    @PostMapping("/bulk/confirm")
+    public ResponseEntity<List<MailImportDTO>> confirmBulk(@RequestBody List<MailImportBulkConfirmDTO> items) {
+        List<MailImportDTO> result = mailImportService.confirmBulk(items);
+        log.debug("POST /mail/imports/bulk/confirm, {} import(s)", result.size());
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/bulk/ignore")
+    public ResponseEntity<List<MailImportDTO>> ignoreBulk(@RequestBody List<Long> ids) {
+        List<MailImportDTO> result = mailImportService.ignoreBulk(ids);
+        log.debug("POST /mail/imports/bulk/ignore, {} import(s)", result.size());
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/pending-count")
     public ResponseEntity<Map<String, Long>> getPendingCount() {
         return ResponseEntity.ok(Map.of("count", mailImportService.getPendingCount()));
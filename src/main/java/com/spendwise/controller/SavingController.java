@@ -2,6 +2,7 @@ package com.spendwise.controller;
 
 import com.spendwise.dto.SavingDTO;
 import com.spendwise.dto.SavingFilterDTO;
+import com.spendwise.dto.SliceDTO;
 import com.spendwise.service.interfaces.ISavingService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +13,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/savings")
 public class SavingController {
@@ -49,6 +52,28 @@ public class SavingController {
         return ResponseEntity.ok(savings);
     }
 
+    @GetMapping("/slice")
+    public ResponseEntity<SliceDTO<SavingDTO>> listSlice(
+            @ModelAttribute SavingFilterDTO filters,
+            Pageable pageable
+    ) {
+        SliceDTO<SavingDTO> savings = iSavingService.listSlice(filters, pageable);
+        log.debug("LIST Savings slice Finished");
+        return ResponseEntity.ok(savings);
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<Map<String, Long>> count(@ModelAttribute SavingFilterDTO filters) {
+        return ResponseEntity.ok(Map.of("count", iSavingService.approximateCount(filters)));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SliceDTO<SavingDTO>> search(@RequestParam("q") String query, Pageable pageable) {
+        SliceDTO<SavingDTO> result = iSavingService.search(query, pageable);
+        log.debug("SEARCH Savings Finished");
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<SavingDTO> update(@PathVariable Long id, @RequestBody SavingDTO dto) throws ChangeSetPersister.NotFoundException {
         SavingDTO saving = iSavingService.update(id, dto);
@@ -4,10 +4,10 @@ import com.spendwise.dto.RecommendedCurrencyDTO;
 import com.spendwise.dto.RecommendedEntityDTO;
 import com.spendwise.dto.RecommendedPaymentMethodDTO;
 import com.spendwise.dto.SetupRecommendationsDTO;
+import com.spendwise.mapper.RecommendationMapper;
 import com.spendwise.repository.RecommendedCurrencyRepository;
 import com.spendwise.repository.RecommendedEntityRepository;
 import com.spendwise.repository.RecommendedPaymentMethodRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -22,7 +22,6 @@ public class SetupController {
     private final RecommendedCurrencyRepository currencyRepo;
     private final RecommendedEntityRepository entityRepo;
     private final RecommendedPaymentMethodRepository pmRepo;
-    private final ModelMapper modelMapper = new ModelMapper();
 
     public SetupController(RecommendedCurrencyRepository currencyRepo,
                            RecommendedEntityRepository entityRepo,
@@ -36,22 +35,17 @@ public class SetupController {
     public ResponseEntity<SetupRecommendationsDTO> getRecommendations() {
         List<RecommendedCurrencyDTO> currencies = currencyRepo.findAllByOrderByDisplayOrderAsc()
                 .stream()
-                .map(c -> modelMapper.map(c, RecommendedCurrencyDTO.class))
+                .map(RecommendationMapper::toDTO)
                 .toList();
 
         List<RecommendedEntityDTO> entities = entityRepo.findAllByOrderByIdAsc()
                 .stream()
-                .map(e -> modelMapper.map(e, RecommendedEntityDTO.class))
+                .map(RecommendationMapper::toDTO)
                 .toList();
 
         List<RecommendedPaymentMethodDTO> paymentMethods = pmRepo.findAllByOrderByIdAsc()
                 .stream()
-                .map(pm -> {
-                    RecommendedPaymentMethodDTO dto = modelMapper.map(pm, RecommendedPaymentMethodDTO.class);
-                    if (pm.getEntity() != null) dto.setRecommendedEntityId(pm.getEntity().getId());
-                    dto.setPaymentMethodType(pm.getPaymentMethodType().name());
-                    return dto;
-                })
+                .map(RecommendationMapper::toDTO)
                 .toList();
 
         SetupRecommendationsDTO result = new SetupRecommendationsDTO();
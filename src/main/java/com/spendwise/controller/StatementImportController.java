@@ -0,0 +1,59 @@
+package com.spendwise.controller;
+
+import com.spendwise.dto.StatementImportDTO;
+import com.spendwise.enums.StatementFormat;
+import com.spendwise.service.interfaces.IStatementImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+
+@RestController
+@RequestMapping("/statements")
+public class StatementImportController {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementImportController.class);
+
+    private final IStatementImportService statementImportService;
+
+    @Autowired
+    public StatementImportController(IStatementImportService statementImportService) {
+        this.statementImportService = statementImportService;
+    }
+
+    /**
+     * The statement file is the raw request body (not multipart), so it is parsed while it
+     * is still being uploaded. Santander exports are usually windows-1252: pass {@code charset}.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<StatementImportDTO> importStatement(
+            @RequestParam StatementFormat format,
+            @RequestParam(defaultValue = "UTF-8") String charset,
+            InputStream body) {
+        StatementImportDTO result = statementImportService.importStatement(format, body, charsetOf(charset));
+        log.debug("POST /statements/import ({}) finished: {}", format, result);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/import/progress")
+    public ResponseEntity<StatementImportDTO> progress() {
+        return ResponseEntity.ok(statementImportService.progress());
+    }
+
+    private static Charset charsetOf(String name) {
+        try {
+            return Charset.forName(name);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported charset " + name);
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.spendwise.controller;
+
+import com.spendwise.dto.CursorPageDTO;
+import com.spendwise.dto.TransactionDTO;
+import com.spendwise.dto.TransactionFilterDTO;
+import com.spendwise.service.interfaces.ITransactionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/transactions")
+public class TransactionController {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionController.class);
+
+    private final ITransactionService iTransactionService;
+
+    @Autowired
+    public TransactionController(ITransactionService iTransactionService) {
+        this.iTransactionService = iTransactionService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CursorPageDTO<TransactionDTO>> feed(
+        @ModelAttribute TransactionFilterDTO filters,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        CursorPageDTO<TransactionDTO> result = iTransactionService.feed(filters, cursor, size);
+        log.debug("LIST Transactions Finished");
+        return ResponseEntity.ok(result);
+    }
+}
@@ -0,0 +1,17 @@
+package com.spendwise.dto;
+
+import com.spendwise.enums.AccountDeletionStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class AccountDeletionDTO {
+
+    private String id;
+    private AccountDeletionStatus status;
+    private Long deletedRows;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+
+}
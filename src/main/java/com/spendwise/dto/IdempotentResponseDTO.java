@@ -0,0 +1,17 @@
+package com.spendwise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotentResponseDTO {
+
+    private String requestHash;
+    private Integer status;
+    private String contentType;
+    private String body;
+
+}
@@ -0,0 +1,13 @@
+package com.spendwise.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/** One row of a bulk confirm: the import to confirm and the same choices as a single confirm. */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class MailImportBulkConfirmDTO extends MailImportConfirmDTO {
+
+    private Long id;
+
+}
@@ -0,0 +1,24 @@
+package com.spendwise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceDTO<T> {
+
+    private List<T> content;
+    private Integer page;
+    private Integer size;
+    private Boolean hasNext;
+
+    public static <T> SliceDTO<T> of(Slice<T> slice) {
+        return new SliceDTO<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+
+}
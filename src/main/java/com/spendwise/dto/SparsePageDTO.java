@@ -0,0 +1,24 @@
+package com.spendwise.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SparsePageDTO {
+
+    private List<Map<String, Object>> content;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Map<Long, Object>> references;   // only with refs=id: table -> id -> row
+    private Integer page;
+    private Integer size;
+    private Long totalElements;
+    private Integer totalPages;
+
+}
@@ -0,0 +1,19 @@
+package com.spendwise.dto;
+
+import com.spendwise.enums.StatementFormat;
+import com.spendwise.enums.StatementImportStatus;
+import lombok.Data;
+
+@Data
+public class StatementImportDTO {
+
+    private StatementFormat format;
+    private StatementImportStatus status;
+    private Integer rowsRead;
+    private Integer imported;     // expenses created through a merchant binding
+    private Integer pending;      // left as PENDING mail imports for review
+    private Integer duplicates;
+    private Integer skipped;      // credits and lines that could not be read
+    private String error;
+
+}
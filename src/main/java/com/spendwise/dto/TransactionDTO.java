@@ -0,0 +1,20 @@
+package com.spendwise.dto;
+
+import com.spendwise.enums.TransactionType;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+public class TransactionDTO {
+
+    private TransactionType type;
+    private Long id;             // id within its type: /expenses/{id}, /income/{id}, ...
+    private String description;
+    private BigDecimal amountInPesos;
+    private BigDecimal amountInDollars;
+    private LocalDate date;
+    private CurrencyDTO currency;
+
+}
@@ -0,0 +1,17 @@
+package com.spendwise.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+public class TransactionFilterDTO {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Long currencyId;
+    private BigDecimal minAmountInPesos;
+    private BigDecimal maxAmountInPesos;
+
+}
@@ -0,0 +1,7 @@
+package com.spendwise.enums;
+
+public enum AccountDeletionStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED
+}
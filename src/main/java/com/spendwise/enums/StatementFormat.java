@@ -0,0 +1,20 @@
+package com.spendwise.enums;
+
+public enum StatementFormat {
+
+    SANTANDER_CSV("Santander"),
+    MERCADOPAGO_CSV("MercadoPago"),
+    OFX("OFX");
+
+    private final String entityName;
+
+    StatementFormat(String entityName) {
+        this.entityName = entityName;
+    }
+
+    /** Stored as MailImport.senderEntity for rows that are left for review */
+    public String getEntityName() {
+        return entityName;
+    }
+
+}
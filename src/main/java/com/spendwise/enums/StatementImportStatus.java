@@ -0,0 +1,7 @@
+package com.spendwise.enums;
+
+public enum StatementImportStatus {
+    RUNNING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,12 @@
+package com.spendwise.enums;
+
+/**
+ * Source of a row in the transactions feed. The declaration order breaks ties between
+ * rows of different types on the same date, so it is part of the feed's cursor order.
+ */
+public enum TransactionType {
+    EXPENSE,
+    INCOME,
+    CARD_EXPENSE,
+    SAVING
+}
@@ -0,0 +1,120 @@
+package com.spendwise.event;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process bus for domain events. An event published inside a transaction is handed to
+ * its handlers only after that transaction commits, so a rollback never leaks side effects
+ * and handlers always see the committed rows; outside a transaction it is dispatched at once.
+ * <p>
+ * Every handler runs as its own task on a small fixed pool with a bounded queue, so a slow
+ * or failing handler neither holds the request nor stops the others. When the queue is full
+ * the publishing thread runs the task itself instead of dropping it (still after the commit,
+ * see {@link DomainEventHandler} for what that asks of handlers), and a failed handler is
+ * retried a few times before the event is logged as lost. The pool drains its queue on
+ * shutdown; an event is only lost if the process dies between the commit and the handler.
+ */
+@Component
+public class DomainEventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventBus.class);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MILLIS = 50;
+
+    private final List<DomainEventHandler<?>> handlers;
+    private final Executor executor;
+
+    @Autowired
+    public DomainEventBus(@Lazy List<DomainEventHandler<?>> handlers,
+                          @Value("${events.threads:2}") int threads,
+                          @Value("${events.queue-capacity:1000}") int queueCapacity) {
+        this(handlers, newExecutor(threads, queueCapacity));
+    }
+
+    public DomainEventBus(List<DomainEventHandler<?>> handlers, Executor executor) {
+        this.handlers = handlers;
+        this.executor = executor;
+    }
+
+    public void publish(Object event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(event);
+            }
+        });
+    }
+
+    private void dispatch(Object event) {
+        for (DomainEventHandler<?> handler : handlers) {
+            if (handler.eventType().isInstance(event)) {
+                executor.execute(() -> deliver(handler, event));
+            }
+        }
+    }
+
+    private static <E> void deliver(DomainEventHandler<E> handler, Object event) {
+        E typed = handler.eventType().cast(event);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                handler.handle(typed);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    log.error("Handler {} failed {} times on {}, giving up", handler.getClass().getSimpleName(), attempt, event, e);
+                    return;
+                }
+                log.warn("Handler {} failed on {} (attempt {}): {}", handler.getClass().getSimpleName(), event, attempt, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+            if (!service.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Domain event handlers still running at shutdown");
+            }
+        }
+    }
+
+    private static ExecutorService newExecutor(int threads, int queueCapacity) {
+        AtomicInteger count = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "domain-event-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+}
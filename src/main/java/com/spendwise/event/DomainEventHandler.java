@@ -0,0 +1,18 @@
+package com.spendwise.event;
+
+/**
+ * Reacts to the events of one type published on the {@link DomainEventBus}. Handlers run
+ * after the publishing transaction committed, off the request thread, and may be retried,
+ * so they have to be idempotent.
+ * <p>
+ * When the bus is saturated a handler runs on the publishing thread, inside the committed
+ * transaction's {@code afterCommit}. A handler that writes must therefore start a transaction
+ * of its own ({@code REQUIRES_NEW}) rather than join the one that has already committed.
+ */
+public interface DomainEventHandler<E> {
+
+    Class<E> eventType();
+
+    void handle(E event);
+
+}
@@ -0,0 +1,7 @@
+package com.spendwise.event;
+
+import java.util.List;
+
+/** One or more expenses were created, in the order the request listed them. */
+public record ExpenseCreated(Long userId, List<Long> expenseIds) implements ExpenseEvent {
+}
@@ -0,0 +1,4 @@
+package com.spendwise.event;
+
+public record ExpenseDeleted(Long userId, Long expenseId) implements ExpenseEvent {
+}
@@ -0,0 +1,11 @@
+package com.spendwise.event;
+
+/**
+ * Something happened to the expenses of one user. Events carry ids only: handlers run
+ * after the commit, on another thread, and reload whatever they need.
+ */
+public sealed interface ExpenseEvent permits ExpenseCreated, ExpenseUpdated, ExpenseDeleted {
+
+    Long userId();
+
+}
@@ -0,0 +1,4 @@
+package com.spendwise.event;
+
+public record ExpenseUpdated(Long userId, Long expenseId) implements ExpenseEvent {
+}
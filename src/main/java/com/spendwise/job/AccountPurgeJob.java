@@ -0,0 +1,38 @@
+package com.spendwise.job;
+
+import com.spendwise.service.interfaces.IAccountDeletionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Purges the accounts queued for deletion every minute, in small transactions so a large
+ * account never holds a connection or its row locks for long.
+ */
+@Component
+public class AccountPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountPurgeJob.class);
+
+    private final IAccountDeletionService accountDeletionService;
+
+    @Autowired
+    public AccountPurgeJob(IAccountDeletionService accountDeletionService) {
+        this.accountDeletionService = accountDeletionService;
+    }
+
+    @Scheduled(cron = "${jobs.account-purge.cron:0 * * * * *}")
+    public void purgePending() {
+        try {
+            int purged = accountDeletionService.purgePending();
+            if (purged > 0) {
+                log.info("AccountPurgeJob purged {} account(s)", purged);
+            }
+        } catch (Exception e) {
+            log.error("AccountPurgeJob failed: {}", e.getMessage());
+        }
+    }
+
+}
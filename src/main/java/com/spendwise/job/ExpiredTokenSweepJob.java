@@ -0,0 +1,38 @@
+package com.spendwise.job;
+
+import com.spendwise.service.interfaces.IExpiredTokenService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes expired refresh, email verification and password reset tokens every 15
+ * minutes, so the token tables only hold tokens that can still be used.
+ */
+@Component
+public class ExpiredTokenSweepJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpiredTokenSweepJob.class);
+
+    private final IExpiredTokenService expiredTokenService;
+
+    @Autowired
+    public ExpiredTokenSweepJob(IExpiredTokenService expiredTokenService) {
+        this.expiredTokenService = expiredTokenService;
+    }
+
+    @Scheduled(cron = "${jobs.token-sweep.cron:0 */15 * * * *}")
+    public void purgeExpired() {
+        try {
+            int purged = expiredTokenService.purgeExpired();
+            if (purged > 0) {
+                log.info("ExpiredTokenSweepJob deleted {} expired token(s)", purged);
+            }
+        } catch (Exception e) {
+            log.error("ExpiredTokenSweepJob failed: {}", e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.spendwise.job;
+
+import com.spendwise.service.interfaces.IIdempotencyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes expired idempotency keys every hour, so the table only holds the last day of
+ * create requests.
+ */
+@Component
+public class IdempotencyKeyCleanupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyCleanupJob.class);
+
+    private final IIdempotencyService idempotencyService;
+
+    @Autowired
+    public IdempotencyKeyCleanupJob(IIdempotencyService idempotencyService) {
+        this.idempotencyService = idempotencyService;
+    }
+
+    @Scheduled(cron = "${jobs.idempotency-keys.cron:0 17 * * * *}")
+    public void purgeExpired() {
+        try {
+            int deleted = idempotencyService.purgeExpired();
+            log.info("IdempotencyKeyCleanupJob deleted {} expired key(s)", deleted);
+        } catch (Exception e) {
+            log.error("IdempotencyKeyCleanupJob failed: {}", e.getMessage());
+        }
+    }
+
+}
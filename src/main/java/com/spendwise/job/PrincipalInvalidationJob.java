@@ -0,0 +1,48 @@
+package com.spendwise.job;
+
+import com.spendwise.service.interfaces.IPrincipalInvalidationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies the principal invalidations written by other nodes every few seconds, and
+ * deletes the ones old enough that no cached entry can predate them.
+ */
+@Component
+public class PrincipalInvalidationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PrincipalInvalidationJob.class);
+
+    private final IPrincipalInvalidationService principalInvalidationService;
+
+    @Autowired
+    public PrincipalInvalidationJob(IPrincipalInvalidationService principalInvalidationService) {
+        this.principalInvalidationService = principalInvalidationService;
+    }
+
+    @Scheduled(cron = "${jobs.principal-invalidation.cron:*/5 * * * * *}")
+    public void applyRemote() {
+        try {
+            int applied = principalInvalidationService.applyRemote();
+            if (applied > 0) {
+                log.debug("PrincipalInvalidationJob applied {} invalidation(s)", applied);
+            }
+        } catch (Exception e) {
+            log.error("PrincipalInvalidationJob failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${jobs.principal-invalidation.purge-cron:0 43 * * * *}")
+    public void purgeExpired() {
+        try {
+            int deleted = principalInvalidationService.purgeExpired();
+            log.info("PrincipalInvalidationJob deleted {} old invalidation(s)", deleted);
+        } catch (Exception e) {
+            log.error("PrincipalInvalidationJob purge failed: {}", e.getMessage());
+        }
+    }
+
+}
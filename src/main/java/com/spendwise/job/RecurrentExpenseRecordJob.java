@@ -0,0 +1,49 @@
+package com.spendwise.job;
+
+import com.spendwise.service.interfaces.IRecurrentExpenseRecordService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Materializes the RecurrentExpenseRecord rows of the current month for every user.
+ * Runs at the start of each month and once on startup to catch up on a missed run,
+ * so pending/cancelled views can be read straight from the table.
+ */
+@Component
+public class RecurrentExpenseRecordJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurrentExpenseRecordJob.class);
+
+    private final IRecurrentExpenseRecordService recordService;
+
+    @Autowired
+    public RecurrentExpenseRecordJob(IRecurrentExpenseRecordService recordService) {
+        this.recordService = recordService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        materializeCurrentMonth();
+    }
+
+    @Scheduled(cron = "${jobs.recurrent-expense-records.cron:0 5 0 1 * *}")
+    public void materializeCurrentMonth() {
+        LocalDate today = LocalDate.now();
+        try {
+            int created = recordService.materializeMonth(today.getMonthValue(), today.getYear());
+            log.info("RecurrentExpenseRecordJob created {} record(s) for {}/{}",
+                    created, today.getMonthValue(), today.getYear());
+        } catch (Exception e) {
+            log.error("RecurrentExpenseRecordJob failed for {}/{}: {}",
+                    today.getMonthValue(), today.getYear(), e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.spendwise.job;
+
+import com.spendwise.service.interfaces.ITokenRevocationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads the token revocations written by other nodes every few seconds, and deletes
+ * the ones older than an access token's lifetime.
+ */
+@Component
+public class TokenRevocationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationJob.class);
+
+    private final ITokenRevocationService tokenRevocationService;
+
+    @Autowired
+    public TokenRevocationJob(ITokenRevocationService tokenRevocationService) {
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    @Scheduled(cron = "${jobs.token-revocation.cron:*/10 * * * * *}")
+    public void refresh() {
+        try {
+            tokenRevocationService.refresh();
+        } catch (Exception e) {
+            log.error("TokenRevocationJob failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${jobs.token-revocation.purge-cron:0 47 * * * *}")
+    public void purgeExpired() {
+        try {
+            int deleted = tokenRevocationService.purgeExpired();
+            log.info("TokenRevocationJob deleted {} expired revocation(s)", deleted);
+        } catch (Exception e) {
+            log.error("TokenRevocationJob purge failed: {}", e.getMessage());
+        }
+    }
+
+}
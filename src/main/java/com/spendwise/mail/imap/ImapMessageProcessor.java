@@ -7,6 +7,7 @@ import com.spendwise.mail.parser.ParsedExpense;
 import com.spendwise.model.MailImport;
 import com.spendwise.model.auth.User;
 import com.spendwise.repository.MailImportRepository;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.service.interfaces.IMailImportService;
 import jakarta.mail.*;
 import jakarta.mail.internet.MimeMultipart;
@@ -27,14 +28,17 @@ public class ImapMessageProcessor {
     private final MailImportRepository mailImportRepository;
     private final MailParserRegistry parserRegistry;
     private final IMailImportService mailImportService;
+    private final IDataVersionService dataVersionService;
 
     @Autowired
     public ImapMessageProcessor(MailImportRepository mailImportRepository,
                                 MailParserRegistry parserRegistry,
-                                IMailImportService mailImportService) {
+                                IMailImportService mailImportService,
+                                IDataVersionService dataVersionService) {
         this.mailImportRepository = mailImportRepository;
         this.parserRegistry = parserRegistry;
         this.mailImportService = mailImportService;
+        this.dataVersionService = dataVersionService;
     }
 
     public void process(Message message, User user) {
@@ -103,6 +107,7 @@ public class ImapMessageProcessor {
             }
 
             MailImport saved = mailImportRepository.save(mailImport);
+            dataVersionService.bump(user);
 
             // Auto-confirm if this merchant was seen before
             mailImportService.autoConfirmIfBound(saved.getId());
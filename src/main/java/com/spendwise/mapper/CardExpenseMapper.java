@@ -0,0 +1,28 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.CardExpenseDTO;
+import com.spendwise.model.CardExpense;
+
+public final class CardExpenseMapper {
+
+    private CardExpenseMapper() {
+    }
+
+    public static CardExpenseDTO toDTO(CardExpense cardExpense) {
+        if (cardExpense == null) {
+            return null;
+        }
+        CardExpenseDTO dto = new CardExpenseDTO();
+        dto.setId(cardExpense.getId());
+        dto.setDescription(cardExpense.getDescription());
+        dto.setAmountInPesos(cardExpense.getAmountInPesos());
+        dto.setAmountInDollars(cardExpense.getAmountInDollars());
+        dto.setDate(cardExpense.getDate());
+        dto.setDueDate(cardExpense.getDueDate());
+        dto.setCancelled(cardExpense.getCancelled());
+        dto.setPaymentMethod(PaymentMethodMapper.toDTO(cardExpense.getPaymentMethod()));
+        dto.setCurrency(CurrencyMapper.toDTO(cardExpense.getCurrency()));
+        return dto;
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.CategoryDTO;
+import com.spendwise.model.Category;
+
+public final class CategoryMapper {
+
+    private CategoryMapper() {
+    }
+
+    public static CategoryDTO toDTO(Category category) {
+        if (category == null) {
+            return null;
+        }
+        CategoryDTO dto = new CategoryDTO();
+        dto.setId(category.getId());
+        dto.setName(category.getName());
+        dto.setEnabled(category.getEnabled());
+        dto.setType(category.getType());
+        dto.setIcon(category.getIcon());
+        return dto;
+    }
+
+    public static Category toEntity(CategoryDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        Category category = new Category();
+        category.setId(dto.getId());
+        category.setName(dto.getName());
+        category.setEnabled(dto.getEnabled());
+        category.setType(dto.getType());
+        category.setIcon(dto.getIcon());
+        return category;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.CurrencyDTO;
+import com.spendwise.model.Currency;
+
+public final class CurrencyMapper {
+
+    private CurrencyMapper() {
+    }
+
+    public static CurrencyDTO toDTO(Currency currency) {
+        if (currency == null) {
+            return null;
+        }
+        CurrencyDTO dto = new CurrencyDTO();
+        dto.setId(currency.getId());
+        dto.setName(currency.getName());
+        dto.setSymbol(currency.getSymbol());
+        dto.setEnabled(currency.getEnabled());
+        dto.setIsDefault(currency.getIsDefault());
+        dto.setIcon(currency.getIcon());
+        return dto;
+    }
+
+    public static Currency toEntity(CurrencyDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        Currency currency = new Currency();
+        currency.setId(dto.getId());
+        currency.setName(dto.getName());
+        currency.setSymbol(dto.getSymbol());
+        currency.setEnabled(dto.getEnabled());
+        currency.setIsDefault(dto.getIsDefault());
+        currency.setIcon(dto.getIcon());
+        return currency;
+    }
+
+    /**
+     * Detached copy for the DTOs that expose {@link Currency} directly. The owning user is
+     * left out so the lazy association is never touched.
+     */
+    public static Currency copy(Currency source) {
+        if (source == null) {
+            return null;
+        }
+        Currency currency = new Currency();
+        currency.setId(source.getId());
+        currency.setName(source.getName());
+        currency.setSymbol(source.getSymbol());
+        currency.setEnabled(source.getEnabled());
+        currency.setIsDefault(source.getIsDefault());
+        currency.setIcon(source.getIcon());
+        currency.setCreationDate(source.getCreationDate());
+        currency.setLastUpdateDate(source.getLastUpdateDate());
+        return currency;
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.DebtDTO;
+import com.spendwise.model.Debt;
+
+public final class DebtMapper {
+
+    private DebtMapper() {
+    }
+
+    public static DebtDTO toDTO(Debt debt) {
+        if (debt == null) {
+            return null;
+        }
+        DebtDTO dto = new DebtDTO();
+        dto.setId(debt.getId());
+        dto.setDescription(debt.getDescription());
+        dto.setAmountInPesos(debt.getAmountInPesos());
+        dto.setAmountInDollars(debt.getAmountInDollars());
+        dto.setDate(debt.getDate());
+        dto.setDueDate(debt.getDueDate());
+        dto.setCancelled(debt.getCancelled());
+        dto.setPersonal(debt.getPersonal());
+        dto.setCreditor(debt.getCreditor());
+        dto.setIssuingEntity(IssuingEntityMapper.toDTO(debt.getIssuingEntity()));
+        dto.setPaymentMethod(PaymentMethodMapper.toDTO(debt.getPaymentMethod()));
+        dto.setCurrency(CurrencyMapper.toDTO(debt.getCurrency()));
+        return dto;
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.ExpenseDTO;
+import com.spendwise.model.Expense;
+
+public final class ExpenseMapper {
+
+    private ExpenseMapper() {
+    }
+
+    public static ExpenseDTO toDTO(Expense expense) {
+        if (expense == null) {
+            return null;
+        }
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setId(expense.getId());
+        dto.setDescription(expense.getDescription());
+        dto.setAmountInPesos(expense.getAmountInPesos());
+        dto.setAmountInDollars(expense.getAmountInDollars());
+        dto.setDate(expense.getDate());
+        dto.setCategory(CategoryMapper.toDTO(expense.getCategory()));
+        dto.setPaymentMethod(PaymentMethodMapper.toDTO(expense.getPaymentMethod()));
+        dto.setCurrency(CurrencyMapper.copy(expense.getCurrency()));
+        dto.setMicroExpense(expense.getIsMicroExpense());
+        return dto;
+    }
+
+    public static Expense toEntity(ExpenseDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        Expense expense = new Expense();
+        expense.setId(dto.getId());
+        expense.setDescription(dto.getDescription());
+        expense.setAmountInPesos(dto.getAmountInPesos());
+        expense.setAmountInDollars(dto.getAmountInDollars());
+        expense.setDate(dto.getDate());
+        expense.setCategory(CategoryMapper.toEntity(dto.getCategory()));
+        expense.setPaymentMethod(PaymentMethodMapper.toEntity(dto.getPaymentMethod()));
+        expense.setCurrency(CurrencyMapper.copy(dto.getCurrency()));
+        expense.setIsMicroExpense(dto.getMicroExpense());
+        return expense;
+    }
+
+}
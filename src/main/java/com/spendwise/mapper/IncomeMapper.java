@@ -0,0 +1,41 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.IncomeDTO;
+import com.spendwise.model.Income;
+
+public final class IncomeMapper {
+
+    private IncomeMapper() {
+    }
+
+    public static IncomeDTO toDTO(Income income) {
+        if (income == null) {
+            return null;
+        }
+        IncomeDTO dto = new IncomeDTO();
+        dto.setId(income.getId());
+        dto.setDescription(income.getDescription());
+        dto.setAmountInPesos(income.getAmountInPesos());
+        dto.setAmountInDollars(income.getAmountInDollars());
+        dto.setCurrency(CurrencyMapper.toDTO(income.getCurrency()));
+        dto.setSource(CategoryMapper.toDTO(income.getSource()));
+        dto.setDate(income.getDate());
+        return dto;
+    }
+
+    public static Income toEntity(IncomeDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        Income income = new Income();
+        income.setId(dto.getId());
+        income.setDescription(dto.getDescription());
+        income.setAmountInPesos(dto.getAmountInPesos());
+        income.setAmountInDollars(dto.getAmountInDollars());
+        income.setCurrency(CurrencyMapper.toEntity(dto.getCurrency()));
+        income.setSource(CategoryMapper.toEntity(dto.getSource()));
+        income.setDate(dto.getDate());
+        return income;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.IssuingEntityDTO;
+import com.spendwise.model.IssuingEntity;
+
+public final class IssuingEntityMapper {
+
+    private IssuingEntityMapper() {
+    }
+
+    public static IssuingEntityDTO toDTO(IssuingEntity issuingEntity) {
+        if (issuingEntity == null) {
+            return null;
+        }
+        IssuingEntityDTO dto = new IssuingEntityDTO();
+        dto.setId(issuingEntity.getId());
+        dto.setDescription(issuingEntity.getDescription());
+        dto.setEnabled(issuingEntity.getEnabled());
+        dto.setIcon(issuingEntity.getIcon());
+        return dto;
+    }
+
+    public static IssuingEntity toEntity(IssuingEntityDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        IssuingEntity issuingEntity = new IssuingEntity();
+        issuingEntity.setId(dto.getId());
+        issuingEntity.setDescription(dto.getDescription());
+        issuingEntity.setEnabled(dto.getEnabled());
+        issuingEntity.setIcon(dto.getIcon());
+        return issuingEntity;
+    }
+
+}
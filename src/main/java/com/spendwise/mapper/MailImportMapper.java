@@ -0,0 +1,32 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.MailImportDTO;
+import com.spendwise.model.MailImport;
+
+public final class MailImportMapper {
+
+    private MailImportMapper() {
+    }
+
+    public static MailImportDTO toDTO(MailImport mailImport) {
+        if (mailImport == null) {
+            return null;
+        }
+        MailImportDTO dto = new MailImportDTO();
+        dto.setId(mailImport.getId());
+        dto.setImapMessageId(mailImport.getImapMessageId());
+        dto.setSenderEntity(mailImport.getSenderEntity());
+        dto.setFromAddress(mailImport.getFromAddress());
+        dto.setSubject(mailImport.getSubject());
+        dto.setParsedMerchant(mailImport.getParsedMerchant());
+        dto.setParsedAmount(mailImport.getParsedAmount());
+        dto.setParsedCurrencySymbol(mailImport.getParsedCurrencySymbol());
+        dto.setParsedDate(mailImport.getParsedDate());
+        dto.setParsedIsDebt(mailImport.getParsedIsDebt());
+        dto.setStatus(mailImport.getStatus());
+        dto.setExpense(ExpenseMapper.toDTO(mailImport.getExpense()));
+        dto.setCreationDate(mailImport.getCreationDate());
+        return dto;
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.PaymentMethodDTO;
+import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.model.PaymentMethod;
+
+public final class PaymentMethodMapper {
+
+    private PaymentMethodMapper() {
+    }
+
+    public static PaymentMethodDTO toDTO(PaymentMethod paymentMethod) {
+        if (paymentMethod == null) {
+            return null;
+        }
+        PaymentMethodDTO dto = new PaymentMethodDTO();
+        dto.setId(paymentMethod.getId());
+        dto.setName(paymentMethod.getName());
+        dto.setPaymentMethodType(paymentMethod.getPaymentMethodType() != null
+                ? paymentMethod.getPaymentMethodType().name() : null);
+        dto.setEnabled(paymentMethod.getEnabled());
+        dto.setIcon(paymentMethod.getIcon());
+        dto.setIssuingEntity(IssuingEntityMapper.toDTO(paymentMethod.getIssuingEntity()));
+        return dto;
+    }
+
+    public static PaymentMethod toEntity(PaymentMethodDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        PaymentMethod paymentMethod = new PaymentMethod();
+        paymentMethod.setId(dto.getId());
+        paymentMethod.setName(dto.getName());
+        paymentMethod.setPaymentMethodType(dto.getPaymentMethodType() != null
+                ? PaymentMethodType.valueOf(dto.getPaymentMethodType()) : null);
+        paymentMethod.setEnabled(dto.getEnabled());
+        paymentMethod.setIcon(dto.getIcon());
+        paymentMethod.setIssuingEntity(IssuingEntityMapper.toEntity(dto.getIssuingEntity()));
+        return paymentMethod;
+    }
+
+}
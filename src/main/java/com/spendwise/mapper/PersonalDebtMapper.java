@@ -0,0 +1,28 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.PersonalDebtDTO;
+import com.spendwise.model.PersonalDebt;
+
+public final class PersonalDebtMapper {
+
+    private PersonalDebtMapper() {
+    }
+
+    public static PersonalDebtDTO toDTO(PersonalDebt personalDebt) {
+        if (personalDebt == null) {
+            return null;
+        }
+        PersonalDebtDTO dto = new PersonalDebtDTO();
+        dto.setId(personalDebt.getId());
+        dto.setDescription(personalDebt.getDescription());
+        dto.setAmountInPesos(personalDebt.getAmountInPesos());
+        dto.setAmountInDollars(personalDebt.getAmountInDollars());
+        dto.setDate(personalDebt.getDate());
+        dto.setDueDate(personalDebt.getDueDate());
+        dto.setCancelled(personalDebt.getCancelled());
+        dto.setCreditor(personalDebt.getCreditor());
+        dto.setCurrency(CurrencyMapper.toDTO(personalDebt.getCurrency()));
+        return dto;
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.RecommendedCurrencyDTO;
+import com.spendwise.dto.RecommendedEntityDTO;
+import com.spendwise.dto.RecommendedPaymentMethodDTO;
+import com.spendwise.model.RecommendedCurrency;
+import com.spendwise.model.RecommendedEntity;
+import com.spendwise.model.RecommendedPaymentMethod;
+
+public final class RecommendationMapper {
+
+    private RecommendationMapper() {
+    }
+
+    public static RecommendedCurrencyDTO toDTO(RecommendedCurrency currency) {
+        RecommendedCurrencyDTO dto = new RecommendedCurrencyDTO();
+        dto.setId(currency.getId());
+        dto.setName(currency.getName());
+        dto.setSymbol(currency.getSymbol());
+        dto.setDisplayOrder(currency.getDisplayOrder());
+        dto.setDefaultSelected(currency.getDefaultSelected());
+        return dto;
+    }
+
+    public static RecommendedEntityDTO toDTO(RecommendedEntity entity) {
+        RecommendedEntityDTO dto = new RecommendedEntityDTO();
+        dto.setId(entity.getId());
+        dto.setName(entity.getName());
+        dto.setIconUrl(entity.getIconUrl());
+        return dto;
+    }
+
+    public static RecommendedPaymentMethodDTO toDTO(RecommendedPaymentMethod paymentMethod) {
+        RecommendedPaymentMethodDTO dto = new RecommendedPaymentMethodDTO();
+        dto.setId(paymentMethod.getId());
+        dto.setName(paymentMethod.getName());
+        dto.setIconUrl(paymentMethod.getIconUrl());
+        dto.setPaymentMethodType(paymentMethod.getPaymentMethodType().name());
+        if (paymentMethod.getEntity() != null) {
+            dto.setRecommendedEntityId(paymentMethod.getEntity().getId());
+        }
+        return dto;
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.RecurrentExpenseDTO;
+import com.spendwise.model.RecurrentExpense;
+
+public final class RecurrentExpenseMapper {
+
+    private RecurrentExpenseMapper() {
+    }
+
+    public static RecurrentExpenseDTO toDTO(RecurrentExpense recurrentExpense) {
+        if (recurrentExpense == null) {
+            return null;
+        }
+        RecurrentExpenseDTO dto = new RecurrentExpenseDTO();
+        dto.setId(recurrentExpense.getId());
+        dto.setDescription(recurrentExpense.getDescription());
+        dto.setIcon(recurrentExpense.getIcon());
+        dto.setAmountInPesos(recurrentExpense.getAmountInPesos());
+        dto.setAmountInDollars(recurrentExpense.getAmountInDollars());
+        dto.setDayOfMonth(recurrentExpense.getDayOfMonth());
+        dto.setCategory(CategoryMapper.toDTO(recurrentExpense.getCategory()));
+        dto.setPaymentMethod(PaymentMethodMapper.toDTO(recurrentExpense.getPaymentMethod()));
+        dto.setCurrency(CurrencyMapper.copy(recurrentExpense.getCurrency()));
+        dto.setEnabled(recurrentExpense.getEnabled());
+        return dto;
+    }
+
+    public static RecurrentExpense toEntity(RecurrentExpenseDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        RecurrentExpense recurrentExpense = new RecurrentExpense();
+        recurrentExpense.setId(dto.getId());
+        recurrentExpense.setDescription(dto.getDescription());
+        recurrentExpense.setIcon(dto.getIcon());
+        recurrentExpense.setAmountInPesos(dto.getAmountInPesos());
+        recurrentExpense.setAmountInDollars(dto.getAmountInDollars());
+        recurrentExpense.setDayOfMonth(dto.getDayOfMonth());
+        recurrentExpense.setCategory(CategoryMapper.toEntity(dto.getCategory()));
+        recurrentExpense.setPaymentMethod(PaymentMethodMapper.toEntity(dto.getPaymentMethod()));
+        recurrentExpense.setCurrency(CurrencyMapper.copy(dto.getCurrency()));
+        recurrentExpense.setEnabled(dto.getEnabled());
+        return recurrentExpense;
+    }
+
+}
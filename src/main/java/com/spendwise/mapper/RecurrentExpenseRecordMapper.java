@@ -0,0 +1,25 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.RecurrentExpenseRecordDTO;
+import com.spendwise.model.RecurrentExpenseRecord;
+
+public final class RecurrentExpenseRecordMapper {
+
+    private RecurrentExpenseRecordMapper() {
+    }
+
+    public static RecurrentExpenseRecordDTO toDTO(RecurrentExpenseRecord record) {
+        if (record == null) {
+            return null;
+        }
+        RecurrentExpenseRecordDTO dto = new RecurrentExpenseRecordDTO();
+        dto.setId(record.getId());
+        dto.setRecurrentExpense(RecurrentExpenseMapper.toDTO(record.getRecurrentExpense()));
+        dto.setMonth(record.getMonth());
+        dto.setYear(record.getYear());
+        dto.setCancelled(record.getCancelled());
+        dto.setExpense(ExpenseMapper.toDTO(record.getExpense()));
+        return dto;
+    }
+
+}
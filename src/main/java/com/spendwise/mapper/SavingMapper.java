@@ -0,0 +1,26 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.SavingDTO;
+import com.spendwise.model.Saving;
+
+public final class SavingMapper {
+
+    private SavingMapper() {
+    }
+
+    public static SavingDTO toDTO(Saving saving) {
+        if (saving == null) {
+            return null;
+        }
+        SavingDTO dto = new SavingDTO();
+        dto.setId(saving.getId());
+        dto.setDescription(saving.getDescription());
+        dto.setCurrency(CurrencyMapper.copy(saving.getCurrency()));
+        dto.setSavingsWallet(SavingsWalletMapper.copy(saving.getSavingsWallet()));
+        dto.setAmountInPesos(saving.getAmountInPesos());
+        dto.setAmountInDollars(saving.getAmountInDollars());
+        dto.setDate(saving.getDate());
+        return dto;
+    }
+
+}
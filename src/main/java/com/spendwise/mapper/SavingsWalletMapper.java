@@ -0,0 +1,45 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.SavingsWalletDTO;
+import com.spendwise.model.SavingsWallet;
+
+public final class SavingsWalletMapper {
+
+    private SavingsWalletMapper() {
+    }
+
+    public static SavingsWalletDTO toDTO(SavingsWallet savingsWallet) {
+        if (savingsWallet == null) {
+            return null;
+        }
+        SavingsWalletDTO dto = new SavingsWalletDTO();
+        dto.setId(savingsWallet.getId());
+        dto.setName(savingsWallet.getName());
+        dto.setSavingsWalletType(savingsWallet.getSavingsWalletType() != null
+                ? savingsWallet.getSavingsWalletType().name() : null);
+        dto.setEnabled(savingsWallet.getEnabled());
+        dto.setIcon(savingsWallet.getIcon());
+        dto.setIssuingEntity(IssuingEntityMapper.toDTO(savingsWallet.getIssuingEntity()));
+        return dto;
+    }
+
+    /**
+     * Detached copy for the DTOs that expose {@link SavingsWallet} directly. The owning user
+     * and the issuing entity are left out so neither lazy association is touched.
+     */
+    public static SavingsWallet copy(SavingsWallet source) {
+        if (source == null) {
+            return null;
+        }
+        SavingsWallet savingsWallet = new SavingsWallet();
+        savingsWallet.setId(source.getId());
+        savingsWallet.setName(source.getName());
+        savingsWallet.setSavingsWalletType(source.getSavingsWalletType());
+        savingsWallet.setEnabled(source.getEnabled());
+        savingsWallet.setIcon(source.getIcon());
+        savingsWallet.setCreationDate(source.getCreationDate());
+        savingsWallet.setLastUpdateDate(source.getLastUpdateDate());
+        return savingsWallet;
+    }
+
+}
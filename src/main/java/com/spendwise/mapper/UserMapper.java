@@ -0,0 +1,26 @@
+package com.spendwise.mapper;
+
+import com.spendwise.dto.UserDTO;
+import com.spendwise.model.auth.User;
+
+public final class UserMapper {
+
+    private UserMapper() {
+    }
+
+    /** The password hash is never copied into {@link UserDTO#getPassword()}. */
+    public static UserDTO toDTO(User user) {
+        if (user == null) {
+            return null;
+        }
+        UserDTO dto = new UserDTO();
+        dto.setId(user.getId());
+        dto.setEmail(user.getEmail());
+        dto.setName(user.getName());
+        dto.setSurname(user.getSurname());
+        dto.setEnabled(user.getEnabled());
+        dto.setProfilePicture(user.getProfilePicture());
+        return dto;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.spendwise.model;
+
+import com.spendwise.enums.AccountDeletionStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * A request to delete an account. USER_ID is a plain column, not a foreign key, so the
+ * row outlives the user and the client can keep polling its status after the purge.
+ */
+@Entity
+@Table(
+    name = "ACCOUNT_DELETION",
+    indexes = @Index(name = "IDX_ACCOUNT_DELETION_STATUS", columnList = "STATUS")
+)
+@Data
+public class AccountDeletion {
+
+    // random UUID handed to the client to poll the status
+    @Id
+    @Column(name = "ID", length = 36)
+    private String id;
+
+    @Column(name = "USER_ID", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", length = 20, nullable = false)
+    private AccountDeletionStatus status;
+
+    @Column(name = "DELETED_ROWS", nullable = false)
+    private Long deletedRows;
+
+    @Column(name = "REQUESTED_AT", nullable = false)
+    private LocalDateTime requestedAt;
+
+    // refreshed after every chunk; a RUNNING row that stops moving is picked up again
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "COMPLETED_AT")
+    private LocalDateTime completedAt;
+
+}
@@ -0,0 +1,35 @@
+package com.spendwise.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Audit columns shared by every table. Entities that need an id strategy other than
+ * IDENTITY extend this directly and declare their own {@code @Id}; the rest use {@link BaseEntity}.
+ */
+@MappedSuperclass
+@Data
+public abstract class AuditedEntity {
+
+    @Column(name = "CREATION_DATE")
+    private LocalDateTime creationDate;
+
+    @Column(name = "LAST_UPDATE_DATE")
+    private LocalDateTime lastUpdateDate;
+
+    public abstract Long getId();
+
+    @PrePersist
+    protected void prePersist() {
+        this.creationDate = LocalDateTime.now();
+        this.preUpdate();
+    }
+
+    @PreUpdate
+    protected void preUpdate() {
+        this.lastUpdateDate = LocalDateTime.now();
+    }
+
+}
@@ -2,33 +2,16 @@ package com.spendwise.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 
-import java.time.LocalDateTime;
-
+@EqualsAndHashCode(callSuper = true)
 @MappedSuperclass
 @Data
-public class BaseEntity {
+public class BaseEntity extends AuditedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "ID")
     private Long id;
 
-    @Column(name = "CREATION_DATE")
-    private LocalDateTime creationDate;
-
-    @Column(name = "LAST_UPDATE_DATE")
-    private LocalDateTime lastUpdateDate;
-
-    @PrePersist
-    protected void prePersist() {
-        this.creationDate = LocalDateTime.now();
-        this.preUpdate();
-    }
-
-    @PreUpdate
-    protected void preUpdate() {
-        this.lastUpdateDate = LocalDateTime.now();
-    }
-
 }
@@ -10,9 +10,26 @@ import java.time.LocalDate;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "CARD_EXPENSE")
+@NamedEntityGraph(
+    name = "CardExpense.detail",
+    attributeNodes = {
+        @NamedAttributeNode(value = "paymentMethod", subgraph = "paymentMethod"),
+        @NamedAttributeNode("currency")
+    },
+    subgraphs = @NamedSubgraph(name = "paymentMethod", attributeNodes = @NamedAttributeNode("issuingEntity"))
+)
+@Table(
+    name = "CARD_EXPENSE",
+    indexes = @Index(name = "IDX_CARD_EXPENSE_USER_DATE_ID", columnList = "USER_ID, DATE, ID")
+)
 @Data
-public class CardExpense extends BaseEntity {
+public class CardExpense extends AuditedEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "CARD_EXPENSE_SEQ")
+    @SequenceGenerator(name = "CARD_EXPENSE_SEQ", sequenceName = "CARD_EXPENSE_SEQ", allocationSize = 50)
+    @Column(name = "ID")
+    private Long id;
 
     @Column(name = "DESCRIPTION")
     private String description;
@@ -32,11 +49,11 @@ public class CardExpense extends BaseEntity {
     @Column(name = "CANCELLED")
     private Boolean cancelled;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "PAYMENT_METHOD_ID")
     private PaymentMethod paymentMethod;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CURRENCY_ID")
     private Currency currency;
 
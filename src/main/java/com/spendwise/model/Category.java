@@ -10,7 +10,13 @@ import lombok.EqualsAndHashCode;
 @Table(name = "CATEGORY")
 @Data
 @EqualsAndHashCode(callSuper = true)
-public class Category extends BaseEntity {
+public class Category extends AuditedEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "CATEGORY_SEQ")
+    @SequenceGenerator(name = "CATEGORY_SEQ", sequenceName = "CATEGORY_SEQ", allocationSize = 50)
+    @Column(name = "ID")
+    private Long id;
 
     @Column(name = "NAME")
     private String name;
@@ -9,7 +9,13 @@ import lombok.EqualsAndHashCode;
 @Entity
 @Table(name = "CURRENCY")
 @Data
-public class Currency extends BaseEntity {
+public class Currency extends AuditedEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "CURRENCY_SEQ")
+    @SequenceGenerator(name = "CURRENCY_SEQ", sequenceName = "CURRENCY_SEQ", allocationSize = 50)
+    @Column(name = "ID")
+    private Long id;
 
     @Column(name = "NAME")
     private String name;
@@ -10,6 +10,15 @@ import java.time.LocalDate;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@NamedEntityGraph(
+    name = "Debt.detail",
+    attributeNodes = {
+        @NamedAttributeNode("issuingEntity"),
+        @NamedAttributeNode(value = "paymentMethod", subgraph = "paymentMethod"),
+        @NamedAttributeNode("currency")
+    },
+    subgraphs = @NamedSubgraph(name = "paymentMethod", attributeNodes = @NamedAttributeNode("issuingEntity"))
+)
 @Table(name = "DEBT")
 @Data
 public class Debt extends BaseEntity {
@@ -38,15 +47,15 @@ public class Debt extends BaseEntity {
     @Column(name = "CREDITOR")
     private String creditor;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ISSUING_ENTITY")
     private IssuingEntity issuingEntity;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "PAYMENT_METHOD_ID")
     private PaymentMethod paymentMethod;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CURRENCY_ID")
     private Currency currency;
 
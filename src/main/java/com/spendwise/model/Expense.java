@@ -1,22 +1,49 @@
 package com.spendwise.model;
 
 import com.spendwise.model.auth.User;
+import com.spendwise.spec.SearchText;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Setter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "EXPENSE")
+@NamedEntityGraph(
+    name = "Expense.detail",
+    attributeNodes = {
+        @NamedAttributeNode("category"),
+        @NamedAttributeNode(value = "paymentMethod", subgraph = "paymentMethod"),
+        @NamedAttributeNode("currency")
+    },
+    subgraphs = @NamedSubgraph(name = "paymentMethod", attributeNodes = @NamedAttributeNode("issuingEntity"))
+)
+@Table(
+    name = "EXPENSE",
+    indexes = @Index(name = "IDX_EXPENSE_USER_DATE_ID", columnList = "USER_ID, DATE, ID")
+)
 @Data
-public class Expense extends BaseEntity {
+public class Expense extends AuditedEntity {
+
+    // Pooled sequence instead of IDENTITY so bulk inserts can be JDBC-batched; see V5__expense_sequence.sql
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "EXPENSE_SEQ")
+    @SequenceGenerator(name = "EXPENSE_SEQ", sequenceName = "EXPENSE_SEQ", allocationSize = 50)
+    @Column(name = "ID")
+    private Long id;
 
     @Column(name = "DESCRIPTION")
     private String description;
 
+    // Lower-cased, accent-free copy of DESCRIPTION kept in sync by setDescription; trigram-indexed on Postgres
+    @Setter(AccessLevel.NONE)
+    @Column(name = "DESCRIPTION_SEARCH")
+    private String descriptionSearch;
+
     @Column(name = "AMOUNT_ARS")
     private BigDecimal amountInPesos;
 
@@ -26,15 +53,15 @@ public class Expense extends BaseEntity {
     @Column(name = "DATE")
     private LocalDate date;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CATEGORY_ID")
     private Category category;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "PAYMENT_METHOD_ID")
     private PaymentMethod paymentMethod;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CURRENCY_ID")
     private Currency currency;
 
@@ -45,4 +72,9 @@ public class Expense extends BaseEntity {
     @JoinColumn(name = "USER_ID")
     private User user;
 
+    public void setDescription(String description) {
+        this.description = description;
+        this.descriptionSearch = SearchText.normalize(description);
+    }
+
 }
@@ -0,0 +1,48 @@
+package com.spendwise.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stored outcome of a create request sent with an {@code Idempotency-Key}. The row is
+ * inserted as a claim (no status yet) before the request runs and completed with the
+ * response once it succeeds.
+ */
+@Entity
+@Table(
+    name = "IDEMPOTENCY_KEY",
+    indexes = @Index(name = "IDX_IDEMPOTENCY_KEY_EXPIRES_AT", columnList = "EXPIRES_AT")
+)
+@Data
+public class IdempotencyRecord {
+
+    // "<userId>:<Idempotency-Key>"
+    @Id
+    @Column(name = "ID", length = 300)
+    private String id;
+
+    @Column(name = "USER_ID", nullable = false)
+    private Long userId;
+
+    @Column(name = "REQUEST_HASH", length = 64, nullable = false)
+    private String requestHash;
+
+    @Column(name = "STATUS_CODE")
+    private Integer statusCode;
+
+    @Column(name = "CONTENT_TYPE", length = 100)
+    private String contentType;
+
+    @Column(name = "RESPONSE_BODY", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "EXPIRES_AT", nullable = false)
+    private LocalDateTime expiresAt;
+
+}
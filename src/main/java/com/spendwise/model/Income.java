@@ -10,7 +10,17 @@ import java.time.LocalDate;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "INCOME")
+@NamedEntityGraph(
+    name = "Income.detail",
+    attributeNodes = {
+        @NamedAttributeNode("source"),
+        @NamedAttributeNode("currency")
+    }
+)
+@Table(
+    name = "INCOME",
+    indexes = @Index(name = "IDX_INCOME_USER_DATE_ID", columnList = "USER_ID, DATE, ID")
+)
 @Data
 public class Income extends BaseEntity {
 
@@ -23,7 +33,7 @@ public class Income extends BaseEntity {
     @Column(name = "AMOUNT_USD")
     private BigDecimal amountInDollars;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "SOURCE_ID")
     private Category source;
 
@@ -9,7 +9,13 @@ import lombok.EqualsAndHashCode;
 @Table(name = "ISSUING_ENTITY")
 @Data
 @EqualsAndHashCode(callSuper = true)
-public class IssuingEntity extends BaseEntity {
+public class IssuingEntity extends AuditedEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ISSUING_ENTITY_SEQ")
+    @SequenceGenerator(name = "ISSUING_ENTITY_SEQ", sequenceName = "ISSUING_ENTITY_SEQ", allocationSize = 50)
+    @Column(name = "ID")
+    private Long id;
 
     @Column(name = "DESCRIPTION")
     private String description;
@@ -11,9 +11,24 @@ import java.time.LocalDate;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@NamedEntityGraph(
+    name = "MailImport.withExpense",
+    attributeNodes = {
+        @NamedAttributeNode(value = "expense", subgraph = "expense")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "expense", attributeNodes = {
+            @NamedAttributeNode("category"),
+            @NamedAttributeNode(value = "paymentMethod", subgraph = "paymentMethod"),
+            @NamedAttributeNode("currency")
+        }),
+        @NamedSubgraph(name = "paymentMethod", attributeNodes = @NamedAttributeNode("issuingEntity"))
+    }
+)
 @Table(
     name = "MAIL_IMPORT",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"USER_ID", "IMAP_MESSAGE_ID"})
+    uniqueConstraints = @UniqueConstraint(columnNames = {"USER_ID", "IMAP_MESSAGE_ID"}),
+    indexes = @Index(name = "IDX_MAIL_IMPORT_USER_PARSED_DATE", columnList = "USER_ID, PARSED_DATE")
 )
 @Data
 public class MailImport extends BaseEntity {
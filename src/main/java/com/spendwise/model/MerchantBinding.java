@@ -12,7 +12,13 @@ import lombok.EqualsAndHashCode;
 )
 @Data
 @EqualsAndHashCode(callSuper = true)
-public class MerchantBinding extends BaseEntity {
+public class MerchantBinding extends AuditedEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "MERCHANT_BINDING_SEQ")
+    @SequenceGenerator(name = "MERCHANT_BINDING_SEQ", sequenceName = "MERCHANT_BINDING_SEQ", allocationSize = 50)
+    @Column(name = "ID")
+    private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "USER_ID")
@@ -9,8 +9,20 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode(callSuper = true)
 @Data
 @Entity
+@NamedEntityGraph(
+    name = "PaymentMethod.withIssuingEntity",
+    attributeNodes = {
+        @NamedAttributeNode("issuingEntity")
+    }
+)
 @Table(name = "PAYMENT_METHOD")
-public class PaymentMethod extends BaseEntity {
+public class PaymentMethod extends AuditedEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "PAYMENT_METHOD_SEQ")
+    @SequenceGenerator(name = "PAYMENT_METHOD_SEQ", sequenceName = "PAYMENT_METHOD_SEQ", allocationSize = 50)
+    @Column(name = "ID")
+    private Long id;
 
     @Column(name = "NAME")
     private String name;
@@ -25,7 +37,7 @@ public class PaymentMethod extends BaseEntity {
     @Column(name = "ICON_URL")
     private String icon;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ISSUING_ENTITY_ID")
     private IssuingEntity issuingEntity;
 
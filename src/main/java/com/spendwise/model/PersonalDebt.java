@@ -10,6 +10,12 @@ import java.time.LocalDate;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@NamedEntityGraph(
+    name = "PersonalDebt.withCurrency",
+    attributeNodes = {
+        @NamedAttributeNode("currency")
+    }
+)
 @Table(name = "PERSONAL_DEBT")
 @Data
 public class PersonalDebt extends BaseEntity {
@@ -35,7 +41,7 @@ public class PersonalDebt extends BaseEntity {
     @Column(name = "CREDITOR")
     private String creditor;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CURRENCY_ID")
     private Currency currency;
 
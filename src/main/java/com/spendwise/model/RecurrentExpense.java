@@ -9,6 +9,15 @@ import java.math.BigDecimal;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@NamedEntityGraph(
+    name = "RecurrentExpense.withReferences",
+    attributeNodes = {
+        @NamedAttributeNode("category"),
+        @NamedAttributeNode(value = "paymentMethod", subgraph = "paymentMethod"),
+        @NamedAttributeNode("currency")
+    },
+    subgraphs = @NamedSubgraph(name = "paymentMethod", attributeNodes = @NamedAttributeNode("issuingEntity"))
+)
 @Table(name = "RECURRENT_EXPENSE")
 @Data
 public class RecurrentExpense extends BaseEntity {
@@ -25,15 +34,15 @@ public class RecurrentExpense extends BaseEntity {
     @Column(name = "DAY_OF_MONTH")
     private Integer dayOfMonth;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CATEGORY_ID")
     private Category category;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "PAYMENT_METHOD_ID")
     private PaymentMethod paymentMethod;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CURRENCY_ID")
     private Currency currency;
 
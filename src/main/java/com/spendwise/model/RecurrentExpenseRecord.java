@@ -7,7 +7,26 @@ import lombok.EqualsAndHashCode;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "RECURRENT_EXPENSE_RECORD")
+@NamedEntityGraph(
+    name = "RecurrentExpenseRecord.withReferences",
+    attributeNodes = {
+        @NamedAttributeNode(value = "recurrentExpense", subgraph = "references"),
+        @NamedAttributeNode(value = "expense", subgraph = "references")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "references", attributeNodes = {
+            @NamedAttributeNode("category"),
+            @NamedAttributeNode(value = "paymentMethod", subgraph = "paymentMethod"),
+            @NamedAttributeNode("currency")
+        }),
+        @NamedSubgraph(name = "paymentMethod", attributeNodes = @NamedAttributeNode("issuingEntity"))
+    }
+)
+@Table(
+    name = "RECURRENT_EXPENSE_RECORD",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"RECURRENT_EXPENSE_ID", "MONTH", "YEAR"}),
+    indexes = @Index(name = "IDX_RECURRENT_EXPENSE_RECORD_USER_PERIOD", columnList = "USER_ID, YEAR, MONTH, CANCELLED")
+)
 @Data
 public class RecurrentExpenseRecord extends BaseEntity {
 
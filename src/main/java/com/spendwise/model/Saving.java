@@ -1,15 +1,26 @@
 package com.spendwise.model;
 
 import com.spendwise.model.auth.User;
+import com.spendwise.spec.SearchText;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Setter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@NamedEntityGraph(
+    name = "Saving.detail",
+    attributeNodes = {
+        @NamedAttributeNode("currency"),
+        @NamedAttributeNode(value = "savingsWallet", subgraph = "savingsWallet")
+    },
+    subgraphs = @NamedSubgraph(name = "savingsWallet", attributeNodes = @NamedAttributeNode("issuingEntity"))
+)
 @Table(name = "SAVING")
 @Data
 public class Saving extends BaseEntity {
@@ -17,11 +28,16 @@ public class Saving extends BaseEntity {
     @Column(name = "DESCRIPTION")
     private String description;
 
-    @ManyToOne
+    // Lower-cased, accent-free copy of DESCRIPTION kept in sync by setDescription; trigram-indexed on Postgres
+    @Setter(AccessLevel.NONE)
+    @Column(name = "DESCRIPTION_SEARCH")
+    private String descriptionSearch;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name ="CURRENCY_ID")
     private Currency currency;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "SAVINGS_WALLET_ID")
     private SavingsWallet savingsWallet;
 
@@ -38,4 +54,9 @@ public class Saving extends BaseEntity {
     @JoinColumn(name = "USER_ID")
     private User user;
 
+    public void setDescription(String description) {
+        this.description = description;
+        this.descriptionSearch = SearchText.normalize(description);
+    }
+
 }
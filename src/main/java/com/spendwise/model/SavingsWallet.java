@@ -10,6 +10,12 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode(callSuper = true)
 @Data
 @Entity
+@NamedEntityGraph(
+    name = "SavingsWallet.withIssuingEntity",
+    attributeNodes = {
+        @NamedAttributeNode("issuingEntity")
+    }
+)
 @Table(name = "SAVINGS_WALLET")
 public class SavingsWallet extends BaseEntity {
 
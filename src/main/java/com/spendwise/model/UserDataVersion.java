@@ -0,0 +1,29 @@
+package com.spendwise.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Monotonic counter of a user's data, bumped in the same transaction as every write
+ * so it can stand in for the user's rows when validating a cached response.
+ */
+@Entity
+@Table(name = "USER_DATA_VERSION")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDataVersion {
+
+    @Id
+    @Column(name = "USER_ID")
+    private Long userId;
+
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+
+}
@@ -8,11 +8,18 @@ import lombok.EqualsAndHashCode;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "PASSWORD_RESET_TOKEN")
+@Table(
+    name = "PASSWORD_RESET_TOKEN",
+    indexes = {
+        @Index(name = "IDX_PASSWORD_RESET_TOKEN_TOKEN", columnList = "TOKEN"),
+        @Index(name = "IDX_PASSWORD_RESET_TOKEN_EXPIRY_DATE", columnList = "EXPIRY_DATE")
+    }
+)
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class PasswordResetToken extends BaseEntity {
 
+    // SHA-256 of the token sent by email, see TokenHasher
     private String token;
 
     @ManyToOne
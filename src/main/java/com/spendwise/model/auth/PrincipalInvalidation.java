@@ -0,0 +1,37 @@
+package com.spendwise.model.auth;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tells every node to drop its cached principal for an email. Nodes poll the rows newer
+ * than the last id they applied; rows older than the cache TTL are useless and purged.
+ */
+@Entity
+@Table(
+    name = "PRINCIPAL_INVALIDATION",
+    indexes = @Index(name = "IDX_PRINCIPAL_INVALIDATION_CREATED_AT", columnList = "CREATED_AT")
+)
+@Data
+public class PrincipalInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "EMAIL", nullable = false)
+    private String email;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+}
@@ -8,7 +8,10 @@ import lombok.EqualsAndHashCode;
 import java.time.Instant;
 
 @Entity
-@Table(name = "REFRESH_TOKEN")
+@Table(
+    name = "REFRESH_TOKEN",
+    indexes = @Index(name = "IDX_REFRESH_TOKEN_EXPIRES_AT", columnList = "EXPIRES_AT")
+)
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class RefreshToken extends BaseEntity {
@@ -17,6 +20,7 @@ public class RefreshToken extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // SHA-256 of the token handed to the client, see TokenHasher
     @Column(nullable = false, unique = true)
     private String token;
 
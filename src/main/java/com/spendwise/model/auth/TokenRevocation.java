@@ -0,0 +1,40 @@
+package com.spendwise.model.auth;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * The access tokens of {@code userId} with a token version below {@code minTokenVersion}
+ * are revoked. Only needed until those tokens expire on their own, then purged.
+ */
+@Entity
+@Table(
+    name = "TOKEN_REVOCATION",
+    indexes = @Index(name = "IDX_TOKEN_REVOCATION_REVOKED_AT", columnList = "REVOKED_AT")
+)
+@Data
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "USER_ID", nullable = false)
+    private Long userId;
+
+    @Column(name = "MIN_TOKEN_VERSION", nullable = false)
+    private Long minTokenVersion;
+
+    @Column(name = "REVOKED_AT", nullable = false)
+    private LocalDateTime revokedAt;
+
+}
@@ -24,4 +24,8 @@ public class User extends BaseEntity {
     @Column(name = "ROLE")
     private Role role = Role.USER;
 
+    // signed into every access token; bumping it revokes the tokens issued before
+    @Column(name = "TOKEN_VERSION", nullable = false)
+    private Long tokenVersion = 0L;
+
 }
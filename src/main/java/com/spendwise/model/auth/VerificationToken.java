@@ -8,11 +8,18 @@ import lombok.EqualsAndHashCode;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "VERIFICATION_TOKEN")
+@Table(
+    name = "VERIFICATION_TOKEN",
+    indexes = {
+        @Index(name = "IDX_VERIFICATION_TOKEN_TOKEN", columnList = "TOKEN"),
+        @Index(name = "IDX_VERIFICATION_TOKEN_EXPIRY_DATE", columnList = "EXPIRY_DATE")
+    }
+)
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class VerificationToken extends BaseEntity {
 
+    // SHA-256 of the token sent by email, see TokenHasher
     private String token;
 
     @OneToOne
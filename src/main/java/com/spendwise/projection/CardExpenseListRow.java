@@ -0,0 +1,104 @@
+package com.spendwise.projection;
+
+import com.spendwise.dto.CardExpenseDTO;
+import com.spendwise.dto.CurrencyDTO;
+import com.spendwise.dto.TransactionDTO;
+import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.enums.TransactionType;
+import com.spendwise.model.CardExpense;
+import com.spendwise.model.Currency;
+import com.spendwise.model.IssuingEntity;
+import com.spendwise.model.PaymentMethod;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Flat row read by the card expense list queries.
+ */
+public record CardExpenseListRow(
+        Long id,
+        String description,
+        BigDecimal amountInPesos,
+        BigDecimal amountInDollars,
+        LocalDate date,
+        LocalDate dueDate,
+        Boolean cancelled,
+        Long paymentMethodId,
+        String paymentMethodName,
+        PaymentMethodType paymentMethodType,
+        Boolean paymentMethodEnabled,
+        String paymentMethodIcon,
+        Long issuingEntityId,
+        String issuingEntityDescription,
+        Boolean issuingEntityEnabled,
+        String issuingEntityIcon,
+        Long currencyId,
+        String currencyName,
+        String currencySymbol,
+        Boolean currencyEnabled,
+        Boolean currencyIsDefault,
+        String currencyIcon
+) {
+
+    public static List<Selection<?>> columns(Root<CardExpense> root) {
+        Join<CardExpense, PaymentMethod> paymentMethod = root.join("paymentMethod", JoinType.LEFT);
+        Join<PaymentMethod, IssuingEntity> issuingEntity = paymentMethod.join("issuingEntity", JoinType.LEFT);
+        Join<CardExpense, Currency> currency = root.join("currency", JoinType.LEFT);
+        return List.of(
+                root.get("id"),
+                root.get("description"),
+                root.get("amountInPesos"),
+                root.get("amountInDollars"),
+                root.get("date"),
+                root.get("dueDate"),
+                root.get("cancelled"),
+                paymentMethod.get("id"),
+                paymentMethod.get("name"),
+                paymentMethod.get("paymentMethodType"),
+                paymentMethod.get("enabled"),
+                paymentMethod.get("icon"),
+                issuingEntity.get("id"),
+                issuingEntity.get("description"),
+                issuingEntity.get("enabled"),
+                issuingEntity.get("icon"),
+                currency.get("id"),
+                currency.get("name"),
+                currency.get("symbol"),
+                currency.get("enabled"),
+                currency.get("isDefault"),
+                currency.get("icon")
+        );
+    }
+
+    public CardExpenseDTO toDTO() {
+        CardExpenseDTO dto = new CardExpenseDTO();
+        dto.setId(id);
+        dto.setDescription(description);
+        dto.setAmountInPesos(amountInPesos);
+        dto.setAmountInDollars(amountInDollars);
+        dto.setDate(date);
+        dto.setDueDate(dueDate);
+        dto.setCancelled(cancelled);
+        dto.setPaymentMethod(ListRows.paymentMethod(paymentMethodId, paymentMethodName, paymentMethodType,
+                paymentMethodEnabled, paymentMethodIcon,
+                ListRows.issuingEntity(issuingEntityId, issuingEntityDescription, issuingEntityEnabled, issuingEntityIcon)));
+        dto.setCurrency(currency());
+        return dto;
+    }
+
+    public TransactionDTO toTransaction() {
+        return ListRows.transaction(TransactionType.CARD_EXPENSE, id, description, amountInPesos, amountInDollars, date,
+                currency());
+    }
+
+    private CurrencyDTO currency() {
+        return ListRows.currency(currencyId, currencyName, currencySymbol, currencyEnabled, currencyIsDefault, currencyIcon);
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.spendwise.projection;
+
+import com.spendwise.dto.DebtDTO;
+import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.model.Currency;
+import com.spendwise.model.Debt;
+import com.spendwise.model.IssuingEntity;
+import com.spendwise.model.PaymentMethod;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Flat row read by the debt list queries. The debt's issuing entity and the payment method's
+ * own one are joined separately.
+ */
+public record DebtListRow(
+        Long id,
+        String description,
+        BigDecimal amountInPesos,
+        BigDecimal amountInDollars,
+        LocalDate date,
+        LocalDate dueDate,
+        Boolean cancelled,
+        Boolean personal,
+        String creditor,
+        Long issuingEntityId,
+        String issuingEntityDescription,
+        Boolean issuingEntityEnabled,
+        String issuingEntityIcon,
+        Long paymentMethodId,
+        String paymentMethodName,
+        PaymentMethodType paymentMethodType,
+        Boolean paymentMethodEnabled,
+        String paymentMethodIcon,
+        Long paymentMethodIssuingEntityId,
+        String paymentMethodIssuingEntityDescription,
+        Boolean paymentMethodIssuingEntityEnabled,
+        String paymentMethodIssuingEntityIcon,
+        Long currencyId,
+        String currencyName,
+        String currencySymbol,
+        Boolean currencyEnabled,
+        Boolean currencyIsDefault,
+        String currencyIcon
+) {
+
+    public static List<Selection<?>> columns(Root<Debt> root) {
+        Join<Debt, IssuingEntity> issuingEntity = root.join("issuingEntity", JoinType.LEFT);
+        Join<Debt, PaymentMethod> paymentMethod = root.join("paymentMethod", JoinType.LEFT);
+        Join<PaymentMethod, IssuingEntity> paymentMethodIssuingEntity = paymentMethod.join("issuingEntity", JoinType.LEFT);
+        Join<Debt, Currency> currency = root.join("currency", JoinType.LEFT);
+        return List.of(
+                root.get("id"),
+                root.get("description"),
+                root.get("amountInPesos"),
+                root.get("amountInDollars"),
+                root.get("date"),
+                root.get("dueDate"),
+                root.get("cancelled"),
+                root.get("personal"),
+                root.get("creditor"),
+                issuingEntity.get("id"),
+                issuingEntity.get("description"),
+                issuingEntity.get("enabled"),
+                issuingEntity.get("icon"),
+                paymentMethod.get("id"),
+                paymentMethod.get("name"),
+                paymentMethod.get("paymentMethodType"),
+                paymentMethod.get("enabled"),
+                paymentMethod.get("icon"),
+                paymentMethodIssuingEntity.get("id"),
+                paymentMethodIssuingEntity.get("description"),
+                paymentMethodIssuingEntity.get("enabled"),
+                paymentMethodIssuingEntity.get("icon"),
+                currency.get("id"),
+                currency.get("name"),
+                currency.get("symbol"),
+                currency.get("enabled"),
+                currency.get("isDefault"),
+                currency.get("icon")
+        );
+    }
+
+    public DebtDTO toDTO() {
+        DebtDTO dto = new DebtDTO();
+        dto.setId(id);
+        dto.setDescription(description);
+        dto.setAmountInPesos(amountInPesos);
+        dto.setAmountInDollars(amountInDollars);
+        dto.setDate(date);
+        dto.setDueDate(dueDate);
+        dto.setCancelled(cancelled);
+        dto.setPersonal(personal);
+        dto.setCreditor(creditor);
+        dto.setIssuingEntity(ListRows.issuingEntity(issuingEntityId, issuingEntityDescription, issuingEntityEnabled,
+                issuingEntityIcon));
+        dto.setPaymentMethod(ListRows.paymentMethod(paymentMethodId, paymentMethodName, paymentMethodType,
+                paymentMethodEnabled, paymentMethodIcon,
+                ListRows.issuingEntity(paymentMethodIssuingEntityId, paymentMethodIssuingEntityDescription,
+                        paymentMethodIssuingEntityEnabled, paymentMethodIssuingEntityIcon)));
+        dto.setCurrency(ListRows.currency(currencyId, currencyName, currencySymbol, currencyEnabled, currencyIsDefault,
+                currencyIcon));
+        return dto;
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.spendwise.projection;
+
+import com.spendwise.dto.ExpenseDTO;
+import com.spendwise.dto.TransactionDTO;
+import com.spendwise.enums.CategoryType;
+import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.enums.TransactionType;
+import com.spendwise.mapper.CategoryMapper;
+import com.spendwise.mapper.CurrencyMapper;
+import com.spendwise.mapper.PaymentMethodMapper;
+import com.spendwise.model.Category;
+import com.spendwise.model.Currency;
+import com.spendwise.model.Expense;
+import com.spendwise.model.IssuingEntity;
+import com.spendwise.model.PaymentMethod;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Flat row read by the expense list queries. Only the columns the list renders are selected,
+ * including the payment method's issuing entity, so the DTO matches the entity mapping.
+ */
+public record ExpenseListRow(
+        Long id,
+        String description,
+        BigDecimal amountInPesos,
+        BigDecimal amountInDollars,
+        LocalDate date,
+        Boolean microExpense,
+        Long categoryId,
+        String categoryName,
+        Boolean categoryEnabled,
+        CategoryType categoryType,
+        String categoryIcon,
+        Long paymentMethodId,
+        String paymentMethodName,
+        PaymentMethodType paymentMethodType,
+        Boolean paymentMethodEnabled,
+        String paymentMethodIcon,
+        Long issuingEntityId,
+        String issuingEntityDescription,
+        Boolean issuingEntityEnabled,
+        String issuingEntityIcon,
+        Long currencyId,
+        String currencyName,
+        String currencySymbol,
+        Boolean currencyEnabled,
+        Boolean currencyIsDefault,
+        String currencyIcon,
+        LocalDateTime currencyCreationDate,
+        LocalDateTime currencyLastUpdateDate
+) {
+
+    /** Fields of {@code GET /expenses?fields=...&refs=...}. */
+    public static final SparseFields<Expense> SPARSE_FIELDS = new SparseFields<Expense>()
+            .scalar("description", "description")
+            .scalar("amountInPesos", "amountInPesos")
+            .scalar("amountInDollars", "amountInDollars")
+            .scalar("date", "date")
+            .scalar("microExpense", "isMicroExpense")
+            .reference("category", "category", "categories", Category.class, CategoryMapper::toDTO)
+            .reference("paymentMethod", "paymentMethod", "paymentMethods", PaymentMethod.class,
+                    PaymentMethodMapper::toDTO, "issuingEntity")
+            .reference("currency", "currency", "currencies", Currency.class, CurrencyMapper::toDTO);
+
+    public static List<Selection<?>> columns(Root<Expense> root) {
+        Join<Expense, Category> category = root.join("category", JoinType.LEFT);
+        Join<Expense, PaymentMethod> paymentMethod = root.join("paymentMethod", JoinType.LEFT);
+        Join<PaymentMethod, IssuingEntity> issuingEntity = paymentMethod.join("issuingEntity", JoinType.LEFT);
+        Join<Expense, Currency> currency = root.join("currency", JoinType.LEFT);
+        return List.of(
+                root.get("id"),
+                root.get("description"),
+                root.get("amountInPesos"),
+                root.get("amountInDollars"),
+                root.get("date"),
+                root.get("isMicroExpense"),
+                category.get("id"),
+                category.get("name"),
+                category.get("enabled"),
+                category.get("type"),
+                category.get("icon"),
+                paymentMethod.get("id"),
+                paymentMethod.get("name"),
+                paymentMethod.get("paymentMethodType"),
+                paymentMethod.get("enabled"),
+                paymentMethod.get("icon"),
+                issuingEntity.get("id"),
+                issuingEntity.get("description"),
+                issuingEntity.get("enabled"),
+                issuingEntity.get("icon"),
+                currency.get("id"),
+                currency.get("name"),
+                currency.get("symbol"),
+                currency.get("enabled"),
+                currency.get("isDefault"),
+                currency.get("icon"),
+                currency.get("creationDate"),
+                currency.get("lastUpdateDate")
+        );
+    }
+
+    public ExpenseDTO toDTO() {
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setId(id);
+        dto.setDescription(description);
+        dto.setAmountInPesos(amountInPesos);
+        dto.setAmountInDollars(amountInDollars);
+        dto.setDate(date);
+        dto.setMicroExpense(microExpense);
+        dto.setCategory(ListRows.category(categoryId, categoryName, categoryEnabled, categoryType, categoryIcon));
+        dto.setPaymentMethod(ListRows.paymentMethod(paymentMethodId, paymentMethodName, paymentMethodType,
+                paymentMethodEnabled, paymentMethodIcon,
+                ListRows.issuingEntity(issuingEntityId, issuingEntityDescription, issuingEntityEnabled, issuingEntityIcon)));
+        dto.setCurrency(ListRows.currencyEntity(currencyId, currencyName, currencySymbol, currencyEnabled,
+                currencyIsDefault, currencyIcon, currencyCreationDate, currencyLastUpdateDate));
+        return dto;
+    }
+
+    public TransactionDTO toTransaction() {
+        return ListRows.transaction(TransactionType.EXPENSE, id, description, amountInPesos, amountInDollars, date,
+                ListRows.currency(currencyId, currencyName, currencySymbol, currencyEnabled, currencyIsDefault, currencyIcon));
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.spendwise.projection;
+
+import com.spendwise.dto.CurrencyDTO;
+import com.spendwise.dto.IncomeDTO;
+import com.spendwise.dto.TransactionDTO;
+import com.spendwise.enums.CategoryType;
+import com.spendwise.enums.TransactionType;
+import com.spendwise.mapper.CategoryMapper;
+import com.spendwise.mapper.CurrencyMapper;
+import com.spendwise.model.Category;
+import com.spendwise.model.Currency;
+import com.spendwise.model.Income;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Flat row read by the income list queries.
+ */
+public record IncomeListRow(
+        Long id,
+        String description,
+        BigDecimal amountInPesos,
+        BigDecimal amountInDollars,
+        LocalDate date,
+        Long sourceId,
+        String sourceName,
+        Boolean sourceEnabled,
+        CategoryType sourceType,
+        String sourceIcon,
+        Long currencyId,
+        String currencyName,
+        String currencySymbol,
+        Boolean currencyEnabled,
+        Boolean currencyIsDefault,
+        String currencyIcon
+) {
+
+    /** Fields of {@code GET /income?fields=...&refs=...}. */
+    public static final SparseFields<Income> SPARSE_FIELDS = new SparseFields<Income>()
+            .scalar("description", "description")
+            .scalar("amountInPesos", "amountInPesos")
+            .scalar("amountInDollars", "amountInDollars")
+            .scalar("date", "date")
+            .reference("source", "source", "categories", Category.class, CategoryMapper::toDTO)
+            .reference("currency", "currency", "currencies", Currency.class, CurrencyMapper::toDTO);
+
+    public static List<Selection<?>> columns(Root<Income> root) {
+        Join<Income, Category> source = root.join("source", JoinType.LEFT);
+        Join<Income, Currency> currency = root.join("currency", JoinType.LEFT);
+        return List.of(
+                root.get("id"),
+                root.get("description"),
+                root.get("amountInPesos"),
+                root.get("amountInDollars"),
+                root.get("date"),
+                source.get("id"),
+                source.get("name"),
+                source.get("enabled"),
+                source.get("type"),
+                source.get("icon"),
+                currency.get("id"),
+                currency.get("name"),
+                currency.get("symbol"),
+                currency.get("enabled"),
+                currency.get("isDefault"),
+                currency.get("icon")
+        );
+    }
+
+    public IncomeDTO toDTO() {
+        IncomeDTO dto = new IncomeDTO();
+        dto.setId(id);
+        dto.setDescription(description);
+        dto.setAmountInPesos(amountInPesos);
+        dto.setAmountInDollars(amountInDollars);
+        dto.setDate(date);
+        dto.setSource(ListRows.category(sourceId, sourceName, sourceEnabled, sourceType, sourceIcon));
+        dto.setCurrency(currency());
+        return dto;
+    }
+
+    public TransactionDTO toTransaction() {
+        return ListRows.transaction(TransactionType.INCOME, id, description, amountInPesos, amountInDollars, date,
+                currency());
+    }
+
+    private CurrencyDTO currency() {
+        return ListRows.currency(currencyId, currencyName, currencySymbol, currencyEnabled, currencyIsDefault, currencyIcon);
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.spendwise.projection;
+
+import com.spendwise.dto.CategoryDTO;
+import com.spendwise.dto.CurrencyDTO;
+import com.spendwise.dto.IssuingEntityDTO;
+import com.spendwise.dto.PaymentMethodDTO;
+import com.spendwise.dto.TransactionDTO;
+import com.spendwise.enums.CategoryType;
+import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.enums.SavingsWalletType;
+import com.spendwise.enums.TransactionType;
+import com.spendwise.model.Currency;
+import com.spendwise.model.SavingsWallet;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Builds the nested references of the list rows with the same fields the entity mappers fill,
+ * so a list response has the shape it had when it was mapped from entities. A left-joined
+ * association that is absent comes back as a null id and maps to a null reference.
+ */
+final class ListRows {
+
+    private ListRows() {
+    }
+
+    static CategoryDTO category(Long id, String name, Boolean enabled, CategoryType type, String icon) {
+        if (id == null) {
+            return null;
+        }
+        CategoryDTO dto = new CategoryDTO();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setEnabled(enabled);
+        dto.setType(type);
+        dto.setIcon(icon);
+        return dto;
+    }
+
+    static PaymentMethodDTO paymentMethod(Long id, String name, PaymentMethodType type, Boolean enabled, String icon,
+                                          IssuingEntityDTO issuingEntity) {
+        if (id == null) {
+            return null;
+        }
+        PaymentMethodDTO dto = new PaymentMethodDTO();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setPaymentMethodType(type != null ? type.name() : null);
+        dto.setEnabled(enabled);
+        dto.setIcon(icon);
+        dto.setIssuingEntity(issuingEntity);
+        return dto;
+    }
+
+    static CurrencyDTO currency(Long id, String name, String symbol, Boolean enabled, Boolean isDefault, String icon) {
+        if (id == null) {
+            return null;
+        }
+        CurrencyDTO dto = new CurrencyDTO();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setSymbol(symbol);
+        dto.setEnabled(enabled);
+        dto.setIsDefault(isDefault);
+        dto.setIcon(icon);
+        return dto;
+    }
+
+    /** Same fields as {@code CurrencyMapper.copy}, for the DTOs that expose the entity. */
+    static Currency currencyEntity(Long id, String name, String symbol, Boolean enabled, Boolean isDefault, String icon,
+                                   LocalDateTime creationDate, LocalDateTime lastUpdateDate) {
+        if (id == null) {
+            return null;
+        }
+        Currency currency = new Currency();
+        currency.setId(id);
+        currency.setName(name);
+        currency.setSymbol(symbol);
+        currency.setEnabled(enabled);
+        currency.setIsDefault(isDefault);
+        currency.setIcon(icon);
+        currency.setCreationDate(creationDate);
+        currency.setLastUpdateDate(lastUpdateDate);
+        return currency;
+    }
+
+    static IssuingEntityDTO issuingEntity(Long id, String description, Boolean enabled, String icon) {
+        if (id == null) {
+            return null;
+        }
+        IssuingEntityDTO dto = new IssuingEntityDTO();
+        dto.setId(id);
+        dto.setDescription(description);
+        dto.setEnabled(enabled);
+        dto.setIcon(icon);
+        return dto;
+    }
+
+    /** Same fields as {@code SavingsWalletMapper.copy}. */
+    static SavingsWallet savingsWallet(Long id, String name, SavingsWalletType type, Boolean enabled, String icon,
+                                       LocalDateTime creationDate, LocalDateTime lastUpdateDate) {
+        if (id == null) {
+            return null;
+        }
+        SavingsWallet wallet = new SavingsWallet();
+        wallet.setId(id);
+        wallet.setName(name);
+        wallet.setSavingsWalletType(type);
+        wallet.setEnabled(enabled);
+        wallet.setIcon(icon);
+        wallet.setCreationDate(creationDate);
+        wallet.setLastUpdateDate(lastUpdateDate);
+        return wallet;
+    }
+
+    static TransactionDTO transaction(TransactionType type, Long id, String description, BigDecimal amountInPesos,
+                                      BigDecimal amountInDollars, LocalDate date, CurrencyDTO currency) {
+        TransactionDTO dto = new TransactionDTO();
+        dto.setType(type);
+        dto.setId(id);
+        dto.setDescription(description);
+        dto.setAmountInPesos(amountInPesos);
+        dto.setAmountInDollars(amountInDollars);
+        dto.setDate(date);
+        dto.setCurrency(currency);
+        return dto;
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.spendwise.projection;
+
+import com.spendwise.dto.SavingDTO;
+import com.spendwise.dto.TransactionDTO;
+import com.spendwise.enums.SavingsWalletType;
+import com.spendwise.enums.TransactionType;
+import com.spendwise.model.Currency;
+import com.spendwise.model.Saving;
+import com.spendwise.model.SavingsWallet;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Flat row read by the saving list queries. The wallet's issuing entity is not joined, as the
+ * wallet copy in {@code SavingDTO} never carried it.
+ */
+public record SavingListRow(
+        Long id,
+        String description,
+        BigDecimal amountInPesos,
+        BigDecimal amountInDollars,
+        LocalDate date,
+        Long currencyId,
+        String currencyName,
+        String currencySymbol,
+        Boolean currencyEnabled,
+        Boolean currencyIsDefault,
+        String currencyIcon,
+        LocalDateTime currencyCreationDate,
+        LocalDateTime currencyLastUpdateDate,
+        Long savingsWalletId,
+        String savingsWalletName,
+        SavingsWalletType savingsWalletType,
+        Boolean savingsWalletEnabled,
+        String savingsWalletIcon,
+        LocalDateTime savingsWalletCreationDate,
+        LocalDateTime savingsWalletLastUpdateDate
+) {
+
+    public static List<Selection<?>> columns(Root<Saving> root) {
+        Join<Saving, Currency> currency = root.join("currency", JoinType.LEFT);
+        Join<Saving, SavingsWallet> savingsWallet = root.join("savingsWallet", JoinType.LEFT);
+        return List.of(
+                root.get("id"),
+                root.get("description"),
+                root.get("amountInPesos"),
+                root.get("amountInDollars"),
+                root.get("date"),
+                currency.get("id"),
+                currency.get("name"),
+                currency.get("symbol"),
+                currency.get("enabled"),
+                currency.get("isDefault"),
+                currency.get("icon"),
+                currency.get("creationDate"),
+                currency.get("lastUpdateDate"),
+                savingsWallet.get("id"),
+                savingsWallet.get("name"),
+                savingsWallet.get("savingsWalletType"),
+                savingsWallet.get("enabled"),
+                savingsWallet.get("icon"),
+                savingsWallet.get("creationDate"),
+                savingsWallet.get("lastUpdateDate")
+        );
+    }
+
+    public SavingDTO toDTO() {
+        SavingDTO dto = new SavingDTO();
+        dto.setId(id);
+        dto.setDescription(description);
+        dto.setAmountInPesos(amountInPesos);
+        dto.setAmountInDollars(amountInDollars);
+        dto.setDate(date);
+        dto.setCurrency(ListRows.currencyEntity(currencyId, currencyName, currencySymbol, currencyEnabled,
+                currencyIsDefault, currencyIcon, currencyCreationDate, currencyLastUpdateDate));
+        dto.setSavingsWallet(ListRows.savingsWallet(savingsWalletId, savingsWalletName, savingsWalletType,
+                savingsWalletEnabled, savingsWalletIcon, savingsWalletCreationDate, savingsWalletLastUpdateDate));
+        return dto;
+    }
+
+    public TransactionDTO toTransaction() {
+        return ListRows.transaction(TransactionType.SAVING, id, description, amountInPesos, amountInDollars, date,
+                ListRows.currency(currencyId, currencyName, currencySymbol, currencyEnabled, currencyIsDefault, currencyIcon));
+    }
+
+}
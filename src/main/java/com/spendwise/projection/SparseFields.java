@@ -0,0 +1,171 @@
+package com.spendwise.projection;
+
+import com.spendwise.dto.SparsePageDTO;
+import com.spendwise.model.AuditedEntity;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The fields a list endpoint can return in sparse mode ({@code ?fields=} and {@code ?refs=}).
+ * A scalar field is one selected column. A reference field selects only the foreign key; the
+ * referenced rows are then loaded once per response by id, and either embedded in each row
+ * ({@code refs=embed}) or sent once in a side table keyed by id ({@code refs=id}). A reference
+ * can name associations of the referenced entity to fetch in the same query, so its DTO is
+ * complete without a lazy load per row.
+ */
+public final class SparseFields<T> {
+
+    public enum RefMode {
+        EMBED, ID
+    }
+
+    /** Reads the entities of a type by id, fetching the given associations. */
+    @FunctionalInterface
+    public interface Loader {
+        List<?> load(Class<?> type, Collection<Long> ids, List<String> fetch);
+    }
+
+    private record Reference<R extends AuditedEntity>(String table, Class<R> type, Function<R, Object> toDTO,
+                                                      List<String> fetch) {
+
+        Map<Long, Object> load(Set<Long> ids, Loader loader) {
+            Map<Long, Object> byId = new HashMap<>();
+            for (Object row : loader.load(type, ids, fetch)) {
+                R entity = type.cast(row);
+                byId.put(entity.getId(), toDTO.apply(entity));
+            }
+            return byId;
+        }
+    }
+
+    private final Map<String, String> scalars = new LinkedHashMap<>();
+    private final Map<String, String> referenceAttributes = new LinkedHashMap<>();
+    private final Map<String, Reference<?>> references = new LinkedHashMap<>();
+
+    public SparseFields<T> scalar(String field, String attribute) {
+        scalars.put(field, attribute);
+        return this;
+    }
+
+    public <R extends AuditedEntity> SparseFields<T> reference(String field, String attribute, String table,
+                                                              Class<R> type, Function<R, Object> toDTO,
+                                                              String... fetch) {
+        referenceAttributes.put(field, attribute);
+        references.put(field, new Reference<>(table, type, toDTO, List.of(fetch)));
+        return this;
+    }
+
+    public static RefMode refMode(String refs) {
+        if (refs == null || refs.isBlank() || refs.equalsIgnoreCase("embed")) {
+            return RefMode.EMBED;
+        }
+        if (refs.equalsIgnoreCase("id")) {
+            return RefMode.ID;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "refs must be 'embed' or 'id'");
+    }
+
+    /**
+     * Resolves a comma-separated field list; null or blank selects every field. The id is
+     * always returned so rows stay addressable.
+     */
+    public Selected select(String fields) {
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        if (fields == null || fields.isBlank()) {
+            names.addAll(scalars.keySet());
+            names.addAll(references.keySet());
+        } else {
+            for (String name : fields.split(",")) {
+                String field = name.trim();
+                if (field.isEmpty()) continue;
+                if (!scalars.containsKey(field) && !references.containsKey(field)) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown field: " + field);
+                }
+                names.add(field);
+            }
+        }
+        return new Selected(names);
+    }
+
+    public final class Selected {
+
+        private final Set<String> names;
+
+        private Selected(Set<String> names) {
+            this.names = names;
+        }
+
+        public List<Selection<?>> columns(Root<T> root) {
+            List<Selection<?>> columns = new ArrayList<>(names.size());
+            for (String name : names) {
+                String attribute = scalars.get(name);
+                if (attribute != null) {
+                    columns.add(root.get(attribute).alias(name));
+                } else {
+                    columns.add(root.get(referenceAttributes.get(name)).get("id").alias(name));
+                }
+            }
+            return columns;
+        }
+
+        /**
+         * Builds the response from a page of tuples read with {@link #columns}. Each referenced
+         * type costs one query for the distinct ids on the page, whatever the number of rows.
+         */
+        public SparsePageDTO toPage(Page<Tuple> page, RefMode mode, Loader loader) {
+            Map<String, Map<Long, Object>> loaded = new LinkedHashMap<>();
+            for (String name : names) {
+                Reference<?> reference = references.get(name);
+                if (reference == null) continue;
+                Set<Long> ids = new LinkedHashSet<>();
+                for (Tuple tuple : page.getContent()) {
+                    Long id = tuple.get(name, Long.class);
+                    if (id != null) ids.add(id);
+                }
+                loaded.put(name, ids.isEmpty() ? Map.of() : reference.load(ids, loader));
+            }
+
+            List<Map<String, Object>> content = new ArrayList<>(page.getNumberOfElements());
+            for (Tuple tuple : page.getContent()) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                for (String name : names) {
+                    Object value = tuple.get(name);
+                    if (!references.containsKey(name)) {
+                        row.put(name, value);
+                    } else if (mode == RefMode.ID) {
+                        row.put(name + "Id", value);
+                    } else {
+                        row.put(name, value == null ? null : loaded.get(name).get(value));
+                    }
+                }
+                content.add(row);
+            }
+
+            Map<String, Map<Long, Object>> sideTables = null;
+            if (mode == RefMode.ID) {
+                sideTables = new LinkedHashMap<>();
+                for (Map.Entry<String, Map<Long, Object>> entry : loaded.entrySet()) {
+                    sideTables.put(references.get(entry.getKey()).table(), entry.getValue());
+                }
+            }
+            return new SparsePageDTO(content, sideTables, page.getNumber(), page.getSize(),
+                    page.getTotalElements(), page.getTotalPages());
+        }
+    }
+
+}
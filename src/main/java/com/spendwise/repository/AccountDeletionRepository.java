@@ -0,0 +1,45 @@
+package com.spendwise.repository;
+
+import com.spendwise.enums.AccountDeletionStatus;
+import com.spendwise.model.AccountDeletion;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The purge job runs outside any service transaction, so every status write commits on
+ * its own and the progress is visible to the status endpoint while the purge runs.
+ */
+public interface AccountDeletionRepository extends JpaRepository<AccountDeletion, String> {
+
+    List<AccountDeletion> findAllByStatusInOrderByRequestedAtAsc(Collection<AccountDeletionStatus> statuses);
+
+    /**
+     * Takes a pending deletion, or a running one whose worker stopped reporting progress.
+     * Returns 0 when another instance got there first.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE AccountDeletion d SET d.status = com.spendwise.enums.AccountDeletionStatus.RUNNING, d.updatedAt = :now " +
+           "WHERE d.id = :id AND (d.status = com.spendwise.enums.AccountDeletionStatus.PENDING " +
+           "OR (d.status = com.spendwise.enums.AccountDeletionStatus.RUNNING AND d.updatedAt < :staleBefore))")
+    int claim(@Param("id") String id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AccountDeletion d SET d.deletedRows = d.deletedRows + :rows, d.updatedAt = :now WHERE d.id = :id")
+    int addDeletedRows(@Param("id") String id, @Param("rows") long rows, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AccountDeletion d SET d.status = com.spendwise.enums.AccountDeletionStatus.COMPLETED, " +
+           "d.updatedAt = :now, d.completedAt = :now WHERE d.id = :id")
+    int complete(@Param("id") String id, @Param("now") LocalDateTime now);
+
+}
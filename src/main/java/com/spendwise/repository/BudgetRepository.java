@@ -15,6 +15,4 @@ public interface BudgetRepository extends JpaRepository<Budget, Long>, JpaSpecif
 
     Optional<Budget> findTopByUserOrderByYearDescMonthDesc(User user);
 
-    void deleteAllByUser(User user);
-
 }
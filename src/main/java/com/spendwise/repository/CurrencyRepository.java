@@ -9,12 +9,14 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CurrencyRepository extends JpaRepository<Currency, Long>, JpaSpecificationExecutor<Currency> {
     Optional<Currency> findByIdAndUser(Long id, User user);
-    void deleteAllByUser(User user);
+    List<Currency> findAllByIdInAndUser(Collection<Long> ids, User user);
 
     @Modifying
     @Query("UPDATE Currency c SET c.isDefault = false WHERE c.user = :user AND c.id <> :excludeId")
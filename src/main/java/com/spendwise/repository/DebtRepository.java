@@ -2,6 +2,7 @@ package com.spendwise.repository;
 
 import com.spendwise.model.Debt;
 import com.spendwise.model.auth.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -11,6 +12,6 @@ import java.util.Optional;
 @Repository
 public interface DebtRepository extends JpaRepository<Debt, Long>,
         JpaSpecificationExecutor<Debt> {
+    @EntityGraph("Debt.detail")
     Optional<Debt> findByIdAndUser(Long id, User user);
-    void deleteAllByUser(User user);
 }
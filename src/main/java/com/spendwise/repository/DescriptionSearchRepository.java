@@ -0,0 +1,82 @@
+package com.spendwise.repository;
+
+import com.spendwise.spec.SearchText;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Ranked description search over the DESCRIPTION_SEARCH column of a user's rows. It returns
+ * one page of ids in rank order and reads {@code limit + 1} ids so callers can answer
+ * {@code hasNext} without counting.
+ * <p>
+ * On Postgres the query goes through the (USER_ID, trigram) GIN index, so it only reads the
+ * user's matching rows, however large the table. Both predicates can use that index: the
+ * substring LIKE, and {@code %>}, which returns the typo-tolerant rows whose
+ * {@code word_similarity} reaches {@code pg_trgm.word_similarity_threshold}. Only those
+ * candidates are ranked: by prefix match, then substring match, then {@code word_similarity}. Other databases, such as H2
+ * in tests, use the same prefix and substring ranking through a plain LIKE.
+ */
+@Repository
+public class DescriptionSearchRepository {
+
+    public enum Table {
+        EXPENSE, SAVING
+    }
+
+    private static final String POSTGRES_SEARCH = """
+            SELECT t.ID FROM %s t
+            WHERE t.USER_ID = :userId
+              AND (t.DESCRIPTION_SEARCH LIKE :contains ESCAPE '\\' OR t.DESCRIPTION_SEARCH %%> :term)
+            ORDER BY CASE WHEN t.DESCRIPTION_SEARCH LIKE :prefix ESCAPE '\\' THEN 2
+                          WHEN t.DESCRIPTION_SEARCH LIKE :contains ESCAPE '\\' THEN 1
+                          ELSE 0 END DESC,
+                     word_similarity(:term, t.DESCRIPTION_SEARCH) DESC,
+                     t.DATE DESC, t.ID DESC
+            """;
+
+    private static final String PORTABLE_SEARCH = """
+            SELECT t.ID FROM %s t
+            WHERE t.USER_ID = :userId
+              AND t.DESCRIPTION_SEARCH LIKE :contains ESCAPE '\\'
+            ORDER BY CASE WHEN t.DESCRIPTION_SEARCH LIKE :prefix ESCAPE '\\' THEN 1 ELSE 0 END DESC,
+                     t.DATE DESC, t.ID DESC
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    public List<Long> searchIds(Table table, Long userId, String term, long offset, int limit) {
+        String sql = (isPostgres() ? POSTGRES_SEARCH : PORTABLE_SEARCH).formatted(table.name());
+        Query query = entityManager.createNativeQuery(sql, Long.class)
+                .setParameter("userId", userId)
+                .setParameter("contains", SearchText.containsPattern(term))
+                .setParameter("prefix", SearchText.prefixPattern(term));
+        if (isPostgres()) {
+            query.setParameter("term", SearchText.normalize(term));
+        }
+        query.setFirstResult((int) offset);
+        query.setMaxResults(limit + 1);
+
+        @SuppressWarnings("unchecked")
+        List<Long> ids = query.getResultList();
+        return ids;
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = entityManager.unwrap(Session.class).doReturningWork(connection ->
+                    connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres"));
+            postgres = result;
+        }
+        return result;
+    }
+
+}
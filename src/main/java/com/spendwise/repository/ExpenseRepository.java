@@ -2,23 +2,34 @@ package com.spendwise.repository;
 
 import com.spendwise.model.Expense;
 import com.spendwise.model.auth.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ExpenseRepository extends JpaRepository<Expense, Long>, JpaSpecificationExecutor<Expense> {
+    @EntityGraph("Expense.detail")
     Optional<Expense> findByIdAndUser(Long id, User user);
-    void deleteAllByUser(User user);
 
     @Query("SELECT year(e.date), SUM(e.amountInPesos), SUM(e.amountInDollars) FROM Expense e WHERE e.user = :user GROUP BY year(e.date) ORDER BY year(e.date) DESC")
     List<Object[]> getYearlySums(@Param("user") User user);
 
     @Query("SELECT year(e.date), month(e.date), SUM(e.amountInPesos), SUM(e.amountInDollars) FROM Expense e WHERE e.user = :user GROUP BY year(e.date), month(e.date) ORDER BY year(e.date) DESC, month(e.date) ASC")
     List<Object[]> getMonthlySums(@Param("user") User user);
+
+    /**
+     * [date, amountInPesos, descriptionSearch] of the expenses on {@code dates} that did not come
+     * from a mail import (those are matched through the import itself); see StatementDedup.
+     */
+    @Query("SELECT e.date, e.amountInPesos, e.descriptionSearch FROM Expense e WHERE e.user = :user AND e.date IN :dates " +
+           "AND NOT EXISTS (SELECT m.id FROM MailImport m WHERE m.expense = e)")
+    List<Object[]> findStatementKeys(@Param("user") User user, @Param("dates") Collection<LocalDate> dates);
 }
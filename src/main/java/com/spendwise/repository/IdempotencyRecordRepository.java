@@ -0,0 +1,50 @@
+package com.spendwise.repository;
+
+import com.spendwise.model.IdempotencyRecord;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * Called from the idempotency filter, outside any service transaction, so every write
+ * runs in its own.
+ */
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /** Plain INSERT so a concurrent claim of the same key fails on the primary key instead of merging. */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO IDEMPOTENCY_KEY (ID, USER_ID, REQUEST_HASH, EXPIRES_AT) " +
+                   "VALUES (:id, :userId, :requestHash, :expiresAt)", nativeQuery = true)
+    int claim(@Param("id") String id, @Param("userId") Long userId,
+              @Param("requestHash") String requestHash, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.statusCode = :statusCode, r.contentType = :contentType, " +
+           "r.responseBody = :responseBody, r.expiresAt = :expiresAt WHERE r.id = :id")
+    int complete(@Param("id") String id, @Param("statusCode") Integer statusCode,
+                 @Param("contentType") String contentType, @Param("responseBody") String responseBody,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    /** Drops a claim whose request failed, so the client can retry with the same key. */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.statusCode IS NULL")
+    int release(@Param("id") String id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.expiresAt < :now")
+    int deleteIfExpired(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+}
@@ -2,6 +2,7 @@ package com.spendwise.repository;
 
 import com.spendwise.model.Income;
 import com.spendwise.model.auth.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -13,8 +14,8 @@ import java.util.Optional;
 
 @Repository
 public interface IncomeRepository extends JpaRepository<Income, Long>, JpaSpecificationExecutor<Income> {
+    @EntityGraph("Income.detail")
     Optional<Income> findByIdAndUser(Long id, User user);
-    void deleteAllByUser(User user);
 
     @Query("SELECT year(i.date), SUM(i.amountInPesos), SUM(i.amountInDollars) FROM Income i WHERE i.user = :user GROUP BY year(i.date) ORDER BY year(i.date) DESC")
     List<Object[]> getYearlySums(@Param("user") User user);
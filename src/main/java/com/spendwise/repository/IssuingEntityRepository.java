@@ -12,5 +12,4 @@ import java.util.Optional;
 public interface IssuingEntityRepository extends JpaRepository<IssuingEntity, Long>,
         JpaSpecificationExecutor<IssuingEntity> {
     Optional<IssuingEntity> findByIdAndUser(Long id, User user);
-    void deleteAllByUser(User user);
 }
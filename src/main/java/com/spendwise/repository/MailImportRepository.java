@@ -4,10 +4,19 @@ import com.spendwise.enums.MailImportStatus;
 import com.spendwise.model.Expense;
 import com.spendwise.model.MailImport;
 import com.spendwise.model.auth.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,5 +24,15 @@ public interface MailImportRepository extends JpaRepository<MailImport, Long>, J
     boolean existsByUserAndImapMessageId(User user, String imapMessageId);
     long countByUserAndStatus(User user, MailImportStatus status);
     Optional<MailImport> findByExpense(Expense expense);
-    void deleteAllByUser(User user);
+
+    @EntityGraph("MailImport.withExpense")
+    List<MailImport> findAllByIdInAndUser(Collection<Long> ids, User user);
+
+    /** [parsedDate, parsedAmount, parsedMerchant] of every import on {@code dates}; see StatementDedup. */
+    @Query("SELECT m.parsedDate, m.parsedAmount, m.parsedMerchant FROM MailImport m WHERE m.user = :user AND m.parsedDate IN :dates")
+    List<Object[]> findStatementKeys(@Param("user") User user, @Param("dates") Collection<LocalDate> dates);
+
+    @Override
+    @EntityGraph("MailImport.withExpense")
+    Page<MailImport> findAll(Specification<MailImport> spec, Pageable pageable);
 }
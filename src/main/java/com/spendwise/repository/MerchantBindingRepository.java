@@ -3,10 +3,26 @@ package com.spendwise.repository;
 import com.spendwise.model.MerchantBinding;
 import com.spendwise.model.auth.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MerchantBindingRepository extends JpaRepository<MerchantBinding, Long> {
-    Optional<MerchantBinding> findByUserAndMerchantNameIgnoreCase(User user, String merchantName);
-    void deleteAllByUser(User user);
+
+    /**
+     * Case-insensitive lookup written with lower() so it matches the
+     * (USER_ID, lower(MERCHANT_NAME)) index; a derived IgnoreCase query compares upper().
+     */
+    @Query("SELECT b FROM MerchantBinding b WHERE b.user = :user AND lower(b.merchantName) = lower(:merchantName)")
+    Optional<MerchantBinding> findByUserAndMerchantNameIgnoreCase(@Param("user") User user,
+                                                                 @Param("merchantName") String merchantName);
+
+    /** Batch form of the lookup above; {@code merchantNames} must already be lower-cased. */
+    @Query("SELECT b FROM MerchantBinding b WHERE b.user = :user AND lower(b.merchantName) IN :merchantNames")
+    List<MerchantBinding> findAllByUserAndMerchantNamesIgnoreCase(@Param("user") User user,
+                                                                  @Param("merchantNames") Collection<String> merchantNames);
+
 }
@@ -2,11 +2,23 @@ package com.spendwise.repository;
 
 import com.spendwise.model.auth.PasswordResetToken;
 import com.spendwise.model.auth.User;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
     Optional<PasswordResetToken> findByToken(String token);
     void deleteByUser(User user);
+
+    /** Deletes at most {@code limit} expired tokens, each chunk in a transaction of its own. */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM PASSWORD_RESET_TOKEN WHERE ID IN " +
+                   "(SELECT ID FROM PASSWORD_RESET_TOKEN WHERE EXPIRY_DATE < :now LIMIT :limit)", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -2,14 +2,26 @@ package com.spendwise.repository;
 
 import com.spendwise.model.PaymentMethod;
 import com.spendwise.model.auth.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PaymentMethodRepository extends JpaRepository<PaymentMethod, Long>, JpaSpecificationExecutor<PaymentMethod> {
+    @EntityGraph("PaymentMethod.withIssuingEntity")
     Optional<PaymentMethod> findByIdAndUser(Long id, User user);
-    void deleteAllByUser(User user);
+    @EntityGraph("PaymentMethod.withIssuingEntity")
+    List<PaymentMethod> findAllByIdInAndUser(Collection<Long> ids, User user);
+
+    @Override
+    @EntityGraph("PaymentMethod.withIssuingEntity")
+    Page<PaymentMethod> findAll(Specification<PaymentMethod> spec, Pageable pageable);
 }
@@ -2,6 +2,10 @@ package com.spendwise.repository;
 
 import com.spendwise.model.PersonalDebt;
 import com.spendwise.model.auth.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -10,6 +14,10 @@ import java.util.Optional;
 
 @Repository
 public interface PersonalDebtRepository extends JpaRepository<PersonalDebt, Long>, JpaSpecificationExecutor<PersonalDebt> {
+    @EntityGraph("PersonalDebt.withCurrency")
     Optional<PersonalDebt> findByIdAndUser(Long id, User user);
-    void deleteAllByUser(User user);
+
+    @Override
+    @EntityGraph("PersonalDebt.withCurrency")
+    Page<PersonalDebt> findAll(Specification<PersonalDebt> spec, Pageable pageable);
 }
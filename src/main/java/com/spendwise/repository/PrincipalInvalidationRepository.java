@@ -0,0 +1,24 @@
+package com.spendwise.repository;
+
+import com.spendwise.model.auth.PrincipalInvalidation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PrincipalInvalidationRepository extends JpaRepository<PrincipalInvalidation, Long> {
+
+    @Query("SELECT MAX(p.id) FROM PrincipalInvalidation p")
+    Optional<Long> findMaxId();
+
+    List<PrincipalInvalidation> findAllByIdGreaterThanOrderByIdAsc(Long id);
+
+    @Modifying
+    @Query("DELETE FROM PrincipalInvalidation p WHERE p.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+
+}
@@ -3,19 +3,64 @@ package com.spendwise.repository;
 import com.spendwise.model.RecurrentExpense;
 import com.spendwise.model.RecurrentExpenseRecord;
 import com.spendwise.model.auth.User;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RecurrentExpenseRecordRepository extends JpaRepository<RecurrentExpenseRecord, Long>, JpaSpecificationExecutor<RecurrentExpenseRecord> {
 
+    @EntityGraph("RecurrentExpenseRecord.withReferences")
     Optional<RecurrentExpenseRecord> findByIdAndUser(Long id, User user);
 
     Optional<RecurrentExpenseRecord> findByRecurrentExpenseAndMonthAndYear(RecurrentExpense recurrentExpense, Integer month, Integer year);
 
-    void deleteAllByUser(User user);
+    Optional<RecurrentExpenseRecord> findByRecurrentExpenseIdAndMonthAndYearAndUser(Long recurrentExpenseId, Integer month, Integer year, User user);
+
+    /**
+     * (recurrentExpenseId, month, year) of every cancelled record of the user in the given
+     * years, so a page of budgets resolves its cancelled items with one query.
+     */
+    @Query("SELECT r.recurrentExpense.id, r.month, r.year FROM RecurrentExpenseRecord r WHERE r.user = :user AND r.year IN :years AND r.cancelled = true")
+    List<Object[]> findCancelledPeriods(@Param("user") User user, @Param("years") Collection<Integer> years);
+
+    /**
+     * Inserts the (non-cancelled) record of the given period for every enabled recurrent expense
+     * whose id falls in (fromId, toId] and does not have one yet. Set-based so a whole window of
+     * users is materialized with a single statement. Called outside a transaction each window
+     * commits on its own; inside one (a single recurrent expense just created or enabled) it
+     * joins it.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO RECURRENT_EXPENSE_RECORD (RECURRENT_EXPENSE_ID, USER_ID, MONTH, YEAR, CANCELLED, CREATION_DATE, LAST_UPDATE_DATE)
+            SELECT re.ID, re.USER_ID, :month, :year, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM RECURRENT_EXPENSE re
+            WHERE re.ENABLED = true
+              AND re.ID > :fromId AND re.ID <= :toId
+              AND NOT EXISTS (SELECT 1 FROM RECURRENT_EXPENSE_RECORD r
+                              WHERE r.RECURRENT_EXPENSE_ID = re.ID AND r.MONTH = :month AND r.YEAR = :year)
+            """, nativeQuery = true)
+    int insertMissingForPeriod(@Param("month") Integer month,
+                               @Param("year") Integer year,
+                               @Param("fromId") Long fromId,
+                               @Param("toId") Long toId);
+
+    @Override
+    @EntityGraph("RecurrentExpenseRecord.withReferences")
+    Page<RecurrentExpenseRecord> findAll(Specification<RecurrentExpenseRecord> spec, Pageable pageable);
 
 }
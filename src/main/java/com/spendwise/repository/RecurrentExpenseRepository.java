@@ -2,19 +2,37 @@ package com.spendwise.repository;
 
 import com.spendwise.model.RecurrentExpense;
 import com.spendwise.model.auth.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RecurrentExpenseRepository extends JpaRepository<RecurrentExpense, Long>, JpaSpecificationExecutor<RecurrentExpense> {
 
+    @EntityGraph("RecurrentExpense.withReferences")
     Optional<RecurrentExpense> findByIdAndUser(Long id, User user);
 
+    @EntityGraph("RecurrentExpense.withReferences")
+    List<RecurrentExpense> findAllByIdInAndUser(Collection<Long> ids, User user);
+
     Optional<RecurrentExpense> findByDescriptionIgnoreCaseAndUserAndEnabledTrue(String description, User user);
 
-    void deleteAllByUser(User user);
+    List<RecurrentExpense> findAllByUserAndEnabledTrue(User user);
+
+    @Query("SELECT COALESCE(MAX(re.id), 0) FROM RecurrentExpense re")
+    Long findMaxId();
+
+    @Override
+    @EntityGraph("RecurrentExpense.withReferences")
+    Page<RecurrentExpense> findAll(Specification<RecurrentExpense> spec, Pageable pageable);
 
 }
@@ -2,11 +2,32 @@ package com.spendwise.repository;
 
 import com.spendwise.model.auth.RefreshToken;
 import com.spendwise.model.auth.User;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByToken(String token);
     void deleteByUser(User user);
+
+    /** Returns 0 when the token was already used, revoked or swept. */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.id = :id")
+    int deleteByIdReturningCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.token = :token")
+    int deleteByTokenHash(@Param("token") String token);
+
+    /** Deletes at most {@code limit} expired tokens, each chunk in a transaction of its own. */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM REFRESH_TOKEN WHERE ID IN " +
+                   "(SELECT ID FROM REFRESH_TOKEN WHERE EXPIRES_AT < :now LIMIT :limit)", nativeQuery = true)
+    int deleteExpired(@Param("now") Instant now, @Param("limit") int limit);
 }
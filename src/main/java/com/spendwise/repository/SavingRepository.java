@@ -2,6 +2,7 @@ package com.spendwise.repository;
 
 import com.spendwise.model.Saving;
 import com.spendwise.model.auth.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -10,6 +11,6 @@ import java.util.Optional;
 
 @Repository
 public interface SavingRepository extends JpaRepository<Saving, Long>, JpaSpecificationExecutor<Saving> {
+    @EntityGraph("Saving.detail")
     Optional<Saving> findByIdAndUser(Long id, User user);
-    void deleteAllByUser(User user);
 }
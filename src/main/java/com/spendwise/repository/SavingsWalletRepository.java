@@ -2,6 +2,10 @@ package com.spendwise.repository;
 
 import com.spendwise.model.SavingsWallet;
 import com.spendwise.model.auth.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -10,6 +14,10 @@ import java.util.Optional;
 
 @Repository
 public interface SavingsWalletRepository extends JpaRepository<SavingsWallet, Long>, JpaSpecificationExecutor<SavingsWallet> {
+    @EntityGraph("SavingsWallet.withIssuingEntity")
     Optional<SavingsWallet> findByIdAndUser(Long id, User user);
-    void deleteAllByUser(User user);
+
+    @Override
+    @EntityGraph("SavingsWallet.withIssuingEntity")
+    Page<SavingsWallet> findAll(Specification<SavingsWallet> spec, Pageable pageable);
 }
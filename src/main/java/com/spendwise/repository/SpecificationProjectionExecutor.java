@@ -0,0 +1,169 @@
+package com.spendwise.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Runs a Specification as a constructor-expression projection: only the columns returned by
+ * {@code columns} are selected and each row is built straight into {@code rowType}, so list
+ * endpoints skip entity hydration, eager association loads and dirty-checking snapshots.
+ * <p>
+ * {@link #findSlice} is count-free: it reads {@code size + 1} rows and uses the extra one to
+ * answer {@code hasNext}. {@link #findPage} only issues the COUNT(*) when the page itself
+ * cannot tell the total.
+ */
+@Repository
+public class SpecificationProjectionExecutor {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T, R> Page<R> findPage(Class<T> domainClass, Class<R> rowType,
+                                   Function<Root<T>, List<Selection<?>>> columns,
+                                   Specification<T> spec, Pageable pageable) {
+        return page(createQuery(domainClass, rowType, columns, spec, pageable), domainClass, spec, pageable);
+    }
+
+    /**
+     * Same as {@link #findPage} for a column list only known at request time (sparse field
+     * sets): each selection must carry an alias, which is the key to read it from the tuple.
+     */
+    public <T> Page<Tuple> findTuplePage(Class<T> domainClass,
+                                         Function<Root<T>, List<Selection<?>>> columns,
+                                         Specification<T> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(domainClass);
+        query.multiselect(columns.apply(root));
+        return page(restrict(query, root, cb, spec, pageable), domainClass, spec, pageable);
+    }
+
+    public <T, R> Slice<R> findSlice(Class<T> domainClass, Class<R> rowType,
+                                     Function<Root<T>, List<Selection<?>>> columns,
+                                     Specification<T> spec, Pageable pageable) {
+        TypedQuery<R> typedQuery = createQuery(domainClass, rowType, columns, spec, pageable);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+        }
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
+
+        List<R> rows = typedQuery.getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    /**
+     * Rows for {@code ids}, returned in the order of {@code ids} (e.g. a relevance ranking
+     * computed by another query). Ids with no row are skipped.
+     */
+    public <T, R> List<R> findAllByIds(Class<T> domainClass, Class<R> rowType,
+                                       Function<Root<T>, List<Selection<?>>> columns,
+                                       List<Long> ids, Function<R, Long> idOf) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Specification<T> byIds = (root, query, cb) -> root.get("id").in(ids);
+        TypedQuery<R> typedQuery = createQuery(domainClass, rowType, columns, byIds, Pageable.unpaged());
+        Map<Long, R> byId = new HashMap<>();
+        for (R row : typedQuery.getResultList()) {
+            byId.put(idOf.apply(row), row);
+        }
+        List<R> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            R row = byId.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Entities of {@code type} with the given ids, in no particular order, with the {@code fetch}
+     * associations left-join fetched. Used to read the rows referenced by a page once, instead
+     * of once per row.
+     */
+    public <R> List<R> findAllById(Class<R> type, Collection<Long> ids, List<String> fetch) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(type);
+        Root<R> root = query.from(type);
+        for (String association : fetch) {
+            root.fetch(association, JoinType.LEFT);
+        }
+        query.where(root.get("id").in(ids));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private <T, R> TypedQuery<R> createQuery(Class<T> domainClass, Class<R> rowType,
+                                             Function<Root<T>, List<Selection<?>>> columns,
+                                             Specification<T> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(rowType);
+        Root<T> root = query.from(domainClass);
+        query.select(cb.construct(rowType, columns.apply(root).toArray(new Selection<?>[0])));
+        return restrict(query, root, cb, spec, pageable);
+    }
+
+    private <T, R> TypedQuery<R> restrict(CriteriaQuery<R> query, Root<T> root, CriteriaBuilder cb,
+                                          Specification<T> spec, Pageable pageable) {
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private <T, R> Page<R> page(TypedQuery<R> typedQuery, Class<T> domainClass,
+                                Specification<T> spec, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> 0L);
+        }
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize());
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable,
+                () -> count(domainClass, spec));
+    }
+
+    private <T> long count(Class<T> domainClass, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(domainClass);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+}
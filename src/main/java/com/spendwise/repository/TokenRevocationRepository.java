@@ -0,0 +1,20 @@
+package com.spendwise.repository;
+
+import com.spendwise.model.auth.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    List<TokenRevocation> findAllByRevokedAtAfter(LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM TokenRevocation t WHERE t.revokedAt < :before")
+    int deleteRevokedBefore(@Param("before") LocalDateTime before);
+
+}
@@ -0,0 +1,34 @@
+package com.spendwise.repository;
+
+import com.spendwise.model.UserDataVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface UserDataVersionRepository extends JpaRepository<UserDataVersion, Long> {
+
+    @Query("SELECT v.version FROM UserDataVersion v WHERE v.userId = :userId")
+    Optional<Long> findVersion(@Param("userId") Long userId);
+
+    /** Increments in the database (row-locked), so concurrent writers never read-modify-write. */
+    @Modifying
+    @Query("UPDATE UserDataVersion v SET v.version = v.version + 1 WHERE v.userId = :userId")
+    int increment(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE UserDataVersion v SET v.version = v.version + 1")
+    int incrementAll();
+
+    /** Creates the missing rows at 0 so {@link #incrementAll()} reaches every user. */
+    @Modifying
+    @Query(value = """
+            INSERT INTO USER_DATA_VERSION (USER_ID, VERSION)
+            SELECT u.ID, 0 FROM APP_USER u
+            WHERE NOT EXISTS (SELECT 1 FROM USER_DATA_VERSION v WHERE v.USER_ID = u.ID)
+            """, nativeQuery = true)
+    int insertMissing();
+
+}
@@ -2,8 +2,13 @@ package com.spendwise.repository;
 
 import com.spendwise.model.auth.VerificationToken;
 import com.spendwise.model.auth.User;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface VerificationTokenRepository extends JpaRepository<VerificationToken, Long> {
@@ -14,4 +19,11 @@ public interface VerificationTokenRepository extends JpaRepository<VerificationT
 
     void deleteByUser(User user);
 
+    /** Deletes at most {@code limit} expired tokens, each chunk in a transaction of its own. */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM VERIFICATION_TOKEN WHERE ID IN " +
+                   "(SELECT ID FROM VERIFICATION_TOKEN WHERE EXPIRY_DATE < :now LIMIT :limit)", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
 }
@@ -0,0 +1,148 @@
+package com.spendwise.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The application's {@link PasswordEncoder}: BCrypt at the configured cost, run on a small
+ * fixed pool instead of the request threads, so hashing can never take more cores than the
+ * pool has however many logins arrive at once.
+ * <p>
+ * The pool's queue is bounded and nothing waits on it for long: when it is full, or a hash
+ * is not done within the wait, the caller gets a 503 at once instead of piling up behind
+ * the others. {@link #upgradeEncoding} tells whether a hash was made at a lower cost than the
+ * configured one, so it can be replaced on the next successful login.
+ * <p>
+ * Time spent hashing and waiting for a thread goes to the {@code auth.password.hash} and
+ * {@code auth.password.wait} timers, tagged by {@code op}, with percentile histograms; shed
+ * calls to the {@code auth.password.rejected} counter, tagged by {@code reason}.
+ */
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitMillis;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public BoundedPasswordEncoder(MeterRegistry meterRegistry,
+                                  @Value("${security.password.bcrypt-cost:10}") int cost,
+                                  @Value("${security.password.threads:0}") int threads,
+                                  @Value("${security.password.queue-capacity:64}") int queueCapacity,
+                                  @Value("${security.password.wait-ms:5000}") long waitMillis) {
+        this(new BCryptPasswordEncoder(cost),
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                queueCapacity, waitMillis, meterRegistry);
+    }
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long waitMillis,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = newExecutor(threads, queueCapacity);
+        this.waitMillis = waitMillis;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("auth.password.queue", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /** Only parses the hash, so it runs on the caller's thread. */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encodedPassword != null && delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(String op, Callable<T> hashing) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                timer("auth.password.wait", op).record(started - submitted, TimeUnit.NANOSECONDS);
+                try {
+                    return hashing.call();
+                } finally {
+                    timer("auth.password.hash", op).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw busy(op, "queue_full");
+        }
+
+        try {
+            return future.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy(op, "timeout");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy(op, "interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ResponseStatusException busy(String op, String reason) {
+        Counter.builder("auth.password.rejected").tag("op", op).tag("reason", reason)
+                .register(meterRegistry).increment();
+        log.warn("Password {} shed ({}), {} queued", op, reason, executor.getQueue().size());
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Server busy. Please try again.");
+    }
+
+    private Timer timer(String name, String op) {
+        return Timer.builder(name).tag("op", op).publishPercentileHistogram().register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadPoolExecutor newExecutor(int threads, int queueCapacity) {
+        AtomicInteger count = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+}
@@ -1,7 +1,8 @@
 package com.spendwise.security;
 
 import com.spendwise.model.auth.User;
-import com.spendwise.repository.UserRepository;
+import com.spendwise.service.interfaces.ITokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,11 +19,14 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final ITokenRevocationService tokenRevocationService;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, PrincipalCache principalCache,
+                                   ITokenRevocationService tokenRevocationService) {
         this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Override
@@ -39,17 +43,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = authHeader.substring(7);
 
-        if (!jwtUtil.isTokenValid(token)) {
+        Claims claims = jwtUtil.verify(token);
+
+        if (claims == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String email = jwtUtil.extractEmail(token);
+        String email = claims.getSubject();
 
         if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            User user = userRepository.findByEmail(email).orElse(null);
+            // role, enabled flag and token version are signed into the token: no lookup
+            User user = jwtUtil.toPrincipal(claims);
+            long tokenVersion = user != null ? user.getTokenVersion() : 0L;
+            if (user == null) {
+                // issued before those claims existed
+                user = principalCache.load(email);
+            }
 
-            if (user != null && Boolean.TRUE.equals(user.getEnabled())) {
+            if (user != null && Boolean.TRUE.equals(user.getEnabled())
+                    && !tokenRevocationService.isRevoked(user.getId(), tokenVersion)) {
                 String roleName = user.getRole() != null ? user.getRole().name() : "USER";
                 var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + roleName));
                 UsernamePasswordAuthenticationToken authentication =
@@ -1,8 +1,10 @@
 package com.spendwise.security;
 
+import com.spendwise.enums.Role;
 import com.spendwise.model.auth.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,45 +17,78 @@ import java.util.Date;
 @Component
 public class JwtUtil {
 
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String ROLE_CLAIM = "role";
+    public static final String ENABLED_CLAIM = "enabled";
+    public static final String TOKEN_VERSION_CLAIM = "tv";
+
     private final SecretKey secretKey;
     private final long expirationMs;
+    // immutable and thread-safe, so one parser serves every request
+    private final JwtParser parser;
 
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.expiration-ms:86400000}") long expirationMs) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationMs = expirationMs;
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     public String generateToken(User user) {
         return Jwts.builder()
                 .subject(user.getEmail())
-                .claim("userId", user.getId())
+                .claim(USER_ID_CLAIM, user.getId())
                 .claim("name", user.getName())
+                .claim(ROLE_CLAIM, (user.getRole() != null ? user.getRole() : Role.USER).name())
+                .claim(ENABLED_CLAIM, Boolean.TRUE.equals(user.getEnabled()))
+                .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion() != null ? user.getTokenVersion() : 0L)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expirationMs))
                 .signWith(secretKey)
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiry of {@code token} once and returns its claims,
+     * or {@code null} when the token is not valid.
+     */
+    public Claims verify(String token) {
+        try {
+            return parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The principal carried by verified {@code claims}, or {@code null} for a token issued
+     * before the role, enabled and token version claims were signed into it. Only the fields
+     * in the token are set: services that need the rest of the user load it.
+     */
+    public User toPrincipal(Claims claims) {
+        Long tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (tokenVersion == null || role == null) return null;
+        User user = new User();
+        user.setId(claims.get(USER_ID_CLAIM, Long.class));
+        user.setEmail(claims.getSubject());
+        user.setName(claims.get("name", String.class));
+        user.setRole(Role.valueOf(role));
+        user.setEnabled(claims.get(ENABLED_CLAIM, Boolean.class));
+        user.setTokenVersion(tokenVersion);
+        return user;
+    }
+
     public String extractEmail(String token) {
         return parseClaims(token).getSubject();
     }
 
     public boolean isTokenValid(String token) {
-        try {
-            parseClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return verify(token) != null;
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,213 @@
+package com.spendwise.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Throttles logins before the password is checked, so a credential-stuffing burst is turned
+ * away for a couple of array reads instead of a BCrypt hash per attempt.
+ * <p>
+ * Attempts are limited by client IP and by email, each with a token bucket. Failures are
+ * counted in a sliding window of {@code WINDOW}; past the free failures of a key, every further
+ * failure blocks it for a delay that starts at one second and doubles each time, up to
+ * {@code MAX_DELAY}. A successful login clears the failures of its email.
+ * <p>
+ * A key hashes into a fixed table of slots, so memory stays the same however many IPs or emails
+ * an attacker rotates through; keys sharing a slot share their limits, which a large table keeps
+ * rare. A slot is two longs updated with compare-and-set, so no attempt ever waits on a lock:
+ * the bucket is stored as its theoretical arrival time (GCRA, a token bucket in one word) and the
+ * failure window packs its index with the previous and current counts.
+ * <p>
+ * Rejections go to the {@code auth.login.throttled} counter, failures to
+ * {@code auth.login.failures} and imposed delays to {@code auth.login.penalties}, all tagged by
+ * {@code key}; the {@code auth.login.blocked} gauge counts the slots refusing attempts right now.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginThrottle.class);
+    private static final long WINDOW = Duration.ofMinutes(15).toMillis();
+    private static final long BASE_DELAY = Duration.ofSeconds(1).toMillis();
+    private static final long MAX_DELAY = Duration.ofMinutes(15).toMillis();
+
+    /** The bucket and failure allowance of one kind of key. */
+    public record Limits(int capacity, int refillPerMinute, int freeFailures) {
+    }
+
+    private final Clock clock;
+    private final Limiter ip;
+    private final Limiter email;
+
+    @Autowired
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${security.login-throttle.slots:65536}") int slots,
+                         @Value("${security.login-throttle.ip.capacity:30}") int ipCapacity,
+                         @Value("${security.login-throttle.ip.refill-per-minute:30}") int ipRefillPerMinute,
+                         @Value("${security.login-throttle.ip.free-failures:20}") int ipFreeFailures,
+                         @Value("${security.login-throttle.email.capacity:10}") int emailCapacity,
+                         @Value("${security.login-throttle.email.refill-per-minute:5}") int emailRefillPerMinute,
+                         @Value("${security.login-throttle.email.free-failures:5}") int emailFreeFailures) {
+        this(meterRegistry, slots,
+                new Limits(ipCapacity, ipRefillPerMinute, ipFreeFailures),
+                new Limits(emailCapacity, emailRefillPerMinute, emailFreeFailures),
+                Clock.systemUTC());
+    }
+
+    public LoginThrottle(MeterRegistry meterRegistry, int slots, Limits ip, Limits email, Clock clock) {
+        this.clock = clock;
+        this.ip = new Limiter("ip", slots, ip, meterRegistry, clock);
+        this.email = new Limiter("email", slots, email, meterRegistry, clock);
+    }
+
+    /**
+     * Takes a token from the buckets of the IP and of the email.
+     *
+     * @throws LoginThrottledException when either of them is empty or blocked
+     */
+    public void acquire(String clientIp, String email) {
+        long now = clock.millis();
+        ip.acquire(key(clientIp), now);
+        this.email.acquire(emailKey(email), now);
+    }
+
+    public void recordFailure(String clientIp, String email) {
+        long now = clock.millis();
+        ip.recordFailure(key(clientIp), now);
+        this.email.recordFailure(emailKey(email), now);
+    }
+
+    public void recordSuccess(String email) {
+        this.email.clearFailures(emailKey(email));
+    }
+
+    private static String key(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emailKey(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Limiter {
+
+        private final String name;
+        private final int mask;
+        /** Milliseconds per token. */
+        private final long interval;
+        /** How far ahead of now the arrival time may run, i.e. {@code capacity} tokens. */
+        private final long burst;
+        private final int freeFailures;
+        private final AtomicLongArray arrivals;
+        /** Window index in the upper 32 bits, previous count in the next 16, current count in the lowest 16. */
+        private final AtomicLongArray failures;
+        private final Counter throttled;
+        private final Counter failed;
+        private final Counter penalties;
+
+        Limiter(String name, int slots, Limits limits, MeterRegistry meterRegistry, Clock clock) {
+            int size = slots <= 1 ? 1 : Integer.highestOneBit(slots - 1) << 1;
+            this.name = name;
+            this.mask = size - 1;
+            this.interval = Math.max(1, 60_000L / limits.refillPerMinute());
+            this.burst = interval * limits.capacity();
+            this.freeFailures = limits.freeFailures();
+            this.arrivals = new AtomicLongArray(size);
+            this.failures = new AtomicLongArray(size);
+            this.throttled = Counter.builder("auth.login.throttled").tag("key", name).register(meterRegistry);
+            this.failed = Counter.builder("auth.login.failures").tag("key", name).register(meterRegistry);
+            this.penalties = Counter.builder("auth.login.penalties").tag("key", name).register(meterRegistry);
+            Gauge.builder("auth.login.blocked", this, limiter -> limiter.blocked(clock.millis()))
+                    .tag("key", name)
+                    .register(meterRegistry);
+        }
+
+        void acquire(String key, long now) {
+            int slot = slot(key);
+            while (true) {
+                long arrival = arrivals.get(slot);
+                long next = Math.max(arrival, now) + interval;
+                long wait = next - now - burst;
+                if (wait > 0) {
+                    throttled.increment();
+                    log.debug("Login throttled by {} for {} ms", name, wait);
+                    throw new LoginThrottledException(wait);
+                }
+                if (arrivals.compareAndSet(slot, arrival, next)) return;
+            }
+        }
+
+        void recordFailure(String key, long now) {
+            int slot = slot(key);
+            failed.increment();
+            long recent = countFailure(slot, now);
+            if (recent <= freeFailures) return;
+
+            long delay = Math.min(BASE_DELAY << Math.min(recent - freeFailures - 1, 30), MAX_DELAY);
+            // an arrival time this far ahead makes acquire refuse every attempt for the next delay ms
+            arrivals.accumulateAndGet(slot, now + delay + burst - interval, Math::max);
+            penalties.increment();
+        }
+
+        void clearFailures(String key) {
+            failures.set(slot(key), 0);
+        }
+
+        /** Adds a failure to the slot's window and returns the failures of the last {@code WINDOW}. */
+        private long countFailure(int slot, long now) {
+            long index = now / WINDOW;
+            while (true) {
+                long state = failures.get(slot);
+                long stateIndex = state >>> 32;
+                long previous;
+                long current;
+                if (stateIndex == index) {
+                    previous = (state >>> 16) & 0xFFFF;
+                    current = state & 0xFFFF;
+                } else if (stateIndex == index - 1) {
+                    previous = state & 0xFFFF;
+                    current = 0;
+                } else {
+                    previous = 0;
+                    current = 0;
+                }
+                current = Math.min(current + 1, 0xFFFF);
+                if (failures.compareAndSet(slot, state, index << 32 | previous << 16 | current)) {
+                    // the previous window counts for the part of it still inside the last WINDOW
+                    long elapsed = now - index * WINDOW;
+                    return current + previous * (WINDOW - elapsed) / WINDOW;
+                }
+            }
+        }
+
+        private int blocked(long now) {
+            int blocked = 0;
+            for (int slot = 0; slot < arrivals.length(); slot++) {
+                if (arrivals.get(slot) - now > burst - interval) blocked++;
+            }
+            return blocked;
+        }
+
+        private int slot(String key) {
+            int h = key.hashCode();
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+            return h & mask;
+        }
+
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.spendwise.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/** A 429 for a throttled login, with the seconds until the next attempt in {@code Retry-After}. */
+public class LoginThrottledException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterMs) {
+        super(HttpStatus.TOO_MANY_REQUESTS, "Too many login attempts. Please try again later.");
+        this.retryAfterSeconds = Math.max(1, (retryAfterMs + 999) / 1000);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return headers;
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.spendwise.security;
+
+import com.spendwise.cache.TtlCache;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Enabled users by email, so an authenticated request with a warm entry resolves its
+ * principal without touching the database. Disabled and unknown users are never cached:
+ * they are rejected anyway and must be seen the moment they are enabled.
+ * <p>
+ * Entries live for a short TTL and are evicted by {@code IPrincipalInvalidationService} whenever
+ * the user is disabled, deleted or changed, on this node at once and on the others within a
+ * poll interval. Every caller gets its own copy, so a request can never modify the cached user.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final TtlCache<String, User> users;
+
+    @Autowired
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${security.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.users = new TtlCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /** The enabled user with this email, or {@code null}. */
+    public User load(String email) {
+        User cached = users.get(email);
+        if (cached == null) {
+            cached = userRepository.findByEmail(email)
+                    .filter(user -> Boolean.TRUE.equals(user.getEnabled()))
+                    .orElse(null);
+            if (cached == null) return null;
+            users.put(email, cached);
+        }
+        return copy(cached);
+    }
+
+    public void evict(String email) {
+        users.invalidate(email);
+    }
+
+    public void evictAll() {
+        users.invalidateAll();
+    }
+
+    private static User copy(User source) {
+        User user = new User();
+        user.setId(source.getId());
+        user.setEmail(source.getEmail());
+        user.setPasswordHash(source.getPasswordHash());
+        user.setName(source.getName());
+        user.setSurname(source.getSurname());
+        user.setEnabled(source.getEnabled());
+        user.setProfilePicture(source.getProfilePicture());
+        user.setRole(source.getRole());
+        user.setTokenVersion(source.getTokenVersion());
+        user.setCreationDate(source.getCreationDate());
+        user.setLastUpdateDate(source.getLastUpdateDate());
+        return user;
+    }
+
+}
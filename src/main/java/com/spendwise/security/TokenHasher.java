@@ -0,0 +1,31 @@
+package com.spendwise.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 of the opaque tokens we hand out (refresh, email verification and password
+ * reset), so the tables only hold hashes and a leaked row cannot be replayed. The tokens
+ * are random UUIDs, so a plain unsalted digest is enough; it matches
+ * {@code encode(sha256(convert_to(TOKEN, 'UTF8')), 'hex')} in Postgres.
+ */
+public final class TokenHasher {
+
+    private TokenHasher() {
+    }
+
+    /** {@code null} stays {@code null}, so a missing token simply matches no row. */
+    public static String hash(String token) {
+        if (token == null) return null;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM ships SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.spendwise.service;
+
+import com.spendwise.dto.AccountDeletionDTO;
+import com.spendwise.enums.AccountDeletionStatus;
+import com.spendwise.mail.imap.ImapIdleManager;
+import com.spendwise.model.AccountDeletion;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.AccountDeletionRepository;
+import com.spendwise.service.interfaces.IAccountDeletionService;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Account deletion. Access is revoked in the request itself: the user is disabled and its
+ * tokens and mail credential are deleted. Accounts up to {@link #INLINE_MAX_ROWS} rows are
+ * then purged in the same transaction. Larger ones are queued for {@code AccountPurgeJob},
+ * which deletes them in chunks of {@link #CHUNK_SIZE} rows, one transaction per chunk.
+ */
+@Service
+public class AccountDeletionService implements IAccountDeletionService {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountDeletionService.class);
+    private static final long INLINE_MAX_ROWS = 5_000;
+    private static final int CHUNK_SIZE = 2_000;
+    private static final Duration STALE_AFTER = Duration.ofMinutes(10);
+
+    private final AccountDeletionRepository accountDeletionRepository;
+    private final AccountPurger accountPurger;
+    private final ImapIdleManager imapIdleManager;
+
+    @Autowired
+    public AccountDeletionService(AccountDeletionRepository accountDeletionRepository,
+                                  AccountPurger accountPurger,
+                                  ImapIdleManager imapIdleManager) {
+        this.accountDeletionRepository = accountDeletionRepository;
+        this.accountPurger = accountPurger;
+        this.imapIdleManager = imapIdleManager;
+    }
+
+    @Transactional
+    @Override
+    public AccountDeletionDTO request(User user) {
+        Long userId = user.getId();
+        imapIdleManager.stopWorker(userId);
+        long revoked = accountPurger.revokeAccess(userId);
+
+        LocalDateTime now = LocalDateTime.now();
+        AccountDeletion deletion = new AccountDeletion();
+        deletion.setId(UUID.randomUUID().toString());
+        deletion.setUserId(userId);
+        deletion.setRequestedAt(now);
+        deletion.setUpdatedAt(now);
+
+        long rows = accountPurger.countRows(userId);
+        if (rows <= INLINE_MAX_ROWS) {
+            deletion.setDeletedRows(revoked + accountPurger.purgeAll(userId));
+            deletion.setStatus(AccountDeletionStatus.COMPLETED);
+            deletion.setCompletedAt(now);
+            log.debug("Account of user {} deleted inline", userId);
+        } else {
+            deletion.setDeletedRows(revoked);
+            deletion.setStatus(AccountDeletionStatus.PENDING);
+            log.debug("Account of user {} queued for purge ({} rows)", userId, rows);
+        }
+        return toDTO(accountDeletionRepository.save(deletion));
+    }
+
+    @Override
+    public AccountDeletionDTO getStatus(String id) {
+        return accountDeletionRepository.findById(id)
+                .map(this::toDTO)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Account deletion not found"));
+    }
+
+    /**
+     * Purges every queued account this instance manages to claim. Not transactional: each
+     * chunk and each status update commits on its own.
+     */
+    @Override
+    public int purgePending() {
+        List<AccountDeletion> queued = accountDeletionRepository.findAllByStatusInOrderByRequestedAtAsc(
+                List.of(AccountDeletionStatus.PENDING, AccountDeletionStatus.RUNNING));
+        int completed = 0;
+        for (AccountDeletion deletion : queued) {
+            LocalDateTime now = LocalDateTime.now();
+            if (accountDeletionRepository.claim(deletion.getId(), now, now.minus(STALE_AFTER)) == 0) {
+                continue;
+            }
+            try {
+                purge(deletion);
+                completed++;
+            } catch (RuntimeException e) {
+                // left RUNNING: picked up again once it goes stale
+                log.error("Purge of user {} failed: {}", deletion.getUserId(), e.getMessage());
+            }
+        }
+        return completed;
+    }
+
+    private void purge(AccountDeletion deletion) {
+        Long userId = deletion.getUserId();
+        int deleted;
+        while ((deleted = accountPurger.purgeChunk(userId, CHUNK_SIZE)) > 0) {
+            accountDeletionRepository.addDeletedRows(deletion.getId(), deleted, LocalDateTime.now());
+        }
+        accountDeletionRepository.addDeletedRows(deletion.getId(), accountPurger.deleteUser(userId), LocalDateTime.now());
+        accountDeletionRepository.complete(deletion.getId(), LocalDateTime.now());
+        log.debug("Account of user {} purged", userId);
+    }
+
+    private AccountDeletionDTO toDTO(AccountDeletion deletion) {
+        AccountDeletionDTO dto = new AccountDeletionDTO();
+        dto.setId(deletion.getId());
+        dto.setStatus(deletion.getStatus());
+        dto.setDeletedRows(deletion.getDeletedRows());
+        dto.setRequestedAt(deletion.getRequestedAt());
+        dto.setCompletedAt(deletion.getCompletedAt());
+        return dto;
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.spendwise.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Set-based deletes of everything a user owns, child tables first so no statement trips
+ * a foreign key. Each statement is one indexed DELETE on USER_ID, never a load of the rows.
+ * <p>
+ * {@link #purgeAll} removes the whole account in the caller's transaction, which is what
+ * a small account gets inline. {@link #purgeChunk} removes at most {@code limit} rows per
+ * call in a transaction of its own, so the background job never holds locks on a large
+ * account for long.
+ */
+@Service
+public class AccountPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountPurger.class);
+
+    private record Step(String table, String all, String chunk) {
+
+        static Step owned(String table) {
+            return new Step(table,
+                    "DELETE FROM " + table + " WHERE USER_ID = :userId",
+                    "DELETE FROM " + table + " WHERE ID IN (SELECT ID FROM " + table + " WHERE USER_ID = :userId LIMIT :limit)");
+        }
+
+    }
+
+    // Credentials go first: a queued account loses its sessions and mail polling at once.
+    private static final List<Step> CREDENTIALS = List.of(
+            Step.owned("GMAIL_CREDENTIAL"),
+            Step.owned("REFRESH_TOKEN"),
+            Step.owned("PASSWORD_RESET_TOKEN"),
+            Step.owned("VERIFICATION_TOKEN"));
+
+    private static final List<Step> DATA = List.of(
+            Step.owned("RECURRENT_EXPENSE_RECORD"),
+            Step.owned("MAIL_IMPORT"),
+            new Step("BUDGET_RECURRENT_EXPENSE",
+                    "DELETE FROM BUDGET_RECURRENT_EXPENSE WHERE BUDGET_ID IN (SELECT ID FROM BUDGET WHERE USER_ID = :userId)",
+                    "DELETE FROM BUDGET_RECURRENT_EXPENSE WHERE BUDGET_ID IN " +
+                    "(SELECT ID FROM BUDGET WHERE USER_ID = :userId ORDER BY ID LIMIT :limit)"),
+            Step.owned("BUDGET"),
+            Step.owned("EXPENSE"),
+            Step.owned("RECURRENT_EXPENSE"),
+            Step.owned("INCOME"),
+            Step.owned("CARD_EXPENSE"),
+            Step.owned("DEBT"),
+            Step.owned("PERSONAL_DEBT"),
+            Step.owned("MERCHANT_BINDING"),
+            Step.owned("SAVING"),
+            Step.owned("SAVINGS_WALLET"),
+            Step.owned("PAYMENT_METHOD"),
+            Step.owned("ISSUING_ENTITY"),
+            Step.owned("CATEGORY"),
+            Step.owned("CURRENCY"));
+
+    // USER_DATA_VERSION and IDEMPOTENCY_KEY follow the user through ON DELETE CASCADE
+    private static final String DELETE_USER = "DELETE FROM APP_USER WHERE ID = :userId";
+
+    // the tables that grow with use; the rest hold a few dozen rows per user at most
+    private static final String COUNT_ROWS =
+            "SELECT (SELECT COUNT(*) FROM EXPENSE WHERE USER_ID = :userId)" +
+            " + (SELECT COUNT(*) FROM MAIL_IMPORT WHERE USER_ID = :userId)" +
+            " + (SELECT COUNT(*) FROM INCOME WHERE USER_ID = :userId)" +
+            " + (SELECT COUNT(*) FROM CARD_EXPENSE WHERE USER_ID = :userId)" +
+            " + (SELECT COUNT(*) FROM RECURRENT_EXPENSE_RECORD WHERE USER_ID = :userId)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** Deletes the user's login and mail credentials, so nothing can act for the account anymore. */
+    @Transactional
+    public int revokeAccess(Long userId) {
+        int deleted = 0;
+        for (Step step : CREDENTIALS) {
+            deleted += entityManager.createNativeQuery(step.all()).setParameter("userId", userId).executeUpdate();
+        }
+        return deleted;
+    }
+
+    public long countRows(Long userId) {
+        return ((Number) entityManager.createNativeQuery(COUNT_ROWS)
+                .setParameter("userId", userId)
+                .getSingleResult()).longValue();
+    }
+
+    /**
+     * Deletes the account and everything in it. Entities of the current persistence context
+     * are detached afterwards, since their rows no longer exist.
+     */
+    @Transactional
+    public long purgeAll(Long userId) {
+        entityManager.flush();
+        long deleted = 0;
+        for (Step step : CREDENTIALS) {
+            deleted += entityManager.createNativeQuery(step.all()).setParameter("userId", userId).executeUpdate();
+        }
+        for (Step step : DATA) {
+            deleted += entityManager.createNativeQuery(step.all()).setParameter("userId", userId).executeUpdate();
+        }
+        deleted += deleteUserRow(userId);
+        entityManager.clear();
+        log.debug("Purged {} row(s) of user {}", deleted, userId);
+        return deleted;
+    }
+
+    /**
+     * Deletes at most {@code limit} rows from the first table, in FK order, that still holds
+     * rows of the user. Returns 0 once only the user row is left.
+     */
+    @Transactional
+    public int purgeChunk(Long userId, int limit) {
+        for (Step step : DATA) {
+            Query query = entityManager.createNativeQuery(step.chunk())
+                    .setParameter("userId", userId)
+                    .setParameter("limit", limit);
+            int deleted = query.executeUpdate();
+            if (deleted > 0) {
+                log.debug("Purged {} row(s) from {} for user {}", deleted, step.table(), userId);
+                return deleted;
+            }
+        }
+        return 0;
+    }
+
+    @Transactional
+    public int deleteUser(Long userId) {
+        return deleteUserRow(userId);
+    }
+
+    private int deleteUserRow(Long userId) {
+        return entityManager.createNativeQuery(DELETE_USER).setParameter("userId", userId).executeUpdate();
+    }
+
+}
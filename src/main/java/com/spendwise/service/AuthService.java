@@ -1,8 +1,10 @@
 package com.spendwise.service;
 
+import com.spendwise.dto.AccountDeletionDTO;
 import com.spendwise.dto.CurrencyDTO;
 import com.spendwise.dto.RegisterWithSetupDTO;
 import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.mapper.UserMapper;
 import com.spendwise.model.Category;
 import com.spendwise.model.RecommendedCategory;
 import com.spendwise.repository.RecommendedCategoryRepository;
@@ -18,32 +20,24 @@ import com.spendwise.model.RecommendedPaymentMethod;
 import com.spendwise.model.auth.VerificationToken;
 import com.spendwise.model.auth.User;
 import com.spendwise.model.auth.PasswordResetToken;
-import com.spendwise.repository.BudgetRepository;
 import com.spendwise.repository.CategoryRepository;
 import com.spendwise.repository.CurrencyRepository;
-import com.spendwise.repository.CardExpenseRepository;
-import com.spendwise.repository.PersonalDebtRepository;
-import com.spendwise.repository.ExpenseRepository;
-import com.spendwise.repository.GmailCredentialRepository;
-import com.spendwise.repository.IncomeRepository;
 import com.spendwise.repository.IssuingEntityRepository;
-import com.spendwise.repository.MailImportRepository;
-import com.spendwise.repository.MerchantBindingRepository;
 import com.spendwise.repository.PasswordResetTokenRepository;
 import com.spendwise.repository.PaymentMethodRepository;
-import com.spendwise.repository.RecurrentExpenseRecordRepository;
-import com.spendwise.repository.RecurrentExpenseRepository;
 import com.spendwise.repository.RecommendedEntityRepository;
 import com.spendwise.repository.RecommendedPaymentMethodRepository;
-import com.spendwise.repository.SavingRepository;
-import com.spendwise.repository.SavingsWalletRepository;
 import com.spendwise.repository.UserRepository;
 import com.spendwise.repository.VerificationTokenRepository;
 import com.spendwise.security.JwtUtil;
+import com.spendwise.security.LoginThrottle;
+import com.spendwise.security.TokenHasher;
+import com.spendwise.service.interfaces.IAccountDeletionService;
 import com.spendwise.service.interfaces.IAuthService;
 import com.spendwise.service.interfaces.IEmailService;
+import com.spendwise.service.interfaces.IPrincipalInvalidationService;
+import com.spendwise.service.interfaces.ITokenRevocationService;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -54,11 +48,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 public class AuthService implements IAuthService {
@@ -80,19 +79,10 @@ public class AuthService implements IAuthService {
     private final CategoryRepository categoryRepository;
     private final RecommendedCategoryRepository recommendedCategoryRepository;
     private final RefreshTokenService refreshTokenService;
-    private final ExpenseRepository expenseRepository;
-    private final IncomeRepository incomeRepository;
-    private final CardExpenseRepository cardExpenseRepository;
-    private final PersonalDebtRepository personalDebtRepository;
-    private final BudgetRepository budgetRepository;
-    private final SavingRepository savingRepository;
-    private final SavingsWalletRepository savingsWalletRepository;
-    private final RecurrentExpenseRepository recurrentExpenseRepository;
-    private final RecurrentExpenseRecordRepository recurrentExpenseRecordRepository;
-    private final MailImportRepository mailImportRepository;
-    private final MerchantBindingRepository merchantBindingRepository;
-    private final GmailCredentialRepository gmailCredentialRepository;
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final IAccountDeletionService accountDeletionService;
+    private final IPrincipalInvalidationService principalInvalidationService;
+    private final ITokenRevocationService tokenRevocationService;
+    private final LoginThrottle loginThrottle;
 
     @Value("${app.base-url:http://localhost:8080}")
     private String baseUrl;
@@ -112,18 +102,10 @@ public class AuthService implements IAuthService {
                        CategoryRepository categoryRepository,
                        RecommendedCategoryRepository recommendedCategoryRepository,
                        RefreshTokenService refreshTokenService,
-                       ExpenseRepository expenseRepository,
-                       IncomeRepository incomeRepository,
-                       CardExpenseRepository cardExpenseRepository,
-                       PersonalDebtRepository personalDebtRepository,
-                       BudgetRepository budgetRepository,
-                       SavingRepository savingRepository,
-                       SavingsWalletRepository savingsWalletRepository,
-                       RecurrentExpenseRepository recurrentExpenseRepository,
-                       RecurrentExpenseRecordRepository recurrentExpenseRecordRepository,
-                       MailImportRepository mailImportRepository,
-                       MerchantBindingRepository merchantBindingRepository,
-                       GmailCredentialRepository gmailCredentialRepository) {
+                       IAccountDeletionService accountDeletionService,
+                       IPrincipalInvalidationService principalInvalidationService,
+                       ITokenRevocationService tokenRevocationService,
+                       LoginThrottle loginThrottle) {
         this.userRepository = userRepository;
         this.verificationTokenRepository = verificationTokenRepository;
         this.passwordEncoder = passwordEncoder;
@@ -139,18 +121,10 @@ public class AuthService implements IAuthService {
         this.categoryRepository = categoryRepository;
         this.recommendedCategoryRepository = recommendedCategoryRepository;
         this.refreshTokenService = refreshTokenService;
-        this.expenseRepository = expenseRepository;
-        this.incomeRepository = incomeRepository;
-        this.cardExpenseRepository = cardExpenseRepository;
-        this.personalDebtRepository = personalDebtRepository;
-        this.budgetRepository = budgetRepository;
-        this.savingRepository = savingRepository;
-        this.savingsWalletRepository = savingsWalletRepository;
-        this.recurrentExpenseRepository = recurrentExpenseRepository;
-        this.recurrentExpenseRecordRepository = recurrentExpenseRecordRepository;
-        this.mailImportRepository = mailImportRepository;
-        this.merchantBindingRepository = merchantBindingRepository;
-        this.gmailCredentialRepository = gmailCredentialRepository;
+        this.accountDeletionService = accountDeletionService;
+        this.principalInvalidationService = principalInvalidationService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.loginThrottle = loginThrottle;
     }
 
     // ── Helper ────────────────────────────────────────────────────────────────
@@ -181,75 +155,71 @@ public class AuthService implements IAuthService {
         user.setEnabled(false);
         userRepository.save(user);
 
+        // Everything below is built in memory and written with one saveAll per table: the
+        // ids come from pooled sequences, so each table goes out as a single JDBC batch and
+        // the round trips stay the same however many items the user picked.
+
         // ── Create currencies ─────────────────────────────────────────────────
-        List<CurrencyDTO> currencies = dto.getCurrencies();
-        if (currencies != null && !currencies.isEmpty()) {
-            for (int i = 0; i < currencies.size(); i++) {
-                CurrencyDTO c = currencies.get(i);
-                Currency currency = new Currency();
-                currency.setName(c.getName());
-                currency.setSymbol(c.getSymbol());
-                currency.setEnabled(true);
-                currency.setIsDefault(i == 0);
-                currency.setUser(user);
-                currencyRepository.save(currency);
-            }
+        List<CurrencyDTO> currencies = dto.getCurrencies() != null ? dto.getCurrencies() : List.of();
+        List<Currency> newCurrencies = new ArrayList<>(currencies.size());
+        for (int i = 0; i < currencies.size(); i++) {
+            CurrencyDTO c = currencies.get(i);
+            Currency currency = new Currency();
+            currency.setName(c.getName());
+            currency.setSymbol(c.getSymbol());
+            currency.setEnabled(true);
+            currency.setIsDefault(i == 0);
+            currency.setUser(user);
+            newCurrencies.add(currency);
         }
+        currencyRepository.saveAll(newCurrencies);
 
         // ── Create issuing entities ───────────────────────────────────────────
-        Map<Long, IssuingEntity> entityMap = new HashMap<>();
-        List<Long> selectedEntityIds = dto.getSelectedEntityIds();
-        if (selectedEntityIds != null) {
+        Map<Long, IssuingEntity> entityMap = new LinkedHashMap<>();
+        Set<Long> selectedEntityIds = distinct(dto.getSelectedEntityIds());
+        if (!selectedEntityIds.isEmpty()) {
+            Map<Long, RecommendedEntity> recommended = byId(recommendedEntityRepository.findAllById(selectedEntityIds),
+                    RecommendedEntity::getId);
             for (Long entityId : selectedEntityIds) {
-                recommendedEntityRepository.findById(entityId).ifPresent(rec -> {
-                    IssuingEntity ie = new IssuingEntity();
-                    ie.setDescription(rec.getName());
-                    ie.setIcon(rec.getIconUrl());
-                    ie.setEnabled(true);
-                    ie.setUser(user);
-                    entityMap.put(rec.getId(), issuingEntityRepository.save(ie));
-                });
+                RecommendedEntity rec = recommended.get(entityId);
+                if (rec == null) continue;
+                IssuingEntity ie = new IssuingEntity();
+                ie.setDescription(rec.getName());
+                ie.setIcon(rec.getIconUrl());
+                ie.setEnabled(true);
+                ie.setUser(user);
+                entityMap.put(rec.getId(), ie);
             }
+            issuingEntityRepository.saveAll(entityMap.values());
         }
 
         // ── Create payment methods ────────────────────────────────────────────
         // Always create generic Efectivo and Transferencia bancaria
         List<RecommendedPaymentMethod> defaultPms = recommendedPaymentMethodRepository
                 .findByEntityIsNullAndPaymentMethodTypeIn(List.of(PaymentMethodType.CASH, PaymentMethodType.TRANSFER));
-        Set<Long> defaultPmIds = new java.util.HashSet<>();
+        Set<Long> defaultPmIds = new HashSet<>();
+        List<PaymentMethod> newPaymentMethods = new ArrayList<>();
         for (RecommendedPaymentMethod rec : defaultPms) {
-            PaymentMethod pm = new PaymentMethod();
-            pm.setName(rec.getName());
-            pm.setIcon(rec.getIconUrl());
-            pm.setPaymentMethodType(rec.getPaymentMethodType());
-            pm.setEnabled(true);
-            pm.setUser(user);
-            paymentMethodRepository.save(pm);
+            newPaymentMethods.add(toPaymentMethod(rec, user, entityMap));
             defaultPmIds.add(rec.getId());
         }
 
         // Create user-selected payment methods (skip any already created above)
-        List<Long> selectedPmIds = dto.getSelectedPaymentMethodIds();
-        if (selectedPmIds != null) {
+        Set<Long> selectedPmIds = distinct(dto.getSelectedPaymentMethodIds());
+        selectedPmIds.removeAll(defaultPmIds);
+        if (!selectedPmIds.isEmpty()) {
+            Map<Long, RecommendedPaymentMethod> recommended = byId(
+                    recommendedPaymentMethodRepository.findAllById(selectedPmIds), RecommendedPaymentMethod::getId);
             for (Long pmId : selectedPmIds) {
-                if (defaultPmIds.contains(pmId)) continue;
-                recommendedPaymentMethodRepository.findById(pmId).ifPresent(rec -> {
-                    PaymentMethod pm = new PaymentMethod();
-                    pm.setName(rec.getName());
-                    pm.setIcon(rec.getIconUrl());
-                    pm.setPaymentMethodType(rec.getPaymentMethodType());
-                    pm.setEnabled(true);
-                    pm.setUser(user);
-                    if (rec.getEntity() != null) {
-                        pm.setIssuingEntity(entityMap.get(rec.getEntity().getId()));
-                    }
-                    paymentMethodRepository.save(pm);
-                });
+                RecommendedPaymentMethod rec = recommended.get(pmId);
+                if (rec != null) newPaymentMethods.add(toPaymentMethod(rec, user, entityMap));
             }
         }
+        paymentMethodRepository.saveAll(newPaymentMethods);
 
         // ── Create default categories from recommended list ───────────────────
         List<RecommendedCategory> recommendedCategories = recommendedCategoryRepository.findAllByOrderByDisplayOrderAsc();
+        List<Category> newCategories = new ArrayList<>(recommendedCategories.size());
         for (RecommendedCategory rec : recommendedCategories) {
             Category cat = new Category();
             cat.setName(rec.getName());
@@ -257,33 +227,65 @@ public class AuthService implements IAuthService {
             cat.setType(rec.getType());
             cat.setEnabled(true);
             cat.setUser(user);
-            categoryRepository.save(cat);
+            newCategories.add(cat);
         }
+        categoryRepository.saveAll(newCategories);
 
         // ── Send verification email ───────────────────────────────────────────
+        String token = UUID.randomUUID().toString();
         VerificationToken verificationToken = new VerificationToken();
-        verificationToken.setToken(UUID.randomUUID().toString());
+        verificationToken.setToken(TokenHasher.hash(token));
         verificationToken.setUser(user);
         verificationToken.setExpiryDate(LocalDateTime.now().plusHours(24));
         verificationTokenRepository.save(verificationToken);
 
-        String link = baseUrl + "/verify-email?token=" + verificationToken.getToken();
+        String link = baseUrl + "/verify-email?token=" + token;
         emailService.sendVerificationEmail(user.getEmail(), user.getName(), link);
 
         log.debug("User {} registered with {} currencies, {} entities, {} payment methods",
                 user.getEmail(),
-                currencies != null ? currencies.size() : 0,
+                currencies.size(),
                 entityMap.size(),
-                selectedPmIds != null ? selectedPmIds.size() : 0);
+                newPaymentMethods.size());
         return "Registration successful. Please check your email to verify your account.";
     }
 
+    private static PaymentMethod toPaymentMethod(RecommendedPaymentMethod rec, User user,
+                                                 Map<Long, IssuingEntity> entityMap) {
+        PaymentMethod pm = new PaymentMethod();
+        pm.setName(rec.getName());
+        pm.setIcon(rec.getIconUrl());
+        pm.setPaymentMethodType(rec.getPaymentMethodType());
+        pm.setEnabled(true);
+        pm.setUser(user);
+        if (rec.getEntity() != null) {
+            pm.setIssuingEntity(entityMap.get(rec.getEntity().getId()));
+        }
+        return pm;
+    }
+
+    private static Set<Long> distinct(List<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>();
+        if (ids != null) {
+            for (Long id : ids) {
+                if (id != null) distinct.add(id);
+            }
+        }
+        return distinct;
+    }
+
+    private static <T> Map<Long, T> byId(List<T> rows, Function<T, Long> id) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T row : rows) byId.put(id.apply(row), row);
+        return byId;
+    }
+
     // ── Verify email ──────────────────────────────────────────────────────────
 
     @Transactional
     @Override
     public String verifyEmail(String token) {
-        VerificationToken verificationToken = verificationTokenRepository.findByToken(token)
+        VerificationToken verificationToken = verificationTokenRepository.findByToken(TokenHasher.hash(token))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Invalid verification token"));
 
         if (verificationToken.getExpiryDate().isBefore(LocalDateTime.now())) {
@@ -304,9 +306,15 @@ public class AuthService implements IAuthService {
     // ── Login ─────────────────────────────────────────────────────────────────
 
     @Override
-    public AuthResponseDTO login(LoginRequestDTO dto) {
-        User user = userRepository.findByEmail(dto.getEmail())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid email or password"));
+    public AuthResponseDTO login(LoginRequestDTO dto, String clientIp) {
+        // throttled before anything else, so a burst of attempts never reaches BCrypt
+        loginThrottle.acquire(clientIp, dto.getEmail());
+
+        User user = userRepository.findByEmail(dto.getEmail()).orElse(null);
+        if (user == null) {
+            loginThrottle.recordFailure(clientIp, dto.getEmail());
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid email or password");
+        }
 
         if (!Boolean.TRUE.equals(user.getEnabled())) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN,
@@ -314,27 +322,41 @@ public class AuthService implements IAuthService {
         }
 
         if (!passwordEncoder.matches(dto.getPassword(), user.getPasswordHash())) {
+            loginThrottle.recordFailure(clientIp, dto.getEmail());
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid email or password");
         }
+        loginThrottle.recordSuccess(dto.getEmail());
+        rehashIfOutdated(user, dto.getPassword());
 
         String token = jwtUtil.generateToken(user);
-        String refreshToken = refreshTokenService.create(user).getToken();
+        String refreshToken = refreshTokenService.create(user);
         log.debug("User {} logged in successfully", user.getEmail());
         String roleName = user.getRole() != null ? user.getRole().name() : "USER";
         return new AuthResponseDTO(token, refreshToken, user.getEmail(), user.getName(),
                 user.getSurname(), user.getProfilePicture(), roleName);
     }
 
+    /** Brings a hash made at a lower cost up to the configured one, now that the password is known. */
+    private void rehashIfOutdated(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPasswordHash())) return;
+        String oldHash = user.getPasswordHash();
+        String newHash = passwordEncoder.encode(rawPassword);
+        if (userRepository.rehashPassword(user.getId(), oldHash, newHash) > 0) {
+            user.setPasswordHash(newHash);
+            log.debug("Password of user {} rehashed at the configured cost", user.getId());
+        }
+    }
+
     // ── Refresh ───────────────────────────────────────────────────────────────
 
     @Override
     @Transactional
     public AuthResponseDTO refresh(String refreshToken) {
-        var rt = refreshTokenService.verify(refreshToken);
-        User user = rt.getUser();
-        // Rotate: delete old, issue new
-        refreshTokenService.delete(refreshToken);
-        String newRefreshToken = refreshTokenService.create(user).getToken();
+        // Rotate: the old token is deleted as it is verified, then a new one is issued
+        Long userId = refreshTokenService.consume(refreshToken);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token"));
+        String newRefreshToken = refreshTokenService.create(user);
         String newAccessToken = jwtUtil.generateToken(user);
         String roleName = user.getRole() != null ? user.getRole().name() : "USER";
         return new AuthResponseDTO(newAccessToken, newRefreshToken, user.getEmail(), user.getName(),
@@ -348,12 +370,24 @@ public class AuthService implements IAuthService {
         refreshTokenService.delete(refreshToken);
     }
 
+    @Transactional
+    @Override
+    public void logoutAll() {
+        User user = userRepository.findById(currentUser().getId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+        tokenRevocationService.revoke(user);
+        userRepository.save(user);
+        log.debug("All sessions of user {} closed", user.getEmail());
+    }
+
     // ── Profile ───────────────────────────────────────────────────────────────
 
     @Override
     public UserDTO getProfile() {
-        User user = currentUser();
-        return modelMapper.map(user, UserDTO.class);
+        // the principal only carries what the token does
+        User user = userRepository.findById(currentUser().getId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+        return UserMapper.toDTO(user);
     }
 
     @Transactional
@@ -372,44 +406,38 @@ public class AuthService implements IAuthService {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Contraseña actual incorrecta");
             }
             user.setPasswordHash(passwordEncoder.encode(dto.getNewPassword()));
+            // the old password may have leaked: no token issued with it stays valid, this session's included
+            tokenRevocationService.revoke(user);
         }
 
         User saved = userRepository.save(user);
+        principalInvalidationService.invalidate(saved.getEmail());
         log.debug("Profile updated for user {}", saved.getEmail());
-        return modelMapper.map(saved, UserDTO.class);
+        return UserMapper.toDTO(saved);
     }
 
     // ── Delete account ────────────────────────────────────────────────────────
 
     @Transactional
     @Override
-    public void deleteAccount() {
+    public AccountDeletionDTO deleteAccount() {
         User user = userRepository.findById(currentUser().getId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
 
-        // Delete in FK-safe order
-        recurrentExpenseRecordRepository.deleteAllByUser(user);
-        mailImportRepository.deleteAllByUser(user);
-        expenseRepository.deleteAllByUser(user);
-        recurrentExpenseRepository.deleteAllByUser(user);
-        incomeRepository.deleteAllByUser(user);
-        cardExpenseRepository.deleteAllByUser(user);
-        personalDebtRepository.deleteAllByUser(user);
-        budgetRepository.deleteAllByUser(user);
-        merchantBindingRepository.deleteAllByUser(user);
-        savingRepository.deleteAllByUser(user);
-        savingsWalletRepository.deleteAllByUser(user);
-        paymentMethodRepository.deleteAllByUser(user);
-        issuingEntityRepository.deleteAllByUser(user);
-        categoryRepository.deleteAllByUser(user);
-        currencyRepository.deleteAllByUser(user);
-        gmailCredentialRepository.deleteByUser(user);
-        passwordResetTokenRepository.deleteByUser(user);
-        verificationTokenRepository.deleteByUser(user);
-        refreshTokenService.deleteAllForUser(user);
-        userRepository.delete(user);
-
-        log.debug("Account permanently deleted for user {}", user.getEmail());
+        // Disabled and revoked first: the JWT filter rejects the account from here on,
+        // even while a large account waits for the background purge
+        user.setEnabled(false);
+        tokenRevocationService.revoke(user);
+        userRepository.save(user);
+
+        AccountDeletionDTO deletion = accountDeletionService.request(user);
+        log.debug("Account deletion {} for user {} is {}", deletion.getId(), user.getEmail(), deletion.getStatus());
+        return deletion;
+    }
+
+    @Override
+    public AccountDeletionDTO getAccountDeletion(String id) {
+        return accountDeletionService.getStatus(id);
     }
 
     // ── Forgot password ───────────────────────────────────────────────────────
@@ -421,13 +449,14 @@ public class AuthService implements IAuthService {
         userRepository.findByEmail(email).ifPresent(user -> {
             passwordResetTokenRepository.deleteByUser(user);
 
+            String token = UUID.randomUUID().toString();
             PasswordResetToken resetToken = new PasswordResetToken();
-            resetToken.setToken(UUID.randomUUID().toString());
+            resetToken.setToken(TokenHasher.hash(token));
             resetToken.setUser(user);
             resetToken.setExpiryDate(LocalDateTime.now().plusHours(1));
             passwordResetTokenRepository.save(resetToken);
 
-            String link = baseUrl + "/reset-password?token=" + resetToken.getToken();
+            String link = baseUrl + "/reset-password?token=" + token;
             emailService.sendPasswordResetEmail(user.getEmail(), user.getName(), link);
             log.debug("Password reset email requested for {}", email);
         });
@@ -442,7 +471,7 @@ public class AuthService implements IAuthService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "La contraseña debe tener al menos 8 caracteres");
         }
 
-        PasswordResetToken resetToken = passwordResetTokenRepository.findByToken(token)
+        PasswordResetToken resetToken = passwordResetTokenRepository.findByToken(TokenHasher.hash(token))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Token inválido o expirado"));
 
         if (resetToken.getExpiryDate().isBefore(LocalDateTime.now())) {
@@ -452,6 +481,7 @@ public class AuthService implements IAuthService {
 
         User user = resetToken.getUser();
         user.setPasswordHash(passwordEncoder.encode(newPassword));
+        tokenRevocationService.revoke(user);
         userRepository.save(user);
         passwordResetTokenRepository.delete(resetToken);
         log.debug("Password reset successfully for user {}", user.getEmail());
@@ -3,17 +3,17 @@ package com.spendwise.service;
 import com.spendwise.dto.BudgetDTO;
 import com.spendwise.dto.BudgetFilterDTO;
 import com.spendwise.dto.RecurrentExpenseDTO;
+import com.spendwise.mapper.RecurrentExpenseMapper;
 import com.spendwise.model.Budget;
 import com.spendwise.model.RecurrentExpense;
-import com.spendwise.model.RecurrentExpenseRecord;
 import com.spendwise.model.auth.User;
 import com.spendwise.repository.BudgetRepository;
 import com.spendwise.repository.RecurrentExpenseRecordRepository;
 import com.spendwise.repository.RecurrentExpenseRepository;
 import com.spendwise.service.interfaces.IBudgetService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.spec.BudgetSpecification;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,30 +21,39 @@ import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Service
 public class BudgetService implements IBudgetService {
 
     private static final Logger log = LoggerFactory.getLogger(BudgetService.class);
-    private final ModelMapper modelMapper = new ModelMapper();
     private final BudgetRepository budgetRepository;
     private final RecurrentExpenseRepository recurrentExpenseRepository;
     private final RecurrentExpenseRecordRepository recurrentExpenseRecordRepository;
+    private final IDataVersionService dataVersionService;
 
     @Autowired
     public BudgetService(BudgetRepository budgetRepository,
                          RecurrentExpenseRepository recurrentExpenseRepository,
-                         RecurrentExpenseRecordRepository recurrentExpenseRecordRepository) {
+                         RecurrentExpenseRecordRepository recurrentExpenseRecordRepository,
+                         IDataVersionService dataVersionService) {
         this.budgetRepository = budgetRepository;
         this.recurrentExpenseRepository = recurrentExpenseRepository;
         this.recurrentExpenseRecordRepository = recurrentExpenseRecordRepository;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
@@ -53,14 +62,31 @@ public class BudgetService implements IBudgetService {
         budget.setMonth(dto.getMonth());
         budget.setYear(dto.getYear());
         if (dto.getRecurrentExpenses() != null) {
-            List<RecurrentExpense> expenses = new ArrayList<>();
-            for (RecurrentExpenseDTO reDTO : dto.getRecurrentExpenses()) {
-                if (reDTO.getId() != null) {
-                    recurrentExpenseRepository.findById(reDTO.getId()).ifPresent(expenses::add);
-                }
-            }
-            budget.setRecurrentExpenses(expenses);
+            budget.setRecurrentExpenses(resolveRecurrentExpenses(dto.getRecurrentExpenses()));
+        }
+    }
+
+    /**
+     * Resolves every referenced recurrent expense with a single query scoped to the current user,
+     * keeping the order of the request. Unknown or foreign IDs are reported together.
+     */
+    private List<RecurrentExpense> resolveRecurrentExpenses(List<RecurrentExpenseDTO> dtos) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (RecurrentExpenseDTO reDTO : dtos) {
+            if (reDTO.getId() != null) ids.add(reDTO.getId());
+        }
+        if (ids.isEmpty()) return new ArrayList<>();
+
+        Map<Long, RecurrentExpense> byId = new HashMap<>();
+        for (RecurrentExpense re : recurrentExpenseRepository.findAllByIdInAndUser(ids, currentUser())) {
+            byId.put(re.getId(), re);
+        }
+
+        List<Long> missing = ids.stream().filter(id -> !byId.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Recurrent expenses not found: " + missing);
         }
+        return ids.stream().map(byId::get).collect(Collectors.toCollection(ArrayList::new));
     }
 
     @Transactional
@@ -72,6 +98,7 @@ public class BudgetService implements IBudgetService {
         budget.setUser(currentUser());
         Budget saved = budgetRepository.save(budget);
         log.debug("Budget with id {} created successfully", saved.getId());
+        dataVersionService.bump(currentUser());
         return toDTO(saved);
     }
 
@@ -86,8 +113,33 @@ public class BudgetService implements IBudgetService {
     @Override
     public Page<BudgetDTO> list(BudgetFilterDTO filters, Pageable pageable) {
         log.debug("Listing all budgets");
-        Specification<Budget> spec = BudgetSpecification.withFilters(filters, currentUser());
-        return budgetRepository.findAll(spec, pageable).map(this::toDTO);
+        User user = currentUser();
+        Specification<Budget> spec = BudgetSpecification.withFilters(filters, user);
+        Page<Budget> page = budgetRepository.findAll(spec, pageable);
+        Set<String> cancelled = cancelledPeriods(user, page.getContent());
+        return page.map(budget -> toDTO(budget,
+                re -> cancelled.contains(periodKey(re.getId(), budget.getMonth(), budget.getYear()))));
+    }
+
+    /**
+     * Cancelled (recurrentExpense, month, year) keys for a page of budgets, read with a single
+     * query instead of one record lookup per recurrent expense of every budget.
+     */
+    private Set<String> cancelledPeriods(User user, List<Budget> budgets) {
+        Set<Integer> years = budgets.stream()
+                .filter(budget -> !budget.getRecurrentExpenses().isEmpty())
+                .map(Budget::getYear)
+                .collect(Collectors.toSet());
+        if (years.isEmpty()) {
+            return Set.of();
+        }
+        return recurrentExpenseRecordRepository.findCancelledPeriods(user, years).stream()
+                .map(row -> periodKey((Long) row[0], (Integer) row[1], (Integer) row[2]))
+                .collect(Collectors.toSet());
+    }
+
+    private static String periodKey(Long recurrentExpenseId, Integer month, Integer year) {
+        return recurrentExpenseId + "/" + month + "/" + year;
     }
 
     @Transactional
@@ -97,6 +149,7 @@ public class BudgetService implements IBudgetService {
         this.populate(budget, dto);
         Budget updated = budgetRepository.save(budget);
         log.debug("Budget with id {} updated successfully", updated.getId());
+        dataVersionService.bump(currentUser());
         return toDTO(updated);
     }
 
@@ -106,6 +159,7 @@ public class BudgetService implements IBudgetService {
         Budget budget = find(id);
         budgetRepository.delete(budget);
         log.debug("Budget with id {} deleted successfully", budget.getId());
+        dataVersionService.bump(currentUser());
         return toDTO(budget);
     }
 
@@ -116,6 +170,7 @@ public class BudgetService implements IBudgetService {
         budget.setEnabled(true);
         budgetRepository.save(budget);
         log.debug("Budget with id {} enabled successfully", budget.getId());
+        dataVersionService.bump(currentUser());
         return toDTO(budget);
     }
 
@@ -126,10 +181,18 @@ public class BudgetService implements IBudgetService {
         budget.setEnabled(false);
         budgetRepository.save(budget);
         log.debug("Budget with id {} disabled successfully", budget.getId());
+        dataVersionService.bump(currentUser());
         return toDTO(budget);
     }
 
     private BudgetDTO toDTO(Budget budget) {
+        return toDTO(budget, re -> recurrentExpenseRecordRepository
+                .findByRecurrentExpenseAndMonthAndYear(re, budget.getMonth(), budget.getYear())
+                .map(record -> Boolean.TRUE.equals(record.getCancelled()))
+                .orElse(false));
+    }
+
+    private BudgetDTO toDTO(Budget budget, Predicate<RecurrentExpense> isCancelled) {
         BudgetDTO dto = new BudgetDTO();
         dto.setId(budget.getId());
         dto.setDescription(budget.getDescription());
@@ -145,7 +208,7 @@ public class BudgetService implements IBudgetService {
         int cancelledCount = 0;
 
         for (RecurrentExpense re : budget.getRecurrentExpenses()) {
-            reDTOs.add(modelMapper.map(re, RecurrentExpenseDTO.class));
+            reDTOs.add(RecurrentExpenseMapper.toDTO(re));
 
             if (re.getAmountInPesos() != null) {
                 totalExpectedARS = totalExpectedARS.add(re.getAmountInPesos());
@@ -154,9 +217,7 @@ public class BudgetService implements IBudgetService {
                 totalExpectedUSD = totalExpectedUSD.add(re.getAmountInDollars());
             }
 
-            Optional<RecurrentExpenseRecord> record = recurrentExpenseRecordRepository
-                    .findByRecurrentExpenseAndMonthAndYear(re, budget.getMonth(), budget.getYear());
-            if (record.isPresent() && Boolean.TRUE.equals(record.get().getCancelled())) {
+            if (isCancelled.test(re)) {
                 cancelledCount++;
                 if (re.getAmountInPesos() != null) {
                     totalCancelledARS = totalCancelledARS.add(re.getAmountInPesos());
@@ -198,6 +259,7 @@ public class BudgetService implements IBudgetService {
 
         Budget saved = budgetRepository.save(newBudget);
         log.debug("Budget for next month ({}/{}) created from budget {}", nextMonth, nextYear, latest.getId());
+        dataVersionService.bump(user);
         return toDTO(saved);
     }
 
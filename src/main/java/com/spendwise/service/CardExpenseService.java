@@ -1,15 +1,23 @@
 package com.spendwise.service;
 
+import com.spendwise.cache.TtlCache;
 import com.spendwise.dto.CardExpenseDTO;
 import com.spendwise.dto.CardExpenseFilterDTO;
+import com.spendwise.dto.CursorPageDTO;
+import com.spendwise.dto.SliceDTO;
+import com.spendwise.mapper.CardExpenseMapper;
+import com.spendwise.mapper.CurrencyMapper;
+import com.spendwise.mapper.PaymentMethodMapper;
 import com.spendwise.model.CardExpense;
 import com.spendwise.model.Currency;
-import com.spendwise.model.PaymentMethod;
+import com.spendwise.projection.CardExpenseListRow;
 import com.spendwise.repository.CardExpenseRepository;
+import com.spendwise.repository.SpecificationProjectionExecutor;
 import com.spendwise.service.interfaces.ICardExpenseService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.spec.CardExpenseSpecification;
+import com.spendwise.spec.KeysetCursor;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.crossstore.ChangeSetPersister;
@@ -22,6 +30,8 @@ import org.springframework.stereotype.Service;
 import com.spendwise.model.auth.User;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
 
 @Service
 public class CardExpenseService implements ICardExpenseService {
@@ -29,10 +39,16 @@ public class CardExpenseService implements ICardExpenseService {
     private static final Logger log = LoggerFactory.getLogger(CardExpenseService.class);
 
     private final CardExpenseRepository cardExpenseRepository;
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final SpecificationProjectionExecutor projectionExecutor;
+    private final TtlCache<String, Long> countCache = new TtlCache<>(1000, Duration.ofSeconds(60));
+    private final IDataVersionService dataVersionService;
 
-    public CardExpenseService(CardExpenseRepository cardExpenseRepository) {
+    public CardExpenseService(CardExpenseRepository cardExpenseRepository,
+                              SpecificationProjectionExecutor projectionExecutor,
+                              IDataVersionService dataVersionService) {
         this.cardExpenseRepository = cardExpenseRepository;
+        this.projectionExecutor = projectionExecutor;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
@@ -41,11 +57,11 @@ public class CardExpenseService implements ICardExpenseService {
         entity.setDate(dto.getDate());
         entity.setDueDate(dto.getDueDate());
         entity.setPaymentMethod(dto.getPaymentMethod() != null
-                ? modelMapper.map(dto.getPaymentMethod(), PaymentMethod.class)
+                ? PaymentMethodMapper.toEntity(dto.getPaymentMethod())
                 : null);
 
         if (dto.getCurrency() != null && dto.getCurrency().getId() != null) {
-            Currency currency = modelMapper.map(dto.getCurrency(), Currency.class);
+            Currency currency = CurrencyMapper.toEntity(dto.getCurrency());
             entity.setCurrency(currency);
             BigDecimal inputAmount = dto.getInputAmount() != null ? dto.getInputAmount() : dto.getAmountInPesos();
             if (isPesosCurrency(currency)) {
@@ -76,20 +92,44 @@ public class CardExpenseService implements ICardExpenseService {
         entity.setUser(currentUser());
         CardExpense saved = cardExpenseRepository.save(entity);
         log.debug("CardExpense with id {} created successfully", saved.getId());
-        return modelMapper.map(saved, CardExpenseDTO.class);
+        dataVersionService.bump(currentUser());
+        return CardExpenseMapper.toDTO(saved);
     }
 
     @Override
     public CardExpenseDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         CardExpense entity = find(id);
-        return modelMapper.map(entity, CardExpenseDTO.class);
+        return CardExpenseMapper.toDTO(entity);
     }
 
     @Override
     public Page<CardExpenseDTO> list(CardExpenseFilterDTO filters, Pageable pageable) {
         Specification<CardExpense> spec = CardExpenseSpecification.withFilters(filters, currentUser());
-        return cardExpenseRepository.findAll(spec, pageable)
-                .map(e -> modelMapper.map(e, CardExpenseDTO.class));
+        return projectionExecutor.findPage(CardExpense.class, CardExpenseListRow.class, CardExpenseListRow::columns, spec, pageable)
+                .map(CardExpenseListRow::toDTO);
+    }
+
+    @Override
+    public SliceDTO<CardExpenseDTO> listSlice(CardExpenseFilterDTO filters, Pageable pageable) {
+        Specification<CardExpense> spec = CardExpenseSpecification.withFilters(filters, currentUser());
+        return SliceDTO.of(projectionExecutor.findSlice(CardExpense.class, CardExpenseListRow.class, CardExpenseListRow::columns, spec, pageable)
+                .map(CardExpenseListRow::toDTO));
+    }
+
+    @Override
+    public long approximateCount(CardExpenseFilterDTO filters) {
+        User user = currentUser();
+        return countCache.getOrCompute(user.getId() + "|" + filters,
+                key -> cardExpenseRepository.count(CardExpenseSpecification.withFilters(filters, user)));
+    }
+
+    @Override
+    public CursorPageDTO<CardExpenseDTO> listByCursor(CardExpenseFilterDTO filters, String cursor, Integer size) {
+        int limit = KeysetCursor.clampSize(size);
+        Specification<CardExpense> spec = KeysetCursor.seek(CardExpenseSpecification.withFilters(filters, currentUser()), cursor);
+        List<CardExpense> rows = cardExpenseRepository.findBy(spec, q -> q.sortBy(KeysetCursor.ORDER).limit(limit + 1).all());
+        return KeysetCursor.toPage(rows, limit, CardExpense::getDate, CardExpense::getId,
+                CardExpenseMapper::toDTO);
     }
 
     @Transactional
@@ -99,7 +139,8 @@ public class CardExpenseService implements ICardExpenseService {
         this.populate(entity, dto);
         CardExpense updated = cardExpenseRepository.save(entity);
         log.debug("CardExpense with id {} updated successfully", id);
-        return modelMapper.map(updated, CardExpenseDTO.class);
+        dataVersionService.bump(currentUser());
+        return CardExpenseMapper.toDTO(updated);
     }
 
     @Transactional
@@ -108,7 +149,8 @@ public class CardExpenseService implements ICardExpenseService {
         CardExpense entity = find(id);
         cardExpenseRepository.delete(entity);
         log.debug("CardExpense with id {} deleted successfully", id);
-        return modelMapper.map(entity, CardExpenseDTO.class);
+        dataVersionService.bump(currentUser());
+        return CardExpenseMapper.toDTO(entity);
     }
 
     @Transactional
@@ -118,7 +160,8 @@ public class CardExpenseService implements ICardExpenseService {
         entity.setCancelled(true);
         CardExpense saved = cardExpenseRepository.save(entity);
         log.debug("CardExpense with id {} cancelled successfully", id);
-        return modelMapper.map(saved, CardExpenseDTO.class);
+        dataVersionService.bump(currentUser());
+        return CardExpenseMapper.toDTO(saved);
     }
 
     @Transactional
@@ -128,7 +171,8 @@ public class CardExpenseService implements ICardExpenseService {
         entity.setCancelled(false);
         CardExpense saved = cardExpenseRepository.save(entity);
         log.debug("CardExpense with id {} uncancelled successfully", id);
-        return modelMapper.map(saved, CardExpenseDTO.class);
+        dataVersionService.bump(currentUser());
+        return CardExpenseMapper.toDTO(saved);
     }
 
     protected CardExpense find(Long id) throws ChangeSetPersister.NotFoundException {
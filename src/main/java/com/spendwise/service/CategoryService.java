@@ -2,12 +2,13 @@ package com.spendwise.service;
 
 import com.spendwise.dto.CategoryDTO;
 import com.spendwise.dto.CategoryFilterDTO;
+import com.spendwise.mapper.CategoryMapper;
 import com.spendwise.model.Category;
 import com.spendwise.repository.CategoryRepository;
 import com.spendwise.service.interfaces.ICategoryService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.spec.CategoryEspecification;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,11 +27,12 @@ public class CategoryService implements ICategoryService {
     private static final Logger log = LoggerFactory.getLogger(CategoryService.class);
 
     private final CategoryRepository categoryRepository;
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final IDataVersionService dataVersionService;
 
     @Autowired
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, IDataVersionService dataVersionService) {
         this.categoryRepository = categoryRepository;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
@@ -49,7 +51,8 @@ public class CategoryService implements ICategoryService {
         category.setUser(currentUser());
         Category savedCategory = categoryRepository.save(category);
         log.debug("Category with id {} created successfully", savedCategory.getId());
-        return modelMapper.map(savedCategory, CategoryDTO.class);
+        dataVersionService.bump(currentUser());
+        return CategoryMapper.toDTO(savedCategory);
     }
 
     @Transactional
@@ -57,7 +60,7 @@ public class CategoryService implements ICategoryService {
     public CategoryDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         Category category = find(id);
         log.debug("Category with id {} read successfully", category.getId());
-        return modelMapper.map(category, CategoryDTO.class);
+        return CategoryMapper.toDTO(category);
     }
 
     @Override
@@ -67,7 +70,7 @@ public class CategoryService implements ICategoryService {
         Specification<Category> spec = CategoryEspecification.withFilters(filters, currentUser());
 
         return categoryRepository.findAll(spec, pageable)
-                .map(category -> modelMapper.map(category, CategoryDTO.class));
+                .map(CategoryMapper::toDTO);
     }
 
     @Transactional
@@ -77,7 +80,8 @@ public class CategoryService implements ICategoryService {
         this.populate(category, dto);
         Category updatedCategory = categoryRepository.save(category);
         log.debug("Category with id {} updated successfully", category.getId());
-        return modelMapper.map(updatedCategory, CategoryDTO.class);
+        dataVersionService.bump(currentUser());
+        return CategoryMapper.toDTO(updatedCategory);
     }
 
     @Transactional
@@ -86,7 +90,8 @@ public class CategoryService implements ICategoryService {
         Category category = find(id);
         categoryRepository.delete(category);
         log.debug("Category with id {} deleted successfully", category.getId());
-        return modelMapper.map(category, CategoryDTO.class);
+        dataVersionService.bump(currentUser());
+        return CategoryMapper.toDTO(category);
     }
 
     @Transactional
@@ -96,7 +101,8 @@ public class CategoryService implements ICategoryService {
         category.setEnabled(false);
         Category savedCategory = categoryRepository.save(category);
         log.debug("Category with id {} disabled successfully", category.getId());
-        return modelMapper.map(savedCategory, CategoryDTO.class);
+        dataVersionService.bump(currentUser());
+        return CategoryMapper.toDTO(savedCategory);
     }
 
     @Transactional
@@ -106,7 +112,8 @@ public class CategoryService implements ICategoryService {
         category.setEnabled(true);
         Category savedCategory = categoryRepository.save(category);
         log.debug("Category with id {} enabled successfully", category.getId());
-        return modelMapper.map(savedCategory, CategoryDTO.class);
+        dataVersionService.bump(currentUser());
+        return CategoryMapper.toDTO(savedCategory);
     }
 
     protected Category find(Long id) throws ChangeSetPersister.NotFoundException {
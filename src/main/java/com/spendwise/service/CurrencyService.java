@@ -2,12 +2,13 @@ package com.spendwise.service;
 
 import com.spendwise.dto.CurrencyDTO;
 import com.spendwise.dto.CurrencyFilterDTO;
+import com.spendwise.mapper.CurrencyMapper;
 import com.spendwise.model.Currency;
 import com.spendwise.repository.CurrencyRepository;
 import com.spendwise.service.interfaces.ICurrencyService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.spec.CurrencyEspecification;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,11 +27,12 @@ public class CurrencyService implements ICurrencyService {
     private static final Logger log = LoggerFactory.getLogger(CurrencyService.class);
 
     private final CurrencyRepository currencyRepository;
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final IDataVersionService dataVersionService;
 
     @Autowired
-    public CurrencyService(CurrencyRepository currencyRepository) {
+    public CurrencyService(CurrencyRepository currencyRepository, IDataVersionService dataVersionService) {
         this.currencyRepository = currencyRepository;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
@@ -49,7 +51,8 @@ public class CurrencyService implements ICurrencyService {
         currency.setUser(currentUser());
         Currency savedCurrency = currencyRepository.save(currency);
         log.debug("Currency with id {} created successfully", savedCurrency.getId());
-        return modelMapper.map(savedCurrency, CurrencyDTO.class);
+        dataVersionService.bump(currentUser());
+        return CurrencyMapper.toDTO(savedCurrency);
     }
 
     @Transactional
@@ -57,7 +60,7 @@ public class CurrencyService implements ICurrencyService {
     public CurrencyDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         Currency currency = find(id);
         log.debug("Currency with id {} read successfully", currency.getId());
-        return modelMapper.map(currency, CurrencyDTO.class);
+        return CurrencyMapper.toDTO(currency);
     }
 
     @Override
@@ -67,7 +70,7 @@ public class CurrencyService implements ICurrencyService {
         Specification<Currency> spec = CurrencyEspecification.withFilters(filters, currentUser());
 
         return currencyRepository.findAll(spec, pageable)
-                .map(currency -> modelMapper.map(currency, CurrencyDTO.class));
+                .map(CurrencyMapper::toDTO);
     }
 
     @Transactional
@@ -77,7 +80,8 @@ public class CurrencyService implements ICurrencyService {
         this.populate(currency, dto);
         Currency updatedCurrency = currencyRepository.save(currency);
         log.debug("Currency with id {} updated successfully", currency.getId());
-        return modelMapper.map(updatedCurrency, CurrencyDTO.class);
+        dataVersionService.bump(currentUser());
+        return CurrencyMapper.toDTO(updatedCurrency);
     }
 
     @Transactional
@@ -86,7 +90,8 @@ public class CurrencyService implements ICurrencyService {
         Currency currency = find(id);
         currencyRepository.delete(currency);
         log.debug("Currency with id {} deleted successfully", currency.getId());
-        return modelMapper.map(currency, CurrencyDTO.class);
+        dataVersionService.bump(currentUser());
+        return CurrencyMapper.toDTO(currency);
     }
 
     @Transactional
@@ -96,7 +101,8 @@ public class CurrencyService implements ICurrencyService {
         currency.setEnabled(false);
         Currency savedCurrency = currencyRepository.save(currency);
         log.debug("Currency with id {} disabled successfully", currency.getId());
-        return modelMapper.map(savedCurrency, CurrencyDTO.class);
+        dataVersionService.bump(currentUser());
+        return CurrencyMapper.toDTO(savedCurrency);
     }
 
     @Transactional
@@ -106,7 +112,8 @@ public class CurrencyService implements ICurrencyService {
         currency.setEnabled(true);
         Currency savedCurrency = currencyRepository.save(currency);
         log.debug("Currency with id {} enabled successfully", currency.getId());
-        return modelMapper.map(savedCurrency, CurrencyDTO.class);
+        dataVersionService.bump(currentUser());
+        return CurrencyMapper.toDTO(savedCurrency);
     }
 
     @Transactional
@@ -117,7 +124,8 @@ public class CurrencyService implements ICurrencyService {
         currency.setIsDefault(true);
         Currency savedCurrency = currencyRepository.save(currency);
         log.debug("Currency with id {} set as default successfully", savedCurrency.getId());
-        return modelMapper.map(savedCurrency, CurrencyDTO.class);
+        dataVersionService.bump(currentUser());
+        return CurrencyMapper.toDTO(savedCurrency);
     }
 
     @Transactional
@@ -127,7 +135,8 @@ public class CurrencyService implements ICurrencyService {
         currency.setIsDefault(false);
         Currency savedCurrency = currencyRepository.save(currency);
         log.debug("Currency with id {} removed from default successfully", savedCurrency.getId());
-        return modelMapper.map(savedCurrency, CurrencyDTO.class);
+        dataVersionService.bump(currentUser());
+        return CurrencyMapper.toDTO(savedCurrency);
     }
 
     protected Currency find(Long id) throws ChangeSetPersister.NotFoundException {
@@ -0,0 +1,107 @@
+package com.spendwise.service;
+
+import com.spendwise.model.UserDataVersion;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.UserDataVersionRepository;
+import com.spendwise.service.interfaces.IDataVersionService;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user monotonic data version. Every write service bumps it inside its own transaction,
+ * so the stored value changes exactly when the user's data does; reads are served from
+ * memory and re-read from the database once the value is older than {@code data-version.ttl-ms}.
+ * <p>
+ * A bump on this node is seen here right after its commit. A bump committed on another
+ * node is seen at most one TTL later, so a conditional request may get a stale 304 for up
+ * to that long after a write served elsewhere, and never longer.
+ * <p>
+ * The in-memory value is only advanced with {@code max}, so a reader that loaded the old
+ * value concurrently can never move it back. One small entry per active user, so the map
+ * is not size-bounded.
+ */
+@Service
+public class DataVersionService implements IDataVersionService {
+
+    private static final Logger log = LoggerFactory.getLogger(DataVersionService.class);
+    private final UserDataVersionRepository versionRepository;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final ConcurrentHashMap<Long, Cached> versions = new ConcurrentHashMap<>();
+
+    /** A version and when it was last known to match the database. */
+    private record Cached(long version, long readAt) {
+
+        Cached merge(Cached other) {
+            return new Cached(Math.max(version, other.version), Math.max(readAt, other.readAt));
+        }
+    }
+
+    @Autowired
+    public DataVersionService(UserDataVersionRepository versionRepository,
+                              @Value("${data-version.ttl-ms:2000}") long ttlMillis) {
+        this(versionRepository, Duration.ofMillis(ttlMillis), Clock.systemUTC());
+    }
+
+    public DataVersionService(UserDataVersionRepository versionRepository, Duration ttl, Clock clock) {
+        this.versionRepository = versionRepository;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    public long current(Long userId) {
+        long now = clock.millis();
+        Cached cached = versions.get(userId);
+        if (cached != null && now - cached.readAt() < ttlMillis) {
+            return cached.version();
+        }
+        long loaded = versionRepository.findVersion(userId).orElse(0L);
+        return versions.merge(userId, new Cached(loaded, now), Cached::merge).version();
+    }
+
+    @Transactional
+    @Override
+    public void bump(User user) {
+        Long userId = user.getId();
+        if (versionRepository.increment(userId) == 0) {
+            versionRepository.save(new UserDataVersion(userId, 1L));
+        }
+        long version = versionRepository.findVersion(userId).orElse(1L);
+        afterCommit(() -> versions.merge(userId, new Cached(version, clock.millis()), Cached::merge));
+        log.debug("Data version of user {} bumped to {}", userId, version);
+    }
+
+    @Transactional
+    @Override
+    public void bumpAll() {
+        versionRepository.insertMissing();
+        int bumped = versionRepository.incrementAll();
+        afterCommit(() -> versions.replaceAll((userId, cached) -> new Cached(cached.version() + 1, cached.readAt())));
+        log.debug("Data version of {} user(s) bumped", bumped);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+}
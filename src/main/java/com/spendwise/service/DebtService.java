@@ -2,15 +2,19 @@ package com.spendwise.service;
 
 import com.spendwise.dto.DebtDTO;
 import com.spendwise.dto.DebtFilterDTO;
+import com.spendwise.mapper.CurrencyMapper;
+import com.spendwise.mapper.DebtMapper;
+import com.spendwise.mapper.IssuingEntityMapper;
+import com.spendwise.mapper.PaymentMethodMapper;
 import com.spendwise.model.Currency;
 import com.spendwise.model.Debt;
-import com.spendwise.model.IssuingEntity;
-import com.spendwise.model.PaymentMethod;
+import com.spendwise.projection.DebtListRow;
 import com.spendwise.repository.DebtRepository;
+import com.spendwise.repository.SpecificationProjectionExecutor;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.service.interfaces.IDebtService;
 import com.spendwise.spec.DebtSpecification;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,11 +35,16 @@ public class DebtService implements IDebtService {
     private static final Logger log = LoggerFactory.getLogger(DebtService.class);
 
     private final DebtRepository debtRepository;
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final SpecificationProjectionExecutor projectionExecutor;
+    private final IDataVersionService dataVersionService;
 
     @Autowired
-    public DebtService(DebtRepository debtRepository) {
+    public DebtService(DebtRepository debtRepository,
+                       SpecificationProjectionExecutor projectionExecutor,
+                       IDataVersionService dataVersionService) {
         this.debtRepository = debtRepository;
+        this.projectionExecutor = projectionExecutor;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
@@ -46,14 +55,14 @@ public class DebtService implements IDebtService {
         debt.setPersonal(dto.getPersonal());
         debt.setCreditor(dto.getCreditor());
         debt.setIssuingEntity(dto.getIssuingEntity() != null
-                ? modelMapper.map(dto.getIssuingEntity(), IssuingEntity.class)
+                ? IssuingEntityMapper.toEntity(dto.getIssuingEntity())
                 : null);
         debt.setPaymentMethod(dto.getPaymentMethod() != null
-                ? modelMapper.map(dto.getPaymentMethod(), PaymentMethod.class)
+                ? PaymentMethodMapper.toEntity(dto.getPaymentMethod())
                 : null);
 
         if (dto.getCurrency() != null && dto.getCurrency().getId() != null) {
-            Currency currency = modelMapper.map(dto.getCurrency(), Currency.class);
+            Currency currency = CurrencyMapper.toEntity(dto.getCurrency());
             debt.setCurrency(currency);
             BigDecimal inputAmount = dto.getInputAmount() != null ? dto.getInputAmount() : dto.getAmountInPesos();
             if (isPesosCurrency(currency)) {
@@ -84,7 +93,8 @@ public class DebtService implements IDebtService {
         debt.setUser(currentUser());
         Debt saved = debtRepository.save(debt);
         log.debug("Debt with id {} created successfully", saved.getId());
-        return modelMapper.map(saved, DebtDTO.class);
+        dataVersionService.bump(currentUser());
+        return DebtMapper.toDTO(saved);
     }
 
     @Transactional
@@ -92,15 +102,15 @@ public class DebtService implements IDebtService {
     public DebtDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         Debt debt = find(id);
         log.debug("Debt with id {} read successfully", debt.getId());
-        return modelMapper.map(debt, DebtDTO.class);
+        return DebtMapper.toDTO(debt);
     }
 
     @Override
     public Page<DebtDTO> list(DebtFilterDTO filters, Pageable pageable) {
         log.debug("Listing all debts");
         Specification<Debt> spec = DebtSpecification.withFilters(filters, currentUser());
-        return debtRepository.findAll(spec, pageable)
-                .map(debt -> modelMapper.map(debt, DebtDTO.class));
+        return projectionExecutor.findPage(Debt.class, DebtListRow.class, DebtListRow::columns, spec, pageable)
+                .map(DebtListRow::toDTO);
     }
 
     @Transactional
@@ -110,7 +120,8 @@ public class DebtService implements IDebtService {
         this.populate(debt, dto);
         Debt updated = debtRepository.save(debt);
         log.debug("Debt with id {} updated successfully", debt.getId());
-        return modelMapper.map(updated, DebtDTO.class);
+        dataVersionService.bump(currentUser());
+        return DebtMapper.toDTO(updated);
     }
 
     @Transactional
@@ -119,7 +130,8 @@ public class DebtService implements IDebtService {
         Debt debt = find(id);
         debtRepository.delete(debt);
         log.debug("Debt with id {} deleted successfully", debt.getId());
-        return modelMapper.map(debt, DebtDTO.class);
+        dataVersionService.bump(currentUser());
+        return DebtMapper.toDTO(debt);
     }
 
     @Transactional
@@ -129,7 +141,8 @@ public class DebtService implements IDebtService {
         debt.setCancelled(true);
         Debt saved = debtRepository.save(debt);
         log.debug("Debt with id {} cancelled successfully", debt.getId());
-        return modelMapper.map(saved, DebtDTO.class);
+        dataVersionService.bump(currentUser());
+        return DebtMapper.toDTO(saved);
     }
 
     @Transactional
@@ -139,7 +152,8 @@ public class DebtService implements IDebtService {
         debt.setCancelled(false);
         Debt saved = debtRepository.save(debt);
         log.debug("Debt with id {} uncancelled successfully", debt.getId());
-        return modelMapper.map(saved, DebtDTO.class);
+        dataVersionService.bump(currentUser());
+        return DebtMapper.toDTO(saved);
     }
 
     protected Debt find(Long id) throws ChangeSetPersister.NotFoundException {
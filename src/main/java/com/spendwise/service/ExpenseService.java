@@ -1,26 +1,45 @@
 package com.spendwise.service;
 
+import com.spendwise.cache.TtlCache;
 import com.spendwise.client.dolarApi.DolarApiClient;
 import com.spendwise.client.dolarApiHistorical.DolarApiHistoricalClient;
 import com.spendwise.client.dolarApi.DolarApiDTO;
 import com.spendwise.client.dolarApiHistorical.DolarApiHistoricalDTO;
 import org.springframework.web.client.HttpClientErrorException;
+import com.spendwise.dto.CursorPageDTO;
 import com.spendwise.dto.ExpenseDTO;
 import com.spendwise.dto.ExpenseFilterDTO;
+import com.spendwise.dto.SliceDTO;
+import com.spendwise.dto.SparsePageDTO;
+import com.spendwise.event.DomainEventBus;
+import com.spendwise.event.DomainEventHandler;
+import com.spendwise.event.ExpenseCreated;
+import com.spendwise.event.ExpenseDeleted;
+import com.spendwise.event.ExpenseEvent;
+import com.spendwise.event.ExpenseUpdated;
+import com.spendwise.mapper.CategoryMapper;
+import com.spendwise.mapper.CurrencyMapper;
+import com.spendwise.mapper.ExpenseMapper;
+import com.spendwise.mapper.PaymentMethodMapper;
 import com.spendwise.model.Category;
 import com.spendwise.model.Currency;
 import com.spendwise.model.Expense;
 import com.spendwise.model.PaymentMethod;
-import com.spendwise.model.RecurrentExpense;
-import com.spendwise.model.RecurrentExpenseRecord;
+import com.spendwise.projection.ExpenseListRow;
+import com.spendwise.projection.SparseFields;
+import com.spendwise.repository.CategoryRepository;
+import com.spendwise.repository.CurrencyRepository;
+import com.spendwise.repository.DescriptionSearchRepository;
 import com.spendwise.repository.ExpenseRepository;
 import com.spendwise.repository.MailImportRepository;
-import com.spendwise.repository.RecurrentExpenseRecordRepository;
-import com.spendwise.repository.RecurrentExpenseRepository;
+import com.spendwise.repository.PaymentMethodRepository;
+import com.spendwise.repository.SpecificationProjectionExecutor;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.service.interfaces.IExpenseService;
 import com.spendwise.spec.ExpenseSpecification;
+import com.spendwise.spec.SearchText;
+import com.spendwise.spec.KeysetCursor;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,54 +48,91 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.spendwise.model.auth.User;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDate;
-
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Expense CRUD. The request path only writes the expense rows and the data version; what
+ * follows from a new or changed expense (recurrent matching, the count cache) reacts to the
+ * {@link ExpenseEvent}s published here once the transaction has committed.
+ */
 @Service
-public class ExpenseService implements IExpenseService {
+public class ExpenseService implements IExpenseService, DomainEventHandler<ExpenseEvent> {
 
     private static final Logger log = LoggerFactory.getLogger(ExpenseService.class);
-    private final ModelMapper modelMapper = new ModelMapper();
+    private static final int MAX_BULK_SIZE = 1000;
     private final DolarApiClient dolarApiClient;
     private final DolarApiHistoricalClient dolarApiHistoricalClient;
 
     private final ExpenseRepository expenseRespository;
     private final MailImportRepository mailImportRepository;
-    private final RecurrentExpenseRepository recurrentExpenseRepository;
-    private final RecurrentExpenseRecordRepository recurrentExpenseRecordRepository;
+    private final SpecificationProjectionExecutor projectionExecutor;
+    private final DescriptionSearchRepository descriptionSearchRepository;
+    private final CategoryRepository categoryRepository;
+    private final PaymentMethodRepository paymentMethodRepository;
+    private final CurrencyRepository currencyRepository;
+    private final TtlCache<String, Long> countCache = new TtlCache<>(1000, Duration.ofSeconds(60));
+    private final IDataVersionService dataVersionService;
+    private final DomainEventBus eventBus;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public ExpenseService(
         ExpenseRepository expenseRespository,
         DolarApiClient dolarApiClient,
         DolarApiHistoricalClient dolarApiHistoricalClient,
-        RecurrentExpenseRepository recurrentExpenseRepository,
-        RecurrentExpenseRecordRepository recurrentExpenseRecordRepository,
-        MailImportRepository mailImportRepository
+        MailImportRepository mailImportRepository,
+        SpecificationProjectionExecutor projectionExecutor,
+        DescriptionSearchRepository descriptionSearchRepository,
+        CategoryRepository categoryRepository,
+        PaymentMethodRepository paymentMethodRepository,
+        CurrencyRepository currencyRepository,
+        IDataVersionService dataVersionService,
+        DomainEventBus eventBus,
+        PlatformTransactionManager transactionManager
     ) {
         this.expenseRespository = expenseRespository;
         this.dolarApiClient = dolarApiClient;
         this.dolarApiHistoricalClient = dolarApiHistoricalClient;
-        this.recurrentExpenseRepository = recurrentExpenseRepository;
-        this.recurrentExpenseRecordRepository = recurrentExpenseRecordRepository;
         this.mailImportRepository = mailImportRepository;
+        this.projectionExecutor = projectionExecutor;
+        this.descriptionSearchRepository = descriptionSearchRepository;
+        this.categoryRepository = categoryRepository;
+        this.paymentMethodRepository = paymentMethodRepository;
+        this.currencyRepository = currencyRepository;
+        this.dataVersionService = dataVersionService;
+        this.eventBus = eventBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
     public void populate(Expense expense, ExpenseDTO dto) {
         expense.setDescription(dto.getDescription());
         expense.setDate(dto.getDate());
-        expense.setCategory(modelMapper.map(dto.getCategory(), Category.class));
-        expense.setPaymentMethod(modelMapper.map(dto.getPaymentMethod(), PaymentMethod.class));
+        expense.setCategory(CategoryMapper.toEntity(dto.getCategory()));
+        expense.setPaymentMethod(PaymentMethodMapper.toEntity(dto.getPaymentMethod()));
         expense.setIsMicroExpense(dto.getMicroExpense());
 
         if (dto.getCurrency() != null && dto.getCurrency().getId() != null) {
-            Currency currency = modelMapper.map(dto.getCurrency(), Currency.class);
+            Currency currency = CurrencyMapper.copy(dto.getCurrency());
             expense.setCurrency(currency);
             BigDecimal inputAmount = dto.getInputAmount() != null ? dto.getInputAmount() : dto.getAmountInPesos();
             if (isPesosCurrency(currency)) {
@@ -92,7 +148,7 @@ public class ExpenseService implements IExpenseService {
         }
     }
 
-    private boolean isPesosCurrency(Currency currency) {
+    static boolean isPesosCurrency(Currency currency) {
         if (currency == null || currency.getName() == null) return true;
         String name = currency.getName().toLowerCase();
         return name.contains("peso") || name.contains("ars") || name.contains("argentino");
@@ -107,39 +163,127 @@ public class ExpenseService implements IExpenseService {
         expense.setUser(user);
         Expense savedExpense = expenseRespository.save(expense);
 
-        autoCancelRecurrentExpense(savedExpense, user);
-
         log.debug("Expense with id {} created successfully", savedExpense.getId());
-        return modelMapper.map(savedExpense, ExpenseDTO.class);
-    }
-
-    private void autoCancelRecurrentExpense(Expense savedExpense, User user) {
-        recurrentExpenseRepository
-                .findByDescriptionIgnoreCaseAndUserAndEnabledTrue(savedExpense.getDescription(), user)
-                .ifPresent(recurrentExpense -> {
-                    LocalDate today = LocalDate.now();
-                    int month = today.getMonthValue();
-                    int year = today.getYear();
-
-                    RecurrentExpenseRecord record = recurrentExpenseRecordRepository
-                            .findByRecurrentExpenseAndMonthAndYear(recurrentExpense, month, year)
-                            .orElseGet(() -> {
-                                RecurrentExpenseRecord newRecord = new RecurrentExpenseRecord();
-                                newRecord.setRecurrentExpense(recurrentExpense);
-                                newRecord.setMonth(month);
-                                newRecord.setYear(year);
-                                newRecord.setUser(user);
-                                return newRecord;
-                            });
-
-                    record.setCancelled(true);
-                    record.setExpense(savedExpense);
-                    recurrentExpenseRecordRepository.save(record);
-                    log.debug("RecurrentExpenseRecord auto-cancelled for recurrentExpense id {} ({}/{})",
-                            recurrentExpense.getId(), month, year);
-
-                    syncAmountIfChanged(savedExpense, recurrentExpense);
-                });
+        dataVersionService.bump(user);
+        eventBus.publish(new ExpenseCreated(user.getId(), List.of(savedExpense.getId())));
+        return ExpenseMapper.toDTO(savedExpense);
+    }
+
+    /**
+     * Creates many expenses in one transaction. What {@link #create} resolves per row is
+     * resolved once for the whole request: one FX lookup per distinct date and one query each
+     * for categories, payment methods and currencies. Expense ids come from a pooled sequence,
+     * so {@code saveAll} goes out as ordered JDBC insert batches, and one event carries them all.
+     * <p>
+     * The FX lookups are HTTP calls, so they are all made before the transaction starts and no
+     * connection is held while they run. Callers already in a transaction (the import chunk
+     * writers) resolve them up front with {@link #sellingRates} and use
+     * {@link #createBulk(List, Map)}; the insert then joins their transaction.
+     */
+    @Override
+    public List<ExpenseDTO> createBulk(List<ExpenseDTO> dtos) {
+        return createBulk(dtos, Map.of());
+    }
+
+    /**
+     * {@link #createBulk(List)} with the selling rates already resolved. A date missing from
+     * {@code rates} is still looked up, inside the caller's transaction if there is one.
+     */
+    @Override
+    public List<ExpenseDTO> createBulk(List<ExpenseDTO> dtos, Map<LocalDate, BigDecimal> rates) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one expense is required");
+        }
+        if (dtos.size() > MAX_BULK_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BULK_SIZE + " expenses can be created at once");
+        }
+        User user = currentUser();
+        Map<LocalDate, BigDecimal> resolved = new HashMap<>(rates);
+        for (ExpenseDTO dto : dtos) {
+            if (dto.getDate() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Expense date is required");
+            }
+            resolved.computeIfAbsent(dto.getDate(), this::fetchSellingRate);
+        }
+        return transactionTemplate.execute(status -> insertBulk(dtos, resolved, user));
+    }
+
+    private List<ExpenseDTO> insertBulk(List<ExpenseDTO> dtos, Map<LocalDate, BigDecimal> rates, User user) {
+        Map<Long, Category> categories = resolve(dtos, dto -> dto.getCategory() == null ? null : dto.getCategory().getId(),
+                ids -> categoryRepository.findAllByIdInAndUser(ids, user), Category::getId, "Category");
+        Map<Long, PaymentMethod> paymentMethods = resolve(dtos, dto -> dto.getPaymentMethod() == null ? null : dto.getPaymentMethod().getId(),
+                ids -> paymentMethodRepository.findAllByIdInAndUser(ids, user), PaymentMethod::getId, "Payment method");
+        Map<Long, Currency> currencies = resolve(dtos, dto -> dto.getCurrency() == null ? null : dto.getCurrency().getId(),
+                ids -> currencyRepository.findAllByIdInAndUser(ids, user), Currency::getId, "Currency");
+
+        List<Expense> expenses = new ArrayList<>(dtos.size());
+        for (ExpenseDTO dto : dtos) {
+            Long categoryId = dto.getCategory() == null ? null : dto.getCategory().getId();
+            Long paymentMethodId = dto.getPaymentMethod() == null ? null : dto.getPaymentMethod().getId();
+            Long currencyId = dto.getCurrency() == null ? null : dto.getCurrency().getId();
+            Currency currency = currencyId == null ? null : currencies.get(currencyId);
+            BigDecimal inputAmount = currency != null && dto.getInputAmount() != null ? dto.getInputAmount() : dto.getAmountInPesos();
+            if (inputAmount == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Expense amount is required");
+            }
+            BigDecimal rate = rates.get(dto.getDate());
+
+            Expense expense = new Expense();
+            expense.setDescription(dto.getDescription());
+            expense.setDate(dto.getDate());
+            expense.setCategory(categoryId == null ? null : categories.get(categoryId));
+            expense.setPaymentMethod(paymentMethodId == null ? null : paymentMethods.get(paymentMethodId));
+            expense.setIsMicroExpense(dto.getMicroExpense());
+            expense.setCurrency(currency);
+            if (isPesosCurrency(currency)) {
+                expense.setAmountInPesos(inputAmount);
+                expense.setAmountInDollars(toDollars(inputAmount, rate));
+            } else {
+                expense.setAmountInDollars(inputAmount);
+                expense.setAmountInPesos(toPesos(inputAmount, rate));
+            }
+            expense.setUser(user);
+            expenses.add(expense);
+        }
+
+        List<Expense> saved = expenseRespository.saveAll(expenses);
+
+        log.debug("{} expense(s) created in bulk with {} FX lookup(s)", saved.size(), rates.size());
+        dataVersionService.bump(user);
+        eventBus.publish(new ExpenseCreated(user.getId(), saved.stream().map(Expense::getId).toList()));
+        return saved.stream().map(ExpenseMapper::toDTO).toList();
+    }
+
+    /**
+     * One FX lookup per distinct date. These are HTTP calls: call it outside any transaction,
+     * so no pooled connection is held while they run.
+     */
+    @Override
+    public Map<LocalDate, BigDecimal> sellingRates(Collection<LocalDate> dates) {
+        Map<LocalDate, BigDecimal> rates = new HashMap<>();
+        for (LocalDate date : dates) {
+            rates.computeIfAbsent(date, this::fetchSellingRate);
+        }
+        return rates;
+    }
+
+    /**
+     * Loads the distinct ids referenced by {@code dtos} with a single query; an id that is not
+     * the user's fails the whole request.
+     */
+    private static <E> Map<Long, E> resolve(List<ExpenseDTO> dtos, Function<ExpenseDTO, Long> idOf,
+                                            Function<Collection<Long>, List<E>> loader,
+                                            Function<E, Long> entityId, String name) {
+        List<Long> ids = dtos.stream().map(idOf).filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) return Map.of();
+        Map<Long, E> found = loader.apply(ids).stream().collect(Collectors.toMap(entityId, Function.identity()));
+        for (Long id : ids) {
+            if (!found.containsKey(id)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, name + " " + id + " not found");
+            }
+        }
+        return found;
     }
 
     @Transactional
@@ -147,15 +291,64 @@ public class ExpenseService implements IExpenseService {
     public ExpenseDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         Expense category = find(id);
         log.debug("Expense with id {} read successfully", category.getId());
-        return modelMapper.map(category, ExpenseDTO.class);
+        return ExpenseMapper.toDTO(category);
     }
 
     @Override
     public Page<ExpenseDTO> list(ExpenseFilterDTO filters, Pageable pageable) {
         log.debug("Listing all categories");
         Specification<Expense> spec = ExpenseSpecification.withFilters(filters, currentUser());
-        return expenseRespository.findAll(spec, pageable)
-                .map(category -> modelMapper.map(category, ExpenseDTO.class));
+        return projectionExecutor.findPage(Expense.class, ExpenseListRow.class, ExpenseListRow::columns, spec, pageable)
+                .map(ExpenseListRow::toDTO);
+    }
+
+    @Override
+    public SparsePageDTO listSparse(ExpenseFilterDTO filters, Pageable pageable, String fields, String refs) {
+        SparseFields.RefMode refMode = SparseFields.refMode(refs);
+        SparseFields<Expense>.Selected selected = ExpenseListRow.SPARSE_FIELDS.select(fields);
+        Specification<Expense> spec = ExpenseSpecification.withFilters(filters, currentUser());
+        return selected.toPage(projectionExecutor.findTuplePage(Expense.class, selected::columns, spec, pageable),
+                refMode, projectionExecutor::findAllById);
+    }
+
+    @Override
+    public SliceDTO<ExpenseDTO> listSlice(ExpenseFilterDTO filters, Pageable pageable) {
+        Specification<Expense> spec = ExpenseSpecification.withFilters(filters, currentUser());
+        return SliceDTO.of(projectionExecutor.findSlice(Expense.class, ExpenseListRow.class, ExpenseListRow::columns, spec, pageable)
+                .map(ExpenseListRow::toDTO));
+    }
+
+    @Override
+    public SliceDTO<ExpenseDTO> search(String query, Pageable pageable) {
+        if (query == null || SearchText.normalize(query).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query is required");
+        }
+        List<Long> ids = descriptionSearchRepository.searchIds(DescriptionSearchRepository.Table.EXPENSE,
+                currentUser().getId(), query, pageable.getOffset(), pageable.getPageSize());
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        List<ExpenseDTO> content = projectionExecutor.findAllByIds(Expense.class, ExpenseListRow.class, ExpenseListRow::columns,
+                        hasNext ? ids.subList(0, pageable.getPageSize()) : ids, ExpenseListRow::id)
+                .stream()
+                .map(ExpenseListRow::toDTO)
+                .toList();
+        log.debug("Search '{}' returned {} expense(s)", query, content.size());
+        return new SliceDTO<>(content, pageable.getPageNumber(), pageable.getPageSize(), hasNext);
+    }
+
+    @Override
+    public long approximateCount(ExpenseFilterDTO filters) {
+        User user = currentUser();
+        return countCache.getOrCompute(user.getId() + "|" + filters,
+                key -> expenseRespository.count(ExpenseSpecification.withFilters(filters, user)));
+    }
+
+    @Override
+    public CursorPageDTO<ExpenseDTO> listByCursor(ExpenseFilterDTO filters, String cursor, Integer size) {
+        int limit = KeysetCursor.clampSize(size);
+        Specification<Expense> spec = KeysetCursor.seek(ExpenseSpecification.withFilters(filters, currentUser()), cursor);
+        List<Expense> rows = expenseRespository.findBy(spec, q -> q.sortBy(KeysetCursor.ORDER).limit(limit + 1).all());
+        return KeysetCursor.toPage(rows, limit, Expense::getDate, Expense::getId,
+                ExpenseMapper::toDTO);
     }
 
     @Transactional
@@ -165,7 +358,10 @@ public class ExpenseService implements IExpenseService {
         this.populate(category, dto);
         Expense updatedExpense = expenseRespository.save(category);
         log.debug("Expense with id {} updated successfully", category.getId());
-        return modelMapper.map(updatedExpense, ExpenseDTO.class);
+        User user = currentUser();
+        dataVersionService.bump(user);
+        eventBus.publish(new ExpenseUpdated(user.getId(), updatedExpense.getId()));
+        return ExpenseMapper.toDTO(updatedExpense);
     }
 
     @Transactional
@@ -178,7 +374,10 @@ public class ExpenseService implements IExpenseService {
         });
         expenseRespository.delete(category);
         log.debug("Expense with id {} deleted successfully", category.getId());
-        return modelMapper.map(category, ExpenseDTO.class);
+        User user = currentUser();
+        dataVersionService.bump(user);
+        eventBus.publish(new ExpenseDeleted(user.getId(), category.getId()));
+        return ExpenseMapper.toDTO(category);
     }
 
     @Override
@@ -187,21 +386,16 @@ public class ExpenseService implements IExpenseService {
     }
 
 
-    private void syncAmountIfChanged(Expense expense, RecurrentExpense recurrentExpense) {
-        boolean isPesos = isPesosCurrency(expense.getCurrency());
-
-        BigDecimal expenseAmount  = isPesos ? expense.getAmountInPesos() : expense.getAmountInDollars();
-        BigDecimal recurrentAmount = isPesos ? recurrentExpense.getAmountInPesos() : recurrentExpense.getAmountInDollars();
-
-        if (expenseAmount == null) return;
+    @Override
+    public Class<ExpenseEvent> eventType() {
+        return ExpenseEvent.class;
+    }
 
-        if (recurrentAmount == null || expenseAmount.compareTo(recurrentAmount) != 0) {
-            recurrentExpense.setAmountInPesos(expense.getAmountInPesos());
-            recurrentExpense.setAmountInDollars(expense.getAmountInDollars());
-            recurrentExpenseRepository.save(recurrentExpense);
-            log.debug("RecurrentExpense id {} amount updated to ARS={} USD={}",
-                    recurrentExpense.getId(), expense.getAmountInPesos(), expense.getAmountInDollars());
-        }
+    /** Drops the user's cached counts, so the next count after a write is exact again. */
+    @Override
+    public void handle(ExpenseEvent event) {
+        String prefix = event.userId() + "|";
+        countCache.invalidateIf(key -> key.startsWith(prefix));
     }
 
     protected Expense find(Long id) throws ChangeSetPersister.NotFoundException {
@@ -214,12 +408,18 @@ public class ExpenseService implements IExpenseService {
     }
 
     public BigDecimal calculateAmountInDollars(BigDecimal amountInPesos, LocalDate date) {
-        BigDecimal rate = fetchSellingRate(date);
-        return amountInPesos.divide(rate, 4, RoundingMode.HALF_EVEN);
+        return toDollars(amountInPesos, fetchSellingRate(date));
     }
 
     public BigDecimal calculateAmountInPesos(BigDecimal amountInDollars, LocalDate date) {
-        BigDecimal rate = fetchSellingRate(date);
+        return toPesos(amountInDollars, fetchSellingRate(date));
+    }
+
+    private static BigDecimal toDollars(BigDecimal amountInPesos, BigDecimal rate) {
+        return amountInPesos.divide(rate, 4, RoundingMode.HALF_EVEN);
+    }
+
+    private static BigDecimal toPesos(BigDecimal amountInDollars, BigDecimal rate) {
         return amountInDollars.multiply(rate);
     }
 
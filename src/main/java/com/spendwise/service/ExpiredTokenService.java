@@ -0,0 +1,92 @@
+package com.spendwise.service;
+
+import com.spendwise.repository.PasswordResetTokenRepository;
+import com.spendwise.repository.RefreshTokenRepository;
+import com.spendwise.repository.VerificationTokenRepository;
+import com.spendwise.service.interfaces.IExpiredTokenService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongSupplier;
+
+/**
+ * Deletes the expired refresh, email verification and password reset tokens in chunks of
+ * {@value #CHUNK_SIZE} rows, each chunk in its own transaction, so a large backlog never
+ * holds locks for long.
+ * <p>
+ * After every sweep the row count of each table is published as the
+ * {@code auth.tokens.stored} gauge, and the rows deleted go to the {@code auth.tokens.swept}
+ * counter, both tagged by {@code type}. The counts are taken here rather than on every
+ * scrape, so metrics never cost a query.
+ */
+@Service
+public class ExpiredTokenService implements IExpiredTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpiredTokenService.class);
+    private static final int CHUNK_SIZE = 1000;
+
+    private record TokenTable(String type, IntUnaryOperator deleteExpiredChunk, LongSupplier count,
+                              AtomicLong stored, Counter swept) {
+    }
+
+    private final TokenTable[] tables;
+
+    @Autowired
+    public ExpiredTokenService(RefreshTokenRepository refreshTokenRepository,
+                               VerificationTokenRepository verificationTokenRepository,
+                               PasswordResetTokenRepository passwordResetTokenRepository,
+                               MeterRegistry meterRegistry) {
+        this.tables = new TokenTable[] {
+                table("refresh", limit -> refreshTokenRepository.deleteExpired(Instant.now(), limit),
+                        refreshTokenRepository::count, meterRegistry),
+                table("verification", limit -> verificationTokenRepository.deleteExpired(LocalDateTime.now(), limit),
+                        verificationTokenRepository::count, meterRegistry),
+                table("password_reset", limit -> passwordResetTokenRepository.deleteExpired(LocalDateTime.now(), limit),
+                        passwordResetTokenRepository::count, meterRegistry)
+        };
+    }
+
+    @Override
+    public int purgeExpired() {
+        int total = 0;
+        for (TokenTable table : tables) {
+            int deleted = 0;
+            int chunk;
+            do {
+                chunk = table.deleteExpiredChunk().applyAsInt(CHUNK_SIZE);
+                deleted += chunk;
+            } while (chunk == CHUNK_SIZE);
+            table.swept().increment(deleted);
+            table.stored().set(table.count().getAsLong());
+            if (deleted > 0) {
+                log.debug("Swept {} expired {} token(s)", deleted, table.type());
+            }
+            total += deleted;
+        }
+        return total;
+    }
+
+    private static TokenTable table(String type, IntUnaryOperator deleteExpiredChunk, LongSupplier count,
+                                    MeterRegistry meterRegistry) {
+        AtomicLong stored = new AtomicLong();
+        Gauge.builder("auth.tokens.stored", stored, AtomicLong::get)
+                .tag("type", type)
+                .description("Rows in the token table after the last sweep")
+                .register(meterRegistry);
+        Counter swept = Counter.builder("auth.tokens.swept")
+                .tag("type", type)
+                .description("Expired tokens deleted by the sweeper")
+                .register(meterRegistry);
+        return new TokenTable(type, deleteExpiredChunk, count, stored, swept);
+    }
+
+}
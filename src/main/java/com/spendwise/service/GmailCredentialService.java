@@ -7,7 +7,6 @@ import com.spendwise.model.auth.User;
 import com.spendwise.repository.GmailCredentialRepository;
 import com.spendwise.service.interfaces.IGmailCredentialService;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,7 +22,6 @@ public class GmailCredentialService implements IGmailCredentialService {
 
     private final GmailCredentialRepository gmailCredentialRepository;
     private final ImapIdleManager imapIdleManager;
-    private final ModelMapper modelMapper = new ModelMapper();
 
     @Autowired
     public GmailCredentialService(GmailCredentialRepository gmailCredentialRepository,
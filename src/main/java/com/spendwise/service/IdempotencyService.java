@@ -0,0 +1,196 @@
+package com.spendwise.service;
+
+import com.spendwise.cache.TtlCache;
+import com.spendwise.dto.IdempotentResponseDTO;
+import com.spendwise.model.IdempotencyRecord;
+import com.spendwise.repository.IdempotencyRecordRepository;
+import com.spendwise.service.interfaces.IIdempotencyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency keys of the create endpoints, scoped per user.
+ * <p>
+ * Completed responses are kept in the IDEMPOTENCY_KEY table for {@link #TTL}. A bounded
+ * in-memory cache in front of it answers most replays without touching the database. It
+ * only holds bodies of up to {@link #MAX_CACHED_BODY} characters, so it never takes more
+ * than about {@code MAX_CACHED_ENTRIES * MAX_CACHED_BODY} characters; larger responses,
+ * such as a bulk create's, are replayed from the table.
+ * While the first request with a key runs, a duplicate on the same instance waits on its
+ * future. A duplicate on another instance finds the claim row and polls it. Either way
+ * it replays the outcome instead of running the service a second time. Claim rows expire
+ * after {@link #CLAIM_TTL}, so a key is not blocked for long if the process dies mid-request.
+ */
+@Service
+public class IdempotencyService implements IIdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Duration CLAIM_TTL = Duration.ofMinutes(1);
+    private static final Duration WAIT = Duration.ofSeconds(10);
+    private static final long POLL_MILLIS = 100;
+    private static final int MAX_CACHED_ENTRIES = 10_000;
+    private static final int MAX_CACHED_BODY = 2 * 1024;
+
+    private final IdempotencyRecordRepository repository;
+    private final TtlCache<String, IdempotentResponseDTO> recent = new TtlCache<>(MAX_CACHED_ENTRIES, TTL);
+    private final ConcurrentHashMap<String, CompletableFuture<IdempotentResponseDTO>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IdempotencyService(IdempotencyRecordRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public IdempotentResponseDTO begin(Long userId, String key, String requestHash) {
+        String id = id(userId, key);
+        long deadline = System.nanoTime() + WAIT.toNanos();
+        while (true) {
+            IdempotentResponseDTO cached = recent.get(id);
+            if (cached != null) {
+                return replay(cached, requestHash);
+            }
+
+            CompletableFuture<IdempotentResponseDTO> mine = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponseDTO> running = inFlight.putIfAbsent(id, mine);
+            if (running != null) {
+                IdempotentResponseDTO done = await(running, deadline);
+                if (done != null) return replay(done, requestHash);
+                continue;   // the first request failed and released the key: try to take it over
+            }
+
+            try {
+                IdempotentResponseDTO stored = claimOrLoad(id, userId, requestHash, deadline);
+                if (stored == null) {
+                    log.debug("Idempotency key {} claimed", id);
+                    return null;
+                }
+                remember(id, stored);
+                finish(id, stored);
+                return replay(stored, requestHash);
+            } catch (RuntimeException e) {
+                finish(id, null);
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void complete(Long userId, String key, IdempotentResponseDTO response) {
+        String id = id(userId, key);
+        try {
+            repository.complete(id, response.getStatus(), response.getContentType(), response.getBody(),
+                    LocalDateTime.now().plus(TTL));
+            remember(id, response);
+        } finally {
+            finish(id, response);
+        }
+    }
+
+    @Override
+    public void release(Long userId, String key) {
+        String id = id(userId, key);
+        try {
+            repository.release(id);
+        } finally {
+            finish(id, null);
+        }
+    }
+
+    @Override
+    public int purgeExpired() {
+        return repository.deleteExpired(LocalDateTime.now());
+    }
+
+    /** Inserts the claim row, or returns the completed response another instance stored. */
+    private IdempotentResponseDTO claimOrLoad(String id, Long userId, String requestHash, long deadline) {
+        while (true) {
+            Optional<IdempotencyRecord> existing = repository.findById(id);
+            if (existing.isPresent()) {
+                IdempotencyRecord record = existing.get();
+                if (record.getExpiresAt().isBefore(LocalDateTime.now())) {
+                    repository.deleteIfExpired(id, LocalDateTime.now());
+                    continue;
+                }
+                if (record.getStatusCode() != null) {
+                    return new IdempotentResponseDTO(record.getRequestHash(), record.getStatusCode(),
+                            record.getContentType(), record.getResponseBody());
+                }
+                pause(deadline);
+                continue;
+            }
+            try {
+                repository.claim(id, userId, requestHash, LocalDateTime.now().plus(CLAIM_TTL));
+                return null;
+            } catch (DataIntegrityViolationException e) {
+                // claimed concurrently by another instance: read it on the next pass
+            }
+        }
+    }
+
+    private void remember(String id, IdempotentResponseDTO response) {
+        String body = response.getBody();
+        if (body == null || body.length() <= MAX_CACHED_BODY) {
+            recent.put(id, response);
+        }
+    }
+
+    private static IdempotentResponseDTO replay(IdempotentResponseDTO stored, String requestHash) {
+        if (!stored.getRequestHash().equals(requestHash)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was already used for a different request");
+        }
+        return stored;
+    }
+
+    private static IdempotentResponseDTO await(CompletableFuture<IdempotentResponseDTO> running, long deadline) {
+        try {
+            return running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw stillRunning();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw stillRunning();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void pause(long deadline) {
+        if (System.nanoTime() >= deadline) throw stillRunning();
+        try {
+            Thread.sleep(POLL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw stillRunning();
+        }
+    }
+
+    private static ResponseStatusException stillRunning() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "A request with this Idempotency-Key is still in progress");
+    }
+
+    private void finish(String id, IdempotentResponseDTO response) {
+        CompletableFuture<IdempotentResponseDTO> future = inFlight.remove(id);
+        if (future != null) future.complete(response);
+    }
+
+    private static String id(Long userId, String key) {
+        return userId + ":" + key;
+    }
+
+}
@@ -1,19 +1,29 @@
 package com.spendwise.service;
 
+import com.spendwise.cache.TtlCache;
 import com.spendwise.client.dolarApi.DolarApiClient;
 import com.spendwise.client.dolarApi.DolarApiDTO;
 import com.spendwise.client.dolarApiHistorical.DolarApiHistoricalClient;
 import com.spendwise.client.dolarApiHistorical.DolarApiHistoricalDTO;
+import com.spendwise.dto.CursorPageDTO;
 import com.spendwise.dto.IncomeDTO;
 import com.spendwise.dto.IncomeFilterDTO;
-import com.spendwise.model.Category;
+import com.spendwise.dto.SliceDTO;
+import com.spendwise.dto.SparsePageDTO;
+import com.spendwise.mapper.CategoryMapper;
+import com.spendwise.mapper.CurrencyMapper;
+import com.spendwise.mapper.IncomeMapper;
 import com.spendwise.model.Currency;
 import com.spendwise.model.Income;
+import com.spendwise.projection.IncomeListRow;
+import com.spendwise.projection.SparseFields;
 import com.spendwise.repository.IncomeRepository;
+import com.spendwise.repository.SpecificationProjectionExecutor;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.service.interfaces.IIncomeService;
 import com.spendwise.spec.IncomeSpecification;
+import com.spendwise.spec.KeysetCursor;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,37 +38,45 @@ import com.spendwise.model.auth.User;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
 
 @Service
 public class IncomeService implements IIncomeService {
 
     private static final Logger log = LoggerFactory.getLogger(IncomeService.class);
-    private final ModelMapper modelMapper = new ModelMapper();
     private final DolarApiClient dolarApiClient;
     private final DolarApiHistoricalClient dolarApiHistoricalClient;
 
     private final IncomeRepository incomeRepository;
+    private final SpecificationProjectionExecutor projectionExecutor;
+    private final TtlCache<String, Long> countCache = new TtlCache<>(1000, Duration.ofSeconds(60));
+    private final IDataVersionService dataVersionService;
 
     @Autowired
     public IncomeService(
         IncomeRepository incomeRepository,
         DolarApiClient dolarApiClient,
-        DolarApiHistoricalClient dolarApiHistoricalClient
+        DolarApiHistoricalClient dolarApiHistoricalClient,
+        SpecificationProjectionExecutor projectionExecutor,
+        IDataVersionService dataVersionService
     ) {
         this.incomeRepository = incomeRepository;
         this.dolarApiClient = dolarApiClient;
         this.dolarApiHistoricalClient = dolarApiHistoricalClient;
+        this.projectionExecutor = projectionExecutor;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
     public void populate(Income income, IncomeDTO dto) {
         income.setDescription(dto.getDescription());
-        income.setSource(modelMapper.map(dto.getSource(), Category.class));
+        income.setSource(CategoryMapper.toEntity(dto.getSource()));
         income.setDate(dto.getDate());
 
         if (dto.getCurrency() != null && dto.getCurrency().getId() != null) {
-            Currency currency = modelMapper.map(dto.getCurrency(), Currency.class);
+            Currency currency = CurrencyMapper.toEntity(dto.getCurrency());
             income.setCurrency(currency);
             BigDecimal inputAmount = dto.getInputAmount() != null ? dto.getInputAmount() : dto.getAmountInPesos();
             if (isPesosCurrency(currency)) {
@@ -88,7 +106,8 @@ public class IncomeService implements IIncomeService {
         income.setUser(currentUser());
         Income savedIncome = incomeRepository.save(income);
         log.debug("Income with id {} created successfully", savedIncome.getId());
-        return modelMapper.map(savedIncome, IncomeDTO.class);
+        dataVersionService.bump(currentUser());
+        return IncomeMapper.toDTO(savedIncome);
     }
 
     @Transactional
@@ -96,15 +115,47 @@ public class IncomeService implements IIncomeService {
     public IncomeDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         Income income = find(id);
         log.debug("Income with id {} read successfully", income.getId());
-        return modelMapper.map(income, IncomeDTO.class);
+        return IncomeMapper.toDTO(income);
     }
 
     @Override
     public Page<IncomeDTO> list(IncomeFilterDTO filters, Pageable pageable) {
         log.debug("Listing all categories");
         Specification<Income> spec = IncomeSpecification.withFilters(filters, currentUser());
-        return incomeRepository.findAll(spec, pageable)
-                .map(income -> modelMapper.map(income, IncomeDTO.class));
+        return projectionExecutor.findPage(Income.class, IncomeListRow.class, IncomeListRow::columns, spec, pageable)
+                .map(IncomeListRow::toDTO);
+    }
+
+    @Override
+    public SparsePageDTO listSparse(IncomeFilterDTO filters, Pageable pageable, String fields, String refs) {
+        SparseFields.RefMode refMode = SparseFields.refMode(refs);
+        SparseFields<Income>.Selected selected = IncomeListRow.SPARSE_FIELDS.select(fields);
+        Specification<Income> spec = IncomeSpecification.withFilters(filters, currentUser());
+        return selected.toPage(projectionExecutor.findTuplePage(Income.class, selected::columns, spec, pageable),
+                refMode, projectionExecutor::findAllById);
+    }
+
+    @Override
+    public SliceDTO<IncomeDTO> listSlice(IncomeFilterDTO filters, Pageable pageable) {
+        Specification<Income> spec = IncomeSpecification.withFilters(filters, currentUser());
+        return SliceDTO.of(projectionExecutor.findSlice(Income.class, IncomeListRow.class, IncomeListRow::columns, spec, pageable)
+                .map(IncomeListRow::toDTO));
+    }
+
+    @Override
+    public long approximateCount(IncomeFilterDTO filters) {
+        User user = currentUser();
+        return countCache.getOrCompute(user.getId() + "|" + filters,
+                key -> incomeRepository.count(IncomeSpecification.withFilters(filters, user)));
+    }
+
+    @Override
+    public CursorPageDTO<IncomeDTO> listByCursor(IncomeFilterDTO filters, String cursor, Integer size) {
+        int limit = KeysetCursor.clampSize(size);
+        Specification<Income> spec = KeysetCursor.seek(IncomeSpecification.withFilters(filters, currentUser()), cursor);
+        List<Income> rows = incomeRepository.findBy(spec, q -> q.sortBy(KeysetCursor.ORDER).limit(limit + 1).all());
+        return KeysetCursor.toPage(rows, limit, Income::getDate, Income::getId,
+                IncomeMapper::toDTO);
     }
 
     @Transactional
@@ -114,7 +165,8 @@ public class IncomeService implements IIncomeService {
         this.populate(income, dto);
         Income updatedIncome = incomeRepository.save(income);
         log.debug("Income with id {} updated successfully", income.getId());
-        return modelMapper.map(updatedIncome, IncomeDTO.class);
+        dataVersionService.bump(currentUser());
+        return IncomeMapper.toDTO(updatedIncome);
     }
 
     @Transactional
@@ -123,7 +175,8 @@ public class IncomeService implements IIncomeService {
         Income income = find(id);
         incomeRepository.delete(income);
         log.debug("Income with id {} deleted successfully", income.getId());
-        return modelMapper.map(income, IncomeDTO.class);
+        dataVersionService.bump(currentUser());
+        return IncomeMapper.toDTO(income);
     }
 
     @Override
@@ -2,12 +2,13 @@ package com.spendwise.service;
 
 import com.spendwise.dto.IssuingEntityDTO;
 import com.spendwise.dto.IssuingEntityFilterDTO;
+import com.spendwise.mapper.IssuingEntityMapper;
 import com.spendwise.model.IssuingEntity;
 import com.spendwise.repository.IssuingEntityRepository;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.service.interfaces.IIssuingEntityService;
 import com.spendwise.spec.IssuingEntityEspecification;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,11 +27,12 @@ public class IssuingEntityService implements IIssuingEntityService {
     private static final Logger log = LoggerFactory.getLogger(IssuingEntityService.class);
 
     private final IssuingEntityRepository issuingEntityRepository;
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final IDataVersionService dataVersionService;
 
     @Autowired
-    public IssuingEntityService(IssuingEntityRepository issuingEntityRepository) {
+    public IssuingEntityService(IssuingEntityRepository issuingEntityRepository, IDataVersionService dataVersionService) {
         this.issuingEntityRepository = issuingEntityRepository;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
@@ -48,7 +50,8 @@ public class IssuingEntityService implements IIssuingEntityService {
         issuingEntity.setUser(currentUser());
         IssuingEntity saved = issuingEntityRepository.save(issuingEntity);
         log.debug("IssuingEntity with id {} created successfully", saved.getId());
-        return modelMapper.map(saved, IssuingEntityDTO.class);
+        dataVersionService.bump(currentUser());
+        return IssuingEntityMapper.toDTO(saved);
     }
 
     @Transactional
@@ -56,7 +59,7 @@ public class IssuingEntityService implements IIssuingEntityService {
     public IssuingEntityDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         IssuingEntity issuingEntity = find(id);
         log.debug("IssuingEntity with id {} read successfully", issuingEntity.getId());
-        return modelMapper.map(issuingEntity, IssuingEntityDTO.class);
+        return IssuingEntityMapper.toDTO(issuingEntity);
     }
 
     @Override
@@ -64,7 +67,7 @@ public class IssuingEntityService implements IIssuingEntityService {
         log.debug("Listing all issuing entities");
         Specification<IssuingEntity> spec = IssuingEntityEspecification.withFilters(filters, currentUser());
         return issuingEntityRepository.findAll(spec, pageable)
-                .map(entity -> modelMapper.map(entity, IssuingEntityDTO.class));
+                .map(IssuingEntityMapper::toDTO);
     }
 
     @Transactional
@@ -74,7 +77,8 @@ public class IssuingEntityService implements IIssuingEntityService {
         this.populate(issuingEntity, dto);
         IssuingEntity updated = issuingEntityRepository.save(issuingEntity);
         log.debug("IssuingEntity with id {} updated successfully", issuingEntity.getId());
-        return modelMapper.map(updated, IssuingEntityDTO.class);
+        dataVersionService.bump(currentUser());
+        return IssuingEntityMapper.toDTO(updated);
     }
 
     @Transactional
@@ -83,7 +87,8 @@ public class IssuingEntityService implements IIssuingEntityService {
         IssuingEntity issuingEntity = find(id);
         issuingEntityRepository.delete(issuingEntity);
         log.debug("IssuingEntity with id {} deleted successfully", issuingEntity.getId());
-        return modelMapper.map(issuingEntity, IssuingEntityDTO.class);
+        dataVersionService.bump(currentUser());
+        return IssuingEntityMapper.toDTO(issuingEntity);
     }
 
     @Transactional
@@ -93,7 +98,8 @@ public class IssuingEntityService implements IIssuingEntityService {
         issuingEntity.setEnabled(false);
         IssuingEntity saved = issuingEntityRepository.save(issuingEntity);
         log.debug("IssuingEntity with id {} disabled successfully", issuingEntity.getId());
-        return modelMapper.map(saved, IssuingEntityDTO.class);
+        dataVersionService.bump(currentUser());
+        return IssuingEntityMapper.toDTO(saved);
     }
 
     @Transactional
@@ -103,7 +109,8 @@ public class IssuingEntityService implements IIssuingEntityService {
         issuingEntity.setEnabled(true);
         IssuingEntity saved = issuingEntityRepository.save(issuingEntity);
         log.debug("IssuingEntity with id {} enabled successfully", issuingEntity.getId());
-        return modelMapper.map(saved, IssuingEntityDTO.class);
+        dataVersionService.bump(currentUser());
+        return IssuingEntityMapper.toDTO(saved);
     }
 
     protected IssuingEntity find(Long id) throws ChangeSetPersister.NotFoundException {
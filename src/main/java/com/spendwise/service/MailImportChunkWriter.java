@@ -0,0 +1,294 @@
+package com.spendwise.service;
+
+import com.spendwise.dto.CategoryDTO;
+import com.spendwise.dto.ExpenseDTO;
+import com.spendwise.dto.MailImportBulkConfirmDTO;
+import com.spendwise.dto.MailImportDTO;
+import com.spendwise.dto.PaymentMethodDTO;
+import com.spendwise.enums.MailImportStatus;
+import com.spendwise.mapper.MailImportMapper;
+import com.spendwise.model.CardExpense;
+import com.spendwise.model.Category;
+import com.spendwise.model.MailImport;
+import com.spendwise.model.MerchantBinding;
+import com.spendwise.model.PaymentMethod;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.CardExpenseRepository;
+import com.spendwise.repository.CategoryRepository;
+import com.spendwise.repository.ExpenseRepository;
+import com.spendwise.repository.MailImportRepository;
+import com.spendwise.repository.MerchantBindingRepository;
+import com.spendwise.repository.PaymentMethodRepository;
+import com.spendwise.service.interfaces.IDataVersionService;
+import com.spendwise.service.interfaces.IExpenseService;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Confirms or ignores one chunk of mail imports in its own transaction. The imports, the
+ * categories, the payment methods and the merchant bindings of the chunk are loaded with one
+ * query each; expenses go through {@link IExpenseService#createBulk}, which shares the FX
+ * lookups by date, and card expenses, bindings and the import rows are written with
+ * {@code saveAll}, so all of them leave as JDBC batches.
+ * <p>
+ * The FX rates of the chunk are HTTP calls, so {@link #sellingRates} resolves them before
+ * {@link #confirm} opens the transaction, and no pooled connection waits on them.
+ * <p>
+ * Imports that are no longer PENDING are returned as they are, so retrying a chunk that
+ * already went through changes nothing.
+ */
+@Service
+public class MailImportChunkWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(MailImportChunkWriter.class);
+
+    private final MailImportRepository mailImportRepository;
+    private final CategoryRepository categoryRepository;
+    private final PaymentMethodRepository paymentMethodRepository;
+    private final MerchantBindingRepository merchantBindingRepository;
+    private final CardExpenseRepository cardExpenseRepository;
+    private final ExpenseRepository expenseRepository;
+    private final IExpenseService expenseService;
+    private final IDataVersionService dataVersionService;
+
+    @Autowired
+    public MailImportChunkWriter(MailImportRepository mailImportRepository,
+                                 CategoryRepository categoryRepository,
+                                 PaymentMethodRepository paymentMethodRepository,
+                                 MerchantBindingRepository merchantBindingRepository,
+                                 CardExpenseRepository cardExpenseRepository,
+                                 ExpenseRepository expenseRepository,
+                                 IExpenseService expenseService,
+                                 IDataVersionService dataVersionService) {
+        this.mailImportRepository = mailImportRepository;
+        this.categoryRepository = categoryRepository;
+        this.paymentMethodRepository = paymentMethodRepository;
+        this.merchantBindingRepository = merchantBindingRepository;
+        this.cardExpenseRepository = cardExpenseRepository;
+        this.expenseRepository = expenseRepository;
+        this.expenseService = expenseService;
+        this.dataVersionService = dataVersionService;
+    }
+
+    /**
+     * The selling rates for the expenses {@link #confirm} would create from {@code items}.
+     * Not transactional: the imports are read in auto-commit, so the connection is back in
+     * the pool before the FX lookups start.
+     */
+    public Map<LocalDate, BigDecimal> sellingRates(List<MailImportBulkConfirmDTO> items, User user) {
+        Map<Long, MailImport> imports = load(items.stream().map(MailImportBulkConfirmDTO::getId).toList(), user);
+        Set<LocalDate> dates = new HashSet<>();
+        for (MailImportBulkConfirmDTO item : items) {
+            MailImport mailImport = imports.get(item.getId());
+            if (mailImport.getStatus() == MailImportStatus.PENDING && !isDebt(mailImport)) {
+                dates.add(dateOf(item, mailImport));
+            }
+        }
+        return dates.isEmpty() ? Map.of() : expenseService.sellingRates(dates);
+    }
+
+    @Transactional
+    public List<MailImportDTO> confirm(List<MailImportBulkConfirmDTO> items, User user, Map<LocalDate, BigDecimal> rates) {
+        Map<Long, MailImport> imports = load(items.stream().map(MailImportBulkConfirmDTO::getId).toList(), user);
+        List<MailImportBulkConfirmDTO> pending = new ArrayList<>();
+        Set<Long> queued = new HashSet<>();
+        for (MailImportBulkConfirmDTO item : items) {
+            MailImport mailImport = imports.get(item.getId());
+            // a repeated id is only confirmed the first time
+            if (mailImport.getStatus() == MailImportStatus.PENDING && queued.add(item.getId())) {
+                if (!isDebt(mailImport) && item.getCategoryId() == null) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "A category is required to confirm mail import " + item.getId());
+                }
+                pending.add(item);
+            }
+        }
+        if (!pending.isEmpty()) {
+            write(pending, imports, rates, user);
+        }
+        return items.stream().map(item -> MailImportMapper.toDTO(imports.get(item.getId()))).toList();
+    }
+
+    private void write(List<MailImportBulkConfirmDTO> pending, Map<Long, MailImport> imports,
+                       Map<LocalDate, BigDecimal> rates, User user) {
+        Map<Long, Category> categories = resolve(pending.stream().map(MailImportBulkConfirmDTO::getCategoryId).toList(),
+                ids -> categoryRepository.findAllByIdInAndUser(ids, user), Category::getId, "Category");
+        Map<Long, PaymentMethod> paymentMethods = resolve(pending.stream().map(MailImportBulkConfirmDTO::getPaymentMethodId).toList(),
+                ids -> paymentMethodRepository.findAllByIdInAndUser(ids, user), PaymentMethod::getId, "Payment method");
+
+        List<ExpenseDTO> expenses = new ArrayList<>();
+        List<MailImport> expenseImports = new ArrayList<>();
+        List<CardExpense> cardExpenses = new ArrayList<>();
+        Map<String, MerchantBinding> bindings = new LinkedHashMap<>();
+        Map<String, MerchantBinding> existing = bindings(pending, imports, user);
+
+        for (MailImportBulkConfirmDTO item : pending) {
+            MailImport mailImport = imports.get(item.getId());
+            String description = item.getDescription() != null ? item.getDescription() : mailImport.getParsedMerchant();
+            LocalDate date = dateOf(item, mailImport);
+            PaymentMethod paymentMethod = item.getPaymentMethodId() == null ? null : paymentMethods.get(item.getPaymentMethodId());
+            Category category = null;
+
+            if (isDebt(mailImport)) {
+                cardExpenses.add(toCardExpense(mailImport, description, date, paymentMethod, user));
+            } else {
+                category = categories.get(item.getCategoryId());
+                expenses.add(toExpense(mailImport, description, date, category, paymentMethod));
+                expenseImports.add(mailImport);
+            }
+            mailImport.setStatus(MailImportStatus.CONFIRMED);
+
+            if (mailImport.getParsedMerchant() != null) {
+                String merchant = mailImport.getParsedMerchant().toLowerCase(Locale.ROOT);
+                MerchantBinding binding = bindings.computeIfAbsent(merchant, key -> {
+                    MerchantBinding found = existing.get(key);
+                    return found != null ? found : newBinding(mailImport, user);
+                });
+                binding.setDescription(description);
+                binding.setCategory(category);
+                binding.setPaymentMethod(paymentMethod);
+            }
+        }
+
+        if (!expenses.isEmpty()) {
+            List<ExpenseDTO> created = expenseService.createBulk(expenses, rates);
+            for (int i = 0; i < created.size(); i++) {
+                // the expenses were just persisted in this transaction, so this is no query
+                expenseImports.get(i).setExpense(expenseRepository.getReferenceById(created.get(i).getId()));
+            }
+        }
+        cardExpenseRepository.saveAll(cardExpenses);
+        merchantBindingRepository.saveAll(bindings.values());
+        mailImportRepository.saveAll(pending.stream().map(item -> imports.get(item.getId())).toList());
+        dataVersionService.bump(user);
+
+        log.debug("Bulk confirmed {} mail import(s): {} expense(s), {} card expense(s), {} binding(s)",
+                pending.size(), expenses.size(), cardExpenses.size(), bindings.size());
+    }
+
+    @Transactional
+    public List<MailImportDTO> ignore(List<Long> ids, User user) {
+        Map<Long, MailImport> imports = load(ids, user);
+        List<MailImport> ignored = imports.values().stream()
+                .filter(mailImport -> mailImport.getStatus() == MailImportStatus.PENDING)
+                .toList();
+        if (!ignored.isEmpty()) {
+            ignored.forEach(mailImport -> mailImport.setStatus(MailImportStatus.IGNORED));
+            mailImportRepository.saveAll(ignored);
+            dataVersionService.bump(user);
+            log.debug("Bulk ignored {} mail import(s)", ignored.size());
+        }
+        return ids.stream().map(id -> MailImportMapper.toDTO(imports.get(id))).toList();
+    }
+
+    private Map<Long, MailImport> load(List<Long> ids, User user) {
+        if (ids.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Mail import id is required");
+        }
+        return resolve(ids, distinct -> mailImportRepository.findAllByIdInAndUser(distinct, user), MailImport::getId, "Mail import");
+    }
+
+    /** The user's bindings for the merchants of the chunk, keyed by lower-cased merchant name. */
+    private Map<String, MerchantBinding> bindings(List<MailImportBulkConfirmDTO> pending, Map<Long, MailImport> imports, User user) {
+        List<String> merchants = pending.stream()
+                .map(item -> imports.get(item.getId()).getParsedMerchant())
+                .filter(Objects::nonNull)
+                .map(merchant -> merchant.toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+        Map<String, MerchantBinding> bindings = new HashMap<>();
+        if (merchants.isEmpty()) return bindings;
+        for (MerchantBinding binding : merchantBindingRepository.findAllByUserAndMerchantNamesIgnoreCase(user, merchants)) {
+            bindings.putIfAbsent(binding.getMerchantName().toLowerCase(Locale.ROOT), binding);
+        }
+        return bindings;
+    }
+
+    /**
+     * Loads the distinct non-null {@code ids} with a single query; an id that is not the
+     * user's fails the whole chunk.
+     */
+    private static <E> Map<Long, E> resolve(List<Long> ids, Function<Collection<Long>, List<E>> loader,
+                                            Function<E, Long> entityId, String name) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.isEmpty()) return Map.of();
+        Map<Long, E> found = loader.apply(distinct).stream().collect(Collectors.toMap(entityId, Function.identity()));
+        for (Long id : distinct) {
+            if (!found.containsKey(id)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, name + " " + id + " not found");
+            }
+        }
+        return found;
+    }
+
+    private static LocalDate dateOf(MailImportBulkConfirmDTO item, MailImport mailImport) {
+        return item.getDate() != null ? item.getDate()
+                : mailImport.getParsedDate() != null ? mailImport.getParsedDate()
+                : LocalDate.now();
+    }
+
+    private static boolean isDebt(MailImport mailImport) {
+        return Boolean.TRUE.equals(mailImport.getParsedIsDebt());
+    }
+
+    private static ExpenseDTO toExpense(MailImport mailImport, String description, LocalDate date,
+                                        Category category, PaymentMethod paymentMethod) {
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setDescription(description);
+        dto.setAmountInPesos(mailImport.getParsedAmount());
+        dto.setInputAmount(mailImport.getParsedAmount());
+        dto.setDate(date);
+
+        CategoryDTO categoryDTO = new CategoryDTO();
+        categoryDTO.setId(category.getId());
+        categoryDTO.setName(category.getName());
+        dto.setCategory(categoryDTO);
+        if (paymentMethod != null) {
+            PaymentMethodDTO paymentMethodDTO = new PaymentMethodDTO();
+            paymentMethodDTO.setId(paymentMethod.getId());
+            paymentMethodDTO.setName(paymentMethod.getName());
+            dto.setPaymentMethod(paymentMethodDTO);
+        }
+        return dto;
+    }
+
+    private static CardExpense toCardExpense(MailImport mailImport, String description, LocalDate date,
+                                             PaymentMethod paymentMethod, User user) {
+        CardExpense cardExpense = new CardExpense();
+        cardExpense.setDescription(description);
+        cardExpense.setAmountInPesos(mailImport.getParsedAmount());
+        cardExpense.setDate(date);
+        cardExpense.setPaymentMethod(paymentMethod);
+        cardExpense.setCancelled(false);
+        cardExpense.setUser(user);
+        return cardExpense;
+    }
+
+    private static MerchantBinding newBinding(MailImport mailImport, User user) {
+        MerchantBinding binding = new MerchantBinding();
+        binding.setUser(user);
+        binding.setMerchantName(mailImport.getParsedMerchant());
+        return binding;
+    }
+
+}
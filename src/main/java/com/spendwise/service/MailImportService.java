@@ -2,12 +2,14 @@ package com.spendwise.service;
 
 import com.spendwise.dto.CardExpenseDTO;
 import com.spendwise.dto.ExpenseDTO;
+import com.spendwise.dto.MailImportBulkConfirmDTO;
 import com.spendwise.dto.MailImportConfirmDTO;
 import com.spendwise.dto.MailImportDTO;
 import com.spendwise.dto.MailImportFilterDTO;
 import com.spendwise.dto.MerchantBindingDTO;
 import com.spendwise.dto.PaymentMethodDTO;
 import com.spendwise.enums.MailImportStatus;
+import com.spendwise.mapper.MailImportMapper;
 import com.spendwise.model.Category;
 import com.spendwise.model.MailImport;
 import com.spendwise.model.MerchantBinding;
@@ -18,11 +20,11 @@ import com.spendwise.repository.MailImportRepository;
 import com.spendwise.repository.MerchantBindingRepository;
 import com.spendwise.repository.PaymentMethodRepository;
 import com.spendwise.service.interfaces.ICardExpenseService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.service.interfaces.IExpenseService;
 import com.spendwise.service.interfaces.IMailImportService;
 import com.spendwise.spec.MailImportSpecification;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,15 +32,22 @@ import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
 
 @Service
 public class MailImportService implements IMailImportService {
 
     private static final Logger log = LoggerFactory.getLogger(MailImportService.class);
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final int CHUNK_SIZE = 200;
 
     private final MailImportRepository mailImportRepository;
     private final CategoryRepository categoryRepository;
@@ -46,7 +55,8 @@ public class MailImportService implements IMailImportService {
     private final MerchantBindingRepository merchantBindingRepository;
     private final IExpenseService expenseService;
     private final ICardExpenseService cardExpenseService;
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final IDataVersionService dataVersionService;
+    private final MailImportChunkWriter chunkWriter;
 
     @Autowired
     public MailImportService(
@@ -55,25 +65,29 @@ public class MailImportService implements IMailImportService {
             PaymentMethodRepository paymentMethodRepository,
             MerchantBindingRepository merchantBindingRepository,
             IExpenseService expenseService,
-            ICardExpenseService cardExpenseService) {
+            ICardExpenseService cardExpenseService,
+            IDataVersionService dataVersionService,
+            MailImportChunkWriter chunkWriter) {
         this.mailImportRepository = mailImportRepository;
         this.categoryRepository = categoryRepository;
         this.paymentMethodRepository = paymentMethodRepository;
         this.merchantBindingRepository = merchantBindingRepository;
         this.expenseService = expenseService;
         this.cardExpenseService = cardExpenseService;
+        this.dataVersionService = dataVersionService;
+        this.chunkWriter = chunkWriter;
     }
 
     @Override
     public Page<MailImportDTO> list(MailImportFilterDTO filters, Pageable pageable) {
         Specification<MailImport> spec = MailImportSpecification.withFilters(filters, currentUser());
         return mailImportRepository.findAll(spec, pageable)
-                .map(m -> modelMapper.map(m, MailImportDTO.class));
+                .map(MailImportMapper::toDTO);
     }
 
     @Override
     public MailImportDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
-        return modelMapper.map(find(id), MailImportDTO.class);
+        return MailImportMapper.toDTO(find(id));
     }
 
     @Transactional
@@ -137,7 +151,8 @@ public class MailImportService implements IMailImportService {
             mailImport.setStatus(MailImportStatus.CONFIRMED);
             MailImport saved = mailImportRepository.save(mailImport);
             log.debug("MailImport {} confirmed as CardExpense (entity={})", mailImport.getId(), mailImport.getSenderEntity());
-            return modelMapper.map(saved, MailImportDTO.class);
+            dataVersionService.bump(user);
+            return MailImportMapper.toDTO(saved);
         }
 
         // ── Regular payment → create Expense ────────────────────────────────
@@ -176,7 +191,8 @@ public class MailImportService implements IMailImportService {
 
         MailImport saved = mailImportRepository.save(mailImport);
         log.debug("MailImport {} confirmed, Expense {} created", mailImport.getId(), createdExpense.getId());
-        return modelMapper.map(saved, MailImportDTO.class);
+        dataVersionService.bump(user);
+        return MailImportMapper.toDTO(saved);
     }
 
     @Transactional
@@ -186,7 +202,40 @@ public class MailImportService implements IMailImportService {
         mailImport.setStatus(MailImportStatus.IGNORED);
         MailImport saved = mailImportRepository.save(mailImport);
         log.debug("MailImport {} ignored", id);
-        return modelMapper.map(saved, MailImportDTO.class);
+        dataVersionService.bump(currentUser());
+        return MailImportMapper.toDTO(saved);
+    }
+
+    /**
+     * Confirms a backlog of imports in chunks of {@value #CHUNK_SIZE}, each in its own
+     * transaction; see {@link MailImportChunkWriter}. A failing chunk leaves the earlier ones
+     * committed, and sending the same list again skips what is no longer PENDING. The FX
+     * rates of a chunk are resolved before its transaction opens.
+     */
+    @Override
+    public List<MailImportDTO> confirmBulk(List<MailImportBulkConfirmDTO> items) {
+        return inChunks(items, (chunk, user) -> chunkWriter.confirm(chunk, user, chunkWriter.sellingRates(chunk, user)));
+    }
+
+    @Override
+    public List<MailImportDTO> ignoreBulk(List<Long> ids) {
+        return inChunks(ids, chunkWriter::ignore);
+    }
+
+    private <T> List<MailImportDTO> inChunks(List<T> items, BiFunction<List<T>, User, List<MailImportDTO>> writer) {
+        if (items == null || items.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one mail import is required");
+        }
+        if (items.size() > MAX_BULK_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BULK_SIZE + " mail imports can be processed at once");
+        }
+        User user = currentUser();
+        List<MailImportDTO> result = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += CHUNK_SIZE) {
+            result.addAll(writer.apply(items.subList(from, Math.min(from + CHUNK_SIZE, items.size())), user));
+        }
+        return result;
     }
 
     @Override
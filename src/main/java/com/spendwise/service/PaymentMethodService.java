@@ -3,14 +3,15 @@ package com.spendwise.service;
 import com.spendwise.dto.PaymentMethodDTO;
 import com.spendwise.dto.PaymentMethodFilterDTO;
 import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.mapper.PaymentMethodMapper;
 import com.spendwise.model.IssuingEntity;
 import com.spendwise.model.PaymentMethod;
 import com.spendwise.repository.IssuingEntityRepository;
 import com.spendwise.repository.PaymentMethodRepository;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.service.interfaces.IPaymentMethodService;
 import com.spendwise.spec.PaymentMethodEspecification;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,13 +31,15 @@ public class PaymentMethodService implements IPaymentMethodService {
 
     private final PaymentMethodRepository paymentMethodRepository;
     private final IssuingEntityRepository issuingEntityRepository;
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final IDataVersionService dataVersionService;
 
     @Autowired
     public PaymentMethodService(PaymentMethodRepository paymentMethodRepository,
-                                IssuingEntityRepository issuingEntityRepository) {
+                                IssuingEntityRepository issuingEntityRepository,
+                                IDataVersionService dataVersionService) {
         this.paymentMethodRepository = paymentMethodRepository;
         this.issuingEntityRepository = issuingEntityRepository;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
@@ -63,7 +66,8 @@ public class PaymentMethodService implements IPaymentMethodService {
         paymentMethod.setUser(currentUser());
         PaymentMethod savedPaymentMethod = paymentMethodRepository.save(paymentMethod);
         log.debug("PaymentMethod with id {} created successfully", savedPaymentMethod.getId());
-        return modelMapper.map(savedPaymentMethod, PaymentMethodDTO.class);
+        dataVersionService.bump(currentUser());
+        return PaymentMethodMapper.toDTO(savedPaymentMethod);
     }
 
     @Transactional
@@ -71,7 +75,7 @@ public class PaymentMethodService implements IPaymentMethodService {
     public PaymentMethodDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         PaymentMethod paymentMethod = find(id);
         log.debug("PaymentMethod with id {} read successfully", paymentMethod.getId());
-        return modelMapper.map(paymentMethod, PaymentMethodDTO.class);
+        return PaymentMethodMapper.toDTO(paymentMethod);
     }
 
     @Override
@@ -79,7 +83,7 @@ public class PaymentMethodService implements IPaymentMethodService {
         log.debug("Listing all payment methods");
         Specification<PaymentMethod> spec = PaymentMethodEspecification.withFilters(filters, currentUser());
         return paymentMethodRepository.findAll(spec, pageable)
-                .map(paymentMethod -> modelMapper.map(paymentMethod, PaymentMethodDTO.class));
+                .map(PaymentMethodMapper::toDTO);
     }
 
     @Transactional
@@ -89,7 +93,8 @@ public class PaymentMethodService implements IPaymentMethodService {
         this.populate(paymentMethod, dto);
         PaymentMethod updatedPaymentMethod = paymentMethodRepository.save(paymentMethod);
         log.debug("PaymentMethod with id {} updated successfully", paymentMethod.getId());
-        return modelMapper.map(updatedPaymentMethod, PaymentMethodDTO.class);
+        dataVersionService.bump(currentUser());
+        return PaymentMethodMapper.toDTO(updatedPaymentMethod);
     }
 
     @Transactional
@@ -98,7 +103,8 @@ public class PaymentMethodService implements IPaymentMethodService {
         PaymentMethod paymentMethod = find(id);
         paymentMethodRepository.delete(paymentMethod);
         log.debug("PaymentMethod with id {} deleted successfully", paymentMethod.getId());
-        return modelMapper.map(paymentMethod, PaymentMethodDTO.class);
+        dataVersionService.bump(currentUser());
+        return PaymentMethodMapper.toDTO(paymentMethod);
     }
 
     @Transactional
@@ -108,7 +114,8 @@ public class PaymentMethodService implements IPaymentMethodService {
         paymentMethod.setEnabled(false);
         PaymentMethod savedPaymentMethod = paymentMethodRepository.save(paymentMethod);
         log.debug("PaymentMethod with id {} disabled successfully", paymentMethod.getId());
-        return modelMapper.map(savedPaymentMethod, PaymentMethodDTO.class);
+        dataVersionService.bump(currentUser());
+        return PaymentMethodMapper.toDTO(savedPaymentMethod);
     }
 
     @Transactional
@@ -118,7 +125,8 @@ public class PaymentMethodService implements IPaymentMethodService {
         paymentMethod.setEnabled(true);
         PaymentMethod savedPaymentMethod = paymentMethodRepository.save(paymentMethod);
         log.debug("Payment Method with id {} enabled successfully", paymentMethod.getId());
-        return modelMapper.map(savedPaymentMethod, PaymentMethodDTO.class);
+        dataVersionService.bump(currentUser());
+        return PaymentMethodMapper.toDTO(savedPaymentMethod);
     }
 
     protected PaymentMethod find(Long id) throws ChangeSetPersister.NotFoundException {
@@ -2,13 +2,15 @@ package com.spendwise.service;
 
 import com.spendwise.dto.PersonalDebtDTO;
 import com.spendwise.dto.PersonalDebtFilterDTO;
+import com.spendwise.mapper.CurrencyMapper;
+import com.spendwise.mapper.PersonalDebtMapper;
 import com.spendwise.model.Currency;
 import com.spendwise.model.PersonalDebt;
 import com.spendwise.repository.PersonalDebtRepository;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.service.interfaces.IPersonalDebtService;
 import com.spendwise.spec.PersonalDebtSpecification;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.crossstore.ChangeSetPersister;
@@ -28,10 +30,11 @@ public class PersonalDebtService implements IPersonalDebtService {
     private static final Logger log = LoggerFactory.getLogger(PersonalDebtService.class);
 
     private final PersonalDebtRepository personalDebtRepository;
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final IDataVersionService dataVersionService;
 
-    public PersonalDebtService(PersonalDebtRepository personalDebtRepository) {
+    public PersonalDebtService(PersonalDebtRepository personalDebtRepository, IDataVersionService dataVersionService) {
         this.personalDebtRepository = personalDebtRepository;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
@@ -42,7 +45,7 @@ public class PersonalDebtService implements IPersonalDebtService {
         entity.setCreditor(dto.getCreditor());
 
         if (dto.getCurrency() != null && dto.getCurrency().getId() != null) {
-            Currency currency = modelMapper.map(dto.getCurrency(), Currency.class);
+            Currency currency = CurrencyMapper.toEntity(dto.getCurrency());
             entity.setCurrency(currency);
             BigDecimal inputAmount = dto.getInputAmount() != null ? dto.getInputAmount() : dto.getAmountInPesos();
             if (isPesosCurrency(currency)) {
@@ -73,20 +76,21 @@ public class PersonalDebtService implements IPersonalDebtService {
         entity.setUser(currentUser());
         PersonalDebt saved = personalDebtRepository.save(entity);
         log.debug("PersonalDebt with id {} created successfully", saved.getId());
-        return modelMapper.map(saved, PersonalDebtDTO.class);
+        dataVersionService.bump(currentUser());
+        return PersonalDebtMapper.toDTO(saved);
     }
 
     @Override
     public PersonalDebtDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         PersonalDebt entity = find(id);
-        return modelMapper.map(entity, PersonalDebtDTO.class);
+        return PersonalDebtMapper.toDTO(entity);
     }
 
     @Override
     public Page<PersonalDebtDTO> list(PersonalDebtFilterDTO filters, Pageable pageable) {
         Specification<PersonalDebt> spec = PersonalDebtSpecification.withFilters(filters, currentUser());
         return personalDebtRepository.findAll(spec, pageable)
-                .map(e -> modelMapper.map(e, PersonalDebtDTO.class));
+                .map(PersonalDebtMapper::toDTO);
     }
 
     @Transactional
@@ -96,7 +100,8 @@ public class PersonalDebtService implements IPersonalDebtService {
         this.populate(entity, dto);
         PersonalDebt updated = personalDebtRepository.save(entity);
         log.debug("PersonalDebt with id {} updated successfully", id);
-        return modelMapper.map(updated, PersonalDebtDTO.class);
+        dataVersionService.bump(currentUser());
+        return PersonalDebtMapper.toDTO(updated);
     }
 
     @Transactional
@@ -105,7 +110,8 @@ public class PersonalDebtService implements IPersonalDebtService {
         PersonalDebt entity = find(id);
         personalDebtRepository.delete(entity);
         log.debug("PersonalDebt with id {} deleted successfully", id);
-        return modelMapper.map(entity, PersonalDebtDTO.class);
+        dataVersionService.bump(currentUser());
+        return PersonalDebtMapper.toDTO(entity);
     }
 
     @Transactional
@@ -115,7 +121,8 @@ public class PersonalDebtService implements IPersonalDebtService {
         entity.setCancelled(true);
         PersonalDebt saved = personalDebtRepository.save(entity);
         log.debug("PersonalDebt with id {} cancelled successfully", id);
-        return modelMapper.map(saved, PersonalDebtDTO.class);
+        dataVersionService.bump(currentUser());
+        return PersonalDebtMapper.toDTO(saved);
     }
 
     @Transactional
@@ -125,7 +132,8 @@ public class PersonalDebtService implements IPersonalDebtService {
         entity.setCancelled(false);
         PersonalDebt saved = personalDebtRepository.save(entity);
         log.debug("PersonalDebt with id {} uncancelled successfully", id);
-        return modelMapper.map(saved, PersonalDebtDTO.class);
+        dataVersionService.bump(currentUser());
+        return PersonalDebtMapper.toDTO(saved);
     }
 
     protected PersonalDebt find(Long id) throws ChangeSetPersister.NotFoundException {
@@ -0,0 +1,91 @@
+package com.spendwise.service;
+
+import com.spendwise.model.auth.PrincipalInvalidation;
+import com.spendwise.repository.PrincipalInvalidationRepository;
+import com.spendwise.security.PrincipalCache;
+import com.spendwise.service.interfaces.IPrincipalInvalidationService;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evicts cached principals on every node. {@link #invalidate} writes a row in the caller's
+ * transaction and evicts this node's entry once it commits; the other nodes pick the row up
+ * on their next {@link #applyRemote} poll. A node starts from the newest row there is, as
+ * its cache starts empty anyway.
+ * <p>
+ * A row committed after a newer id was already polled is missed; the cache TTL bounds how
+ * long such an entry can outlive its change.
+ */
+@Service
+public class PrincipalInvalidationService implements IPrincipalInvalidationService {
+
+    private static final Logger log = LoggerFactory.getLogger(PrincipalInvalidationService.class);
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    private final PrincipalInvalidationRepository repository;
+    private final PrincipalCache principalCache;
+    private final AtomicLong lastSeenId = new AtomicLong(-1);
+
+    @Autowired
+    public PrincipalInvalidationService(PrincipalInvalidationRepository repository, PrincipalCache principalCache) {
+        this.repository = repository;
+        this.principalCache = principalCache;
+    }
+
+    @Transactional
+    @Override
+    public void invalidate(String email) {
+        if (email == null) return;
+        PrincipalInvalidation invalidation = new PrincipalInvalidation();
+        invalidation.setEmail(email);
+        invalidation.setCreatedAt(LocalDateTime.now());
+        repository.save(invalidation);
+        afterCommit(() -> principalCache.evict(email));
+        log.debug("Principal of {} invalidated", email);
+    }
+
+    @Override
+    public int applyRemote() {
+        long lastSeen = lastSeenId.get();
+        if (lastSeen < 0) {
+            lastSeenId.compareAndSet(lastSeen, repository.findMaxId().orElse(0L));
+            return 0;
+        }
+        List<PrincipalInvalidation> invalidations = repository.findAllByIdGreaterThanOrderByIdAsc(lastSeen);
+        for (PrincipalInvalidation invalidation : invalidations) {
+            principalCache.evict(invalidation.getEmail());
+            lastSeenId.accumulateAndGet(invalidation.getId(), Math::max);
+        }
+        return invalidations.size();
+    }
+
+    @Transactional
+    @Override
+    public int purgeExpired() {
+        return repository.deleteCreatedBefore(LocalDateTime.now().minus(RETENTION));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+}
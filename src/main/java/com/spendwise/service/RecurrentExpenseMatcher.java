@@ -0,0 +1,164 @@
+package com.spendwise.service;
+
+import com.spendwise.event.DomainEventHandler;
+import com.spendwise.event.ExpenseCreated;
+import com.spendwise.model.Expense;
+import com.spendwise.model.RecurrentExpense;
+import com.spendwise.model.RecurrentExpenseRecord;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.ExpenseRepository;
+import com.spendwise.repository.RecurrentExpenseRecordRepository;
+import com.spendwise.repository.RecurrentExpenseRepository;
+import com.spendwise.repository.UserRepository;
+import com.spendwise.service.interfaces.IDataVersionService;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Marks this month's record of a recurrent expense as paid when an expense with the same
+ * description is created, and keeps the recurrent expense's amount in line with what was
+ * actually paid. Runs after the expense commit, in a transaction of its own, and bumps the
+ * user's data version again when it changed anything.
+ */
+@Service
+public class RecurrentExpenseMatcher implements DomainEventHandler<ExpenseCreated> {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurrentExpenseMatcher.class);
+    private final ExpenseRepository expenseRepository;
+    private final RecurrentExpenseRepository recurrentExpenseRepository;
+    private final RecurrentExpenseRecordRepository recurrentExpenseRecordRepository;
+    private final UserRepository userRepository;
+    private final IDataVersionService dataVersionService;
+
+    @Autowired
+    public RecurrentExpenseMatcher(ExpenseRepository expenseRepository,
+                                   RecurrentExpenseRepository recurrentExpenseRepository,
+                                   RecurrentExpenseRecordRepository recurrentExpenseRecordRepository,
+                                   UserRepository userRepository,
+                                   IDataVersionService dataVersionService) {
+        this.expenseRepository = expenseRepository;
+        this.recurrentExpenseRepository = recurrentExpenseRepository;
+        this.recurrentExpenseRecordRepository = recurrentExpenseRecordRepository;
+        this.userRepository = userRepository;
+        this.dataVersionService = dataVersionService;
+    }
+
+    @Override
+    public Class<ExpenseCreated> eventType() {
+        return ExpenseCreated.class;
+    }
+
+    /**
+     * {@code REQUIRES_NEW}: when the bus's queue is full this runs on the publishing thread,
+     * inside the expense transaction's {@code afterCommit}; joining that transaction there
+     * would silently drop every write.
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @Override
+    public void handle(ExpenseCreated event) {
+        // expenses deleted since the commit are simply not found
+        Map<Long, Expense> found = expenseRepository.findAllById(event.expenseIds()).stream()
+                .collect(Collectors.toMap(Expense::getId, Function.identity()));
+        List<Expense> expenses = event.expenseIds().stream().map(found::get).filter(Objects::nonNull).toList();
+        if (expenses.isEmpty()) return;
+
+        User user = userRepository.getReferenceById(event.userId());
+        int matched = expenses.size() == 1
+                ? autoCancelRecurrentExpense(expenses.get(0), user)
+                : autoCancelRecurrentExpenses(expenses, user);
+        if (matched > 0) {
+            dataVersionService.bump(user);
+        }
+    }
+
+    private int autoCancelRecurrentExpense(Expense expense, User user) {
+        return recurrentExpenseRepository
+                .findByDescriptionIgnoreCaseAndUserAndEnabledTrue(expense.getDescription(), user)
+                .map(recurrentExpense -> {
+                    cancelCurrentMonth(recurrentExpense, expense, user);
+                    return 1;
+                })
+                .orElse(0);
+    }
+
+    /**
+     * Bulk counterpart of {@link #autoCancelRecurrentExpense}: matches descriptions against the
+     * user's enabled recurrent expenses in memory, and when several new expenses match the same
+     * one only the last of them is recorded, as creating them one by one would leave it.
+     */
+    private int autoCancelRecurrentExpenses(List<Expense> expenses, User user) {
+        Map<String, RecurrentExpense> byDescription = new HashMap<>();
+        for (RecurrentExpense recurrentExpense : recurrentExpenseRepository.findAllByUserAndEnabledTrue(user)) {
+            if (recurrentExpense.getDescription() != null) {
+                byDescription.putIfAbsent(recurrentExpense.getDescription().toLowerCase(Locale.ROOT), recurrentExpense);
+            }
+        }
+        if (byDescription.isEmpty()) return 0;
+
+        Map<RecurrentExpense, Expense> matches = new IdentityHashMap<>();
+        for (Expense expense : expenses) {
+            if (expense.getDescription() == null) continue;
+            RecurrentExpense recurrentExpense = byDescription.get(expense.getDescription().toLowerCase(Locale.ROOT));
+            if (recurrentExpense != null) matches.put(recurrentExpense, expense);
+        }
+        matches.forEach((recurrentExpense, expense) -> cancelCurrentMonth(recurrentExpense, expense, user));
+        return matches.size();
+    }
+
+    private void cancelCurrentMonth(RecurrentExpense recurrentExpense, Expense expense, User user) {
+        LocalDate today = LocalDate.now();
+        int month = today.getMonthValue();
+        int year = today.getYear();
+
+        RecurrentExpenseRecord record = recurrentExpenseRecordRepository
+                .findByRecurrentExpenseAndMonthAndYear(recurrentExpense, month, year)
+                .orElseGet(() -> {
+                    RecurrentExpenseRecord newRecord = new RecurrentExpenseRecord();
+                    newRecord.setRecurrentExpense(recurrentExpense);
+                    newRecord.setMonth(month);
+                    newRecord.setYear(year);
+                    newRecord.setUser(user);
+                    return newRecord;
+                });
+
+        record.setCancelled(true);
+        record.setExpense(expense);
+        recurrentExpenseRecordRepository.save(record);
+        log.debug("RecurrentExpenseRecord auto-cancelled for recurrentExpense id {} ({}/{})",
+                recurrentExpense.getId(), month, year);
+
+        syncAmountIfChanged(expense, recurrentExpense);
+    }
+
+    private void syncAmountIfChanged(Expense expense, RecurrentExpense recurrentExpense) {
+        boolean isPesos = ExpenseService.isPesosCurrency(expense.getCurrency());
+
+        BigDecimal expenseAmount  = isPesos ? expense.getAmountInPesos() : expense.getAmountInDollars();
+        BigDecimal recurrentAmount = isPesos ? recurrentExpense.getAmountInPesos() : recurrentExpense.getAmountInDollars();
+
+        if (expenseAmount == null) return;
+
+        if (recurrentAmount == null || expenseAmount.compareTo(recurrentAmount) != 0) {
+            recurrentExpense.setAmountInPesos(expense.getAmountInPesos());
+            recurrentExpense.setAmountInDollars(expense.getAmountInDollars());
+            recurrentExpenseRepository.save(recurrentExpense);
+            log.debug("RecurrentExpense id {} amount updated to ARS={} USD={}",
+                    recurrentExpense.getId(), expense.getAmountInPesos(), expense.getAmountInDollars());
+        }
+    }
+
+}
@@ -2,35 +2,48 @@ package com.spendwise.service;
 
 import com.spendwise.dto.RecurrentExpenseRecordDTO;
 import com.spendwise.dto.RecurrentExpenseRecordFilterDTO;
-import com.spendwise.model.Expense;
-import com.spendwise.model.RecurrentExpense;
+import com.spendwise.mapper.ExpenseMapper;
+import com.spendwise.mapper.RecurrentExpenseMapper;
+import com.spendwise.mapper.RecurrentExpenseRecordMapper;
 import com.spendwise.model.RecurrentExpenseRecord;
 import com.spendwise.model.auth.User;
 import com.spendwise.repository.RecurrentExpenseRecordRepository;
+import com.spendwise.repository.RecurrentExpenseRepository;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.service.interfaces.IRecurrentExpenseRecordService;
 import com.spendwise.spec.RecurrentExpenseRecordSpecification;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
 
 @Service
 public class RecurrentExpenseRecordService implements IRecurrentExpenseRecordService {
 
     private static final Logger log = LoggerFactory.getLogger(RecurrentExpenseRecordService.class);
-    private final ModelMapper modelMapper = new ModelMapper();
+    private static final long MATERIALIZE_WINDOW = 1000;
     private final RecurrentExpenseRecordRepository recordRepository;
+    private final RecurrentExpenseRepository recurrentExpenseRepository;
+    private final IDataVersionService dataVersionService;
 
     @Autowired
-    public RecurrentExpenseRecordService(RecurrentExpenseRecordRepository recordRepository) {
+    public RecurrentExpenseRecordService(RecurrentExpenseRecordRepository recordRepository,
+                                         RecurrentExpenseRepository recurrentExpenseRepository,
+                                         IDataVersionService dataVersionService) {
         this.recordRepository = recordRepository;
+        this.recurrentExpenseRepository = recurrentExpenseRepository;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
@@ -39,22 +52,61 @@ public class RecurrentExpenseRecordService implements IRecurrentExpenseRecordSer
         record.setYear(dto.getYear());
         record.setCancelled(dto.getCancelled());
         if (dto.getRecurrentExpense() != null) {
-            record.setRecurrentExpense(modelMapper.map(dto.getRecurrentExpense(), RecurrentExpense.class));
+            record.setRecurrentExpense(RecurrentExpenseMapper.toEntity(dto.getRecurrentExpense()));
         }
         if (dto.getExpense() != null) {
-            record.setExpense(modelMapper.map(dto.getExpense(), Expense.class));
+            record.setExpense(ExpenseMapper.toEntity(dto.getExpense()));
         }
     }
 
+    /**
+     * Creates the record of a period, or updates it when the monthly job already materialized
+     * it, so marking this month paid or cancelled works whether or not the job ran first.
+     * Only linking a different expense to a period that already has one is a conflict.
+     */
     @Transactional
     @Override
     public RecurrentExpenseRecordDTO create(RecurrentExpenseRecordDTO dto) {
         RecurrentExpenseRecord record = new RecurrentExpenseRecord();
         this.populate(record, dto);
-        record.setUser(currentUser());
-        RecurrentExpenseRecord saved = recordRepository.save(record);
+        User user = currentUser();
+        record.setUser(user);
+        Long recurrentExpenseId = record.getRecurrentExpense() != null ? record.getRecurrentExpense().getId() : null;
+        if (recurrentExpenseId != null) {
+            Optional<RecurrentExpenseRecord> existing = recordRepository.findByRecurrentExpenseIdAndMonthAndYearAndUser(
+                    recurrentExpenseId, record.getMonth(), record.getYear(), user);
+            if (existing.isPresent()) {
+                return updatePeriod(existing.get(), record);
+            }
+        }
+        RecurrentExpenseRecord saved;
+        try {
+            saved = recordRepository.saveAndFlush(record);
+        } catch (DataIntegrityViolationException e) {
+            // created concurrently, e.g. by the job between the lookup and the insert
+            throw periodTaken();
+        }
         log.debug("RecurrentExpenseRecord with id {} created successfully", saved.getId());
-        return modelMapper.map(saved, RecurrentExpenseRecordDTO.class);
+        dataVersionService.bump(currentUser());
+        return RecurrentExpenseRecordMapper.toDTO(saved);
+    }
+
+    private RecurrentExpenseRecordDTO updatePeriod(RecurrentExpenseRecord existing, RecurrentExpenseRecord requested) {
+        Long linked = existing.getExpense() != null ? existing.getExpense().getId() : null;
+        Long wanted = requested.getExpense() != null ? requested.getExpense().getId() : null;
+        if (linked != null && wanted != null && !linked.equals(wanted)) {
+            throw periodTaken();
+        }
+        if (requested.getCancelled() != null) {
+            existing.setCancelled(requested.getCancelled());
+        }
+        if (requested.getExpense() != null) {
+            existing.setExpense(requested.getExpense());
+        }
+        RecurrentExpenseRecord saved = recordRepository.save(existing);
+        log.debug("RecurrentExpenseRecord with id {} updated for an existing period", saved.getId());
+        dataVersionService.bump(currentUser());
+        return RecurrentExpenseRecordMapper.toDTO(saved);
     }
 
     @Transactional
@@ -62,7 +114,7 @@ public class RecurrentExpenseRecordService implements IRecurrentExpenseRecordSer
     public RecurrentExpenseRecordDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         RecurrentExpenseRecord record = find(id);
         log.debug("RecurrentExpenseRecord with id {} read successfully", record.getId());
-        return modelMapper.map(record, RecurrentExpenseRecordDTO.class);
+        return RecurrentExpenseRecordMapper.toDTO(record);
     }
 
     @Override
@@ -70,7 +122,7 @@ public class RecurrentExpenseRecordService implements IRecurrentExpenseRecordSer
         log.debug("Listing all recurrent expense records");
         Specification<RecurrentExpenseRecord> spec = RecurrentExpenseRecordSpecification.withFilters(filters, currentUser());
         return recordRepository.findAll(spec, pageable)
-                .map(r -> modelMapper.map(r, RecurrentExpenseRecordDTO.class));
+                .map(RecurrentExpenseRecordMapper::toDTO);
     }
 
     @Transactional
@@ -80,7 +132,8 @@ public class RecurrentExpenseRecordService implements IRecurrentExpenseRecordSer
         record.setCancelled(true);
         recordRepository.save(record);
         log.debug("RecurrentExpenseRecord with id {} cancelled successfully", record.getId());
-        return modelMapper.map(record, RecurrentExpenseRecordDTO.class);
+        dataVersionService.bump(currentUser());
+        return RecurrentExpenseRecordMapper.toDTO(record);
     }
 
     @Transactional
@@ -91,7 +144,8 @@ public class RecurrentExpenseRecordService implements IRecurrentExpenseRecordSer
         record.setExpense(null);
         recordRepository.save(record);
         log.debug("RecurrentExpenseRecord with id {} uncancelled successfully", record.getId());
-        return modelMapper.map(record, RecurrentExpenseRecordDTO.class);
+        dataVersionService.bump(currentUser());
+        return RecurrentExpenseRecordMapper.toDTO(record);
     }
 
     @Transactional
@@ -100,7 +154,33 @@ public class RecurrentExpenseRecordService implements IRecurrentExpenseRecordSer
         RecurrentExpenseRecord record = find(id);
         recordRepository.delete(record);
         log.debug("RecurrentExpenseRecord with id {} deleted successfully", record.getId());
-        return modelMapper.map(record, RecurrentExpenseRecordDTO.class);
+        dataVersionService.bump(currentUser());
+        return RecurrentExpenseRecordMapper.toDTO(record);
+    }
+
+    /**
+     * Creates the record of the given period for every enabled recurrent expense of every user,
+     * walking the recurrent expense ids in fixed windows so each insert stays small. Each window
+     * commits in its own transaction, so no lock is held across the whole table.
+     * Idempotent: expenses that already have a record for the period are skipped.
+     */
+    @Override
+    public int materializeMonth(int month, int year) {
+        long maxId = recurrentExpenseRepository.findMaxId();
+        int created = 0;
+        for (long fromId = 0; fromId < maxId; fromId += MATERIALIZE_WINDOW) {
+            created += recordRepository.insertMissingForPeriod(month, year, fromId, fromId + MATERIALIZE_WINDOW);
+        }
+        log.debug("Materialized {} RecurrentExpenseRecord(s) for {}/{}", created, month, year);
+        if (created > 0) {
+            dataVersionService.bumpAll();
+        }
+        return created;
+    }
+
+    private static ResponseStatusException periodTaken() {
+        return new ResponseStatusException(HttpStatus.CONFLICT,
+                "A record for this recurrent expense and period already exists");
     }
 
     protected RecurrentExpenseRecord find(Long id) throws ChangeSetPersister.NotFoundException {
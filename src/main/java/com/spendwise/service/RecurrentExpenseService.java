@@ -2,15 +2,18 @@ package com.spendwise.service;
 
 import com.spendwise.dto.RecurrentExpenseDTO;
 import com.spendwise.dto.RecurrentExpenseFilterDTO;
-import com.spendwise.model.Category;
+import com.spendwise.mapper.CategoryMapper;
+import com.spendwise.mapper.CurrencyMapper;
+import com.spendwise.mapper.RecurrentExpenseMapper;
 import com.spendwise.model.Currency;
 import com.spendwise.model.RecurrentExpense;
 import com.spendwise.model.auth.User;
+import com.spendwise.repository.RecurrentExpenseRecordRepository;
 import com.spendwise.repository.RecurrentExpenseRepository;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.service.interfaces.IRecurrentExpenseService;
 import com.spendwise.spec.RecurrentExpenseSpecification;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,16 +24,23 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+
 @Service
 public class RecurrentExpenseService implements IRecurrentExpenseService {
 
     private static final Logger log = LoggerFactory.getLogger(RecurrentExpenseService.class);
-    private final ModelMapper modelMapper = new ModelMapper();
     private final RecurrentExpenseRepository recurrentExpenseRepository;
+    private final RecurrentExpenseRecordRepository recordRepository;
+    private final IDataVersionService dataVersionService;
 
     @Autowired
-    public RecurrentExpenseService(RecurrentExpenseRepository recurrentExpenseRepository) {
+    public RecurrentExpenseService(RecurrentExpenseRepository recurrentExpenseRepository,
+                                   RecurrentExpenseRecordRepository recordRepository,
+                                   IDataVersionService dataVersionService) {
         this.recurrentExpenseRepository = recurrentExpenseRepository;
+        this.recordRepository = recordRepository;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
@@ -39,10 +49,10 @@ public class RecurrentExpenseService implements IRecurrentExpenseService {
         recurrentExpense.setIcon(dto.getIcon());
         recurrentExpense.setDayOfMonth(dto.getDayOfMonth());
         if (dto.getCategory() != null) {
-            recurrentExpense.setCategory(modelMapper.map(dto.getCategory(), Category.class));
+            recurrentExpense.setCategory(CategoryMapper.toEntity(dto.getCategory()));
         }
         if (dto.getCurrency() != null) {
-            Currency currency = modelMapper.map(dto.getCurrency(), Currency.class);
+            Currency currency = CurrencyMapper.copy(dto.getCurrency());
             recurrentExpense.setCurrency(currency);
             if (isPesosCurrency(currency)) {
                 recurrentExpense.setAmountInPesos(dto.getAmountInPesos());
@@ -71,8 +81,10 @@ public class RecurrentExpenseService implements IRecurrentExpenseService {
         recurrentExpense.setEnabled(true);
         recurrentExpense.setUser(currentUser());
         RecurrentExpense saved = recurrentExpenseRepository.save(recurrentExpense);
+        materializeCurrentMonth(saved);
         log.debug("RecurrentExpense with id {} created successfully", saved.getId());
-        return modelMapper.map(saved, RecurrentExpenseDTO.class);
+        dataVersionService.bump(currentUser());
+        return RecurrentExpenseMapper.toDTO(saved);
     }
 
     @Transactional
@@ -80,7 +92,7 @@ public class RecurrentExpenseService implements IRecurrentExpenseService {
     public RecurrentExpenseDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         RecurrentExpense recurrentExpense = find(id);
         log.debug("RecurrentExpense with id {} read successfully", recurrentExpense.getId());
-        return modelMapper.map(recurrentExpense, RecurrentExpenseDTO.class);
+        return RecurrentExpenseMapper.toDTO(recurrentExpense);
     }
 
     @Override
@@ -88,7 +100,7 @@ public class RecurrentExpenseService implements IRecurrentExpenseService {
         log.debug("Listing all recurrent expenses");
         Specification<RecurrentExpense> spec = RecurrentExpenseSpecification.withFilters(filters, currentUser());
         return recurrentExpenseRepository.findAll(spec, pageable)
-                .map(re -> modelMapper.map(re, RecurrentExpenseDTO.class));
+                .map(RecurrentExpenseMapper::toDTO);
     }
 
     @Transactional
@@ -98,7 +110,8 @@ public class RecurrentExpenseService implements IRecurrentExpenseService {
         this.populate(recurrentExpense, dto);
         RecurrentExpense updated = recurrentExpenseRepository.save(recurrentExpense);
         log.debug("RecurrentExpense with id {} updated successfully", updated.getId());
-        return modelMapper.map(updated, RecurrentExpenseDTO.class);
+        dataVersionService.bump(currentUser());
+        return RecurrentExpenseMapper.toDTO(updated);
     }
 
     @Transactional
@@ -107,7 +120,8 @@ public class RecurrentExpenseService implements IRecurrentExpenseService {
         RecurrentExpense recurrentExpense = find(id);
         recurrentExpenseRepository.delete(recurrentExpense);
         log.debug("RecurrentExpense with id {} deleted successfully", recurrentExpense.getId());
-        return modelMapper.map(recurrentExpense, RecurrentExpenseDTO.class);
+        dataVersionService.bump(currentUser());
+        return RecurrentExpenseMapper.toDTO(recurrentExpense);
     }
 
     @Transactional
@@ -115,9 +129,12 @@ public class RecurrentExpenseService implements IRecurrentExpenseService {
     public RecurrentExpenseDTO enable(Long id) throws ChangeSetPersister.NotFoundException {
         RecurrentExpense recurrentExpense = find(id);
         recurrentExpense.setEnabled(true);
-        recurrentExpenseRepository.save(recurrentExpense);
+        // flushed so the insert below sees it enabled
+        recurrentExpenseRepository.saveAndFlush(recurrentExpense);
+        materializeCurrentMonth(recurrentExpense);
         log.debug("RecurrentExpense with id {} enabled successfully", recurrentExpense.getId());
-        return modelMapper.map(recurrentExpense, RecurrentExpenseDTO.class);
+        dataVersionService.bump(currentUser());
+        return RecurrentExpenseMapper.toDTO(recurrentExpense);
     }
 
     @Transactional
@@ -127,7 +144,18 @@ public class RecurrentExpenseService implements IRecurrentExpenseService {
         recurrentExpense.setEnabled(false);
         recurrentExpenseRepository.save(recurrentExpense);
         log.debug("RecurrentExpense with id {} disabled successfully", recurrentExpense.getId());
-        return modelMapper.map(recurrentExpense, RecurrentExpenseDTO.class);
+        dataVersionService.bump(currentUser());
+        return RecurrentExpenseMapper.toDTO(recurrentExpense);
+    }
+
+    /**
+     * Gives a recurrent expense that just became active the record of the current month, which
+     * the monthly job has already passed over. Same insert as the job, for this one id.
+     */
+    private void materializeCurrentMonth(RecurrentExpense recurrentExpense) {
+        LocalDate today = LocalDate.now();
+        recordRepository.insertMissingForPeriod(today.getMonthValue(), today.getYear(),
+                recurrentExpense.getId() - 1, recurrentExpense.getId());
     }
 
     protected RecurrentExpense find(Long id) throws ChangeSetPersister.NotFoundException {
@@ -1,16 +1,28 @@
 package com.spendwise.service;
 
+import com.spendwise.cache.TtlCache;
 import com.spendwise.model.auth.RefreshToken;
 import com.spendwise.model.auth.User;
 import com.spendwise.repository.RefreshTokenRepository;
+import com.spendwise.security.TokenHasher;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
 
+/**
+ * Refresh tokens are single use and only their SHA-256 is stored. With
+ * {@code jwt.refresh-index.enabled} the tokens issued by this node are also kept in a bounded
+ * in-memory index, so refreshing skips the lookup by token. The index is only a hint: a
+ * token counts as used when its row is deleted, so one revoked or used elsewhere is still
+ * rejected.
+ */
 @Service
 public class RefreshTokenService {
 
@@ -18,35 +30,78 @@ public class RefreshTokenService {
     private long refreshExpirationMs;
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final TtlCache<String, IndexedToken> index;
 
-    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository) {
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh-index.enabled:false}") boolean indexEnabled,
+                               @Value("${jwt.refresh-index.max-size:50000}") int indexMaxSize,
+                               @Value("${jwt.refresh-index.ttl-seconds:3600}") long indexTtlSeconds) {
         this.refreshTokenRepository = refreshTokenRepository;
+        this.index = indexEnabled ? new TtlCache<>(indexMaxSize, Duration.ofSeconds(indexTtlSeconds)) : null;
     }
 
-    public RefreshToken create(User user) {
+    /** Stores a new refresh token for {@code user} and returns it; only its hash is kept. */
+    @Transactional
+    public String create(User user) {
+        String token = UUID.randomUUID().toString();
+        String hash = TokenHasher.hash(token);
         RefreshToken rt = new RefreshToken();
         rt.setUser(user);
-        rt.setToken(UUID.randomUUID().toString());
+        rt.setToken(hash);
         rt.setExpiresAt(Instant.now().plusMillis(refreshExpirationMs));
-        return refreshTokenRepository.save(rt);
+        RefreshToken saved = refreshTokenRepository.save(rt);
+        if (index != null) {
+            index.put(hash, new IndexedToken(saved.getId(), user.getId(), saved.getExpiresAt()));
+        }
+        return token;
     }
 
-    public RefreshToken verify(String token) {
-        RefreshToken rt = refreshTokenRepository.findByToken(token)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token"));
-        if (rt.getExpiresAt().isBefore(Instant.now())) {
-            refreshTokenRepository.delete(rt);
+    /**
+     * Verifies {@code token} and deletes it, so each refresh token works once. Returns the id
+     * of its user.
+     */
+    @Transactional
+    public Long consume(String token) {
+        if (token == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        String hash = TokenHasher.hash(token);
+        IndexedToken found = index != null ? index.get(hash) : null;
+        if (found == null) {
+            RefreshToken rt = refreshTokenRepository.findByToken(hash)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token"));
+            // the id of a lazy association needs no query
+            found = new IndexedToken(rt.getId(), rt.getUser().getId(), rt.getExpiresAt());
+        }
+        if (index != null) {
+            index.invalidate(hash);
+        }
+        // expired rows are left to ExpiredTokenSweepJob
+        if (found.expiresAt().isBefore(Instant.now())) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token expired");
         }
-        return rt;
+        // 0 when a concurrent refresh, a logout or a revocation got there first
+        if (refreshTokenRepository.deleteByIdReturningCount(found.id()) == 0) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        return found.userId();
     }
 
+    @Transactional
     public void delete(String token) {
-        refreshTokenRepository.findByToken(token)
-                .ifPresent(refreshTokenRepository::delete);
+        if (token == null) return;
+        String hash = TokenHasher.hash(token);
+        if (index != null) {
+            index.invalidate(hash);
+        }
+        refreshTokenRepository.deleteByTokenHash(hash);
     }
 
     public void deleteAllForUser(User user) {
         refreshTokenRepository.deleteByUser(user);
     }
+
+    private record IndexedToken(Long id, Long userId, Instant expiresAt) {
+    }
 }
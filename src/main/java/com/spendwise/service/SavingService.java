@@ -1,15 +1,23 @@
 package com.spendwise.service;
 
+import com.spendwise.cache.TtlCache;
 import com.spendwise.dto.SavingDTO;
 import com.spendwise.dto.SavingFilterDTO;
+import com.spendwise.dto.SliceDTO;
+import com.spendwise.mapper.CurrencyMapper;
+import com.spendwise.mapper.SavingMapper;
+import com.spendwise.mapper.SavingsWalletMapper;
 import com.spendwise.model.Currency;
 import com.spendwise.model.Saving;
-import com.spendwise.model.SavingsWallet;
+import com.spendwise.projection.SavingListRow;
+import com.spendwise.repository.DescriptionSearchRepository;
 import com.spendwise.repository.SavingRepository;
+import com.spendwise.repository.SpecificationProjectionExecutor;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.service.interfaces.ISavingService;
 import com.spendwise.spec.SavingSpecification;
+import com.spendwise.spec.SearchText;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,33 +26,46 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.spendwise.model.auth.User;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
 
 @Service
 public class SavingService implements ISavingService {
 
     private static final Logger log = LoggerFactory.getLogger(SavingService.class);
-    private final ModelMapper modelMapper = new ModelMapper();
 
     private final SavingRepository savingRespository;
+    private final SpecificationProjectionExecutor projectionExecutor;
+    private final DescriptionSearchRepository descriptionSearchRepository;
+    private final TtlCache<String, Long> countCache = new TtlCache<>(1000, Duration.ofSeconds(60));
+    private final IDataVersionService dataVersionService;
 
     @Autowired
-    public SavingService(SavingRepository savingRespository) {
+    public SavingService(SavingRepository savingRespository,
+                         SpecificationProjectionExecutor projectionExecutor,
+                         DescriptionSearchRepository descriptionSearchRepository,
+                         IDataVersionService dataVersionService) {
         this.savingRespository = savingRespository;
+        this.projectionExecutor = projectionExecutor;
+        this.descriptionSearchRepository = descriptionSearchRepository;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
     public void populate(Saving saving, SavingDTO dto) {
         saving.setDescription(dto.getDescription());
         saving.setDate(dto.getDate());
-        Currency currency = modelMapper.map(dto.getCurrency(), Currency.class);
+        Currency currency = CurrencyMapper.copy(dto.getCurrency());
         saving.setCurrency(currency);
         if (dto.getSavingsWallet() != null) {
-            saving.setSavingsWallet(modelMapper.map(dto.getSavingsWallet(), SavingsWallet.class));
+            saving.setSavingsWallet(SavingsWalletMapper.copy(dto.getSavingsWallet()));
         }
         BigDecimal inputAmount = dto.getInputAmount();
         if (isPesosCurrency(currency)) {
@@ -70,7 +91,8 @@ public class SavingService implements ISavingService {
         category.setUser(currentUser());
         Saving savedSaving = savingRespository.save(category);
         log.debug("Saving with id {} created successfully", savedSaving.getId());
-        return modelMapper.map(savedSaving, SavingDTO.class);
+        dataVersionService.bump(currentUser());
+        return SavingMapper.toDTO(savedSaving);
     }
 
     @Transactional
@@ -78,15 +100,46 @@ public class SavingService implements ISavingService {
     public SavingDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         Saving category = find(id);
         log.debug("Saving with id {} read successfully", category.getId());
-        return modelMapper.map(category, SavingDTO.class);
+        return SavingMapper.toDTO(category);
     }
 
     @Override
     public Page<SavingDTO> list(SavingFilterDTO filters, Pageable pageable) {
         log.debug("Listing all categories");
         Specification<Saving> spec = SavingSpecification.withFilters(filters, currentUser());
-        return savingRespository.findAll(spec, pageable)
-                .map(category -> modelMapper.map(category, SavingDTO.class));
+        return projectionExecutor.findPage(Saving.class, SavingListRow.class, SavingListRow::columns, spec, pageable)
+                .map(SavingListRow::toDTO);
+    }
+
+    @Override
+    public SliceDTO<SavingDTO> listSlice(SavingFilterDTO filters, Pageable pageable) {
+        Specification<Saving> spec = SavingSpecification.withFilters(filters, currentUser());
+        return SliceDTO.of(projectionExecutor.findSlice(Saving.class, SavingListRow.class, SavingListRow::columns, spec, pageable)
+                .map(SavingListRow::toDTO));
+    }
+
+    @Override
+    public SliceDTO<SavingDTO> search(String query, Pageable pageable) {
+        if (query == null || SearchText.normalize(query).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query is required");
+        }
+        List<Long> ids = descriptionSearchRepository.searchIds(DescriptionSearchRepository.Table.SAVING,
+                currentUser().getId(), query, pageable.getOffset(), pageable.getPageSize());
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        List<SavingDTO> content = projectionExecutor.findAllByIds(Saving.class, SavingListRow.class, SavingListRow::columns,
+                        hasNext ? ids.subList(0, pageable.getPageSize()) : ids, SavingListRow::id)
+                .stream()
+                .map(SavingListRow::toDTO)
+                .toList();
+        log.debug("Search '{}' returned {} saving(s)", query, content.size());
+        return new SliceDTO<>(content, pageable.getPageNumber(), pageable.getPageSize(), hasNext);
+    }
+
+    @Override
+    public long approximateCount(SavingFilterDTO filters) {
+        User user = currentUser();
+        return countCache.getOrCompute(user.getId() + "|" + filters,
+                key -> savingRespository.count(SavingSpecification.withFilters(filters, user)));
     }
 
     @Transactional
@@ -96,7 +149,8 @@ public class SavingService implements ISavingService {
         this.populate(category, dto);
         Saving updatedSaving = savingRespository.save(category);
         log.debug("Saving with id {} updated successfully", category.getId());
-        return modelMapper.map(updatedSaving, SavingDTO.class);
+        dataVersionService.bump(currentUser());
+        return SavingMapper.toDTO(updatedSaving);
     }
 
     @Transactional
@@ -105,7 +159,8 @@ public class SavingService implements ISavingService {
         Saving category = find(id);
         savingRespository.delete(category);
         log.debug("Saving with id {} deleted successfully", category.getId());
-        return modelMapper.map(category, SavingDTO.class);
+        dataVersionService.bump(currentUser());
+        return SavingMapper.toDTO(category);
     }
 
     @Override
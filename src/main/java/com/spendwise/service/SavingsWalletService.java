@@ -3,13 +3,14 @@ package com.spendwise.service;
 import com.spendwise.dto.SavingsWalletDTO;
 import com.spendwise.dto.SavingsWalletFilterDTO;
 import com.spendwise.enums.SavingsWalletType;
-import com.spendwise.model.IssuingEntity;
+import com.spendwise.mapper.IssuingEntityMapper;
+import com.spendwise.mapper.SavingsWalletMapper;
 import com.spendwise.model.SavingsWallet;
 import com.spendwise.repository.SavingsWalletRepository;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.service.interfaces.ISavingsWalletService;
 import com.spendwise.spec.SavingsWalletEspecification;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,11 +29,12 @@ public class SavingsWalletService implements ISavingsWalletService {
     private static final Logger log = LoggerFactory.getLogger(SavingsWalletService.class);
 
     private final SavingsWalletRepository savingsWalletRepository;
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final IDataVersionService dataVersionService;
 
     @Autowired
-    public SavingsWalletService(SavingsWalletRepository savingsWalletRepository) {
+    public SavingsWalletService(SavingsWalletRepository savingsWalletRepository, IDataVersionService dataVersionService) {
         this.savingsWalletRepository = savingsWalletRepository;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
@@ -41,7 +43,7 @@ public class SavingsWalletService implements ISavingsWalletService {
         savingsWallet.setSavingsWalletType(SavingsWalletType.valueOf(dto.getSavingsWalletType()));
         savingsWallet.setIcon(dto.getIcon());
         if (dto.getIssuingEntity() != null && dto.getIssuingEntity().getId() != null) {
-            savingsWallet.setIssuingEntity(modelMapper.map(dto.getIssuingEntity(), IssuingEntity.class));
+            savingsWallet.setIssuingEntity(IssuingEntityMapper.toEntity(dto.getIssuingEntity()));
         } else {
             savingsWallet.setIssuingEntity(null);
         }
@@ -56,7 +58,8 @@ public class SavingsWalletService implements ISavingsWalletService {
         savingsWallet.setUser(currentUser());
         SavingsWallet saved = savingsWalletRepository.save(savingsWallet);
         log.debug("SavingsWallet with id {} created successfully", saved.getId());
-        return modelMapper.map(saved, SavingsWalletDTO.class);
+        dataVersionService.bump(currentUser());
+        return SavingsWalletMapper.toDTO(saved);
     }
 
     @Transactional
@@ -64,7 +67,7 @@ public class SavingsWalletService implements ISavingsWalletService {
     public SavingsWalletDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         SavingsWallet savingsWallet = find(id);
         log.debug("SavingsWallet with id {} read successfully", savingsWallet.getId());
-        return modelMapper.map(savingsWallet, SavingsWalletDTO.class);
+        return SavingsWalletMapper.toDTO(savingsWallet);
     }
 
     @Override
@@ -72,7 +75,7 @@ public class SavingsWalletService implements ISavingsWalletService {
         log.debug("Listing all savings wallets");
         Specification<SavingsWallet> spec = SavingsWalletEspecification.withFilters(filters, currentUser());
         return savingsWalletRepository.findAll(spec, pageable)
-                .map(savingsWallet -> modelMapper.map(savingsWallet, SavingsWalletDTO.class));
+                .map(SavingsWalletMapper::toDTO);
     }
 
     @Transactional
@@ -82,7 +85,8 @@ public class SavingsWalletService implements ISavingsWalletService {
         this.populate(savingsWallet, dto);
         SavingsWallet updated = savingsWalletRepository.save(savingsWallet);
         log.debug("SavingsWallet with id {} updated successfully", savingsWallet.getId());
-        return modelMapper.map(updated, SavingsWalletDTO.class);
+        dataVersionService.bump(currentUser());
+        return SavingsWalletMapper.toDTO(updated);
     }
 
     @Transactional
@@ -91,7 +95,8 @@ public class SavingsWalletService implements ISavingsWalletService {
         SavingsWallet savingsWallet = find(id);
         savingsWalletRepository.delete(savingsWallet);
         log.debug("SavingsWallet with id {} deleted successfully", savingsWallet.getId());
-        return modelMapper.map(savingsWallet, SavingsWalletDTO.class);
+        dataVersionService.bump(currentUser());
+        return SavingsWalletMapper.toDTO(savingsWallet);
     }
 
     @Transactional
@@ -101,7 +106,8 @@ public class SavingsWalletService implements ISavingsWalletService {
         savingsWallet.setEnabled(false);
         SavingsWallet saved = savingsWalletRepository.save(savingsWallet);
         log.debug("SavingsWallet with id {} disabled successfully", savingsWallet.getId());
-        return modelMapper.map(saved, SavingsWalletDTO.class);
+        dataVersionService.bump(currentUser());
+        return SavingsWalletMapper.toDTO(saved);
     }
 
     @Transactional
@@ -111,7 +117,8 @@ public class SavingsWalletService implements ISavingsWalletService {
         savingsWallet.setEnabled(true);
         SavingsWallet saved = savingsWalletRepository.save(savingsWallet);
         log.debug("SavingsWallet with id {} enabled successfully", savingsWallet.getId());
-        return modelMapper.map(saved, SavingsWalletDTO.class);
+        dataVersionService.bump(currentUser());
+        return SavingsWalletMapper.toDTO(saved);
     }
 
     protected SavingsWallet find(Long id) throws ChangeSetPersister.NotFoundException {
@@ -0,0 +1,167 @@
+package com.spendwise.service;
+
+import com.spendwise.cache.TtlCache;
+import com.spendwise.dto.StatementImportDTO;
+import com.spendwise.enums.StatementFormat;
+import com.spendwise.enums.StatementImportStatus;
+import com.spendwise.model.auth.User;
+import com.spendwise.service.interfaces.IStatementImportService;
+import com.spendwise.statement.StatementChunkWriter;
+import com.spendwise.statement.StatementDedup;
+import com.spendwise.statement.StatementParserRegistry;
+import com.spendwise.statement.StatementRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Imports a bank statement straight from the request body. The parser streams rows into a
+ * chunk of {@value #CHUNK_SIZE}, and each full chunk is written in its own transaction by
+ * {@link StatementChunkWriter}, so memory stays the same for a 500-row or a 50k-row file.
+ * <p>
+ * A user runs one import at a time. Its counters are published after every chunk and can be
+ * polled through {@link #progress()} while the upload is still being processed; the final
+ * result stays available for an hour.
+ */
+@Service
+public class StatementImportService implements IStatementImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementImportService.class);
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private final StatementParserRegistry parserRegistry;
+    private final StatementChunkWriter chunkWriter;
+    private final Map<Long, Progress> running = new ConcurrentHashMap<>();
+    private final TtlCache<Long, StatementImportDTO> finished = new TtlCache<>(1000, Duration.ofHours(1));
+
+    @Autowired
+    public StatementImportService(StatementParserRegistry parserRegistry, StatementChunkWriter chunkWriter) {
+        this.parserRegistry = parserRegistry;
+        this.chunkWriter = chunkWriter;
+    }
+
+    @Override
+    public StatementImportDTO importStatement(StatementFormat format, InputStream body, Charset charset) {
+        User user = currentUser();
+        Progress progress = new Progress(format);
+        if (running.putIfAbsent(user.getId(), progress) != null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A statement import is already running");
+        }
+
+        StatementDedup dedup = new StatementDedup();
+        List<StatementRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (Reader reader = new InputStreamReader(body, charset)) {
+            parserRegistry.get(format).parse(reader, row -> {
+                progress.rowsRead++;
+                if (!importable(row)) {
+                    progress.skipped++;
+                    return;
+                }
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) write(chunk, format, user, dedup, progress);
+            });
+            write(chunk, format, user, dedup, progress);
+            progress.status = StatementImportStatus.DONE;
+            log.debug("Statement import ({}) finished: {} row(s) read, {} imported, {} pending, {} duplicate(s), {} skipped",
+                    format, progress.rowsRead, progress.imported, progress.pending, progress.duplicates, progress.skipped);
+            return progress.toDTO();
+        } catch (IOException e) {
+            progress.fail("Could not read the statement: " + e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Could not read the statement", e);
+        } catch (RuntimeException e) {
+            progress.fail(e.getMessage());
+            throw e;
+        } finally {
+            running.remove(user.getId());
+            finished.put(user.getId(), progress.toDTO());
+        }
+    }
+
+    @Override
+    public StatementImportDTO progress() {
+        Long userId = currentUser().getId();
+        Progress progress = running.get(userId);
+        StatementImportDTO dto = progress != null ? progress.toDTO() : finished.get(userId);
+        if (dto == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No statement import found");
+        }
+        return dto;
+    }
+
+    /** Only debits with a date and a description become expenses; credits are income and skipped. */
+    private static boolean importable(StatementRow row) {
+        if (row.getDate() == null || row.getAmount() == null || row.getAmount().signum() >= 0) return false;
+        if (row.getDescription() == null || row.getDescription().isBlank()) return false;
+        String description = row.getDescription().trim().replaceAll("\\s+", " ");
+        row.setDescription(description.length() > MAX_DESCRIPTION_LENGTH
+                ? description.substring(0, MAX_DESCRIPTION_LENGTH) : description);
+        return true;
+    }
+
+    private void write(List<StatementRow> chunk, StatementFormat format, User user, StatementDedup dedup, Progress progress) {
+        if (chunk.isEmpty()) return;
+        // FX lookups first, so they run before the chunk's transaction holds a connection
+        StatementChunkWriter.Result result = chunkWriter.write(chunk, format, user, dedup, chunkWriter.sellingRates(chunk, user));
+        progress.imported += result.imported();
+        progress.pending += result.pending();
+        progress.duplicates += result.duplicates();
+        chunk.clear();
+    }
+
+    private User currentUser() {
+        return (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+    /** Counters written by the importing thread only and read by progress polls. */
+    private static final class Progress {
+
+        private final StatementFormat format;
+        private volatile StatementImportStatus status = StatementImportStatus.RUNNING;
+        private volatile int rowsRead;
+        private volatile int imported;
+        private volatile int pending;
+        private volatile int duplicates;
+        private volatile int skipped;
+        private volatile String error;
+
+        private Progress(StatementFormat format) {
+            this.format = format;
+        }
+
+        private void fail(String error) {
+            this.error = error;
+            this.status = StatementImportStatus.FAILED;
+        }
+
+        private StatementImportDTO toDTO() {
+            StatementImportDTO dto = new StatementImportDTO();
+            dto.setFormat(format);
+            dto.setStatus(status);
+            dto.setRowsRead(rowsRead);
+            dto.setImported(imported);
+            dto.setPending(pending);
+            dto.setDuplicates(duplicates);
+            dto.setSkipped(skipped);
+            dto.setError(error);
+            return dto;
+        }
+
+    }
+
+}
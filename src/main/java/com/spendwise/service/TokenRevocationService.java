@@ -0,0 +1,134 @@
+package com.spendwise.service;
+
+import com.spendwise.model.auth.TokenRevocation;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.TokenRevocationRepository;
+import com.spendwise.service.interfaces.IPrincipalInvalidationService;
+import com.spendwise.service.interfaces.ITokenRevocationService;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revokes every token of a user: the refresh tokens are deleted and the user's token
+ * version is bumped, so the access tokens signed with an older version stop being accepted.
+ * <p>
+ * The JWT filter asks {@link #isRevoked} on every request, which only reads memory. The
+ * map holds the revocations younger than an access token's lifetime, the only ones that
+ * can still match a token, so it stays small. This node applies its own revocations after
+ * commit; the others see them on their next {@link #refresh}.
+ */
+@Service
+public class TokenRevocationService implements ITokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final TokenRevocationRepository repository;
+    private final RefreshTokenService refreshTokenService;
+    private final IPrincipalInvalidationService principalInvalidationService;
+    private final long accessTokenLifetimeMs;
+    private final ConcurrentHashMap<Long, Revocation> revocations = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    @Autowired
+    public TokenRevocationService(TokenRevocationRepository repository,
+                                  RefreshTokenService refreshTokenService,
+                                  IPrincipalInvalidationService principalInvalidationService,
+                                  @Value("${jwt.expiration-ms:86400000}") long accessTokenLifetimeMs) {
+        this.repository = repository;
+        this.refreshTokenService = refreshTokenService;
+        this.principalInvalidationService = principalInvalidationService;
+        this.accessTokenLifetimeMs = accessTokenLifetimeMs;
+    }
+
+    /** Bumps the token version of {@code user}; the caller saves the user. */
+    @Transactional
+    @Override
+    public void revoke(User user) {
+        long version = (user.getTokenVersion() != null ? user.getTokenVersion() : 0L) + 1;
+        user.setTokenVersion(version);
+        record(user, version);
+    }
+
+    /** For a user about to be deleted: no token version is valid any more. */
+    @Transactional
+    @Override
+    public void revokeAll(User user) {
+        record(user, Long.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isRevoked(Long userId, long tokenVersion) {
+        if (!loaded) {
+            refresh();
+        }
+        Revocation revocation = revocations.get(userId);
+        return revocation != null && tokenVersion < revocation.minTokenVersion();
+    }
+
+    @Override
+    public int refresh() {
+        LocalDateTime cutoff = cutoff();
+        List<TokenRevocation> rows = repository.findAllByRevokedAtAfter(cutoff);
+        rows.forEach(row -> apply(row.getUserId(), row.getMinTokenVersion(), row.getRevokedAt()));
+        revocations.values().removeIf(revocation -> revocation.revokedAt().isBefore(cutoff));
+        loaded = true;
+        return rows.size();
+    }
+
+    @Transactional
+    @Override
+    public int purgeExpired() {
+        return repository.deleteRevokedBefore(cutoff());
+    }
+
+    private void record(User user, long minTokenVersion) {
+        LocalDateTime now = LocalDateTime.now();
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.setUserId(user.getId());
+        revocation.setMinTokenVersion(minTokenVersion);
+        revocation.setRevokedAt(now);
+        repository.save(revocation);
+        refreshTokenService.deleteAllForUser(user);
+        principalInvalidationService.invalidate(user.getEmail());
+        afterCommit(() -> apply(user.getId(), minTokenVersion, now));
+        log.debug("Tokens of user {} revoked below version {}", user.getId(), minTokenVersion);
+    }
+
+    private void apply(Long userId, long minTokenVersion, LocalDateTime revokedAt) {
+        revocations.merge(userId, new Revocation(minTokenVersion, revokedAt), (current, added) -> new Revocation(
+                Math.max(current.minTokenVersion(), added.minTokenVersion()),
+                current.revokedAt().isAfter(added.revokedAt()) ? current.revokedAt() : added.revokedAt()));
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now().minus(Duration.ofMillis(accessTokenLifetimeMs));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Revocation(long minTokenVersion, LocalDateTime revokedAt) {
+    }
+
+}
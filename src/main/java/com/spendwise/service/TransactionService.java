@@ -0,0 +1,119 @@
+package com.spendwise.service;
+
+import com.spendwise.dto.CursorPageDTO;
+import com.spendwise.dto.TransactionDTO;
+import com.spendwise.dto.TransactionFilterDTO;
+import com.spendwise.enums.TransactionType;
+import com.spendwise.model.CardExpense;
+import com.spendwise.model.Expense;
+import com.spendwise.model.Income;
+import com.spendwise.model.Saving;
+import com.spendwise.model.auth.User;
+import com.spendwise.projection.CardExpenseListRow;
+import com.spendwise.projection.ExpenseListRow;
+import com.spendwise.projection.IncomeListRow;
+import com.spendwise.projection.SavingListRow;
+import com.spendwise.repository.SpecificationProjectionExecutor;
+import com.spendwise.service.interfaces.ITransactionService;
+import com.spendwise.spec.KeysetCursor;
+import com.spendwise.spec.TransactionCursor;
+import com.spendwise.spec.TransactionSpecification;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Timeline of expenses, income, card expenses and savings, newest first.
+ * <p>
+ * Each source is read as its own index-ordered stream of at most {@code size + 1} rows after
+ * the cursor, with the common filters pushed down, and the streams are k-way merged on
+ * (date DESC, type, id DESC). A page therefore reads about {@code size} rows per source no
+ * matter how deep the client is.
+ */
+@Service
+public class TransactionService implements ITransactionService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionService.class);
+    private final SpecificationProjectionExecutor projectionExecutor;
+
+    @Autowired
+    public TransactionService(SpecificationProjectionExecutor projectionExecutor) {
+        this.projectionExecutor = projectionExecutor;
+    }
+
+    @Override
+    public CursorPageDTO<TransactionDTO> feed(TransactionFilterDTO filters, String cursor, Integer size) {
+        int limit = KeysetCursor.clampSize(size);
+        TransactionCursor position = cursor == null || cursor.isBlank() ? null : TransactionCursor.decode(cursor);
+        User user = currentUser();
+        Pageable firstRows = PageRequest.of(0, limit, KeysetCursor.ORDER);
+
+        List<Slice<TransactionDTO>> sources = List.of(
+                read(Expense.class, ExpenseListRow.class, ExpenseListRow::columns, ExpenseListRow::toTransaction,
+                        TransactionType.EXPENSE, filters, user, position, firstRows),
+                read(Income.class, IncomeListRow.class, IncomeListRow::columns, IncomeListRow::toTransaction,
+                        TransactionType.INCOME, filters, user, position, firstRows),
+                read(CardExpense.class, CardExpenseListRow.class, CardExpenseListRow::columns, CardExpenseListRow::toTransaction,
+                        TransactionType.CARD_EXPENSE, filters, user, position, firstRows),
+                read(Saving.class, SavingListRow.class, SavingListRow::columns, SavingListRow::toTransaction,
+                        TransactionType.SAVING, filters, user, position, firstRows));
+
+        CursorPageDTO<TransactionDTO> page = merge(sources, limit);
+        log.debug("Transactions feed returned {} row(s), hasNext={}", page.getContent().size(), page.getHasNext());
+        return page;
+    }
+
+    private <T, R> Slice<TransactionDTO> read(Class<T> domainClass, Class<R> rowType,
+                                              Function<Root<T>, List<Selection<?>>> columns,
+                                              Function<R, TransactionDTO> toTransaction,
+                                              TransactionType type, TransactionFilterDTO filters, User user,
+                                              TransactionCursor position, Pageable firstRows) {
+        Specification<T> spec = TransactionCursor.seek(TransactionSpecification.withFilters(filters, user), position, type);
+        return projectionExecutor.findSlice(domainClass, rowType, columns, spec, firstRows).map(toTransaction);
+    }
+
+    /**
+     * Takes the first {@code limit} rows of the sorted sources. More rows exist when a source
+     * still has unread rows in its slice or the slice itself was cut short.
+     */
+    private static CursorPageDTO<TransactionDTO> merge(List<Slice<TransactionDTO>> sources, int limit) {
+        record Head(TransactionDTO row, int source, int index) {
+        }
+        PriorityQueue<Head> heads = new PriorityQueue<>((a, b) -> TransactionCursor.ORDER.compare(a.row(), b.row()));
+        for (int s = 0; s < sources.size(); s++) {
+            List<TransactionDTO> rows = sources.get(s).getContent();
+            if (!rows.isEmpty()) heads.add(new Head(rows.get(0), s, 0));
+        }
+
+        List<TransactionDTO> content = new ArrayList<>(limit);
+        while (content.size() < limit && !heads.isEmpty()) {
+            Head head = heads.poll();
+            content.add(head.row());
+            List<TransactionDTO> rows = sources.get(head.source()).getContent();
+            int next = head.index() + 1;
+            if (next < rows.size()) heads.add(new Head(rows.get(next), head.source(), next));
+        }
+
+        boolean hasNext = !heads.isEmpty() || sources.stream().anyMatch(Slice::hasNext);
+        String nextCursor = hasNext && !content.isEmpty() ? TransactionCursor.encode(content.get(content.size() - 1)) : null;
+        return new CursorPageDTO<>(content, nextCursor, hasNext);
+    }
+
+    private User currentUser() {
+        return (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    }
+
+}
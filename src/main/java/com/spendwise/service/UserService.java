@@ -2,12 +2,15 @@ package com.spendwise.service;
 
 import com.spendwise.dto.UserDTO;
 import com.spendwise.dto.UserFilterDTO;
+import com.spendwise.enums.Role;
+import com.spendwise.mapper.UserMapper;
 import com.spendwise.model.auth.User;
 import com.spendwise.repository.UserRepository;
+import com.spendwise.service.interfaces.IPrincipalInvalidationService;
+import com.spendwise.service.interfaces.ITokenRevocationService;
 import com.spendwise.service.interfaces.IUserService;
 import com.spendwise.spec.UserEspecification;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +21,8 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+
 @Service
 public class UserService implements IUserService {
 
@@ -25,16 +30,17 @@ public class UserService implements IUserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+    private final IPrincipalInvalidationService principalInvalidationService;
+    private final ITokenRevocationService tokenRevocationService;
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       IPrincipalInvalidationService principalInvalidationService,
+                       ITokenRevocationService tokenRevocationService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
-        this.modelMapper = new ModelMapper();
-        // Prevent ModelMapper from mapping passwordHash → password via token matching
-        this.modelMapper.typeMap(User.class, UserDTO.class)
-                .addMappings(m -> m.skip(UserDTO::setPassword));
+        this.principalInvalidationService = principalInvalidationService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Override
@@ -56,7 +62,7 @@ public class UserService implements IUserService {
         user.setEnabled(true);
         User savedUser = userRepository.save(user);
         log.debug("User with id {} created successfully", savedUser.getId());
-        return modelMapper.map(savedUser, UserDTO.class);
+        return UserMapper.toDTO(savedUser);
     }
 
     @Transactional
@@ -64,7 +70,7 @@ public class UserService implements IUserService {
     public UserDTO findById(Long id) throws ChangeSetPersister.NotFoundException {
         User user = find(id);
         log.debug("User with id {} read successfully", user.getId());
-        return modelMapper.map(user, UserDTO.class);
+        return UserMapper.toDTO(user);
     }
 
     @Override
@@ -72,26 +78,38 @@ public class UserService implements IUserService {
         log.debug("Listing all users");
         Specification<User> spec = UserEspecification.withFilters(filters);
         return userRepository.findAll(spec, pageable)
-                .map(user -> modelMapper.map(user, UserDTO.class));
+                .map(UserMapper::toDTO);
     }
 
     @Transactional
     @Override
     public UserDTO update(Long id, UserDTO dto) throws ChangeSetPersister.NotFoundException {
         User user = find(id);
+        // the cached principal is keyed by the email it had before this change
+        String previousEmail = user.getEmail();
+        String previousPasswordHash = user.getPasswordHash();
+        Role previousRole = user.getRole();
         this.populate(user, dto);
+        // tokens issued for the old credentials or role must not outlive them
+        if (!Objects.equals(previousEmail, user.getEmail())
+                || !Objects.equals(previousPasswordHash, user.getPasswordHash())
+                || previousRole != user.getRole()) {
+            tokenRevocationService.revoke(user);
+        }
         User updatedUser = userRepository.save(user);
+        principalInvalidationService.invalidate(previousEmail);
         log.debug("User with id {} updated successfully", user.getId());
-        return modelMapper.map(updatedUser, UserDTO.class);
+        return UserMapper.toDTO(updatedUser);
     }
 
     @Transactional
     @Override
     public UserDTO delete(Long id) throws ChangeSetPersister.NotFoundException {
         User user = find(id);
+        tokenRevocationService.revokeAll(user);
         userRepository.delete(user);
         log.debug("User with id {} deleted successfully", user.getId());
-        return modelMapper.map(user, UserDTO.class);
+        return UserMapper.toDTO(user);
     }
 
     @Transactional
@@ -99,9 +117,10 @@ public class UserService implements IUserService {
     public UserDTO disable(Long id) throws ChangeSetPersister.NotFoundException {
         User user = find(id);
         user.setEnabled(false);
+        tokenRevocationService.revoke(user);
         User savedUser = userRepository.save(user);
         log.debug("User with id {} disabled successfully", user.getId());
-        return modelMapper.map(savedUser, UserDTO.class);
+        return UserMapper.toDTO(savedUser);
     }
 
     @Transactional
@@ -111,7 +130,7 @@ public class UserService implements IUserService {
         user.setEnabled(true);
         User savedUser = userRepository.save(user);
         log.debug("User with id {} enabled successfully", user.getId());
-        return modelMapper.map(savedUser, UserDTO.class);
+        return UserMapper.toDTO(savedUser);
     }
 
     protected User find(Long id) throws ChangeSetPersister.NotFoundException {
@@ -0,0 +1,16 @@
+package com.spendwise.service.interfaces;
+
+import com.spendwise.dto.AccountDeletionDTO;
+import com.spendwise.model.auth.User;
+
+public interface IAccountDeletionService {
+
+    /**
+     * Revokes the user's access and deletes the account, inline when it is small and
+     * otherwise through the background purge. The caller has already disabled the user.
+     */
+    AccountDeletionDTO request(User user);
+    AccountDeletionDTO getStatus(String id);
+    int purgePending();
+
+}
@@ -1,5 +1,6 @@
 package com.spendwise.service.interfaces;
 
+import com.spendwise.dto.AccountDeletionDTO;
 import com.spendwise.dto.RegisterWithSetupDTO;
 import com.spendwise.dto.UserDTO;
 import com.spendwise.dto.auth.AuthResponseDTO;
@@ -10,12 +11,14 @@ public interface IAuthService {
 
     String register(RegisterWithSetupDTO dto);
     String verifyEmail(String token);
-    AuthResponseDTO login(LoginRequestDTO dto);
+    AuthResponseDTO login(LoginRequestDTO dto, String clientIp);
     AuthResponseDTO refresh(String refreshToken);
     void logout(String refreshToken);
+    void logoutAll();
     UserDTO getProfile();
     UserDTO updateProfile(UpdateProfileDTO dto);
-    void deleteAccount();
+    AccountDeletionDTO deleteAccount();
+    AccountDeletionDTO getAccountDeletion(String id);
     void forgotPassword(String email);
     void resetPassword(String token, String newPassword);
 
@@ -1,7 +1,9 @@
 package com.spendwise.service.interfaces;
 
+import com.spendwise.dto.CursorPageDTO;
 import com.spendwise.dto.CardExpenseDTO;
 import com.spendwise.dto.CardExpenseFilterDTO;
+import com.spendwise.dto.SliceDTO;
 import com.spendwise.model.CardExpense;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
@@ -13,6 +15,9 @@ public interface ICardExpenseService {
     CardExpenseDTO create(CardExpenseDTO dto);
     CardExpenseDTO findById(Long id) throws ChangeSetPersister.NotFoundException;
     Page<CardExpenseDTO> list(CardExpenseFilterDTO filters, Pageable pageable);
+    SliceDTO<CardExpenseDTO> listSlice(CardExpenseFilterDTO filters, Pageable pageable);
+    long approximateCount(CardExpenseFilterDTO filters);
+    CursorPageDTO<CardExpenseDTO> listByCursor(CardExpenseFilterDTO filters, String cursor, Integer size);
     CardExpenseDTO update(Long id, CardExpenseDTO dto) throws ChangeSetPersister.NotFoundException;
     CardExpenseDTO delete(Long id) throws ChangeSetPersister.NotFoundException;
     CardExpenseDTO cancel(Long id) throws ChangeSetPersister.NotFoundException;
@@ -0,0 +1,9 @@
+package com.spendwise.service.interfaces;
+
+import com.spendwise.model.auth.User;
+
+public interface IDataVersionService {
+    long current(Long userId);
+    void bump(User user);
+    void bumpAll();
+}
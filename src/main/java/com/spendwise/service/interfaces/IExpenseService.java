@@ -1,20 +1,35 @@
 package com.spendwise.service.interfaces;
 
+import com.spendwise.dto.CursorPageDTO;
 import com.spendwise.dto.ExpenseDTO;
 import com.spendwise.dto.ExpenseFilterDTO;
+import com.spendwise.dto.SliceDTO;
+import com.spendwise.dto.SparsePageDTO;
 import com.spendwise.model.Expense;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface IExpenseService {
 
     void populate(Expense expense, ExpenseDTO dto);
     ExpenseDTO create(ExpenseDTO dto);
+    List<ExpenseDTO> createBulk(List<ExpenseDTO> dtos);
+    List<ExpenseDTO> createBulk(List<ExpenseDTO> dtos, Map<LocalDate, BigDecimal> rates);
+    Map<LocalDate, BigDecimal> sellingRates(Collection<LocalDate> dates);
     ExpenseDTO findById(Long id) throws ChangeSetPersister.NotFoundException;
     Page<ExpenseDTO> list(ExpenseFilterDTO filters, Pageable pageable);
+    SparsePageDTO listSparse(ExpenseFilterDTO filters, Pageable pageable, String fields, String refs);
+    SliceDTO<ExpenseDTO> listSlice(ExpenseFilterDTO filters, Pageable pageable);
+    long approximateCount(ExpenseFilterDTO filters);
+    SliceDTO<ExpenseDTO> search(String query, Pageable pageable);
+    CursorPageDTO<ExpenseDTO> listByCursor(ExpenseFilterDTO filters, String cursor, Integer size);
     ExpenseDTO update(Long id, ExpenseDTO dto) throws ChangeSetPersister.NotFoundException;
     ExpenseDTO delete(Long id) throws ChangeSetPersister.NotFoundException;
     ExpenseDTO disable(Long id, ExpenseDTO dto) throws ChangeSetPersister.NotFoundException;
@@ -0,0 +1,7 @@
+package com.spendwise.service.interfaces;
+
+public interface IExpiredTokenService {
+
+    int purgeExpired();
+
+}
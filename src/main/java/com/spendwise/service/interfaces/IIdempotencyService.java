@@ -0,0 +1,16 @@
+package com.spendwise.service.interfaces;
+
+import com.spendwise.dto.IdempotentResponseDTO;
+
+public interface IIdempotencyService {
+
+    /**
+     * Returns the stored response to replay, or null when the caller now owns the key and
+     * must run the request and then call {@link #complete} or {@link #release}.
+     */
+    IdempotentResponseDTO begin(Long userId, String key, String requestHash);
+    void complete(Long userId, String key, IdempotentResponseDTO response);
+    void release(Long userId, String key);
+    int purgeExpired();
+
+}
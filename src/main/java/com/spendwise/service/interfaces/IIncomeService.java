@@ -1,7 +1,10 @@
 package com.spendwise.service.interfaces;
 
+import com.spendwise.dto.CursorPageDTO;
 import com.spendwise.dto.IncomeDTO;
 import com.spendwise.dto.IncomeFilterDTO;
+import com.spendwise.dto.SliceDTO;
+import com.spendwise.dto.SparsePageDTO;
 import com.spendwise.model.Income;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
@@ -13,6 +16,10 @@ public interface IIncomeService {
     IncomeDTO create(IncomeDTO dto);
     IncomeDTO findById(Long id) throws ChangeSetPersister.NotFoundException;
     Page<IncomeDTO> list(IncomeFilterDTO filters, Pageable pageable);
+    SparsePageDTO listSparse(IncomeFilterDTO filters, Pageable pageable, String fields, String refs);
+    SliceDTO<IncomeDTO> listSlice(IncomeFilterDTO filters, Pageable pageable);
+    long approximateCount(IncomeFilterDTO filters);
+    CursorPageDTO<IncomeDTO> listByCursor(IncomeFilterDTO filters, String cursor, Integer size);
     IncomeDTO update(Long id, IncomeDTO dto) throws ChangeSetPersister.NotFoundException;
     IncomeDTO delete(Long id) throws ChangeSetPersister.NotFoundException;
     IncomeDTO disable(Long id, IncomeDTO dto) throws ChangeSetPersister.NotFoundException;
@@ -1,5 +1,6 @@
 package com.spendwise.service.interfaces;
 
+import com.spendwise.dto.MailImportBulkConfirmDTO;
 import com.spendwise.dto.MailImportConfirmDTO;
 import com.spendwise.dto.MailImportDTO;
 import com.spendwise.dto.MailImportFilterDTO;
@@ -8,12 +9,16 @@ import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface IMailImportService {
 
     Page<MailImportDTO> list(MailImportFilterDTO filters, Pageable pageable);
     MailImportDTO findById(Long id) throws ChangeSetPersister.NotFoundException;
     MailImportDTO confirm(Long id, MailImportConfirmDTO dto) throws ChangeSetPersister.NotFoundException;
     MailImportDTO ignore(Long id) throws ChangeSetPersister.NotFoundException;
+    List<MailImportDTO> confirmBulk(List<MailImportBulkConfirmDTO> items);
+    List<MailImportDTO> ignoreBulk(List<Long> ids);
     long getPendingCount();
     MerchantBindingDTO lookupBinding(String merchant);
     void autoConfirmIfBound(Long mailImportId);
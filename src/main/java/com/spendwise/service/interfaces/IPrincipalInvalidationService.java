@@ -0,0 +1,9 @@
+package com.spendwise.service.interfaces;
+
+public interface IPrincipalInvalidationService {
+
+    void invalidate(String email);
+    int applyRemote();
+    int purgeExpired();
+
+}
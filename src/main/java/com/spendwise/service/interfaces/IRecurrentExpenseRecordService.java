@@ -16,5 +16,6 @@ public interface IRecurrentExpenseRecordService {
     RecurrentExpenseRecordDTO cancel(Long id) throws ChangeSetPersister.NotFoundException;
     RecurrentExpenseRecordDTO uncancel(Long id) throws ChangeSetPersister.NotFoundException;
     RecurrentExpenseRecordDTO delete(Long id) throws ChangeSetPersister.NotFoundException;
+    int materializeMonth(int month, int year);
 
 }
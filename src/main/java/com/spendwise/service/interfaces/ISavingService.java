@@ -2,6 +2,7 @@ package com.spendwise.service.interfaces;
 
 import com.spendwise.dto.SavingDTO;
 import com.spendwise.dto.SavingFilterDTO;
+import com.spendwise.dto.SliceDTO;
 import com.spendwise.model.Saving;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
@@ -13,6 +14,9 @@ public interface ISavingService {
     SavingDTO create(SavingDTO dto);
     SavingDTO findById(Long id) throws ChangeSetPersister.NotFoundException;
     Page<SavingDTO> list(SavingFilterDTO filters, Pageable pageable);
+    SliceDTO<SavingDTO> listSlice(SavingFilterDTO filters, Pageable pageable);
+    long approximateCount(SavingFilterDTO filters);
+    SliceDTO<SavingDTO> search(String query, Pageable pageable);
     SavingDTO update(Long id, SavingDTO dto) throws ChangeSetPersister.NotFoundException;
     SavingDTO delete(Long id) throws ChangeSetPersister.NotFoundException;
     SavingDTO disable(Long id, SavingDTO dto) throws ChangeSetPersister.NotFoundException;
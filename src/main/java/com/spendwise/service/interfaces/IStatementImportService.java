@@ -0,0 +1,14 @@
+package com.spendwise.service.interfaces;
+
+import com.spendwise.dto.StatementImportDTO;
+import com.spendwise.enums.StatementFormat;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+public interface IStatementImportService {
+
+    StatementImportDTO importStatement(StatementFormat format, InputStream body, Charset charset);
+    StatementImportDTO progress();
+
+}
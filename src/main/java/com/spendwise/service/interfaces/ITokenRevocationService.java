@@ -0,0 +1,13 @@
+package com.spendwise.service.interfaces;
+
+import com.spendwise.model.auth.User;
+
+public interface ITokenRevocationService {
+
+    void revoke(User user);
+    void revokeAll(User user);
+    boolean isRevoked(Long userId, long tokenVersion);
+    int refresh();
+    int purgeExpired();
+
+}
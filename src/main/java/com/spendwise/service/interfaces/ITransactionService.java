@@ -0,0 +1,9 @@
+package com.spendwise.service.interfaces;
+
+import com.spendwise.dto.CursorPageDTO;
+import com.spendwise.dto.TransactionDTO;
+import com.spendwise.dto.TransactionFilterDTO;
+
+public interface ITransactionService {
+    CursorPageDTO<TransactionDTO> feed(TransactionFilterDTO filters, String cursor, Integer size);
+}
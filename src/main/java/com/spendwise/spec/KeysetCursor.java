@@ -0,0 +1,101 @@
+package com.spendwise.spec;
+
+import com.spendwise.dto.CursorPageDTO;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset (seek) cursor for "newest first" listings ordered by (date DESC, id DESC).
+ * The token is base64url("yyyy-MM-dd:id") of the last row returned, so the next page is a
+ * range scan on (USER_ID, DATE, ID) no matter how deep the client is.
+ */
+public final class KeysetCursor {
+
+    public static final Sort ORDER = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"));
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final LocalDate date;
+    private final Long id;
+
+    private KeysetCursor(LocalDate date, Long id) {
+        this.date = date;
+        this.id = id;
+    }
+
+    public static String encode(LocalDate date, Long id) {
+        String raw = date + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(':');
+            return new KeysetCursor(LocalDate.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    public static int clampSize(Integer size) {
+        if (size == null || size < 1) return DEFAULT_SIZE;
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * Rows strictly after this cursor in (date DESC, id DESC) order. The leading
+     * {@code date <= d} gives the planner a range bound on the index; the OR alone would not.
+     */
+    public <T> Specification<T> after() {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("date"), date),
+                cb.or(
+                        cb.lessThan(root.get("date"), date),
+                        cb.and(cb.equal(root.get("date"), date), cb.lessThan(root.get("id"), id))));
+    }
+
+    /** Rows of an earlier date than this cursor's. */
+    public <T> Specification<T> beforeDate() {
+        return (root, query, cb) -> cb.lessThan(root.get("date"), date);
+    }
+
+    /** Rows of this cursor's date or earlier. */
+    public <T> Specification<T> onOrBeforeDate() {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), date);
+    }
+
+    /**
+     * Adds the seek predicate to {@code spec} when a cursor was supplied.
+     */
+    public static <T> Specification<T> seek(Specification<T> spec, String cursor) {
+        if (cursor == null || cursor.isBlank()) return spec;
+        return spec.and(decode(cursor).after());
+    }
+
+    /**
+     * Builds the page from a {@code size + 1} fetch: the extra row only signals that more exist.
+     */
+    public static <E, D> CursorPageDTO<D> toPage(List<E> rows, int size,
+                                                  Function<E, LocalDate> dateOf,
+                                                  Function<E, Long> idOf,
+                                                  Function<E, D> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            E last = pageRows.get(pageRows.size() - 1);
+            nextCursor = encode(dateOf.apply(last), idOf.apply(last));
+        }
+        return new CursorPageDTO<>(pageRows.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+
+}
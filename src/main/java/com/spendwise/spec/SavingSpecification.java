@@ -16,10 +16,10 @@ public class SavingSpecification {
             List<Predicate> predicates = new ArrayList<>();
             predicates.add(cb.equal(root.get("user"), user));
 
-            // Filtro por descripción (búsqueda parcial, case-insensitive)
-            if (filters.getDescription() != null && !filters.getDescription().isEmpty()) {
-                predicates.add(cb.like(cb.lower(root.get("description")),
-                        "%" + filters.getDescription().toLowerCase() + "%"));
+            // Filtro por descripción (búsqueda parcial, sin distinguir mayúsculas ni acentos)
+            if (filters.getDescription() != null && !filters.getDescription().isBlank()) {
+                predicates.add(cb.like(root.get("descriptionSearch"),
+                        SearchText.containsPattern(filters.getDescription()), SearchText.LIKE_ESCAPE));
             }
 
             // Filtros por monto en pesos
@@ -0,0 +1,51 @@
+package com.spendwise.spec;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalization shared by the DESCRIPTION_SEARCH columns and the queries that read them:
+ * lower case, accents stripped ("Café Martínez" → "cafe martinez") and whitespace collapsed.
+ * It mirrors {@code lower(unaccent(...))} on Postgres, which backfills existing rows.
+ */
+public final class SearchText {
+
+    public static final char LIKE_ESCAPE = '\\';
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private SearchText() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /** {@code %text%} over the normalized text, with LIKE wildcards escaped by {@link #LIKE_ESCAPE}. */
+    public static String containsPattern(String text) {
+        return "%" + escapeLike(normalize(text)) + "%";
+    }
+
+    /** {@code text%} over the normalized text, with LIKE wildcards escaped by {@link #LIKE_ESCAPE}. */
+    public static String prefixPattern(String text) {
+        return escapeLike(normalize(text)) + "%";
+    }
+
+    private static String escapeLike(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                sb.append(LIKE_ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.spendwise.spec;
+
+import com.spendwise.dto.TransactionDTO;
+import com.spendwise.enums.TransactionType;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Comparator;
+
+/**
+ * Opaque keyset cursor of the transactions feed, which is ordered by (date DESC, type, id DESC)
+ * across all sources. It is a {@link KeysetCursor} on the last row returned plus that row's
+ * type: the token is the keyset token, a '.' (outside the base64url alphabet) and the type.
+ * <p>
+ * For each source the position translates into a plain (date, id) seek, so every source query
+ * stays a range scan on its (USER_ID, DATE, ID) index: sources ordered before the cursor's type
+ * resume strictly before its date, sources after it resume at its date, and the cursor's own
+ * source resumes right after its id.
+ */
+public final class TransactionCursor {
+
+    public static final Comparator<TransactionDTO> ORDER = Comparator
+            .comparing(TransactionDTO::getDate, Comparator.reverseOrder())
+            .thenComparing(TransactionDTO::getType)
+            .thenComparing(TransactionDTO::getId, Comparator.reverseOrder());
+
+    private final KeysetCursor position;
+    private final TransactionType type;
+
+    private TransactionCursor(KeysetCursor position, TransactionType type) {
+        this.position = position;
+        this.type = type;
+    }
+
+    public static String encode(TransactionDTO row) {
+        return KeysetCursor.encode(row.getDate(), row.getId()) + "." + row.getType();
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        int sep = cursor.lastIndexOf('.');
+        if (sep < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+        TransactionType type;
+        try {
+            type = TransactionType.valueOf(cursor.substring(sep + 1));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+        return new TransactionCursor(KeysetCursor.decode(cursor.substring(0, sep)), type);
+    }
+
+    /**
+     * Rows of {@code source} strictly after this cursor in the feed order.
+     */
+    public <T> Specification<T> after(TransactionType source) {
+        int cmp = source.compareTo(type);
+        if (cmp < 0) {
+            return position.beforeDate();
+        }
+        if (cmp > 0) {
+            return position.onOrBeforeDate();
+        }
+        return position.after();
+    }
+
+    /**
+     * Adds the seek predicate for {@code source} to {@code spec} when a cursor was supplied.
+     */
+    public static <T> Specification<T> seek(Specification<T> spec, TransactionCursor cursor, TransactionType source) {
+        if (cursor == null) return spec;
+        return spec.and(cursor.after(source));
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.spendwise.spec;
+
+import com.spendwise.dto.TransactionFilterDTO;
+import com.spendwise.model.auth.User;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filters shared by every source of the transactions feed. Expense, Income, CardExpense and
+ * Saving all have user, date, currency and amountInPesos, so one specification is pushed down
+ * to each source query.
+ */
+public class TransactionSpecification {
+
+    public static <T> Specification<T> withFilters(TransactionFilterDTO filters, User user) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("user"), user));
+
+            // Filtros por rango de fechas
+            if (filters.getStartDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("date"), filters.getStartDate()));
+            }
+
+            if (filters.getEndDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("date"), filters.getEndDate()));
+            }
+
+            // Filtro por moneda (se compara la FK, sin join)
+            if (filters.getCurrencyId() != null) {
+                predicates.add(cb.equal(root.get("currency").get("id"), filters.getCurrencyId()));
+            }
+
+            // Filtros por monto en pesos
+            if (filters.getMinAmountInPesos() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("amountInPesos"), filters.getMinAmountInPesos()));
+            }
+
+            if (filters.getMaxAmountInPesos() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("amountInPesos"), filters.getMaxAmountInPesos()));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+}
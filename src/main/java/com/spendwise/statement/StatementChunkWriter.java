@@ -0,0 +1,181 @@
+package com.spendwise.statement;
+
+import com.spendwise.dto.CategoryDTO;
+import com.spendwise.dto.ExpenseDTO;
+import com.spendwise.dto.PaymentMethodDTO;
+import com.spendwise.enums.MailImportStatus;
+import com.spendwise.enums.StatementFormat;
+import com.spendwise.model.MailImport;
+import com.spendwise.model.MerchantBinding;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.ExpenseRepository;
+import com.spendwise.repository.MailImportRepository;
+import com.spendwise.repository.MerchantBindingRepository;
+import com.spendwise.service.interfaces.IDataVersionService;
+import com.spendwise.service.interfaces.IExpenseService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writes one chunk of a statement in its own transaction: drops rows that are already
+ * recorded, maps the rest through the user's merchant bindings and stores them. Rows bound
+ * to a category become expenses through {@link IExpenseService#createBulk}; the others are
+ * queued as PENDING mail imports, the same review flow as an unbound bank email.
+ * <p>
+ * The FX rates those expenses need are HTTP calls, so {@link #sellingRates} resolves them
+ * before {@link #write} opens the transaction, and no pooled connection waits on them.
+ */
+@Service
+public class StatementChunkWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementChunkWriter.class);
+    private static final String MESSAGE_ID_PREFIX = "statement:";
+
+    private final ExpenseRepository expenseRepository;
+    private final MailImportRepository mailImportRepository;
+    private final MerchantBindingRepository merchantBindingRepository;
+    private final IExpenseService expenseService;
+    private final IDataVersionService dataVersionService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public record Result(int imported, int pending, int duplicates) {
+    }
+
+    @Autowired
+    public StatementChunkWriter(ExpenseRepository expenseRepository,
+                                MailImportRepository mailImportRepository,
+                                MerchantBindingRepository merchantBindingRepository,
+                                IExpenseService expenseService,
+                                IDataVersionService dataVersionService) {
+        this.expenseRepository = expenseRepository;
+        this.mailImportRepository = mailImportRepository;
+        this.merchantBindingRepository = merchantBindingRepository;
+        this.expenseService = expenseService;
+        this.dataVersionService = dataVersionService;
+    }
+
+    /**
+     * The selling rates for the dates of the rows bound to a category. Not transactional: the
+     * bindings are read in auto-commit, so the connection is back in the pool before the FX
+     * lookups start. Rows {@link #write} later drops as duplicates are still counted here.
+     */
+    public Map<LocalDate, BigDecimal> sellingRates(List<StatementRow> rows, User user) {
+        Map<String, MerchantBinding> bindings = bindings(rows, user);
+        Set<LocalDate> dates = new HashSet<>();
+        for (StatementRow row : rows) {
+            MerchantBinding binding = bindings.get(row.getDescription().toLowerCase(Locale.ROOT));
+            if (binding != null && binding.getCategory() != null) {
+                dates.add(row.getDate());
+            }
+        }
+        return dates.isEmpty() ? Map.of() : expenseService.sellingRates(dates);
+    }
+
+    @Transactional
+    public Result write(List<StatementRow> rows, StatementFormat format, User user, StatementDedup dedup,
+                        Map<LocalDate, BigDecimal> rates) {
+        Set<LocalDate> missing = dedup.retain(rows.stream().map(StatementRow::getDate).collect(Collectors.toSet()));
+        if (!missing.isEmpty()) {
+            List<Object[]> recorded = new ArrayList<>(expenseRepository.findStatementKeys(user, missing));
+            recorded.addAll(mailImportRepository.findStatementKeys(user, missing));
+            dedup.load(missing, recorded);
+        }
+
+        Map<String, MerchantBinding> bindings = bindings(rows, user);
+        List<ExpenseDTO> expenses = new ArrayList<>();
+        List<MailImport> pending = new ArrayList<>();
+        int duplicates = 0;
+        for (StatementRow row : rows) {
+            String hash = StatementHash.of(row.getDate(), row.getAmount(), row.getDescription());
+            int occurrence = dedup.claim(row, hash);
+            if (occurrence == 0) {
+                duplicates++;
+                continue;
+            }
+            MerchantBinding binding = bindings.get(row.getDescription().toLowerCase(Locale.ROOT));
+            if (binding != null && binding.getCategory() != null) {
+                expenses.add(toExpense(row, binding));
+            } else {
+                pending.add(toMailImport(row, format, user, MESSAGE_ID_PREFIX + hash + ":" + occurrence));
+            }
+        }
+
+        if (!expenses.isEmpty()) {
+            expenseService.createBulk(expenses, rates);
+        }
+        if (!pending.isEmpty()) {
+            mailImportRepository.saveAll(pending);
+            dataVersionService.bump(user);
+        }
+        // Keeps the request-scoped persistence context from growing with every chunk
+        entityManager.flush();
+        entityManager.clear();
+
+        log.debug("Statement chunk of {} row(s): {} imported, {} pending, {} duplicate(s)",
+                rows.size(), expenses.size(), pending.size(), duplicates);
+        return new Result(expenses.size(), pending.size(), duplicates);
+    }
+
+    private Map<String, MerchantBinding> bindings(List<StatementRow> rows, User user) {
+        List<String> names = rows.stream()
+                .map(row -> row.getDescription().toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+        Map<String, MerchantBinding> bindings = new HashMap<>();
+        for (MerchantBinding binding : merchantBindingRepository.findAllByUserAndMerchantNamesIgnoreCase(user, names)) {
+            bindings.putIfAbsent(binding.getMerchantName().toLowerCase(Locale.ROOT), binding);
+        }
+        return bindings;
+    }
+
+    private static ExpenseDTO toExpense(StatementRow row, MerchantBinding binding) {
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setDescription(row.getDescription());
+        dto.setAmountInPesos(row.getAmount().abs());
+        dto.setDate(row.getDate());
+
+        CategoryDTO category = new CategoryDTO();
+        category.setId(binding.getCategory().getId());
+        dto.setCategory(category);
+        if (binding.getPaymentMethod() != null) {
+            PaymentMethodDTO paymentMethod = new PaymentMethodDTO();
+            paymentMethod.setId(binding.getPaymentMethod().getId());
+            dto.setPaymentMethod(paymentMethod);
+        }
+        return dto;
+    }
+
+    private static MailImport toMailImport(StatementRow row, StatementFormat format, User user, String messageId) {
+        MailImport mailImport = new MailImport();
+        mailImport.setUser(user);
+        mailImport.setImapMessageId(messageId);
+        mailImport.setSenderEntity(format.getEntityName());
+        mailImport.setSubject(row.getDescription());
+        mailImport.setParsedMerchant(row.getDescription());
+        mailImport.setParsedAmount(row.getAmount().abs());
+        mailImport.setParsedCurrencySymbol("$");
+        mailImport.setParsedDate(row.getDate());
+        mailImport.setParsedIsDebt(false);
+        mailImport.setStatus(MailImportStatus.PENDING);
+        return mailImport;
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.spendwise.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Duplicate detection for one import run.
+ * <p>
+ * For each date it keeps how many recorded rows share a content hash (loaded once, before
+ * the run writes anything for that date) and how many file rows with that hash were seen.
+ * The n-th file row with a given hash is a duplicate while n does not exceed the recorded
+ * count, so two identical purchases on the same day are both kept and a re-import adds
+ * nothing. Only the dates of the current chunk are kept, which bounds memory for statements
+ * sorted by date, as bank exports are.
+ */
+public class StatementDedup {
+
+    private final Map<LocalDate, Map<String, int[]>> byDate = new HashMap<>();
+
+    /** Drops the state of dates that are not in {@code dates} and returns those not loaded yet. */
+    public Set<LocalDate> retain(Set<LocalDate> dates) {
+        byDate.keySet().retainAll(dates);
+        Set<LocalDate> missing = new HashSet<>(dates);
+        missing.removeAll(byDate.keySet());
+        return missing;
+    }
+
+    /** Loads recorded rows as {@code [date, amount, description]} for {@code dates}. */
+    public void load(Collection<LocalDate> dates, List<Object[]> recorded) {
+        dates.forEach(date -> byDate.put(date, new HashMap<>()));
+        for (Object[] row : recorded) {
+            LocalDate date = (LocalDate) row[0];
+            BigDecimal amount = (BigDecimal) row[1];
+            Map<String, int[]> counts = byDate.get(date);
+            if (date == null || amount == null || counts == null) continue;
+            counts.computeIfAbsent(StatementHash.of(date, amount, (String) row[2]), h -> new int[2])[0]++;
+        }
+    }
+
+    /**
+     * Counts {@code row} as seen. Returns 0 when it is a duplicate, otherwise its 1-based
+     * occurrence among rows with the same hash.
+     */
+    public int claim(StatementRow row, String hash) {
+        int[] counts = byDate.get(row.getDate()).computeIfAbsent(hash, h -> new int[2]);
+        counts[1]++;
+        return counts[1] <= counts[0] ? 0 : counts[1];
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.spendwise.statement;
+
+import com.spendwise.spec.SearchText;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Content hash used to recognise a statement row that is already recorded: SHA-256 of the
+ * date, the absolute amount and the normalized description. Expenses hash their
+ * DESCRIPTION_SEARCH and mail imports their parsed merchant, so a movement matches whichever
+ * row already represents it.
+ */
+public final class StatementHash {
+
+    private StatementHash() {
+    }
+
+    public static String of(LocalDate date, BigDecimal amount, String description) {
+        String key = date + "|" + amount.abs().stripTrailingZeros().toPlainString()
+                + "|" + Objects.toString(SearchText.normalize(description), "");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.spendwise.statement;
+
+import com.spendwise.enums.StatementFormat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * Parser of one bank statement format.
+ *
+ * Implementations read the statement as a stream and hand each row to {@code sink} as soon
+ * as it is read, so memory does not grow with the size of the file. A file that is not in
+ * the parser's format is rejected with a 400.
+ */
+public interface StatementParser {
+
+    StatementFormat getFormat();
+
+    void parse(Reader reader, Consumer<StatementRow> sink) throws IOException;
+
+}
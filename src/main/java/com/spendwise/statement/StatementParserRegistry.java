@@ -0,0 +1,36 @@
+package com.spendwise.statement;
+
+import com.spendwise.enums.StatementFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class StatementParserRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementParserRegistry.class);
+
+    private final Map<StatementFormat, StatementParser> parsers = new EnumMap<>(StatementFormat.class);
+
+    @Autowired
+    public StatementParserRegistry(List<StatementParser> parsers) {
+        parsers.forEach(p -> this.parsers.put(p.getFormat(), p));
+        log.info("StatementParserRegistry loaded with {} parser(s): {}", parsers.size(), this.parsers.keySet());
+    }
+
+    public StatementParser get(StatementFormat format) {
+        StatementParser parser = parsers.get(format);
+        if (parser == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported statement format " + format);
+        }
+        return parser;
+    }
+
+}
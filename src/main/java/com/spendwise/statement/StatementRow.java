@@ -0,0 +1,22 @@
+package com.spendwise.statement;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One movement of a bank statement. Parsers emit a row for every data line; fields they
+ * could not read are left null and the importer counts the row as skipped.
+ */
+@Data
+public class StatementRow {
+
+    private LocalDate date;
+    private String description;
+    /** Signed as in the statement: debits are negative */
+    private BigDecimal amount;
+    /** Bank reference / OFX FITID, informational only */
+    private String reference;
+
+}
@@ -0,0 +1,111 @@
+package com.spendwise.statement.impl;
+
+import com.spendwise.spec.SearchText;
+import com.spendwise.statement.StatementParser;
+import com.spendwise.statement.StatementRow;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Base of the CSV statement parsers. Exports usually start with a few title lines, so the
+ * header is the first line that has every required column; columns are then read by name
+ * (lower case, accents stripped), whatever their position. The delimiter is ';' when the
+ * header has one and ',' otherwise. Lines are read one at a time.
+ */
+public abstract class CsvStatementParser implements StatementParser {
+
+    private static final int MAX_PREAMBLE_LINES = 50;
+
+    /** Normalized names of the columns that identify this export */
+    protected abstract List<String> requiredColumns();
+
+    protected abstract StatementRow toRow(Cells cells);
+
+    @Override
+    public void parse(Reader reader, Consumer<StatementRow> sink) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        Map<String, Integer> header = null;
+        char delimiter = ',';
+        int preamble = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (line.isBlank()) continue;
+            if (header == null) {
+                if (++preamble > MAX_PREAMBLE_LINES) break;
+                line = line.replace("\uFEFF", "");
+                delimiter = line.indexOf(';') >= 0 ? ';' : ',';
+                Map<String, Integer> columns = columns(split(line, delimiter));
+                if (columns.keySet().containsAll(requiredColumns())) header = columns;
+                continue;
+            }
+            sink.accept(toRow(new Cells(header, split(line, delimiter))));
+        }
+        if (header == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Not a " + getFormat() + " statement: expected columns " + requiredColumns());
+        }
+    }
+
+    private static Map<String, Integer> columns(List<String> names) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.putIfAbsent(SearchText.normalize(names.get(i)), i);
+        }
+        return columns;
+    }
+
+    /** Splits one CSV line, honouring double-quoted cells and "" escapes. */
+    static List<String> split(String line, char delimiter) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == delimiter && !quoted) {
+                cells.add(cell.toString().trim());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString().trim());
+        return cells;
+    }
+
+    /** The cells of one line, looked up by normalized column name. */
+    protected static final class Cells {
+
+        private final Map<String, Integer> header;
+        private final List<String> values;
+
+        private Cells(Map<String, Integer> header, List<String> values) {
+            this.header = header;
+            this.values = values;
+        }
+
+        public String get(String column) {
+            Integer index = header.get(column);
+            if (index == null || index >= values.size()) return null;
+            String value = values.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.spendwise.statement.impl;
+
+import com.spendwise.enums.StatementFormat;
+import com.spendwise.statement.StatementRow;
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Mercado Pago account statement ("Resumen de cuenta") export:
+ * "RELEASE_DATE;TRANSACTION_TYPE;REFERENCE_ID;TRANSACTION_NET_AMOUNT;PARTIAL_BALANCE",
+ * dates as dd-MM-yyyy. The transaction type ("Pago Coto", "Transferencia enviada ...")
+ * is the description.
+ */
+@Component
+public class MercadoPagoCsvParser extends CsvStatementParser {
+
+    private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("d-M-uuuu");
+
+    @Override
+    public StatementFormat getFormat() {
+        return StatementFormat.MERCADOPAGO_CSV;
+    }
+
+    @Override
+    protected List<String> requiredColumns() {
+        return List.of("release_date", "transaction_type", "transaction_net_amount");
+    }
+
+    @Override
+    protected StatementRow toRow(Cells cells) {
+        StatementRow row = new StatementRow();
+        row.setDate(StatementValues.parseDate(cells.get("release_date"), DATE_FMT));
+        row.setDescription(cells.get("transaction_type"));
+        row.setAmount(StatementValues.parseAmount(cells.get("transaction_net_amount")));
+        row.setReference(cells.get("reference_id"));
+        return row;
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.spendwise.statement.impl;
+
+import com.spendwise.enums.StatementFormat;
+import com.spendwise.statement.StatementParser;
+import com.spendwise.statement.StatementRow;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * OFX 1.x (SGML, leaf elements without closing tags) and 2.x (XML) statements. The file is
+ * scanned one tag at a time and each {@code <STMTTRN>} aggregate becomes a row: DTPOSTED,
+ * TRNAMT, NAME (or MEMO when there is no name) and FITID. Values longer than
+ * {@value #MAX_VALUE_LENGTH} characters are truncated so a malformed file cannot grow the buffer.
+ */
+@Component
+public class OfxStatementParser implements StatementParser {
+
+    private static final int MAX_TAG_LENGTH = 64;
+    private static final int MAX_VALUE_LENGTH = 512;
+    private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Override
+    public StatementFormat getFormat() {
+        return StatementFormat.OFX;
+    }
+
+    @Override
+    public void parse(Reader reader, Consumer<StatementRow> sink) throws IOException {
+        Reader in = new BufferedReader(reader);
+        StringBuilder tag = new StringBuilder();
+        StringBuilder value = new StringBuilder();
+        Map<String, String> transaction = null;
+        String element = null;
+        boolean ofx = false;
+
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c != '<') {
+                if (element != null && value.length() < MAX_VALUE_LENGTH) value.append((char) c);
+                continue;
+            }
+            if (element != null && transaction != null) {
+                transaction.put(element, value.toString().trim());
+            }
+            tag.setLength(0);
+            while ((c = in.read()) != -1 && c != '>') {
+                if (tag.length() < MAX_TAG_LENGTH) tag.append((char) c);
+            }
+            String name = tag.toString().trim().toUpperCase(Locale.ROOT);
+            value.setLength(0);
+            element = null;
+
+            switch (name) {
+                case "OFX" -> ofx = true;
+                case "STMTTRN" -> transaction = new HashMap<>();
+                case "/STMTTRN" -> {
+                    if (transaction != null) sink.accept(toRow(transaction));
+                    transaction = null;
+                }
+                default -> {
+                    if (!name.isEmpty() && Character.isLetter(name.charAt(0))) element = name;
+                }
+            }
+        }
+        if (!ofx) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Not an OFX statement");
+        }
+    }
+
+    private static StatementRow toRow(Map<String, String> transaction) {
+        String posted = transaction.get("DTPOSTED");
+        String name = transaction.get("NAME");
+
+        StatementRow row = new StatementRow();
+        row.setDate(posted != null && posted.length() >= 8
+                ? StatementValues.parseDate(posted.substring(0, 8), DATE_FMT) : null);
+        row.setAmount(StatementValues.parseAmount(transaction.get("TRNAMT")));
+        row.setDescription(name != null && !name.isEmpty() ? name : transaction.get("MEMO"));
+        row.setReference(transaction.get("FITID"));
+        return row;
+    }
+
+}
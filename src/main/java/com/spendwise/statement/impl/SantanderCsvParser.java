@@ -0,0 +1,40 @@
+package com.spendwise.statement.impl;
+
+import com.spendwise.enums.StatementFormat;
+import com.spendwise.statement.StatementRow;
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Account movements exported from Online Banking Santander Argentina:
+ * "Fecha;Sucursal origen;Descripción;Referencia;Importe;Saldo", dates as dd/MM/yyyy and
+ * amounts as "-1.234,56" (debits negative).
+ */
+@Component
+public class SantanderCsvParser extends CsvStatementParser {
+
+    private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("d/M/uuuu");
+
+    @Override
+    public StatementFormat getFormat() {
+        return StatementFormat.SANTANDER_CSV;
+    }
+
+    @Override
+    protected List<String> requiredColumns() {
+        return List.of("fecha", "descripcion", "importe");
+    }
+
+    @Override
+    protected StatementRow toRow(Cells cells) {
+        StatementRow row = new StatementRow();
+        row.setDate(StatementValues.parseDate(cells.get("fecha"), DATE_FMT));
+        row.setDescription(cells.get("descripcion"));
+        row.setAmount(StatementValues.parseAmount(cells.get("importe")));
+        row.setReference(cells.get("referencia"));
+        return row;
+    }
+
+}
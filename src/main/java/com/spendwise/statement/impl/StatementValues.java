@@ -0,0 +1,57 @@
+package com.spendwise.statement.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
+
+/**
+ * Lenient readers for the values found in bank exports. Both return null when the value
+ * cannot be read, so a bad line is skipped instead of failing the whole import.
+ */
+final class StatementValues {
+
+    private static final Pattern NOT_NUMERIC = Pattern.compile("[^0-9.,-]");
+    private static final Pattern DOT_THOUSANDS = Pattern.compile("-?\\d{1,3}(\\.\\d{3})+");
+
+    private StatementValues() {
+    }
+
+    /**
+     * Reads Argentine ("-1.234,56") and plain ("-1234.56", "-1,234.56") amounts: when both
+     * separators appear the last one is the decimal point, a lone comma is always decimal and
+     * a lone dot is decimal unless it groups thousands.
+     */
+    static BigDecimal parseAmount(String raw) {
+        if (raw == null) return null;
+        String value = NOT_NUMERIC.matcher(raw).replaceAll("");
+        if (value.isEmpty()) return null;
+        int comma = value.lastIndexOf(',');
+        int dot = value.lastIndexOf('.');
+        if (comma >= 0 && dot >= 0) {
+            value = comma > dot
+                    ? value.replace(".", "").replace(',', '.')
+                    : value.replace(",", "");
+        } else if (comma >= 0) {
+            value = value.replace(',', '.');
+        } else if (dot >= 0 && DOT_THOUSANDS.matcher(value).matches()) {
+            value = value.replace(".", "");
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static LocalDate parseDate(String raw, DateTimeFormatter format) {
+        if (raw == null || raw.isBlank()) return null;
+        try {
+            return LocalDate.parse(raw.trim(), format);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+}
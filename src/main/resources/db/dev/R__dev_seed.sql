@@ -273,3 +273,11 @@ VALUES ('Cuota tarjeta Galicia marzo', 95000, 76, '2026-03-01', '2026-04-10', fa
   (SELECT id FROM ISSUING_ENTITY WHERE description = 'Banco Galicia' AND user_id = (SELECT id FROM APP_USER WHERE email = 'test@gmail.com')),
   (SELECT id FROM CURRENCY WHERE name = 'Peso Argentino' AND user_id = (SELECT id FROM APP_USER WHERE email = 'test@gmail.com')),
   (SELECT id FROM APP_USER WHERE email = 'test@gmail.com'), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+-- ─────────────────────────────────────────────────────────────────────────────
+-- COLUMNA DE BÚSQUEDA (la mantiene la aplicación; acá se completa para el seed)
+-- ─────────────────────────────────────────────────────────────────────────────
+UPDATE EXPENSE SET DESCRIPTION_SEARCH = trim(regexp_replace(lower(unaccent(DESCRIPTION)), '\s+', ' ', 'g'))
+WHERE DESCRIPTION IS NOT NULL AND DESCRIPTION_SEARCH IS NULL;
+UPDATE SAVING SET DESCRIPTION_SEARCH = trim(regexp_replace(lower(unaccent(DESCRIPTION)), '\s+', ' ', 'g'))
+WHERE DESCRIPTION IS NOT NULL AND DESCRIPTION_SEARCH IS NULL;
@@ -0,0 +1,18 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V10 — SECUENCIAS AGRUPADAS PARA LA CONFIRMACIÓN MASIVA DE MAIL IMPORTS
+-- Confirmar varias importaciones a la vez crea gastos de tarjeta y vínculos de
+-- comercio en bloque. Igual que en V5 y V9, con IDENTITY cada INSERT va solo;
+-- con una secuencia INCREMENT BY 50 Hibernate los agrupa en lotes JDBC.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE SEQUENCE CARD_EXPENSE_SEQ INCREMENT BY 50;
+SELECT setval('CARD_EXPENSE_SEQ', COALESCE(MAX(ID), 0) + 50) FROM CARD_EXPENSE;
+ALTER TABLE CARD_EXPENSE ALTER COLUMN ID DROP IDENTITY IF EXISTS;
+ALTER TABLE CARD_EXPENSE ALTER COLUMN ID SET DEFAULT nextval('CARD_EXPENSE_SEQ');
+ALTER SEQUENCE CARD_EXPENSE_SEQ OWNED BY CARD_EXPENSE.ID;
+
+CREATE SEQUENCE MERCHANT_BINDING_SEQ INCREMENT BY 50;
+SELECT setval('MERCHANT_BINDING_SEQ', COALESCE(MAX(ID), 0) + 50) FROM MERCHANT_BINDING;
+ALTER TABLE MERCHANT_BINDING ALTER COLUMN ID DROP IDENTITY IF EXISTS;
+ALTER TABLE MERCHANT_BINDING ALTER COLUMN ID SET DEFAULT nextval('MERCHANT_BINDING_SEQ');
+ALTER SEQUENCE MERCHANT_BINDING_SEQ OWNED BY MERCHANT_BINDING.ID;
@@ -0,0 +1,14 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V11 — INVALIDACIÓN DEL CACHÉ DE USUARIOS AUTENTICADOS
+-- El filtro JWT cachea al usuario por email unos segundos. Cada cambio, baja o
+-- deshabilitación del usuario deja una fila acá; cada nodo lee las filas nuevas y saca
+-- al usuario de su caché. Las filas de más de una hora se borran.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE TABLE PRINCIPAL_INVALIDATION (
+    ID              BIGINT       GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    EMAIL           VARCHAR(255) NOT NULL,
+    CREATED_AT      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IDX_PRINCIPAL_INVALIDATION_CREATED_AT ON PRINCIPAL_INVALIDATION (CREATED_AT);
@@ -0,0 +1,21 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V12 — AUTORIZACIÓN SIN CONSULTAS Y REVOCACIÓN DE TOKENS
+-- El access token lleva firmados el rol, el estado y TOKEN_VERSION del usuario,
+-- así que el filtro JWT no consulta la base. Deshabilitar, resetear la
+-- contraseña o cerrar todas las sesiones sube TOKEN_VERSION y deja una fila en
+-- TOKEN_REVOCATION: los tokens con una versión menor dejan de valer. Cada nodo
+-- tiene en memoria las revocaciones vigentes; las filas más viejas que la vida
+-- de un access token ya no sirven y se borran. USER_ID no es FK para que la
+-- revocación siga en pie una vez borrado el usuario.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+ALTER TABLE APP_USER ADD COLUMN TOKEN_VERSION BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE TOKEN_REVOCATION (
+    ID                  BIGINT       GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    USER_ID             BIGINT       NOT NULL,
+    MIN_TOKEN_VERSION   BIGINT       NOT NULL,
+    REVOKED_AT          TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IDX_TOKEN_REVOCATION_REVOKED_AT ON TOKEN_REVOCATION (REVOKED_AT);
@@ -0,0 +1,19 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V13 — TOKENS HASHEADOS Y LIMPIEZA DE VENCIDOS
+-- REFRESH_TOKEN, VERIFICATION_TOKEN y PASSWORD_RESET_TOKEN guardan el SHA-256
+-- del token en vez del token: se hashean los existentes en el lugar, así las
+-- sesiones y los enlaces ya enviados siguen andando. ExpiredTokenSweepJob
+-- borra por partes las filas vencidas de las tres tablas, por eso el índice
+-- sobre la fecha de vencimiento. VERIFICATION_TOKEN y PASSWORD_RESET_TOKEN se
+-- buscaban por TOKEN sin índice.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+UPDATE REFRESH_TOKEN SET TOKEN = encode(sha256(convert_to(TOKEN, 'UTF8')), 'hex');
+UPDATE VERIFICATION_TOKEN SET TOKEN = encode(sha256(convert_to(TOKEN, 'UTF8')), 'hex') WHERE TOKEN IS NOT NULL;
+UPDATE PASSWORD_RESET_TOKEN SET TOKEN = encode(sha256(convert_to(TOKEN, 'UTF8')), 'hex') WHERE TOKEN IS NOT NULL;
+
+CREATE INDEX IDX_REFRESH_TOKEN_EXPIRES_AT ON REFRESH_TOKEN (EXPIRES_AT);
+CREATE INDEX IDX_VERIFICATION_TOKEN_TOKEN ON VERIFICATION_TOKEN (TOKEN);
+CREATE INDEX IDX_VERIFICATION_TOKEN_EXPIRY_DATE ON VERIFICATION_TOKEN (EXPIRY_DATE);
+CREATE INDEX IDX_PASSWORD_RESET_TOKEN_TOKEN ON PASSWORD_RESET_TOKEN (TOKEN);
+CREATE INDEX IDX_PASSWORD_RESET_TOKEN_EXPIRY_DATE ON PASSWORD_RESET_TOKEN (EXPIRY_DATE);
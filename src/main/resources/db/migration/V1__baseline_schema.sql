@@ -0,0 +1,316 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V1 — ESQUEMA BASE
+-- Esquema tal como lo generaba Hibernate (ddl-auto) antes de usar migraciones.
+-- En prod ya existe: Flyway lo marca como aplicado (baseline-on-migrate) y
+-- sólo ejecuta las versiones siguientes. Los índices secundarios viven en V3
+-- para que también se creen en la base de prod.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE TABLE APP_USER (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    EMAIL            VARCHAR(255) UNIQUE,
+    PASSWORD_HASH    VARCHAR(255),
+    NAME             VARCHAR(255),
+    SURNAME          VARCHAR(255),
+    ENABLED          BOOLEAN,
+    PROFILE_PICTURE  VARCHAR(255),
+    ROLE             VARCHAR(255)
+);
+
+CREATE TABLE CURRENCY (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    NAME             VARCHAR(255),
+    SYMBOL           VARCHAR(3),
+    ENABLED          BOOLEAN,
+    IS_DEFAULT       BOOLEAN,
+    ICON             VARCHAR(2048),
+    USER_ID          BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE CATEGORY (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    NAME             VARCHAR(255),
+    ENABLED          BOOLEAN,
+    ICON             VARCHAR(2048),
+    TYPE             VARCHAR(255),
+    USER_ID          BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE ISSUING_ENTITY (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    DESCRIPTION      VARCHAR(255),
+    ENABLED          BOOLEAN,
+    ICON             VARCHAR(2048),
+    USER_ID          BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE PAYMENT_METHOD (
+    ID                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE       TIMESTAMP(6),
+    LAST_UPDATE_DATE    TIMESTAMP(6),
+    NAME                VARCHAR(255),
+    PAYMENT_METHOD_TYPE SMALLINT,
+    ENABLED             BOOLEAN,
+    ICON_URL            VARCHAR(255),
+    ISSUING_ENTITY_ID   BIGINT REFERENCES ISSUING_ENTITY (ID),
+    USER_ID             BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE SAVINGS_WALLET (
+    ID                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE       TIMESTAMP(6),
+    LAST_UPDATE_DATE    TIMESTAMP(6),
+    NAME                VARCHAR(255),
+    SAVINGS_WALLET_TYPE SMALLINT,
+    ENABLED             BOOLEAN,
+    ICON                VARCHAR(255),
+    ISSUING_ENTITY_ID   BIGINT REFERENCES ISSUING_ENTITY (ID),
+    USER_ID             BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE EXPENSE (
+    ID                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE     TIMESTAMP(6),
+    LAST_UPDATE_DATE  TIMESTAMP(6),
+    DESCRIPTION       VARCHAR(255),
+    AMOUNT_ARS        NUMERIC(38, 2),
+    AMOUNT_USD        NUMERIC(38, 2),
+    DATE              DATE,
+    CATEGORY_ID       BIGINT REFERENCES CATEGORY (ID),
+    PAYMENT_METHOD_ID BIGINT REFERENCES PAYMENT_METHOD (ID),
+    CURRENCY_ID       BIGINT REFERENCES CURRENCY (ID),
+    MICRO_EXPENSE     BOOLEAN,
+    USER_ID           BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE INCOME (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    DESCRIPTION      VARCHAR(255),
+    AMOUNT_ARS       NUMERIC(38, 2),
+    AMOUNT_USD       NUMERIC(38, 2),
+    SOURCE_ID        BIGINT REFERENCES CATEGORY (ID),
+    CURRENCY_ID      BIGINT REFERENCES CURRENCY (ID),
+    DATE             DATE,
+    USER_ID          BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE CARD_EXPENSE (
+    ID                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE     TIMESTAMP(6),
+    LAST_UPDATE_DATE  TIMESTAMP(6),
+    DESCRIPTION       VARCHAR(255),
+    AMOUNT_ARS        NUMERIC(38, 2),
+    AMOUNT_USD        NUMERIC(38, 2),
+    DATE              DATE,
+    DUE_DATE          DATE,
+    CANCELLED         BOOLEAN,
+    PAYMENT_METHOD_ID BIGINT REFERENCES PAYMENT_METHOD (ID),
+    CURRENCY_ID       BIGINT REFERENCES CURRENCY (ID),
+    USER_ID           BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE DEBT (
+    ID                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE     TIMESTAMP(6),
+    LAST_UPDATE_DATE  TIMESTAMP(6),
+    DESCRIPTION       VARCHAR(255),
+    AMOUNT_ARS        NUMERIC(38, 2),
+    AMOUNT_USD        NUMERIC(38, 2),
+    DATE              DATE,
+    DUE_DATE          DATE,
+    CANCELLED         BOOLEAN,
+    PERSONAL          BOOLEAN,
+    CREDITOR          VARCHAR(255),
+    ISSUING_ENTITY    BIGINT REFERENCES ISSUING_ENTITY (ID),
+    PAYMENT_METHOD_ID BIGINT REFERENCES PAYMENT_METHOD (ID),
+    CURRENCY_ID       BIGINT REFERENCES CURRENCY (ID),
+    USER_ID           BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE PERSONAL_DEBT (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    DESCRIPTION      VARCHAR(255),
+    AMOUNT_ARS       NUMERIC(38, 2),
+    AMOUNT_USD       NUMERIC(38, 2),
+    DATE             DATE,
+    DUE_DATE         DATE,
+    CANCELLED        BOOLEAN,
+    CREDITOR         VARCHAR(255),
+    CURRENCY_ID      BIGINT REFERENCES CURRENCY (ID),
+    USER_ID          BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE SAVING (
+    ID                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE     TIMESTAMP(6),
+    LAST_UPDATE_DATE  TIMESTAMP(6),
+    DESCRIPTION       VARCHAR(255),
+    CURRENCY_ID       BIGINT REFERENCES CURRENCY (ID),
+    SAVINGS_WALLET_ID BIGINT REFERENCES SAVINGS_WALLET (ID),
+    AMOUNT_ARS        NUMERIC(38, 2),
+    AMOUNT_USD        NUMERIC(38, 2),
+    DATE              DATE,
+    USER_ID           BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE RECURRENT_EXPENSE (
+    ID                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE     TIMESTAMP(6),
+    LAST_UPDATE_DATE  TIMESTAMP(6),
+    DESCRIPTION       VARCHAR(255),
+    AMOUNT_ARS        NUMERIC(38, 2),
+    AMOUNT_USD        NUMERIC(38, 2),
+    DAY_OF_MONTH      INTEGER,
+    CATEGORY_ID       BIGINT REFERENCES CATEGORY (ID),
+    PAYMENT_METHOD_ID BIGINT REFERENCES PAYMENT_METHOD (ID),
+    CURRENCY_ID       BIGINT REFERENCES CURRENCY (ID),
+    ICON              VARCHAR(2048),
+    ENABLED           BOOLEAN,
+    USER_ID           BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE RECURRENT_EXPENSE_RECORD (
+    ID                   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE        TIMESTAMP(6),
+    LAST_UPDATE_DATE     TIMESTAMP(6),
+    RECURRENT_EXPENSE_ID BIGINT REFERENCES RECURRENT_EXPENSE (ID),
+    MONTH                INTEGER,
+    YEAR                 INTEGER,
+    CANCELLED            BOOLEAN,
+    EXPENSE_ID           BIGINT REFERENCES EXPENSE (ID),
+    USER_ID              BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE BUDGET (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    DESCRIPTION      VARCHAR(255),
+    MONTH            INTEGER,
+    YEAR             INTEGER,
+    ENABLED          BOOLEAN,
+    USER_ID          BIGINT REFERENCES APP_USER (ID)
+);
+
+CREATE TABLE BUDGET_RECURRENT_EXPENSE (
+    BUDGET_ID            BIGINT NOT NULL REFERENCES BUDGET (ID),
+    RECURRENT_EXPENSE_ID BIGINT NOT NULL REFERENCES RECURRENT_EXPENSE (ID)
+);
+
+CREATE TABLE GMAIL_CREDENTIAL (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    USER_ID          BIGINT UNIQUE REFERENCES APP_USER (ID),
+    GMAIL_EMAIL      VARCHAR(255),
+    APP_PASSWORD     TEXT,
+    IS_ACTIVE        BOOLEAN
+);
+
+CREATE TABLE MAIL_IMPORT (
+    ID                     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE          TIMESTAMP(6),
+    LAST_UPDATE_DATE       TIMESTAMP(6),
+    USER_ID                BIGINT REFERENCES APP_USER (ID),
+    EXPENSE_ID             BIGINT UNIQUE REFERENCES EXPENSE (ID),
+    IMAP_MESSAGE_ID        VARCHAR(255),
+    SENDER_ENTITY          VARCHAR(255),
+    FROM_ADDRESS           VARCHAR(255),
+    SUBJECT                VARCHAR(1000),
+    PARSED_MERCHANT        VARCHAR(255),
+    PARSED_AMOUNT          NUMERIC(19, 4),
+    PARSED_CURRENCY_SYMBOL VARCHAR(10),
+    PARSED_DATE            DATE,
+    PARSED_IS_DEBT         BOOLEAN,
+    STATUS                 VARCHAR(30),
+    UNIQUE (USER_ID, IMAP_MESSAGE_ID)
+);
+
+CREATE TABLE MERCHANT_BINDING (
+    ID                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE     TIMESTAMP(6),
+    LAST_UPDATE_DATE  TIMESTAMP(6),
+    USER_ID           BIGINT REFERENCES APP_USER (ID),
+    MERCHANT_NAME     VARCHAR(255),
+    CATEGORY_ID       BIGINT REFERENCES CATEGORY (ID),
+    PAYMENT_METHOD_ID BIGINT REFERENCES PAYMENT_METHOD (ID),
+    DESCRIPTION       VARCHAR(255),
+    UNIQUE (USER_ID, MERCHANT_NAME)
+);
+
+CREATE TABLE PASSWORD_RESET_TOKEN (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    TOKEN            VARCHAR(255),
+    USER_ID          BIGINT REFERENCES APP_USER (ID),
+    EXPIRY_DATE      TIMESTAMP(6)
+);
+
+CREATE TABLE VERIFICATION_TOKEN (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    TOKEN            VARCHAR(255),
+    USER_ID          BIGINT UNIQUE REFERENCES APP_USER (ID),
+    EXPIRY_DATE      TIMESTAMP(6)
+);
+
+CREATE TABLE REFRESH_TOKEN (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    USER_ID          BIGINT NOT NULL REFERENCES APP_USER (ID),
+    TOKEN            VARCHAR(255) NOT NULL UNIQUE,
+    EXPIRES_AT       TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE RECOMMENDED_CATEGORY (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    NAME             VARCHAR(255),
+    ICON             VARCHAR(255),
+    TYPE             VARCHAR(255),
+    DISPLAY_ORDER    INTEGER
+);
+
+CREATE TABLE RECOMMENDED_CURRENCY (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    NAME             VARCHAR(255),
+    SYMBOL           VARCHAR(20),
+    DISPLAY_ORDER    INTEGER,
+    DEFAULT_SELECTED BOOLEAN
+);
+
+CREATE TABLE RECOMMENDED_ENTITY (
+    ID               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE    TIMESTAMP(6),
+    LAST_UPDATE_DATE TIMESTAMP(6),
+    NAME             VARCHAR(255),
+    ICON_URL         VARCHAR(500)
+);
+
+CREATE TABLE RECOMMENDED_PAYMENT_METHOD (
+    ID                    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    CREATION_DATE         TIMESTAMP(6),
+    LAST_UPDATE_DATE      TIMESTAMP(6),
+    NAME                  VARCHAR(255),
+    ICON_URL              VARCHAR(500),
+    PAYMENT_METHOD_TYPE   SMALLINT,
+    RECOMMENDED_ENTITY_ID BIGINT REFERENCES RECOMMENDED_ENTITY (ID)
+);
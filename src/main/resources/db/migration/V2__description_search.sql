@@ -0,0 +1,25 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V2 — BÚSQUEDA POR DESCRIPCIÓN
+-- DESCRIPTION_SEARCH guarda la descripción en minúsculas y sin acentos; la
+-- aplicación la mantiene al guardar y este script completa las filas previas.
+-- Idempotente: en prod pudo haberse aplicado a mano antes de usar Flyway.
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+ALTER TABLE EXPENSE ADD COLUMN IF NOT EXISTS DESCRIPTION_SEARCH VARCHAR(255);
+ALTER TABLE SAVING ADD COLUMN IF NOT EXISTS DESCRIPTION_SEARCH VARCHAR(255);
+
+UPDATE EXPENSE SET DESCRIPTION_SEARCH = trim(regexp_replace(lower(unaccent(DESCRIPTION)), '\s+', ' ', 'g'))
+WHERE DESCRIPTION IS NOT NULL AND DESCRIPTION_SEARCH IS NULL;
+UPDATE SAVING SET DESCRIPTION_SEARCH = trim(regexp_replace(lower(unaccent(DESCRIPTION)), '\s+', ' ', 'g'))
+WHERE DESCRIPTION IS NOT NULL AND DESCRIPTION_SEARCH IS NULL;
+
+-- El índice lleva USER_ID adelante (btree_gin): la búsqueda sólo recorre los trigramas
+-- del usuario y no los de toda la tabla. Reemplaza al índice sólo por trigramas, si se
+-- creó a mano antes de Flyway.
+DROP INDEX IF EXISTS IDX_EXPENSE_DESCRIPTION_TRGM;
+DROP INDEX IF EXISTS IDX_SAVING_DESCRIPTION_TRGM;
+CREATE INDEX IF NOT EXISTS IDX_EXPENSE_USER_DESCRIPTION_TRGM ON EXPENSE USING gin (USER_ID, DESCRIPTION_SEARCH gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS IDX_SAVING_USER_DESCRIPTION_TRGM ON SAVING USING gin (USER_ID, DESCRIPTION_SEARCH gin_trgm_ops);
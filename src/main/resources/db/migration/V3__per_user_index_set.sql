@@ -0,0 +1,60 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V3 — ÍNDICES POR CAMINO DE CONSULTA
+-- Todas las lecturas filtran por USER_ID; los listados además ordenan por
+-- DATE, ID (paginado y cursor keyset). Cada índice indica la consulta que lo
+-- usa. IF NOT EXISTS porque algunos ya se habían creado a mano en prod.
+-- QueryPlanTest verifica con EXPLAIN que estas consultas no hacen Seq Scan.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+-- Listados paginados / slice / cursor y resúmenes por año-mes (ExpenseRepository,
+-- IncomeRepository, *Specification + KeysetCursor)
+CREATE INDEX IF NOT EXISTS IDX_EXPENSE_USER_DATE_ID ON EXPENSE (USER_ID, DATE, ID);
+CREATE INDEX IF NOT EXISTS IDX_INCOME_USER_DATE_ID ON INCOME (USER_ID, DATE, ID);
+CREATE INDEX IF NOT EXISTS IDX_CARD_EXPENSE_USER_DATE_ID ON CARD_EXPENSE (USER_ID, DATE, ID);
+CREATE INDEX IF NOT EXISTS IDX_DEBT_USER_DATE_ID ON DEBT (USER_ID, DATE, ID);
+CREATE INDEX IF NOT EXISTS IDX_PERSONAL_DEBT_USER_DATE_ID ON PERSONAL_DEBT (USER_ID, DATE, ID);
+CREATE INDEX IF NOT EXISTS IDX_SAVING_USER_DATE_ID ON SAVING (USER_ID, DATE, ID);
+
+-- Catálogos del usuario: listados, findByIdAndUser y deleteAllByUser
+CREATE INDEX IF NOT EXISTS IDX_CATEGORY_USER ON CATEGORY (USER_ID);
+CREATE INDEX IF NOT EXISTS IDX_CURRENCY_USER ON CURRENCY (USER_ID);
+CREATE INDEX IF NOT EXISTS IDX_ISSUING_ENTITY_USER ON ISSUING_ENTITY (USER_ID);
+CREATE INDEX IF NOT EXISTS IDX_PAYMENT_METHOD_USER ON PAYMENT_METHOD (USER_ID);
+CREATE INDEX IF NOT EXISTS IDX_SAVINGS_WALLET_USER ON SAVINGS_WALLET (USER_ID);
+CREATE INDEX IF NOT EXISTS IDX_RECURRENT_EXPENSE_USER ON RECURRENT_EXPENSE (USER_ID);
+
+-- Presupuestos: filtro por período y findTopByUserOrderByYearDescMonthDesc
+CREATE INDEX IF NOT EXISTS IDX_BUDGET_USER_PERIOD ON BUDGET (USER_ID, YEAR, MONTH);
+CREATE INDEX IF NOT EXISTS IDX_BUDGET_RECURRENT_EXPENSE_BUDGET ON BUDGET_RECURRENT_EXPENSE (BUDGET_ID);
+
+-- Registros de gastos recurrentes: findByRecurrentExpenseAndMonthAndYear y el
+-- NOT EXISTS de insertMissingForPeriod; vistas pendientes/canceladas por período.
+-- Antes del índice único se borran los registros duplicados que ya hay en prod
+-- (mismo gasto recurrente y período). Se conserva el mejor de cada grupo: primero
+-- uno cancelado (pagado), después uno con gasto vinculado y, a igualdad, el de menor ID,
+-- para que un mes pagado no vuelva a quedar pendiente. CANCELLED nulo cuenta como false
+-- (en DESC Postgres ordena los NULL primero).
+DELETE FROM RECURRENT_EXPENSE_RECORD
+WHERE ID IN (
+    SELECT ID FROM (
+        SELECT ID, ROW_NUMBER() OVER (
+                   PARTITION BY RECURRENT_EXPENSE_ID, MONTH, YEAR
+                   ORDER BY COALESCE(CANCELLED, false) DESC, (EXPENSE_ID IS NOT NULL) DESC, ID) AS RN
+        FROM RECURRENT_EXPENSE_RECORD
+    ) ranked
+    WHERE ranked.RN > 1
+);
+CREATE UNIQUE INDEX IF NOT EXISTS UK_RECURRENT_EXPENSE_RECORD_PERIOD ON RECURRENT_EXPENSE_RECORD (RECURRENT_EXPENSE_ID, MONTH, YEAR);
+CREATE INDEX IF NOT EXISTS IDX_RECURRENT_EXPENSE_RECORD_USER_PERIOD ON RECURRENT_EXPENSE_RECORD (USER_ID, YEAR, MONTH, CANCELLED);
+
+-- Importaciones por mail: countByUserAndStatus (pendientes) y listado por estado
+CREATE INDEX IF NOT EXISTS IDX_MAIL_IMPORT_USER_STATUS ON MAIL_IMPORT (USER_ID, STATUS);
+
+-- Vinculaciones de comercios: findByUserAndMerchantNameIgnoreCase compara lower()
+CREATE INDEX IF NOT EXISTS IDX_MERCHANT_BINDING_USER_MERCHANT ON MERCHANT_BINDING (USER_ID, lower(MERCHANT_NAME));
+
+-- Tokens: búsqueda por token y borrado por usuario
+CREATE INDEX IF NOT EXISTS IDX_PASSWORD_RESET_TOKEN_TOKEN ON PASSWORD_RESET_TOKEN (TOKEN);
+CREATE INDEX IF NOT EXISTS IDX_PASSWORD_RESET_TOKEN_USER ON PASSWORD_RESET_TOKEN (USER_ID);
+CREATE INDEX IF NOT EXISTS IDX_VERIFICATION_TOKEN_TOKEN ON VERIFICATION_TOKEN (TOKEN);
+CREATE INDEX IF NOT EXISTS IDX_REFRESH_TOKEN_USER ON REFRESH_TOKEN (USER_ID);
@@ -0,0 +1,14 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V4 — VERSIÓN DE DATOS POR USUARIO
+-- Contador monótono que incrementa cada escritura de servicio en la misma
+-- transacción que los datos. Los GET de listados/resúmenes lo usan como ETag
+-- para responder 304 sin consultar las tablas del usuario.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE TABLE USER_DATA_VERSION (
+    USER_ID BIGINT PRIMARY KEY REFERENCES APP_USER (ID) ON DELETE CASCADE,
+    VERSION BIGINT NOT NULL
+);
+
+INSERT INTO USER_DATA_VERSION (USER_ID, VERSION)
+SELECT ID, 0 FROM APP_USER;
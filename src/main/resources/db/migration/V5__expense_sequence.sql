@@ -0,0 +1,20 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V5 — SECUENCIA AGRUPADA PARA EXPENSE
+-- Con IDENTITY Hibernate necesita el id de cada fila al insertarla y no puede
+-- agrupar los INSERT en lotes JDBC. EXPENSE pasa a una secuencia con
+-- INCREMENT BY 50 (allocationSize del optimizador pooled de Hibernate): cada
+-- nextval reserva el bloque (valor - 49 .. valor] y POST /expenses/bulk inserta
+-- en lotes ordenados.
+-- Los INSERT sin ID (seed de dev, SQL manual) toman nextval por DEFAULT, es
+-- decir el tope de un bloque que nadie más usa, así que no colisionan.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE SEQUENCE EXPENSE_SEQ INCREMENT BY 50;
+
+-- El primer bloque que entregue la secuencia tiene que empezar por encima del
+-- mayor id existente: el próximo nextval devuelve MAX(ID) + 100.
+SELECT setval('EXPENSE_SEQ', COALESCE(MAX(ID), 0) + 50) FROM EXPENSE;
+
+ALTER TABLE EXPENSE ALTER COLUMN ID DROP IDENTITY IF EXISTS;
+ALTER TABLE EXPENSE ALTER COLUMN ID SET DEFAULT nextval('EXPENSE_SEQ');
+ALTER SEQUENCE EXPENSE_SEQ OWNED BY EXPENSE.ID;
@@ -0,0 +1,8 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V6 — ÍNDICE PARA LA IMPORTACIÓN DE RESÚMENES BANCARIOS
+-- StatementChunkWriter busca, por cada lote de filas del resumen, los
+-- MAIL_IMPORT del usuario en las fechas del lote para detectar duplicados
+-- (MailImportRepository.findStatementKeys). EXPENSE ya tiene (USER_ID, DATE, ID).
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE INDEX IF NOT EXISTS IDX_MAIL_IMPORT_USER_PARSED_DATE ON MAIL_IMPORT (USER_ID, PARSED_DATE);
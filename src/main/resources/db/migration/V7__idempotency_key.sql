@@ -0,0 +1,21 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V7 — CLAVES DE IDEMPOTENCIA
+-- Respuestas de POST /expenses, /expenses/bulk, /income y
+-- /mail/imports/{id}/confirm guardadas por (usuario, Idempotency-Key) para que
+-- un reintento del cliente devuelva la misma respuesta sin volver a ejecutar el
+-- servicio. STATUS_CODE NULL = la primera request todavía se está ejecutando
+-- (la fila vence en un minuto por si el proceso muere). IdempotencyKeyCleanupJob
+-- borra las vencidas usando IDX_IDEMPOTENCY_KEY_EXPIRES_AT.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE TABLE IDEMPOTENCY_KEY (
+    ID              VARCHAR(300) PRIMARY KEY,          -- '<USER_ID>:<Idempotency-Key>'
+    USER_ID         BIGINT       NOT NULL REFERENCES APP_USER (ID) ON DELETE CASCADE,
+    REQUEST_HASH    VARCHAR(64)  NOT NULL,
+    STATUS_CODE     INTEGER,
+    CONTENT_TYPE    VARCHAR(100),
+    RESPONSE_BODY   TEXT,
+    EXPIRES_AT      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IDX_IDEMPOTENCY_KEY_EXPIRES_AT ON IDEMPOTENCY_KEY (EXPIRES_AT);
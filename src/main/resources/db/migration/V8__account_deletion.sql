@@ -0,0 +1,26 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V8 — BORRADO DE CUENTAS EN SEGUNDO PLANO
+-- DELETE /auth/account deshabilita al usuario y revoca sus tokens en el acto;
+-- las cuentas grandes quedan en ACCOUNT_DELETION y AccountPurgeJob las borra
+-- por partes. USER_ID no es FK para que el estado siga consultable una vez
+-- borrado el usuario.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE TABLE ACCOUNT_DELETION (
+    ID              VARCHAR(36)  PRIMARY KEY,
+    USER_ID         BIGINT       NOT NULL,
+    STATUS          VARCHAR(20)  NOT NULL,
+    DELETED_ROWS    BIGINT       NOT NULL,
+    REQUESTED_AT    TIMESTAMP(6) NOT NULL,
+    UPDATED_AT      TIMESTAMP(6) NOT NULL,
+    COMPLETED_AT    TIMESTAMP(6)
+);
+
+CREATE INDEX IDX_ACCOUNT_DELETION_STATUS ON ACCOUNT_DELETION (STATUS);
+
+-- Postgres no indexa las columnas que referencian a otra tabla: sin estos
+-- índices cada fila borrada de EXPENSE o BUDGET recorre entera la tabla hija
+-- para validar la FK (RECURRENT_EXPENSE_ID ya lo cubre
+-- UK_RECURRENT_EXPENSE_RECORD_PERIOD).
+CREATE INDEX IF NOT EXISTS IDX_RECURRENT_EXPENSE_RECORD_EXPENSE ON RECURRENT_EXPENSE_RECORD (EXPENSE_ID);
+CREATE INDEX IF NOT EXISTS IDX_BUDGET_RECURRENT_EXPENSE_BUDGET ON BUDGET_RECURRENT_EXPENSE (BUDGET_ID);
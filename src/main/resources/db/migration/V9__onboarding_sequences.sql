@@ -0,0 +1,31 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- V9 — SECUENCIAS AGRUPADAS PARA LOS DATOS INICIALES DEL USUARIO
+-- El registro crea de una vez las monedas, entidades, medios de pago y
+-- categorías del usuario. Igual que EXPENSE en V5, con IDENTITY cada INSERT va
+-- solo; con una secuencia INCREMENT BY 50 Hibernate los agrupa en lotes JDBC.
+-- Los INSERT sin ID (seed de dev) toman nextval por DEFAULT y no colisionan.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+CREATE SEQUENCE CURRENCY_SEQ INCREMENT BY 50;
+SELECT setval('CURRENCY_SEQ', COALESCE(MAX(ID), 0) + 50) FROM CURRENCY;
+ALTER TABLE CURRENCY ALTER COLUMN ID DROP IDENTITY IF EXISTS;
+ALTER TABLE CURRENCY ALTER COLUMN ID SET DEFAULT nextval('CURRENCY_SEQ');
+ALTER SEQUENCE CURRENCY_SEQ OWNED BY CURRENCY.ID;
+
+CREATE SEQUENCE ISSUING_ENTITY_SEQ INCREMENT BY 50;
+SELECT setval('ISSUING_ENTITY_SEQ', COALESCE(MAX(ID), 0) + 50) FROM ISSUING_ENTITY;
+ALTER TABLE ISSUING_ENTITY ALTER COLUMN ID DROP IDENTITY IF EXISTS;
+ALTER TABLE ISSUING_ENTITY ALTER COLUMN ID SET DEFAULT nextval('ISSUING_ENTITY_SEQ');
+ALTER SEQUENCE ISSUING_ENTITY_SEQ OWNED BY ISSUING_ENTITY.ID;
+
+CREATE SEQUENCE PAYMENT_METHOD_SEQ INCREMENT BY 50;
+SELECT setval('PAYMENT_METHOD_SEQ', COALESCE(MAX(ID), 0) + 50) FROM PAYMENT_METHOD;
+ALTER TABLE PAYMENT_METHOD ALTER COLUMN ID DROP IDENTITY IF EXISTS;
+ALTER TABLE PAYMENT_METHOD ALTER COLUMN ID SET DEFAULT nextval('PAYMENT_METHOD_SEQ');
+ALTER SEQUENCE PAYMENT_METHOD_SEQ OWNED BY PAYMENT_METHOD.ID;
+
+CREATE SEQUENCE CATEGORY_SEQ INCREMENT BY 50;
+SELECT setval('CATEGORY_SEQ', COALESCE(MAX(ID), 0) + 50) FROM CATEGORY;
+ALTER TABLE CATEGORY ALTER COLUMN ID DROP IDENTITY IF EXISTS;
+ALTER TABLE CATEGORY ALTER COLUMN ID SET DEFAULT nextval('CATEGORY_SEQ');
+ALTER SEQUENCE CATEGORY_SEQ OWNED BY CATEGORY.ID;
@@ -0,0 +1,123 @@
+package com.spendwise.benchmark;
+
+import com.spendwise.enums.Role;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.TokenRevocationRepository;
+import com.spendwise.repository.UserRepository;
+import com.spendwise.security.JwtAuthenticationFilter;
+import com.spendwise.security.JwtUtil;
+import com.spendwise.security.PrincipalCache;
+import com.spendwise.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request CPU cost of {@link JwtAuthenticationFilter}, which authorizes from the signed
+ * claims with no lookup, next to the token verification alone: once with the shared parser,
+ * and the way it was done before, building a parser and verifying the signature twice.
+ * <p>
+ * Run after {@code mvn test-compile} with the test classpath, e.g.
+ * {@code java -cp target/test-classes:target/classes:<deps> com.spendwise.benchmark.JwtFilterBenchmark}.
+ * The GC profiler reports allocation as {@code gc.alloc.rate.norm} (bytes per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-at-least-32-characters-long!";
+
+    private final FilterChain chain = (request, response) -> { };
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private SecretKey secretKey;
+    private String token;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("john@example.com");
+        user.setName("John");
+        user.setEnabled(true);
+        user.setRole(Role.USER);
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByEmail("john@example.com")).thenReturn(Optional.of(user));
+        PrincipalCache principalCache = new PrincipalCache(userRepository, 100, 3600);
+
+        // no revocations: the read path only needs the repository for its first load
+        TokenRevocationRepository revocationRepository = Mockito.mock(TokenRevocationRepository.class);
+        Mockito.when(revocationRepository.findAllByRevokedAtAfter(Mockito.any())).thenReturn(List.of());
+        TokenRevocationService tokenRevocationService =
+                new TokenRevocationService(revocationRepository, null, null, 3_600_000L);
+        tokenRevocationService.refresh();
+
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L);
+        filter = new JwtAuthenticationFilter(jwtUtil, principalCache, tokenRevocationService);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = jwtUtil.generateToken(user);
+        authorization = "Bearer " + token;
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        // a fresh request each time: OncePerRequestFilter marks the ones it has seen
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/expenses");
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    @Benchmark
+    public Claims verifyOnce() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public String verifyTwiceWithNewParsers() {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtFilterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
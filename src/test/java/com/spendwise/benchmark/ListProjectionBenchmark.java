@@ -0,0 +1,214 @@
+package com.spendwise.benchmark;
+
+import com.spendwise.dto.ExpenseDTO;
+import com.spendwise.dto.ExpenseFilterDTO;
+import com.spendwise.enums.CategoryType;
+import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.enums.Role;
+import com.spendwise.mapper.ExpenseMapper;
+import com.spendwise.model.Category;
+import com.spendwise.model.Currency;
+import com.spendwise.model.Expense;
+import com.spendwise.model.IssuingEntity;
+import com.spendwise.model.PaymentMethod;
+import com.spendwise.model.auth.User;
+import com.spendwise.projection.ExpenseListRow;
+import com.spendwise.repository.SpecificationProjectionExecutor;
+import com.spendwise.spec.ExpenseSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernatePersistenceConfiguration;
+import org.hibernate.tool.schema.Action;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second and bytes per row of a page of the expense list on an in-memory H2 database:
+ * read as {@link ExpenseListRow} projections, against loading the entities with their
+ * associations fetched and mapping them with {@link ExpenseMapper}, as the list did before.
+ * Both return the same DTO fields.
+ * <p>
+ * Run after {@code mvn test-compile} with the test classpath, e.g.
+ * {@code java -cp target/test-classes:target/classes:<deps> com.spendwise.benchmark.ListProjectionBenchmark}.
+ * Scores are per row; the GC profiler reports allocation as {@code gc.alloc.rate.norm} (bytes per row).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListProjectionBenchmark {
+
+    private static final int ROWS = 2_000;
+    private static final int PAGE_SIZE = 50;
+
+    private final Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "date", "id"));
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private SpecificationProjectionExecutor projectionExecutor;
+    private Specification<Expense> spec;
+
+    @Setup
+    public void setUp() {
+        entityManagerFactory = new HibernatePersistenceConfiguration("list-projection-benchmark")
+                .managedClasses(User.class, Category.class, IssuingEntity.class, PaymentMethod.class,
+                        Currency.class, Expense.class)
+                .jdbcUrl("jdbc:h2:mem:list-projection-benchmark;DB_CLOSE_DELAY=-1;NON_KEYWORDS=YEAR,MONTH,VALUE")
+                .jdbcCredentials("sa", "")
+                .schemaToolingAction(Action.CREATE_DROP)
+                .createEntityManagerFactory();
+        User user = seed();
+
+        entityManager = entityManagerFactory.createEntityManager();
+        projectionExecutor = new SpecificationProjectionExecutor();
+        ReflectionTestUtils.setField(projectionExecutor, "entityManager", entityManager);
+        spec = ExpenseSpecification.withFilters(new ExpenseFilterDTO(), user);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    /** Every read starts from an empty persistence context, as a request does. */
+    @Setup(Level.Invocation)
+    public void clear() {
+        entityManager.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public List<ExpenseDTO> projection() {
+        return projectionExecutor.findSlice(Expense.class, ExpenseListRow.class, ExpenseListRow::columns, spec, pageable)
+                .map(ExpenseListRow::toDTO)
+                .getContent();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public List<ExpenseDTO> entities() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Expense> query = cb.createQuery(Expense.class);
+        Root<Expense> root = query.from(Expense.class);
+        root.fetch("category", JoinType.LEFT);
+        Fetch<Expense, PaymentMethod> paymentMethod = root.fetch("paymentMethod", JoinType.LEFT);
+        paymentMethod.fetch("issuingEntity", JoinType.LEFT);
+        root.fetch("currency", JoinType.LEFT);
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(cb.desc(root.get("date")), cb.desc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(PAGE_SIZE + 1)
+                .getResultList()
+                .stream()
+                .limit(PAGE_SIZE)
+                .map(ExpenseMapper::toDTO)
+                .toList();
+    }
+
+    private User seed() {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        em.getTransaction().begin();
+
+        User user = new User();
+        user.setEmail("john@example.com");
+        user.setName("John");
+        user.setPasswordHash("hash");
+        user.setEnabled(true);
+        user.setRole(Role.USER);
+        em.persist(user);
+
+        IssuingEntity issuingEntity = new IssuingEntity();
+        issuingEntity.setDescription("Santander");
+        issuingEntity.setEnabled(true);
+        issuingEntity.setUser(user);
+        em.persist(issuingEntity);
+
+        Currency currency = new Currency();
+        currency.setName("Peso");
+        currency.setSymbol("ARS");
+        currency.setEnabled(true);
+        currency.setIsDefault(true);
+        currency.setUser(user);
+        em.persist(currency);
+
+        Category[] categories = new Category[10];
+        PaymentMethod[] paymentMethods = new PaymentMethod[5];
+        for (int i = 0; i < categories.length; i++) {
+            categories[i] = new Category();
+            categories[i].setName("Category " + i);
+            categories[i].setEnabled(true);
+            categories[i].setType(CategoryType.EXPENSE);
+            categories[i].setUser(user);
+            em.persist(categories[i]);
+        }
+        for (int i = 0; i < paymentMethods.length; i++) {
+            paymentMethods[i] = new PaymentMethod();
+            paymentMethods[i].setName("Card " + i);
+            paymentMethods[i].setPaymentMethodType(PaymentMethodType.CREDIT_CARD);
+            paymentMethods[i].setEnabled(true);
+            paymentMethods[i].setIssuingEntity(issuingEntity);
+            paymentMethods[i].setUser(user);
+            em.persist(paymentMethods[i]);
+        }
+
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < ROWS; i++) {
+            Expense expense = new Expense();
+            expense.setDescription("Expense " + i);
+            expense.setAmountInPesos(BigDecimal.valueOf(1000 + i));
+            expense.setAmountInDollars(BigDecimal.ONE);
+            expense.setDate(today.minusDays(i % 365));
+            expense.setIsMicroExpense(false);
+            expense.setCategory(categories[i % categories.length]);
+            expense.setPaymentMethod(paymentMethods[i % paymentMethods.length]);
+            expense.setCurrency(currency);
+            expense.setUser(user);
+            em.persist(expense);
+        }
+
+        em.getTransaction().commit();
+        em.close();
+        return user;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ListProjectionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.spendwise.benchmark;
+
+import com.spendwise.dto.ExpenseDTO;
+import com.spendwise.dto.MailImportDTO;
+import com.spendwise.enums.CategoryType;
+import com.spendwise.enums.MailImportStatus;
+import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.mapper.ExpenseMapper;
+import com.spendwise.mapper.MailImportMapper;
+import com.spendwise.model.Category;
+import com.spendwise.model.Currency;
+import com.spendwise.model.Expense;
+import com.spendwise.model.IssuingEntity;
+import com.spendwise.model.MailImport;
+import com.spendwise.model.PaymentMethod;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of the hand-written mappers against the reflective ModelMapper
+ * they replaced, for Expense → ExpenseDTO and MailImport → MailImportDTO.
+ * <p>
+ * Run after {@code mvn test-compile} with the test classpath, e.g.
+ * {@code java -cp target/test-classes:target/classes:<deps> com.spendwise.benchmark.MappingBenchmark}.
+ * The GC profiler reports allocation as {@code gc.alloc.rate.norm} (bytes per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private Expense expense;
+    private MailImport mailImport;
+
+    @Setup
+    public void setUp() {
+        Category category = new Category();
+        category.setId(1L);
+        category.setName("Groceries");
+        category.setEnabled(true);
+        category.setType(CategoryType.EXPENSE);
+        category.setIcon("ShoppingCart");
+
+        IssuingEntity issuingEntity = new IssuingEntity();
+        issuingEntity.setId(1L);
+        issuingEntity.setDescription("Santander");
+        issuingEntity.setEnabled(true);
+
+        PaymentMethod paymentMethod = new PaymentMethod();
+        paymentMethod.setId(1L);
+        paymentMethod.setName("Visa");
+        paymentMethod.setPaymentMethodType(PaymentMethodType.CREDIT_CARD);
+        paymentMethod.setEnabled(true);
+        paymentMethod.setIssuingEntity(issuingEntity);
+
+        Currency currency = new Currency();
+        currency.setId(1L);
+        currency.setName("Peso Argentino");
+        currency.setSymbol("$");
+        currency.setEnabled(true);
+        currency.setIsDefault(true);
+
+        expense = new Expense();
+        expense.setId(10L);
+        expense.setDescription("Supermarket");
+        expense.setAmountInPesos(new BigDecimal("15000"));
+        expense.setAmountInDollars(new BigDecimal("12.5000"));
+        expense.setDate(LocalDate.of(2025, 3, 14));
+        expense.setCategory(category);
+        expense.setPaymentMethod(paymentMethod);
+        expense.setCurrency(currency);
+        expense.setIsMicroExpense(false);
+
+        mailImport = new MailImport();
+        mailImport.setId(20L);
+        mailImport.setImapMessageId("<abc@mail>");
+        mailImport.setSenderEntity("SANTANDER");
+        mailImport.setFromAddress("alertas@santander.com.ar");
+        mailImport.setSubject("Compra con tarjeta");
+        mailImport.setParsedMerchant("SUPERMERCADO");
+        mailImport.setParsedAmount(new BigDecimal("15000"));
+        mailImport.setParsedCurrencySymbol("$");
+        mailImport.setParsedDate(LocalDate.of(2025, 3, 14));
+        mailImport.setParsedIsDebt(false);
+        mailImport.setStatus(MailImportStatus.CONFIRMED);
+        mailImport.setExpense(expense);
+        mailImport.setCreationDate(LocalDateTime.of(2025, 3, 14, 10, 30));
+    }
+
+    @Benchmark
+    public ExpenseDTO expenseHandWritten() {
+        return ExpenseMapper.toDTO(expense);
+    }
+
+    @Benchmark
+    public ExpenseDTO expenseModelMapper() {
+        return modelMapper.map(expense, ExpenseDTO.class);
+    }
+
+    @Benchmark
+    public MailImportDTO mailImportHandWritten() {
+        return MailImportMapper.toDTO(mailImport);
+    }
+
+    @Benchmark
+    public MailImportDTO mailImportModelMapper() {
+        return modelMapper.map(mailImport, MailImportDTO.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MappingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
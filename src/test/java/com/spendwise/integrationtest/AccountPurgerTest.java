@@ -0,0 +1,212 @@
+package com.spendwise.integrationtest;
+
+import com.spendwise.enums.CategoryType;
+import com.spendwise.model.Budget;
+import com.spendwise.model.Category;
+import com.spendwise.model.Currency;
+import com.spendwise.model.Expense;
+import com.spendwise.model.MailImport;
+import com.spendwise.model.RecurrentExpense;
+import com.spendwise.model.RecurrentExpenseRecord;
+import com.spendwise.model.auth.RefreshToken;
+import com.spendwise.model.auth.User;
+import com.spendwise.service.AccountPurger;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the account purge against the real schema on H2: every statement has to respect the
+ * foreign keys between the user's tables and leave other users' rows alone.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:account-purger;NON_KEYWORDS=YEAR,MONTH,VALUE"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(AccountPurger.class)
+@DisplayName("Account Purger Tests")
+public class AccountPurgerTest {
+
+    private static final int EXPENSES = 7;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AccountPurger accountPurger;
+
+    private User doomed;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        doomed = seed("doomed@test.com");
+        other = seed("other@test.com");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("purgeAll deletes the account and every row it owns")
+    public void testPurgeAll() {
+        long before = countOwned(other);
+
+        long deleted = accountPurger.purgeAll(doomed.getId());
+
+        assertTrue(deleted > EXPENSES);
+        assertEquals(0, countOwned(doomed));
+        assertNull(entityManager.find(User.class, doomed.getId()));
+        assertEquals(before, countOwned(other));
+        assertEquals(1L, joinRows(other));
+    }
+
+    @Test
+    @DisplayName("purgeChunk never deletes more than the limit and empties the account in FK order")
+    public void testPurgeChunk() {
+        long before = countOwned(other);
+        assertEquals(EXPENSES + 2L, accountPurger.countRows(doomed.getId()));
+
+        int deleted;
+        int chunks = 0;
+        while ((deleted = accountPurger.purgeChunk(doomed.getId(), 3)) > 0) {
+            assertTrue(deleted <= 3);
+            chunks++;
+        }
+        int users = accountPurger.deleteUser(doomed.getId());
+
+        assertTrue(chunks > EXPENSES / 3);
+        assertEquals(1, users);
+        assertEquals(0, countOwned(doomed));
+        assertEquals(0L, joinRows(doomed));
+        assertEquals(before, countOwned(other));
+    }
+
+    @Test
+    @DisplayName("revokeAccess deletes only the credentials")
+    public void testRevokeAccess() {
+        int revoked = accountPurger.revokeAccess(doomed.getId());
+
+        assertEquals(1, revoked);
+        assertEquals(0L, count("REFRESH_TOKEN", doomed));
+        assertEquals((long) EXPENSES, count("EXPENSE", doomed));
+    }
+
+    private long countOwned(User user) {
+        long total = 0;
+        for (String table : List.of("EXPENSE", "MAIL_IMPORT", "RECURRENT_EXPENSE_RECORD", "RECURRENT_EXPENSE",
+                "BUDGET", "CATEGORY", "CURRENCY", "REFRESH_TOKEN")) {
+            total += count(table, user);
+        }
+        return total;
+    }
+
+    private long count(String table, User user) {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM " + table + " WHERE USER_ID = :userId")
+                .setParameter("userId", user.getId())
+                .getSingleResult()).longValue();
+    }
+
+    private long joinRows(User user) {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM BUDGET_RECURRENT_EXPENSE b " +
+                        "JOIN BUDGET bu ON bu.ID = b.BUDGET_ID WHERE bu.USER_ID = :userId")
+                .setParameter("userId", user.getId())
+                .getSingleResult()).longValue();
+    }
+
+    /**
+     * Expenses on a category and currency, one of them imported by mail and one paid by a
+     * recurrent expense that a budget includes, plus a refresh token.
+     */
+    private User seed(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName("Purge");
+        user.setEnabled(true);
+        entityManager.persist(user);
+
+        Currency currency = new Currency();
+        currency.setName("Peso");
+        currency.setSymbol("$");
+        currency.setEnabled(true);
+        currency.setIsDefault(true);
+        currency.setUser(user);
+        entityManager.persist(currency);
+
+        Category category = new Category();
+        category.setName("Super");
+        category.setEnabled(true);
+        category.setType(CategoryType.EXPENSE);
+        category.setUser(user);
+        entityManager.persist(category);
+
+        Expense first = null;
+        for (int i = 0; i < EXPENSES; i++) {
+            Expense expense = new Expense();
+            expense.setDescription("Expense " + i);
+            expense.setAmountInPesos(BigDecimal.valueOf(100 + i));
+            expense.setDate(LocalDate.of(2025, 1, 1).plusDays(i));
+            expense.setCategory(category);
+            expense.setCurrency(currency);
+            expense.setUser(user);
+            entityManager.persist(expense);
+            if (first == null) first = expense;
+        }
+
+        MailImport mailImport = new MailImport();
+        mailImport.setImapMessageId("<" + email + ">");
+        mailImport.setExpense(first);
+        mailImport.setUser(user);
+        entityManager.persist(mailImport);
+
+        RecurrentExpense recurrentExpense = new RecurrentExpense();
+        recurrentExpense.setDescription("Rent");
+        recurrentExpense.setAmountInPesos(BigDecimal.valueOf(1000));
+        recurrentExpense.setDayOfMonth(1);
+        recurrentExpense.setCategory(category);
+        recurrentExpense.setCurrency(currency);
+        recurrentExpense.setEnabled(true);
+        recurrentExpense.setUser(user);
+        entityManager.persist(recurrentExpense);
+
+        RecurrentExpenseRecord record = new RecurrentExpenseRecord();
+        record.setRecurrentExpense(recurrentExpense);
+        record.setMonth(1);
+        record.setYear(2025);
+        record.setCancelled(true);
+        record.setExpense(first);
+        record.setUser(user);
+        entityManager.persist(record);
+
+        Budget budget = new Budget();
+        budget.setDescription("January");
+        budget.setMonth(1);
+        budget.setYear(2025);
+        budget.setEnabled(true);
+        budget.setUser(user);
+        budget.getRecurrentExpenses().add(recurrentExpense);
+        entityManager.persist(budget);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUser(user);
+        refreshToken.setToken(UUID.randomUUID().toString());
+        refreshToken.setExpiresAt(Instant.now().plusSeconds(3600));
+        entityManager.persist(refreshToken);
+
+        return user;
+    }
+
+}
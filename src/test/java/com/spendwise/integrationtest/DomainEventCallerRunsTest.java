@@ -0,0 +1,131 @@
+package com.spendwise.integrationtest;
+
+import com.spendwise.event.DomainEventBus;
+import com.spendwise.event.ExpenseCreated;
+import com.spendwise.model.Expense;
+import com.spendwise.model.RecurrentExpense;
+import com.spendwise.model.auth.User;
+import com.spendwise.service.DataVersionService;
+import com.spendwise.service.RecurrentExpenseMatcher;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * With the event pool busy and its queue full, the bus runs a handler on the publishing
+ * thread, inside the expense transaction's afterCommit. The handler's writes must still be
+ * committed. Runs without the test transaction, so the expense really commits.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:domain-event-caller-runs;NON_KEYWORDS=YEAR,MONTH,VALUE"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({RecurrentExpenseMatcher.class, DataVersionService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Domain Event Caller Runs Tests")
+public class DomainEventCallerRunsTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RecurrentExpenseMatcher matcher;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ThreadPoolExecutor saturated = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.CallerRunsPolicy());
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        saturated.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("A handler run on the caller after the commit persists its writes")
+    public void testCallerRunsHandlerCommits() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        User user = transaction.execute(status -> seed());
+
+        CountDownLatch busy = new CountDownLatch(1);
+        saturated.execute(() -> {
+            busy.countDown();
+            awaitRelease();
+        });
+        assertTrue(busy.await(5, TimeUnit.SECONDS));
+        saturated.execute(this::awaitRelease);
+        assertEquals(1, saturated.getQueue().size());
+
+        DomainEventBus bus = new DomainEventBus(List.of(matcher), saturated);
+        transaction.executeWithoutResult(status -> {
+            Expense expense = new Expense();
+            expense.setDescription("Netflix");
+            expense.setAmountInPesos(new BigDecimal("9000"));
+            expense.setDate(LocalDate.now());
+            expense.setUser(entityManager.getReference(User.class, user.getId()));
+            entityManager.persist(expense);
+            entityManager.flush();
+            bus.publish(new ExpenseCreated(user.getId(), List.of(expense.getId())));
+        });
+
+        // the pool is still blocked, so the handler can only have run on this thread
+        assertEquals(0, saturated.getCompletedTaskCount());
+        assertEquals(1L, transaction.execute(status -> entityManager.createQuery(
+                        "SELECT COUNT(r) FROM RecurrentExpenseRecord r WHERE r.user.id = :userId AND r.cancelled = true", Long.class)
+                .setParameter("userId", user.getId())
+                .getSingleResult()));
+        assertEquals(0, new BigDecimal("9000").compareTo(transaction.execute(status -> entityManager.createQuery(
+                        "SELECT r.amountInPesos FROM RecurrentExpense r WHERE r.user.id = :userId", BigDecimal.class)
+                .setParameter("userId", user.getId())
+                .getSingleResult())));
+    }
+
+    private User seed() {
+        User user = new User();
+        user.setEmail("caller-runs@test.com");
+        user.setName("Caller");
+        user.setEnabled(true);
+        entityManager.persist(user);
+
+        RecurrentExpense recurrentExpense = new RecurrentExpense();
+        recurrentExpense.setDescription("Netflix");
+        recurrentExpense.setAmountInPesos(new BigDecimal("8000"));
+        recurrentExpense.setDayOfMonth(5);
+        recurrentExpense.setEnabled(true);
+        recurrentExpense.setUser(user);
+        entityManager.persist(recurrentExpense);
+        return user;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
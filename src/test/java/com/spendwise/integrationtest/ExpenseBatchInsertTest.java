@@ -0,0 +1,76 @@
+package com.spendwise.integrationtest;
+
+import com.spendwise.model.Expense;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.ExpenseRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Expense ids come from a pooled sequence, so a bulk save is sent as JDBC batches instead of
+ * one INSERT (and one id round trip) per row.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:expense-batch-insert;NON_KEYWORDS=YEAR,MONTH,VALUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Expense Batch Insert Tests")
+public class ExpenseBatchInsertTest {
+
+    private static final int ROWS = 120;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Test
+    @DisplayName("saveAll of many expenses prepares one insert per batch and one sequence call per id block")
+    public void testSaveAllIsBatched() {
+        User user = new User();
+        user.setEmail("bulk@test.com");
+        user.setName("Bulk");
+        user.setEnabled(true);
+        entityManager.persist(user);
+        entityManager.flush();
+
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Expense expense = new Expense();
+            expense.setDescription("Bulk " + i);
+            expense.setAmountInPesos(BigDecimal.valueOf(100 + i));
+            expense.setDate(LocalDate.of(2025, 1, 1).plusDays(i % 30));
+            expense.setUser(user);
+            expenses.add(expense);
+        }
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        expenseRepository.saveAll(expenses);
+        entityManager.flush();
+
+        int blocks = (ROWS + BATCH_SIZE - 1) / BATCH_SIZE;
+        assertTrue(statistics.getPrepareStatementCount() <= 2L * blocks,
+                "expected at most " + 2 * blocks + " statements, got " + statistics.getPrepareStatementCount());
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        assertEquals(ROWS, expenses.stream().map(Expense::getId).distinct().count());
+    }
+
+}
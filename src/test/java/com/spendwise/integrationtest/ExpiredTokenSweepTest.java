@@ -0,0 +1,102 @@
+package com.spendwise.integrationtest;
+
+import com.spendwise.model.auth.PasswordResetToken;
+import com.spendwise.model.auth.RefreshToken;
+import com.spendwise.model.auth.User;
+import com.spendwise.model.auth.VerificationToken;
+import com.spendwise.repository.PasswordResetTokenRepository;
+import com.spendwise.repository.RefreshTokenRepository;
+import com.spendwise.repository.VerificationTokenRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the chunked deletes of the expired token sweep on H2: a chunk never exceeds its
+ * limit and live tokens are never touched.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:expired-token-sweep;NON_KEYWORDS=YEAR,MONTH,VALUE"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Expired Token Sweep Tests")
+public class ExpiredTokenSweepTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private VerificationTokenRepository verificationTokenRepository;
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail("sweep@test.com");
+        user.setEnabled(true);
+        entityManager.persist(user);
+    }
+
+    @Test
+    @DisplayName("deleteExpired removes at most the limit of expired refresh tokens and keeps live ones")
+    public void testRefreshTokens() {
+        for (int i = 0; i < 5; i++) refreshToken(Instant.now().minusSeconds(60));
+        refreshToken(Instant.now().plusSeconds(3600));
+        entityManager.flush();
+
+        assertEquals(3, refreshTokenRepository.deleteExpired(Instant.now(), 3));
+        assertEquals(2, refreshTokenRepository.deleteExpired(Instant.now(), 3));
+        assertEquals(0, refreshTokenRepository.deleteExpired(Instant.now(), 3));
+        assertEquals(1, refreshTokenRepository.count());
+    }
+
+    @Test
+    @DisplayName("deleteExpired removes expired verification and password reset tokens only")
+    public void testEmailTokens() {
+        VerificationToken verification = new VerificationToken();
+        verification.setToken(UUID.randomUUID().toString());
+        verification.setUser(user);
+        verification.setExpiryDate(LocalDateTime.now().minusHours(1));
+        entityManager.persist(verification);
+        for (LocalDateTime expiry : new LocalDateTime[] {LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1)}) {
+            PasswordResetToken reset = new PasswordResetToken();
+            reset.setToken(UUID.randomUUID().toString());
+            reset.setUser(user);
+            reset.setExpiryDate(expiry);
+            entityManager.persist(reset);
+        }
+        entityManager.flush();
+
+        assertEquals(1, verificationTokenRepository.deleteExpired(LocalDateTime.now(), 100));
+        assertEquals(1, passwordResetTokenRepository.deleteExpired(LocalDateTime.now(), 100));
+        assertEquals(0, verificationTokenRepository.count());
+        assertEquals(1, passwordResetTokenRepository.count());
+    }
+
+    private void refreshToken(Instant expiresAt) {
+        RefreshToken rt = new RefreshToken();
+        rt.setUser(user);
+        rt.setToken(UUID.randomUUID().toString());
+        rt.setExpiresAt(expiresAt);
+        entityManager.persist(rt);
+    }
+
+}
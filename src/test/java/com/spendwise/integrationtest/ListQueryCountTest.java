@@ -0,0 +1,543 @@
+package com.spendwise.integrationtest;
+
+import com.spendwise.dto.BudgetDTO;
+import com.spendwise.dto.BudgetFilterDTO;
+import com.spendwise.dto.CardExpenseFilterDTO;
+import com.spendwise.dto.CategoryFilterDTO;
+import com.spendwise.dto.CurrencyFilterDTO;
+import com.spendwise.dto.DebtFilterDTO;
+import com.spendwise.dto.ExpenseFilterDTO;
+import com.spendwise.dto.IncomeFilterDTO;
+import com.spendwise.dto.IssuingEntityFilterDTO;
+import com.spendwise.dto.MailImportFilterDTO;
+import com.spendwise.dto.PaymentMethodFilterDTO;
+import com.spendwise.dto.PersonalDebtFilterDTO;
+import com.spendwise.dto.RecurrentExpenseFilterDTO;
+import com.spendwise.dto.RecurrentExpenseRecordFilterDTO;
+import com.spendwise.dto.SavingFilterDTO;
+import com.spendwise.dto.SavingsWalletFilterDTO;
+import com.spendwise.dto.SparsePageDTO;
+import com.spendwise.enums.CategoryType;
+import com.spendwise.enums.MailImportStatus;
+import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.enums.SavingsWalletType;
+import com.spendwise.mapper.CategoryMapper;
+import com.spendwise.mapper.CurrencyMapper;
+import com.spendwise.mapper.IssuingEntityMapper;
+import com.spendwise.mapper.MailImportMapper;
+import com.spendwise.mapper.PaymentMethodMapper;
+import com.spendwise.mapper.PersonalDebtMapper;
+import com.spendwise.mapper.RecurrentExpenseMapper;
+import com.spendwise.mapper.RecurrentExpenseRecordMapper;
+import com.spendwise.mapper.SavingsWalletMapper;
+import com.spendwise.model.Budget;
+import com.spendwise.model.CardExpense;
+import com.spendwise.model.Category;
+import com.spendwise.model.Currency;
+import com.spendwise.model.Debt;
+import com.spendwise.model.Expense;
+import com.spendwise.model.Income;
+import com.spendwise.model.IssuingEntity;
+import com.spendwise.model.MailImport;
+import com.spendwise.model.PaymentMethod;
+import com.spendwise.model.PersonalDebt;
+import com.spendwise.model.RecurrentExpense;
+import com.spendwise.model.RecurrentExpenseRecord;
+import com.spendwise.model.Saving;
+import com.spendwise.model.SavingsWallet;
+import com.spendwise.model.auth.User;
+import com.spendwise.projection.CardExpenseListRow;
+import com.spendwise.projection.DebtListRow;
+import com.spendwise.projection.ExpenseListRow;
+import com.spendwise.projection.IncomeListRow;
+import com.spendwise.projection.SavingListRow;
+import com.spendwise.projection.SparseFields;
+import com.spendwise.repository.BudgetRepository;
+import com.spendwise.repository.CategoryRepository;
+import com.spendwise.repository.CurrencyRepository;
+import com.spendwise.repository.IssuingEntityRepository;
+import com.spendwise.repository.MailImportRepository;
+import com.spendwise.repository.PaymentMethodRepository;
+import com.spendwise.repository.PersonalDebtRepository;
+import com.spendwise.repository.RecurrentExpenseRecordRepository;
+import com.spendwise.repository.RecurrentExpenseRepository;
+import com.spendwise.repository.SavingsWalletRepository;
+import com.spendwise.repository.SpecificationProjectionExecutor;
+import com.spendwise.service.BudgetService;
+import com.spendwise.service.interfaces.IDataVersionService;
+import com.spendwise.spec.CardExpenseSpecification;
+import com.spendwise.spec.CategoryEspecification;
+import com.spendwise.spec.CurrencyEspecification;
+import com.spendwise.spec.DebtSpecification;
+import com.spendwise.spec.ExpenseSpecification;
+import com.spendwise.spec.IncomeSpecification;
+import com.spendwise.spec.IssuingEntityEspecification;
+import com.spendwise.spec.MailImportSpecification;
+import com.spendwise.spec.PaymentMethodEspecification;
+import com.spendwise.spec.PersonalDebtSpecification;
+import com.spendwise.spec.RecurrentExpenseRecordSpecification;
+import com.spendwise.spec.RecurrentExpenseSpecification;
+import com.spendwise.spec.SavingSpecification;
+import com.spendwise.spec.SavingsWalletEspecification;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the SQL statements each list endpoint issues on an in-memory H2 database. A page of
+ * entities must be read with one select plus the page count, whatever the number of distinct
+ * categories, payment methods, currencies or wallets the rows point to.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:list-query-count;NON_KEYWORDS=YEAR,MONTH,VALUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SpecificationProjectionExecutor.class)
+@DisplayName("List Query Count Tests")
+public class ListQueryCountTest {
+
+    private static final int ROWS = 12;
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SpecificationProjectionExecutor projectionExecutor;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CurrencyRepository currencyRepository;
+
+    @Autowired
+    private IssuingEntityRepository issuingEntityRepository;
+
+    @Autowired
+    private PaymentMethodRepository paymentMethodRepository;
+
+    @Autowired
+    private SavingsWalletRepository savingsWalletRepository;
+
+    @Autowired
+    private PersonalDebtRepository personalDebtRepository;
+
+    @Autowired
+    private RecurrentExpenseRepository recurrentExpenseRepository;
+
+    @Autowired
+    private RecurrentExpenseRecordRepository recordRepository;
+
+    @Autowired
+    private MailImportRepository mailImportRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        seed();
+        entityManager.flush();
+        entityManager.clear();
+
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // ──────────────────────────────────────────────────────────────────────────
+    // PROJECTION LISTS
+    // ──────────────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("GET /expenses issues the page select and the count")
+    public void testExpenseList() {
+        assertStatements(2, () -> projectionExecutor.findPage(Expense.class, ExpenseListRow.class, ExpenseListRow::columns,
+                ExpenseSpecification.withFilters(new ExpenseFilterDTO(), user), byDate()).map(ExpenseListRow::toDTO));
+    }
+
+    @Test
+    @DisplayName("GET /income issues the page select and the count")
+    public void testIncomeList() {
+        assertStatements(2, () -> projectionExecutor.findPage(Income.class, IncomeListRow.class, IncomeListRow::columns,
+                IncomeSpecification.withFilters(new IncomeFilterDTO(), user), byDate()).map(IncomeListRow::toDTO));
+    }
+
+    @Test
+    @DisplayName("GET /card-expenses issues the page select and the count")
+    public void testCardExpenseList() {
+        assertStatements(2, () -> projectionExecutor.findPage(CardExpense.class, CardExpenseListRow.class, CardExpenseListRow::columns,
+                CardExpenseSpecification.withFilters(new CardExpenseFilterDTO(), user), byDate()).map(CardExpenseListRow::toDTO));
+    }
+
+    @Test
+    @DisplayName("GET /debts issues the page select and the count")
+    public void testDebtList() {
+        assertStatements(2, () -> projectionExecutor.findPage(Debt.class, DebtListRow.class, DebtListRow::columns,
+                DebtSpecification.withFilters(new DebtFilterDTO(), user), byDate()).map(DebtListRow::toDTO));
+    }
+
+    @Test
+    @DisplayName("GET /savings issues the page select and the count")
+    public void testSavingList() {
+        assertStatements(2, () -> projectionExecutor.findPage(Saving.class, SavingListRow.class, SavingListRow::columns,
+                SavingSpecification.withFilters(new SavingFilterDTO(), user), byDate()).map(SavingListRow::toDTO));
+    }
+
+    // ──────────────────────────────────────────────────────────────────────────
+    // SPARSE LISTS
+    // ──────────────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("GET /expenses?refs=id reads each referenced type once and sends it once")
+    public void testSparseExpenseListWithReferenceIds() {
+        SparseFields<Expense>.Selected selected = ExpenseListRow.SPARSE_FIELDS.select("description,category,currency");
+
+        statistics.clear();
+        SparsePageDTO page = selected.toPage(projectionExecutor.findTuplePage(Expense.class, selected::columns,
+                        ExpenseSpecification.withFilters(new ExpenseFilterDTO(), user), byDate()),
+                SparseFields.RefMode.ID, projectionExecutor::findAllById);
+
+        // page + count + categories + currencies
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        assertEquals(List.of("id", "description", "categoryId", "currencyId"),
+                List.copyOf(page.getContent().get(0).keySet()));
+        assertEquals(PAGE_SIZE, page.getReferences().get("categories").size());
+        assertFalse(page.getReferences().containsKey("paymentMethods"));
+    }
+
+    @Test
+    @DisplayName("GET /expenses?fields= without references issues the page select and the count only")
+    public void testSparseExpenseListScalarsOnly() {
+        SparseFields<Expense>.Selected selected = ExpenseListRow.SPARSE_FIELDS.select("amountInPesos,date");
+
+        statistics.clear();
+        SparsePageDTO page = selected.toPage(projectionExecutor.findTuplePage(Expense.class, selected::columns,
+                        ExpenseSpecification.withFilters(new ExpenseFilterDTO(), user), byDate()),
+                SparseFields.RefMode.EMBED, projectionExecutor::findAllById);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(List.of("id", "amountInPesos", "date"), List.copyOf(page.getContent().get(0).keySet()));
+        assertNull(page.getReferences());
+        assertEquals(ROWS, page.getTotalElements());
+    }
+
+    // ──────────────────────────────────────────────────────────────────────────
+    // ENTITY LISTS
+    // ──────────────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("GET /categories issues the page select and the count")
+    public void testCategoryList() {
+        assertStatements(2, () -> categoryRepository.findAll(
+                CategoryEspecification.withFilters(new CategoryFilterDTO(), user), byId()).map(CategoryMapper::toDTO));
+    }
+
+    @Test
+    @DisplayName("GET /currencies issues the page select and the count")
+    public void testCurrencyList() {
+        assertStatements(2, () -> currencyRepository.findAll(
+                CurrencyEspecification.withFilters(new CurrencyFilterDTO(), user), byId()).map(CurrencyMapper::toDTO));
+    }
+
+    @Test
+    @DisplayName("GET /issuing-entities issues the page select and the count")
+    public void testIssuingEntityList() {
+        assertStatements(2, () -> issuingEntityRepository.findAll(
+                IssuingEntityEspecification.withFilters(new IssuingEntityFilterDTO(), user), byId()).map(IssuingEntityMapper::toDTO));
+    }
+
+    @Test
+    @DisplayName("GET /payment-methods fetches the issuing entity in the page select")
+    public void testPaymentMethodList() {
+        assertStatements(2, () -> paymentMethodRepository.findAll(
+                PaymentMethodEspecification.withFilters(new PaymentMethodFilterDTO(), user), byId()).map(PaymentMethodMapper::toDTO));
+    }
+
+    @Test
+    @DisplayName("GET /savings-wallets fetches the issuing entity in the page select")
+    public void testSavingsWalletList() {
+        assertStatements(2, () -> savingsWalletRepository.findAll(
+                SavingsWalletEspecification.withFilters(new SavingsWalletFilterDTO(), user), byId()).map(SavingsWalletMapper::toDTO));
+    }
+
+    @Test
+    @DisplayName("GET /personal-debts fetches the currency in the page select")
+    public void testPersonalDebtList() {
+        assertStatements(2, () -> personalDebtRepository.findAll(
+                PersonalDebtSpecification.withFilters(new PersonalDebtFilterDTO(), user), byDate()).map(PersonalDebtMapper::toDTO));
+    }
+
+    @Test
+    @DisplayName("GET /recurrent-expenses fetches every reference in the page select")
+    public void testRecurrentExpenseList() {
+        assertStatements(2, () -> recurrentExpenseRepository.findAll(
+                RecurrentExpenseSpecification.withFilters(new RecurrentExpenseFilterDTO(), user), byId()).map(RecurrentExpenseMapper::toDTO));
+    }
+
+    @Test
+    @DisplayName("GET /recurrent-expense-records fetches the recurrent expense and the expense in the page select")
+    public void testRecurrentExpenseRecordList() {
+        assertStatements(2, () -> recordRepository.findAll(
+                RecurrentExpenseRecordSpecification.withFilters(new RecurrentExpenseRecordFilterDTO(), user), byId())
+                .map(RecurrentExpenseRecordMapper::toDTO));
+    }
+
+    @Test
+    @DisplayName("GET /mail/imports fetches the linked expense in the page select")
+    public void testMailImportList() {
+        assertStatements(2, () -> mailImportRepository.findAll(
+                MailImportSpecification.withFilters(new MailImportFilterDTO(), user), byId()).map(MailImportMapper::toDTO));
+    }
+
+    @Test
+    @DisplayName("GET /budgets does not grow with the number of budgets or recurrent expenses")
+    public void testBudgetList() {
+        BudgetService budgetService = new BudgetService(budgetRepository, recurrentExpenseRepository, recordRepository,
+                Mockito.mock(IDataVersionService.class));
+        BudgetFilterDTO filters = new BudgetFilterDTO();
+
+        long smallPage = countStatements(() -> budgetService.list(filters, PageRequest.of(0, 1, Sort.by("id"))));
+        entityManager.clear();
+        long fullPage = countStatements(() -> budgetService.list(filters, PageRequest.of(0, PAGE_SIZE, Sort.by("id"))));
+
+        assertEquals(smallPage, fullPage);
+        Page<BudgetDTO> page = budgetService.list(filters, PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+        assertEquals(ROWS / 3, page.getTotalElements());
+    }
+
+    // ──────────────────────────────────────────────────────────────────────────
+    // HELPERS
+    // ──────────────────────────────────────────────────────────────────────────
+
+    private void assertStatements(long expected, Supplier<Page<?>> list) {
+        long statements = countStatements(list);
+        assertEquals(expected, statements);
+    }
+
+    private long countStatements(Supplier<Page<?>> list) {
+        statistics.clear();
+        Page<?> page = list.get();
+        assertFalse(page.getContent().isEmpty());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static Pageable byDate() {
+        return PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "date", "id"));
+    }
+
+    private static Pageable byId() {
+        return PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+    }
+
+    /**
+     * One user whose rows point to several distinct references each, so a lazy association
+     * resolved per row would show up as extra statements.
+     */
+    private void seed() {
+        user = new User();
+        user.setEmail("count@test.com");
+        user.setName("Count");
+        user.setEnabled(true);
+        entityManager.persist(user);
+
+        List<IssuingEntity> entities = new ArrayList<>();
+        List<Category> categories = new ArrayList<>();
+        List<Currency> currencies = new ArrayList<>();
+        List<PaymentMethod> paymentMethods = new ArrayList<>();
+        List<SavingsWallet> wallets = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            IssuingEntity entity = new IssuingEntity();
+            entity.setDescription("Bank " + i);
+            entity.setEnabled(true);
+            entity.setUser(user);
+            entityManager.persist(entity);
+            entities.add(entity);
+
+            Category category = new Category();
+            category.setName("Category " + i);
+            category.setType(CategoryType.EXPENSE);
+            category.setEnabled(true);
+            category.setUser(user);
+            entityManager.persist(category);
+            categories.add(category);
+
+            Currency currency = new Currency();
+            currency.setName("Currency " + i);
+            currency.setSymbol("C" + i);
+            currency.setEnabled(true);
+            currency.setIsDefault(i == 0);
+            currency.setUser(user);
+            entityManager.persist(currency);
+            currencies.add(currency);
+
+            PaymentMethod paymentMethod = new PaymentMethod();
+            paymentMethod.setName("Card " + i);
+            paymentMethod.setPaymentMethodType(PaymentMethodType.CREDIT_CARD);
+            paymentMethod.setEnabled(true);
+            paymentMethod.setIssuingEntity(entity);
+            paymentMethod.setUser(user);
+            entityManager.persist(paymentMethod);
+            paymentMethods.add(paymentMethod);
+
+            SavingsWallet wallet = new SavingsWallet();
+            wallet.setName("Wallet " + i);
+            wallet.setSavingsWalletType(SavingsWalletType.BANK_ACCOUNT);
+            wallet.setEnabled(true);
+            wallet.setIssuingEntity(entity);
+            wallet.setUser(user);
+            entityManager.persist(wallet);
+            wallets.add(wallet);
+        }
+
+        List<Expense> expenses = new ArrayList<>();
+        List<RecurrentExpense> recurrentExpenses = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            int ref = i % 6;
+            LocalDate date = LocalDate.of(2025, 1, 1).plusDays(i);
+            BigDecimal amount = BigDecimal.valueOf(1000L * (i + 1));
+
+            Expense expense = new Expense();
+            expense.setDescription("Expense " + i);
+            expense.setAmountInPesos(amount);
+            expense.setDate(date);
+            expense.setCategory(categories.get(ref));
+            expense.setPaymentMethod(paymentMethods.get(ref));
+            expense.setCurrency(currencies.get(ref));
+            expense.setIsMicroExpense(false);
+            expense.setUser(user);
+            entityManager.persist(expense);
+            expenses.add(expense);
+
+            Income income = new Income();
+            income.setDescription("Income " + i);
+            income.setAmountInPesos(amount);
+            income.setDate(date);
+            income.setSource(categories.get(ref));
+            income.setCurrency(currencies.get(ref));
+            income.setUser(user);
+            entityManager.persist(income);
+
+            CardExpense cardExpense = new CardExpense();
+            cardExpense.setDescription("Card expense " + i);
+            cardExpense.setAmountInPesos(amount);
+            cardExpense.setDate(date);
+            cardExpense.setCancelled(false);
+            cardExpense.setPaymentMethod(paymentMethods.get(ref));
+            cardExpense.setCurrency(currencies.get(ref));
+            cardExpense.setUser(user);
+            entityManager.persist(cardExpense);
+
+            Debt debt = new Debt();
+            debt.setDescription("Debt " + i);
+            debt.setAmountInPesos(amount);
+            debt.setDate(date);
+            debt.setCancelled(false);
+            debt.setPersonal(false);
+            debt.setIssuingEntity(entities.get(ref));
+            debt.setPaymentMethod(paymentMethods.get(ref));
+            debt.setCurrency(currencies.get(ref));
+            debt.setUser(user);
+            entityManager.persist(debt);
+
+            PersonalDebt personalDebt = new PersonalDebt();
+            personalDebt.setDescription("Personal debt " + i);
+            personalDebt.setAmountInPesos(amount);
+            personalDebt.setDate(date);
+            personalDebt.setCancelled(false);
+            personalDebt.setCreditor("Creditor " + i);
+            personalDebt.setCurrency(currencies.get(ref));
+            personalDebt.setUser(user);
+            entityManager.persist(personalDebt);
+
+            Saving saving = new Saving();
+            saving.setDescription("Saving " + i);
+            saving.setAmountInPesos(amount);
+            saving.setDate(date);
+            saving.setCurrency(currencies.get(ref));
+            saving.setSavingsWallet(wallets.get(ref));
+            saving.setUser(user);
+            entityManager.persist(saving);
+
+            RecurrentExpense recurrentExpense = new RecurrentExpense();
+            recurrentExpense.setDescription("Recurrent " + i);
+            recurrentExpense.setAmountInPesos(amount);
+            recurrentExpense.setDayOfMonth(ref + 1);
+            recurrentExpense.setCategory(categories.get(ref));
+            recurrentExpense.setPaymentMethod(paymentMethods.get(ref));
+            recurrentExpense.setCurrency(currencies.get(ref));
+            recurrentExpense.setEnabled(true);
+            recurrentExpense.setUser(user);
+            entityManager.persist(recurrentExpense);
+            recurrentExpenses.add(recurrentExpense);
+
+            RecurrentExpenseRecord record = new RecurrentExpenseRecord();
+            record.setRecurrentExpense(recurrentExpense);
+            record.setMonth(1);
+            record.setYear(2025);
+            record.setCancelled(i % 2 == 0);
+            record.setExpense(i % 2 == 0 ? expense : null);
+            record.setUser(user);
+            entityManager.persist(record);
+
+            MailImport mailImport = new MailImport();
+            mailImport.setUser(user);
+            mailImport.setImapMessageId("<" + i + "@mail>");
+            mailImport.setSenderEntity("SANTANDER");
+            mailImport.setParsedAmount(amount);
+            mailImport.setStatus(MailImportStatus.CONFIRMED);
+            mailImport.setExpense(expense);
+            entityManager.persist(mailImport);
+        }
+
+        for (int i = 0; i < ROWS / 3; i++) {
+            Budget budget = new Budget();
+            budget.setDescription("Budget " + i);
+            budget.setMonth(i + 1);
+            budget.setYear(2025);
+            budget.setEnabled(true);
+            budget.setRecurrentExpenses(new ArrayList<>(recurrentExpenses.subList(i * 3, i * 3 + 3)));
+            budget.setUser(user);
+            entityManager.persist(budget);
+        }
+    }
+
+}
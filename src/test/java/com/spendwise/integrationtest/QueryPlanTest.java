@@ -0,0 +1,463 @@
+package com.spendwise.integrationtest;
+
+import com.spendwise.dto.CardExpenseFilterDTO;
+import com.spendwise.dto.CategoryFilterDTO;
+import com.spendwise.dto.DebtFilterDTO;
+import com.spendwise.dto.ExpenseFilterDTO;
+import com.spendwise.dto.IncomeFilterDTO;
+import com.spendwise.dto.PaymentMethodFilterDTO;
+import com.spendwise.dto.PersonalDebtFilterDTO;
+import com.spendwise.dto.RecurrentExpenseFilterDTO;
+import com.spendwise.dto.RecurrentExpenseRecordFilterDTO;
+import com.spendwise.dto.SavingFilterDTO;
+import com.spendwise.dto.TransactionDTO;
+import com.spendwise.dto.TransactionFilterDTO;
+import com.spendwise.enums.MailImportStatus;
+import com.spendwise.enums.TransactionType;
+import com.spendwise.model.CardExpense;
+import com.spendwise.model.Debt;
+import com.spendwise.model.Expense;
+import com.spendwise.model.Income;
+import com.spendwise.model.RecurrentExpense;
+import com.spendwise.model.Saving;
+import com.spendwise.model.auth.User;
+import com.spendwise.projection.CardExpenseListRow;
+import com.spendwise.projection.DebtListRow;
+import com.spendwise.projection.ExpenseListRow;
+import com.spendwise.projection.IncomeListRow;
+import com.spendwise.projection.SavingListRow;
+import com.spendwise.repository.BudgetRepository;
+import com.spendwise.repository.CategoryRepository;
+import com.spendwise.repository.DescriptionSearchRepository;
+import com.spendwise.repository.ExpenseRepository;
+import com.spendwise.repository.MailImportRepository;
+import com.spendwise.repository.MerchantBindingRepository;
+import com.spendwise.repository.PasswordResetTokenRepository;
+import com.spendwise.repository.PaymentMethodRepository;
+import com.spendwise.repository.PersonalDebtRepository;
+import com.spendwise.repository.RecurrentExpenseRecordRepository;
+import com.spendwise.repository.RecurrentExpenseRepository;
+import com.spendwise.repository.RefreshTokenRepository;
+import com.spendwise.repository.SpecificationProjectionExecutor;
+import com.spendwise.service.TransactionService;
+import com.spendwise.spec.CardExpenseSpecification;
+import com.spendwise.spec.CategoryEspecification;
+import com.spendwise.spec.DebtSpecification;
+import com.spendwise.spec.ExpenseSpecification;
+import com.spendwise.spec.IncomeSpecification;
+import com.spendwise.spec.KeysetCursor;
+import com.spendwise.spec.PaymentMethodEspecification;
+import com.spendwise.spec.PersonalDebtSpecification;
+import com.spendwise.spec.RecurrentExpenseRecordSpecification;
+import com.spendwise.spec.RecurrentExpenseSpecification;
+import com.spendwise.spec.SavingSpecification;
+import com.spendwise.spec.TransactionCursor;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the migrations in db/migration against a real Postgres, seeds 500 users and checks
+ * with EXPLAIN that the key list and lookup paths are served by an index. The statements
+ * explained are the ones Hibernate actually generates for each path, captured with a
+ * {@link StatementInspector}, and are planned generically so their bind parameters do not
+ * matter. A statement that falls back to a Seq Scan means the index set in V3 no longer
+ * covers its access path. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.spendwise.integrationtest.QueryPlanTest$CapturedStatements"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SpecificationProjectionExecutor.class, DescriptionSearchRepository.class, TransactionService.class})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Query Plan Tests")
+public class QueryPlanTest {
+
+    @Container
+    static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+    private static final long USER_ID = 42;
+
+    /** Collects every SQL statement Hibernate prepares, unchanged. */
+    public static class CapturedStatements implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (STATEMENTS) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+
+        static List<String> drain() {
+            synchronized (STATEMENTS) {
+                List<String> drained = List.copyOf(STATEMENTS);
+                STATEMENTS.clear();
+                return drained;
+            }
+        }
+
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SpecificationProjectionExecutor projectionExecutor;
+
+    @Autowired
+    private DescriptionSearchRepository descriptionSearchRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private PersonalDebtRepository personalDebtRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PaymentMethodRepository paymentMethodRepository;
+
+    @Autowired
+    private RecurrentExpenseRepository recurrentExpenseRepository;
+
+    @Autowired
+    private RecurrentExpenseRecordRepository recordRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private MailImportRepository mailImportRepository;
+
+    @Autowired
+    private MerchantBindingRepository merchantBindingRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    private User user;
+
+    @BeforeAll
+    static void migrateAndSeed() throws Exception {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = connection(); Statement statement = connection.createStatement()) {
+            statement.execute(resource("/db/query-plan-seed.sql"));
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.find(User.class, USER_ID);
+        CapturedStatements.drain();
+    }
+
+    // ─── Expenses ────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Expense page and count")
+    public void testExpensePage() throws SQLException {
+        assertIndexed(() -> projectionExecutor.findPage(Expense.class, ExpenseListRow.class, ExpenseListRow::columns,
+                ExpenseSpecification.withFilters(new ExpenseFilterDTO(), user), byDate()));
+    }
+
+    @Test
+    @DisplayName("Expense page within a date range")
+    public void testExpenseDateRange() throws SQLException {
+        ExpenseFilterDTO filters = new ExpenseFilterDTO();
+        filters.setStartDate(LocalDate.of(2024, 3, 1));
+        filters.setEndDate(LocalDate.of(2024, 3, 31));
+
+        assertIndexed(() -> projectionExecutor.findSlice(Expense.class, ExpenseListRow.class, ExpenseListRow::columns,
+                ExpenseSpecification.withFilters(filters, user), byDate()));
+    }
+
+    @Test
+    @DisplayName("Expense keyset cursor seeks into the (user, date, id) index")
+    public void testExpenseKeysetCursor() throws SQLException {
+        String cursor = KeysetCursor.encode(LocalDate.of(2024, 6, 1), 100_000L);
+
+        assertIndexed(() -> expenseRepository.findBy(
+                KeysetCursor.seek(ExpenseSpecification.withFilters(new ExpenseFilterDTO(), user), cursor),
+                q -> q.sortBy(KeysetCursor.ORDER).limit(KeysetCursor.DEFAULT_SIZE + 1).all()));
+    }
+
+    @Test
+    @DisplayName("Expense monthly summary")
+    public void testExpenseMonthlySums() throws SQLException {
+        assertIndexed(() -> expenseRepository.getMonthlySums(user));
+    }
+
+    @Test
+    @DisplayName("Expense description search")
+    public void testExpenseDescriptionSearch() throws SQLException {
+        assertIndexed(() -> descriptionSearchRepository.searchIds(DescriptionSearchRepository.Table.EXPENSE,
+                USER_ID, "compra 12", 0, 20));
+    }
+
+    @Test
+    @DisplayName("Saving description search")
+    public void testSavingDescriptionSearch() throws SQLException {
+        assertIndexed(() -> descriptionSearchRepository.searchIds(DescriptionSearchRepository.Table.SAVING,
+                USER_ID, "ahorro 7", 0, 20));
+    }
+
+    // ─── Other movements ─────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Transactions feed resumes every source with a date-bounded seek")
+    public void testTransactionFeedCursor() throws SQLException {
+        TransactionDTO last = new TransactionDTO();
+        last.setDate(LocalDate.of(2024, 6, 1));
+        last.setType(TransactionType.INCOME);
+        last.setId(100_000L);
+        String cursor = TransactionCursor.encode(last);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList()));
+
+        try {
+            assertIndexed(() -> transactionService.feed(new TransactionFilterDTO(), cursor, KeysetCursor.DEFAULT_SIZE));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    @DisplayName("Income page and count")
+    public void testIncomePage() throws SQLException {
+        assertIndexed(() -> projectionExecutor.findPage(Income.class, IncomeListRow.class, IncomeListRow::columns,
+                IncomeSpecification.withFilters(new IncomeFilterDTO(), user), byDate()));
+    }
+
+    @Test
+    @DisplayName("Card expense page and count")
+    public void testCardExpensePage() throws SQLException {
+        assertIndexed(() -> projectionExecutor.findPage(CardExpense.class, CardExpenseListRow.class, CardExpenseListRow::columns,
+                CardExpenseSpecification.withFilters(new CardExpenseFilterDTO(), user), byDate()));
+    }
+
+    @Test
+    @DisplayName("Debt page and count")
+    public void testDebtPage() throws SQLException {
+        assertIndexed(() -> projectionExecutor.findPage(Debt.class, DebtListRow.class, DebtListRow::columns,
+                DebtSpecification.withFilters(new DebtFilterDTO(), user), byDate()));
+    }
+
+    @Test
+    @DisplayName("Personal debt page and count")
+    public void testPersonalDebtPage() throws SQLException {
+        assertIndexed(() -> personalDebtRepository.findAll(
+                PersonalDebtSpecification.withFilters(new PersonalDebtFilterDTO(), user), byDate()));
+    }
+
+    @Test
+    @DisplayName("Saving page and count")
+    public void testSavingPage() throws SQLException {
+        assertIndexed(() -> projectionExecutor.findPage(Saving.class, SavingListRow.class, SavingListRow::columns,
+                SavingSpecification.withFilters(new SavingFilterDTO(), user), byDate()));
+    }
+
+    // ─── Catalogs and budgets ────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Categories of the user")
+    public void testCategories() throws SQLException {
+        assertIndexed(() -> categoryRepository.findAll(
+                CategoryEspecification.withFilters(new CategoryFilterDTO(), user), byId()));
+    }
+
+    @Test
+    @DisplayName("Payment methods of the user")
+    public void testPaymentMethods() throws SQLException {
+        assertIndexed(() -> paymentMethodRepository.findAll(
+                PaymentMethodEspecification.withFilters(new PaymentMethodFilterDTO(), user), byId()));
+    }
+
+    @Test
+    @DisplayName("Recurrent expenses of the user")
+    public void testRecurrentExpenses() throws SQLException {
+        assertIndexed(() -> recurrentExpenseRepository.findAll(
+                RecurrentExpenseSpecification.withFilters(new RecurrentExpenseFilterDTO(), user), byId()));
+    }
+
+    @Test
+    @DisplayName("Latest budget")
+    public void testLatestBudget() throws SQLException {
+        assertIndexed(() -> budgetRepository.findTopByUserOrderByYearDescMonthDesc(user));
+    }
+
+    // ─── Recurrent expense records ───────────────────────────────────────────
+
+    @Test
+    @DisplayName("Record of a recurrent expense for a period")
+    public void testRecordByPeriod() throws SQLException {
+        RecurrentExpense recurrentExpense = recurrentExpenseRepository.findAllByUserAndEnabledTrue(user).get(0);
+        CapturedStatements.drain();
+
+        assertIndexed(() -> recordRepository.findByRecurrentExpenseAndMonthAndYear(recurrentExpense, 3, 2025));
+    }
+
+    @Test
+    @DisplayName("Pending records of a period")
+    public void testPendingRecords() throws SQLException {
+        RecurrentExpenseRecordFilterDTO filters = new RecurrentExpenseRecordFilterDTO();
+        filters.setYear(2025);
+        filters.setMonth(3);
+        filters.setCancelled(false);
+
+        assertIndexed(() -> recordRepository.findAll(
+                RecurrentExpenseRecordSpecification.withFilters(filters, user), byId()));
+    }
+
+    @Test
+    @DisplayName("Materializing the missing records of a window")
+    public void testInsertMissingForPeriod() throws SQLException {
+        assertIndexed(() -> recordRepository.insertMissingForPeriod(3, 2025, 100L, 200L));
+    }
+
+    // ─── Lookups ─────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Pending mail imports count")
+    public void testPendingMailImports() throws SQLException {
+        assertIndexed(() -> mailImportRepository.countByUserAndStatus(user, MailImportStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("Merchant binding lookup")
+    public void testMerchantBinding() throws SQLException {
+        assertIndexed(() -> merchantBindingRepository.findByUserAndMerchantNameIgnoreCase(user, "COMERCIO 7"));
+    }
+
+    @Test
+    @DisplayName("Refresh token lookup")
+    public void testRefreshToken() throws SQLException {
+        assertIndexed(() -> refreshTokenRepository.findByToken("refresh-42-1"));
+    }
+
+    @Test
+    @DisplayName("Password reset token lookup")
+    public void testPasswordResetToken() throws SQLException {
+        assertIndexed(() -> passwordResetTokenRepository.findByToken("reset-42-1"));
+    }
+
+    // ─── Helpers ─────────────────────────────────────────────────────────────
+
+    /** Runs {@code path} and checks the plan of every statement it issued. */
+    private void assertIndexed(Runnable path) throws SQLException {
+        // Act
+        path.run();
+        entityManager.flush();
+        List<String> statements = CapturedStatements.drain();
+
+        // Assert
+        assertFalse(statements.isEmpty(), "the path issued no statement");
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertFalse(plan.contains("Seq Scan"), () -> "falls back to a sequential scan:\n" + sql + "\n" + plan);
+        }
+    }
+
+    /** Plans {@code sql} with its JDBC parameters numbered, as Postgres plans a prepared statement. */
+    private static String explain(String sql) throws SQLException {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = connection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numbered)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static Pageable byDate() {
+        return PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "date", "id"));
+    }
+
+    private static Pageable byId() {
+        return PageRequest.of(0, 20, Sort.by("id"));
+    }
+
+    private static Connection connection() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+
+    private static String resource(String path) throws IOException {
+        try (InputStream in = QueryPlanTest.class.getResourceAsStream(path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.spendwise.integrationtest;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * V3 removes duplicated recurrent expense records before adding the unique period index.
+ * Migrates a real Postgres up to V2, seeds duplicates the way prod has them, then runs V3
+ * and checks that each period keeps its paid record. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Recurrent Expense Record Dedup Migration Tests")
+public class RecordDedupMigrationTest {
+
+    @Container
+    static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Test
+    @DisplayName("Each duplicated period keeps its cancelled record with a linked expense")
+    public void testKeepsPaidRecord() throws SQLException {
+        migrate("2");
+        try (Connection connection = connection(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO APP_USER (ID, EMAIL, ENABLED) VALUES (1, 'john@example.com', true)");
+            statement.execute("INSERT INTO EXPENSE (ID, DESCRIPTION, USER_ID) VALUES (50, 'Netflix', 1)");
+            statement.execute("INSERT INTO RECURRENT_EXPENSE (ID, DESCRIPTION, ENABLED, USER_ID) VALUES (1, 'Netflix', true, 1), (2, 'Gym', true, 1)");
+            // 1: pending copies around the paid one; 2: a cancelled copy without an expense and a null one
+            statement.execute("""
+                    INSERT INTO RECURRENT_EXPENSE_RECORD (ID, RECURRENT_EXPENSE_ID, MONTH, YEAR, CANCELLED, EXPENSE_ID, USER_ID) VALUES
+                        (10, 1, 3, 2026, false, NULL, 1),
+                        (11, 1, 3, 2026, true, 50, 1),
+                        (12, 1, 3, 2026, false, NULL, 1),
+                        (20, 2, 3, 2026, NULL, NULL, 1),
+                        (21, 2, 3, 2026, true, NULL, 1),
+                        (30, 2, 4, 2026, false, NULL, 1)
+                    """);
+        }
+
+        migrate(null);
+
+        assertEquals(List.of("11:true:50", "21:true:null", "30:false:null"), records());
+    }
+
+    private static List<String> records() throws SQLException {
+        List<String> records = new ArrayList<>();
+        try (Connection connection = connection(); Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT ID, CANCELLED, EXPENSE_ID FROM RECURRENT_EXPENSE_RECORD ORDER BY ID")) {
+            while (rs.next()) {
+                records.add(rs.getLong(1) + ":" + rs.getObject(2) + ":" + rs.getObject(3));
+            }
+        }
+        return records;
+    }
+
+    private static void migrate(String target) {
+        var configuration = Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration");
+        if (target != null) configuration.target(target);
+        configuration.load().migrate();
+    }
+
+    private static Connection connection() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+
+}
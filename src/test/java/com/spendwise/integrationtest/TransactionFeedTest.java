@@ -0,0 +1,221 @@
+package com.spendwise.integrationtest;
+
+import com.spendwise.dto.CurrencyDTO;
+import com.spendwise.dto.CursorPageDTO;
+import com.spendwise.dto.TransactionDTO;
+import com.spendwise.dto.TransactionFilterDTO;
+import com.spendwise.enums.TransactionType;
+import com.spendwise.model.CardExpense;
+import com.spendwise.model.Currency;
+import com.spendwise.model.Expense;
+import com.spendwise.model.Income;
+import com.spendwise.model.Saving;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.SpecificationProjectionExecutor;
+import com.spendwise.service.TransactionService;
+import com.spendwise.spec.TransactionCursor;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pages through the transactions feed on an in-memory H2 database. Every source has rows on
+ * the same dates, so the cursor has to break ties between types as well as within one.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:transaction-feed;NON_KEYWORDS=YEAR,MONTH,VALUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SpecificationProjectionExecutor.class, TransactionService.class})
+@DisplayName("Transaction Feed Tests")
+public class TransactionFeedTest {
+
+    private static final int DAYS = 7;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    private User user;
+    private Currency pesos;
+    private Currency dollars;
+    private final List<TransactionDTO> expected = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        seed();
+        entityManager.flush();
+        entityManager.clear();
+
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Paging with the cursor returns every row once, in feed order")
+    public void testPagesCoverTheMergedTimeline() {
+        List<TransactionDTO> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDTO<TransactionDTO> page = transactionService.feed(new TransactionFilterDTO(), cursor, 5);
+            assertTrue(page.getContent().size() <= 5);
+            seen.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        List<TransactionDTO> sorted = new ArrayList<>(expected);
+        sorted.sort(TransactionCursor.ORDER);
+        assertEquals(keys(sorted), keys(seen));
+    }
+
+    @Test
+    @DisplayName("A page issues one bounded select per source")
+    public void testOneSelectPerSource() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        CursorPageDTO<TransactionDTO> first = transactionService.feed(new TransactionFilterDTO(), null, 5);
+
+        statistics.clear();
+        transactionService.feed(new TransactionFilterDTO(), first.getNextCursor(), 5);
+
+        assertEquals(TransactionType.values().length, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Date, currency and amount filters apply to every source")
+    public void testFiltersArePushedDown() {
+        TransactionFilterDTO filters = new TransactionFilterDTO();
+        filters.setStartDate(LocalDate.of(2025, 1, 3));
+        filters.setEndDate(LocalDate.of(2025, 1, 5));
+        filters.setCurrencyId(pesos.getId());
+        filters.setMinAmountInPesos(BigDecimal.valueOf(200));
+
+        CursorPageDTO<TransactionDTO> page = transactionService.feed(filters, null, 100);
+
+        List<TransactionDTO> matching = expected.stream()
+                .filter(t -> !t.getDate().isBefore(filters.getStartDate()) && !t.getDate().isAfter(filters.getEndDate()))
+                .filter(t -> t.getCurrency().getId().equals(pesos.getId()))
+                .filter(t -> t.getAmountInPesos().compareTo(filters.getMinAmountInPesos()) >= 0)
+                .sorted(TransactionCursor.ORDER)
+                .toList();
+        assertFalse(matching.isEmpty());
+        assertEquals(keys(matching), keys(page.getContent()));
+        assertFalse(page.getHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    private static List<String> keys(List<TransactionDTO> rows) {
+        return rows.stream().map(t -> t.getDate() + "/" + t.getType() + "/" + t.getId()).toList();
+    }
+
+    /**
+     * Per day: two expenses, one income, one card expense and (every other day) a saving,
+     * alternating currencies and amounts.
+     */
+    private void seed() {
+        user = new User();
+        user.setEmail("feed@test.com");
+        user.setName("Feed");
+        user.setEnabled(true);
+        entityManager.persist(user);
+
+        pesos = currency("Peso", "$");
+        dollars = currency("Dollar", "US$");
+
+        int n = 0;
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate date = LocalDate.of(2025, 1, 1).plusDays(day);
+            for (int i = 0; i < 2; i++, n++) {
+                Expense expense = new Expense();
+                expense.setDescription("Expense " + n);
+                expense.setAmountInPesos(BigDecimal.valueOf(100L * (n % 4 + 1)));
+                expense.setDate(date);
+                expense.setCurrency(n % 2 == 0 ? pesos : dollars);
+                expense.setUser(user);
+                entityManager.persist(expense);
+                expect(TransactionType.EXPENSE, expense.getId(), date, expense.getAmountInPesos(), expense.getCurrency());
+            }
+
+            Income income = new Income();
+            income.setDescription("Income " + day);
+            income.setAmountInPesos(BigDecimal.valueOf(300));
+            income.setDate(date);
+            income.setCurrency(day % 2 == 0 ? pesos : dollars);
+            income.setUser(user);
+            entityManager.persist(income);
+            expect(TransactionType.INCOME, income.getId(), date, income.getAmountInPesos(), income.getCurrency());
+
+            CardExpense cardExpense = new CardExpense();
+            cardExpense.setDescription("Card expense " + day);
+            cardExpense.setAmountInPesos(BigDecimal.valueOf(150));
+            cardExpense.setDate(date);
+            cardExpense.setCancelled(false);
+            cardExpense.setCurrency(pesos);
+            cardExpense.setUser(user);
+            entityManager.persist(cardExpense);
+            expect(TransactionType.CARD_EXPENSE, cardExpense.getId(), date, cardExpense.getAmountInPesos(), pesos);
+
+            if (day % 2 == 0) {
+                Saving saving = new Saving();
+                saving.setDescription("Saving " + day);
+                saving.setAmountInPesos(BigDecimal.valueOf(500));
+                saving.setDate(date);
+                saving.setCurrency(pesos);
+                saving.setUser(user);
+                entityManager.persist(saving);
+                expect(TransactionType.SAVING, saving.getId(), date, saving.getAmountInPesos(), pesos);
+            }
+        }
+    }
+
+    private Currency currency(String name, String symbol) {
+        Currency currency = new Currency();
+        currency.setName(name);
+        currency.setSymbol(symbol);
+        currency.setEnabled(true);
+        currency.setIsDefault(false);
+        currency.setUser(user);
+        entityManager.persist(currency);
+        return currency;
+    }
+
+    private void expect(TransactionType type, Long id, LocalDate date, BigDecimal amountInPesos, Currency currency) {
+        TransactionDTO row = new TransactionDTO();
+        row.setType(type);
+        row.setId(id);
+        row.setDate(date);
+        row.setAmountInPesos(amountInPesos);
+        CurrencyDTO currencyDTO = new CurrencyDTO();
+        currencyDTO.setId(currency.getId());
+        row.setCurrency(currencyDTO);
+        expected.add(row);
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.spendwise.unittest;
+
+import com.spendwise.dto.AccountDeletionDTO;
+import com.spendwise.enums.AccountDeletionStatus;
+import com.spendwise.mail.imap.ImapIdleManager;
+import com.spendwise.model.AccountDeletion;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.AccountDeletionRepository;
+import com.spendwise.service.AccountDeletionService;
+import com.spendwise.service.AccountPurger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Account Deletion Service Unit Tests")
+public class AccountDeletionServiceTest {
+
+    @Mock
+    private AccountDeletionRepository accountDeletionRepository;
+
+    @Mock
+    private AccountPurger accountPurger;
+
+    @Mock
+    private ImapIdleManager imapIdleManager;
+
+    @InjectMocks
+    private AccountDeletionService accountDeletionService;
+
+    // ───────────────────────── request ─────────────────────────
+
+    @Test
+    @DisplayName("A small account is revoked and purged inline")
+    public void testRequestSmallAccount() {
+        // Arrange
+        User user = user(1L);
+        Mockito.when(accountPurger.revokeAccess(1L)).thenReturn(2);
+        Mockito.when(accountPurger.countRows(1L)).thenReturn(120L);
+        Mockito.when(accountPurger.purgeAll(1L)).thenReturn(150L);
+        Mockito.when(accountDeletionRepository.save(any(AccountDeletion.class))).thenAnswer(i -> i.getArgument(0));
+
+        // Act
+        AccountDeletionDTO result = accountDeletionService.request(user);
+
+        // Assert
+        assertEquals(AccountDeletionStatus.COMPLETED, result.getStatus());
+        assertEquals(152L, result.getDeletedRows());
+        assertNotNull(result.getId());
+        assertNotNull(result.getCompletedAt());
+        Mockito.verify(imapIdleManager).stopWorker(1L);
+    }
+
+    @Test
+    @DisplayName("A large account is revoked at once and queued for the purge job")
+    public void testRequestLargeAccount() {
+        // Arrange
+        User user = user(1L);
+        Mockito.when(accountPurger.revokeAccess(1L)).thenReturn(3);
+        Mockito.when(accountPurger.countRows(1L)).thenReturn(80_000L);
+        Mockito.when(accountDeletionRepository.save(any(AccountDeletion.class))).thenAnswer(i -> i.getArgument(0));
+
+        // Act
+        AccountDeletionDTO result = accountDeletionService.request(user);
+
+        // Assert
+        assertEquals(AccountDeletionStatus.PENDING, result.getStatus());
+        assertEquals(3L, result.getDeletedRows());
+        assertNull(result.getCompletedAt());
+        Mockito.verify(accountPurger, Mockito.never()).purgeAll(anyLong());
+        Mockito.verify(imapIdleManager).stopWorker(1L);
+    }
+
+    // ───────────────────────── purgePending ─────────────────────────
+
+    @Test
+    @DisplayName("purgePending deletes a claimed account chunk by chunk and then the user")
+    public void testPurgePending() {
+        // Arrange
+        AccountDeletion deletion = deletion("d-1", 7L);
+        Mockito.when(accountDeletionRepository.findAllByStatusInOrderByRequestedAtAsc(any()))
+                .thenReturn(List.of(deletion));
+        Mockito.when(accountDeletionRepository.claim(eq("d-1"), any(), any())).thenReturn(1);
+        Mockito.when(accountPurger.purgeChunk(eq(7L), anyInt())).thenReturn(2_000, 2_000, 350, 0);
+        Mockito.when(accountPurger.deleteUser(7L)).thenReturn(1);
+
+        // Act
+        int completed = accountDeletionService.purgePending();
+
+        // Assert
+        assertEquals(1, completed);
+        Mockito.verify(accountPurger, Mockito.times(4)).purgeChunk(eq(7L), anyInt());
+        Mockito.verify(accountDeletionRepository, Mockito.times(2)).addDeletedRows(eq("d-1"), eq(2_000L), any());
+        Mockito.verify(accountDeletionRepository).addDeletedRows(eq("d-1"), eq(350L), any());
+        Mockito.verify(accountDeletionRepository).addDeletedRows(eq("d-1"), eq(1L), any());
+        Mockito.verify(accountDeletionRepository).complete(eq("d-1"), any());
+    }
+
+    @Test
+    @DisplayName("purgePending skips a deletion another instance already claimed")
+    public void testPurgePendingClaimedElsewhere() {
+        // Arrange
+        Mockito.when(accountDeletionRepository.findAllByStatusInOrderByRequestedAtAsc(any()))
+                .thenReturn(List.of(deletion("d-2", 8L)));
+        Mockito.when(accountDeletionRepository.claim(eq("d-2"), any(), any())).thenReturn(0);
+
+        // Act
+        int completed = accountDeletionService.purgePending();
+
+        // Assert
+        assertEquals(0, completed);
+        Mockito.verifyNoInteractions(accountPurger);
+    }
+
+    @Test
+    @DisplayName("A failed purge stays RUNNING to be retried and does not stop the others")
+    public void testPurgePendingFailure() {
+        // Arrange
+        Mockito.when(accountDeletionRepository.findAllByStatusInOrderByRequestedAtAsc(any()))
+                .thenReturn(List.of(deletion("d-3", 9L), deletion("d-4", 10L)));
+        Mockito.when(accountDeletionRepository.claim(any(), any(), any())).thenReturn(1);
+        Mockito.when(accountPurger.purgeChunk(eq(9L), anyInt())).thenThrow(new IllegalStateException("FK violation"));
+        Mockito.when(accountPurger.purgeChunk(eq(10L), anyInt())).thenReturn(0);
+
+        // Act
+        int completed = accountDeletionService.purgePending();
+
+        // Assert
+        assertEquals(1, completed);
+        Mockito.verify(accountDeletionRepository, Mockito.never()).complete(eq("d-3"), any());
+        Mockito.verify(accountDeletionRepository).complete(eq("d-4"), any());
+    }
+
+    // ───────────────────────── getStatus ─────────────────────────
+
+    @Test
+    @DisplayName("getStatus of an unknown id is NOT_FOUND")
+    public void testGetStatusNotFound() {
+        // Arrange
+        Mockito.when(accountDeletionRepository.findById("missing")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> accountDeletionService.getStatus("missing"));
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+    }
+
+    // ───────────────────────── helpers ─────────────────────────
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("user" + id + "@test.com");
+        user.setEnabled(false);
+        return user;
+    }
+
+    private static AccountDeletion deletion(String id, Long userId) {
+        AccountDeletion deletion = new AccountDeletion();
+        deletion.setId(id);
+        deletion.setUserId(userId);
+        deletion.setStatus(AccountDeletionStatus.PENDING);
+        deletion.setDeletedRows(0L);
+        deletion.setRequestedAt(LocalDateTime.now());
+        deletion.setUpdatedAt(LocalDateTime.now());
+        return deletion;
+    }
+
+}
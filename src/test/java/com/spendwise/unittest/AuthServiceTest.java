@@ -1,28 +1,47 @@
 package com.spendwise.unittest;
 
+import com.spendwise.dto.AccountDeletionDTO;
+import com.spendwise.dto.CurrencyDTO;
 import com.spendwise.dto.RegisterWithSetupDTO;
 import com.spendwise.dto.UserDTO;
 import com.spendwise.dto.auth.AuthResponseDTO;
 import com.spendwise.dto.auth.LoginRequestDTO;
 import com.spendwise.dto.auth.UpdateProfileDTO;
+import com.spendwise.enums.AccountDeletionStatus;
+import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.model.Currency;
+import com.spendwise.model.IssuingEntity;
+import com.spendwise.model.PaymentMethod;
+import com.spendwise.model.RecommendedEntity;
+import com.spendwise.model.RecommendedPaymentMethod;
 import com.spendwise.model.auth.VerificationToken;
 import com.spendwise.model.auth.User;
+import com.spendwise.repository.CategoryRepository;
 import com.spendwise.repository.CurrencyRepository;
 import com.spendwise.repository.IssuingEntityRepository;
 import com.spendwise.repository.PaymentMethodRepository;
+import com.spendwise.repository.RecommendedCategoryRepository;
 import com.spendwise.repository.RecommendedEntityRepository;
 import com.spendwise.repository.RecommendedPaymentMethodRepository;
 import com.spendwise.repository.UserRepository;
 import com.spendwise.repository.VerificationTokenRepository;
 import com.spendwise.security.JwtUtil;
+import com.spendwise.security.LoginThrottle;
+import com.spendwise.security.LoginThrottledException;
+import com.spendwise.security.TokenHasher;
 import com.spendwise.service.AuthService;
+import com.spendwise.service.RefreshTokenService;
 import com.spendwise.service.UserService;
+import com.spendwise.service.interfaces.IAccountDeletionService;
 import com.spendwise.service.interfaces.IEmailService;
+import com.spendwise.service.interfaces.IPrincipalInvalidationService;
+import com.spendwise.service.interfaces.ITokenRevocationService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -35,8 +54,11 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -78,6 +100,27 @@ public class AuthServiceTest {
     @Mock
     private RecommendedPaymentMethodRepository recommendedPaymentMethodRepository;
 
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private RecommendedCategoryRepository recommendedCategoryRepository;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private IAccountDeletionService accountDeletionService;
+
+    @Mock
+    private IPrincipalInvalidationService principalInvalidationService;
+
+    @Mock
+    private ITokenRevocationService tokenRevocationService;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
     @InjectMocks
     private AuthService authService;
 
@@ -109,9 +152,33 @@ public class AuthServiceTest {
         return user;
     }
 
+    private static CurrencyDTO currencyDTO(String name, String symbol) {
+        CurrencyDTO currency = new CurrencyDTO();
+        currency.setName(name);
+        currency.setSymbol(symbol);
+        return currency;
+    }
+
+    private static RecommendedEntity recommendedEntity(Long id, String name) {
+        RecommendedEntity entity = new RecommendedEntity();
+        entity.setId(id);
+        entity.setName(name);
+        return entity;
+    }
+
+    private static RecommendedPaymentMethod recommendedPaymentMethod(Long id, String name, PaymentMethodType type,
+                                                                     RecommendedEntity entity) {
+        RecommendedPaymentMethod paymentMethod = new RecommendedPaymentMethod();
+        paymentMethod.setId(id);
+        paymentMethod.setName(name);
+        paymentMethod.setPaymentMethodType(type);
+        paymentMethod.setEntity(entity);
+        return paymentMethod;
+    }
+
     private VerificationToken buildToken(User user, LocalDateTime expiryDate) {
         VerificationToken token = new VerificationToken();
-        token.setToken("test-uuid-token");
+        token.setToken(TokenHasher.hash("test-uuid-token"));
         token.setUser(user);
         token.setExpiryDate(expiryDate);
         return token;
@@ -190,6 +257,58 @@ public class AuthServiceTest {
         Mockito.verify(userRepository).save(any(User.class));
     }
 
+    @Test
+    @DisplayName("Register resolves the selections with one query per table and saves each table once")
+    @SuppressWarnings("unchecked")
+    public void testRegisterBatchesStarterSet() {
+
+        // Arrange
+        RegisterWithSetupDTO dto = new RegisterWithSetupDTO();
+        dto.setEmail("john@example.com");
+        dto.setName("John");
+        dto.setPassword("rawPassword");
+        dto.setCurrencies(List.of(currencyDTO("Peso", "$"), currencyDTO("Dólar", "US$")));
+        dto.setSelectedEntityIds(List.of(10L, 11L, 10L, 99L));
+        dto.setSelectedPaymentMethodIds(List.of(1L, 20L, 21L));
+
+        RecommendedEntity galicia = recommendedEntity(10L, "Galicia");
+        RecommendedEntity santander = recommendedEntity(11L, "Santander");
+        RecommendedPaymentMethod cash = recommendedPaymentMethod(1L, "Efectivo", PaymentMethodType.CASH, null);
+        RecommendedPaymentMethod visa = recommendedPaymentMethod(20L, "Visa Galicia", PaymentMethodType.CREDIT_CARD, galicia);
+        RecommendedPaymentMethod debit = recommendedPaymentMethod(21L, "Débito Santander", PaymentMethodType.DEBIT_CARD, santander);
+
+        Mockito.when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        Mockito.when(recommendedEntityRepository.findAllById(any())).thenReturn(List.of(santander, galicia));
+        Mockito.when(recommendedPaymentMethodRepository.findByEntityIsNullAndPaymentMethodTypeIn(any()))
+                .thenReturn(List.of(cash));
+        Mockito.when(recommendedPaymentMethodRepository.findAllById(any())).thenReturn(List.of(debit, visa));
+        Mockito.when(recommendedCategoryRepository.findAllByOrderByDisplayOrderAsc()).thenReturn(List.of());
+
+        // Act
+        authService.register(dto);
+
+        // Assert
+        Mockito.verify(recommendedEntityRepository).findAllById(Set.of(10L, 11L, 99L));
+        Mockito.verify(recommendedEntityRepository, Mockito.never()).findById(any());
+        Mockito.verify(recommendedPaymentMethodRepository, Mockito.never()).findById(any());
+        ArgumentCaptor<Collection<Currency>> currencies = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(currencyRepository).saveAll(currencies.capture());
+        assertEquals(2, currencies.getValue().size());
+
+        ArgumentCaptor<Collection<IssuingEntity>> entities = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(issuingEntityRepository).saveAll(entities.capture());
+        assertEquals(List.of("Galicia", "Santander"), entities.getValue().stream().map(IssuingEntity::getDescription).toList());
+
+        ArgumentCaptor<Collection<PaymentMethod>> paymentMethods = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(paymentMethodRepository).saveAll(paymentMethods.capture());
+        List<PaymentMethod> saved = List.copyOf(paymentMethods.getValue());
+        assertEquals(List.of("Efectivo", "Visa Galicia", "Débito Santander"), saved.stream().map(PaymentMethod::getName).toList());
+        assertNull(saved.get(0).getIssuingEntity());
+        assertEquals("Galicia", saved.get(1).getIssuingEntity().getDescription());
+        assertEquals("Santander", saved.get(2).getIssuingEntity().getDescription());
+        Mockito.verify(paymentMethodRepository, Mockito.never()).save(any());
+    }
+
     // ───────────────────────── verifyEmail ──────────────────────
 
     @Test
@@ -200,7 +319,7 @@ public class AuthServiceTest {
         User user = buildUser(1L, "john@example.com", "John", false);
         VerificationToken token = buildToken(user, LocalDateTime.now().plusHours(12));
 
-        Mockito.when(verificationTokenRepository.findByToken("test-uuid-token"))
+        Mockito.when(verificationTokenRepository.findByToken(TokenHasher.hash("test-uuid-token")))
                 .thenReturn(Optional.of(token));
         Mockito.when(userRepository.save(user)).thenReturn(user);
 
@@ -220,7 +339,7 @@ public class AuthServiceTest {
     public void testVerifyEmailInvalidToken() {
 
         // Arrange
-        Mockito.when(verificationTokenRepository.findByToken("invalid-token"))
+        Mockito.when(verificationTokenRepository.findByToken(TokenHasher.hash("invalid-token")))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
@@ -240,7 +359,7 @@ public class AuthServiceTest {
         User user = buildUser(1L, "john@example.com", "John", false);
         VerificationToken expiredToken = buildToken(user, LocalDateTime.now().minusHours(1));
 
-        Mockito.when(verificationTokenRepository.findByToken("expired-token"))
+        Mockito.when(verificationTokenRepository.findByToken(TokenHasher.hash("expired-token")))
                 .thenReturn(Optional.of(expiredToken));
 
         // Act & Assert
@@ -268,17 +387,21 @@ public class AuthServiceTest {
         Mockito.when(userRepository.findByEmail("john@example.com")).thenReturn(Optional.of(user));
         Mockito.when(passwordEncoder.matches("rawPassword", "$2a$10$hashedPassword")).thenReturn(true);
         Mockito.when(jwtUtil.generateToken(user)).thenReturn("mocked.jwt.token");
+        Mockito.when(refreshTokenService.create(user)).thenReturn("refresh-token");
 
         // Act
-        AuthResponseDTO result = authService.login(dto);
+        AuthResponseDTO result = authService.login(dto, "10.0.0.1");
 
         // Assert
         assertEquals("mocked.jwt.token", result.getToken());
+        assertEquals("refresh-token", result.getRefreshToken());
         assertEquals("john@example.com", result.getEmail());
         assertEquals("John", result.getName());
         Mockito.verify(userRepository).findByEmail("john@example.com");
         Mockito.verify(passwordEncoder).matches("rawPassword", "$2a$10$hashedPassword");
         Mockito.verify(jwtUtil).generateToken(user);
+        Mockito.verify(loginThrottle).acquire("10.0.0.1", "john@example.com");
+        Mockito.verify(loginThrottle).recordSuccess("john@example.com");
     }
 
     @Test
@@ -294,10 +417,11 @@ public class AuthServiceTest {
 
         // Act & Assert
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
-                () -> authService.login(dto));
+                () -> authService.login(dto, "10.0.0.1"));
 
         assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatusCode());
         Mockito.verify(userRepository).findByEmail("noone@example.com");
+        Mockito.verify(loginThrottle).recordFailure("10.0.0.1", "noone@example.com");
         Mockito.verifyNoInteractions(passwordEncoder, jwtUtil);
     }
 
@@ -316,7 +440,7 @@ public class AuthServiceTest {
 
         // Act & Assert
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
-                () -> authService.login(dto));
+                () -> authService.login(dto, "10.0.0.1"));
 
         assertEquals(HttpStatus.FORBIDDEN, ex.getStatusCode());
         Mockito.verifyNoInteractions(passwordEncoder, jwtUtil);
@@ -338,24 +462,73 @@ public class AuthServiceTest {
 
         // Act & Assert
         ResponseStatusException ex = assertThrows(ResponseStatusException.class,
-                () -> authService.login(dto));
+                () -> authService.login(dto, "10.0.0.1"));
 
         assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatusCode());
         Mockito.verify(passwordEncoder).matches("wrongPassword", "$2a$10$hashedPassword");
+        Mockito.verify(loginThrottle).recordFailure("10.0.0.1", "john@example.com");
         Mockito.verifyNoInteractions(jwtUtil);
     }
 
+    @Test
+    @DisplayName("A throttled login is refused before the user is looked up or the password hashed")
+    public void testLoginThrottled() {
+
+        // Arrange
+        LoginRequestDTO dto = new LoginRequestDTO();
+        dto.setEmail("john@example.com");
+        dto.setPassword("rawPassword");
+
+        Mockito.doThrow(new LoginThrottledException(3000)).when(loginThrottle).acquire("10.0.0.1", "john@example.com");
+
+        // Act & Assert
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> authService.login(dto, "10.0.0.1"));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.getStatusCode());
+        assertEquals("3", ex.getHeaders().getFirst("Retry-After"));
+        Mockito.verifyNoInteractions(userRepository, passwordEncoder, jwtUtil);
+    }
+
+    @Test
+    @DisplayName("Login with a hash below the configured cost stores a new hash of the same password")
+    public void testLoginRehashesOutdatedHash() {
+
+        // Arrange
+        User user = buildUser(1L, "john@example.com", "John", true);
+
+        LoginRequestDTO dto = new LoginRequestDTO();
+        dto.setEmail("john@example.com");
+        dto.setPassword("rawPassword");
+
+        Mockito.when(userRepository.findByEmail("john@example.com")).thenReturn(Optional.of(user));
+        Mockito.when(passwordEncoder.matches("rawPassword", "$2a$10$hashedPassword")).thenReturn(true);
+        Mockito.when(passwordEncoder.upgradeEncoding("$2a$10$hashedPassword")).thenReturn(true);
+        Mockito.when(passwordEncoder.encode("rawPassword")).thenReturn("$2a$12$rehashedPassword");
+        Mockito.when(userRepository.rehashPassword(1L, "$2a$10$hashedPassword", "$2a$12$rehashedPassword")).thenReturn(1);
+
+        // Act
+        authService.login(dto, "10.0.0.1");
+
+        // Assert
+        Mockito.verify(userRepository).rehashPassword(1L, "$2a$10$hashedPassword", "$2a$12$rehashedPassword");
+        assertEquals("$2a$12$rehashedPassword", user.getPasswordHash());
+        Mockito.verify(userRepository, Mockito.never()).save(any());
+    }
+
     // ───────────────────────── getProfile ────────────────────────────────────
 
     @Test
-    @DisplayName("getProfile returns UserDTO of the authenticated user without hitting the DB")
+    @DisplayName("getProfile loads the authenticated user, as the token only carries part of it")
     public void testGetProfile() {
 
         // Arrange
+        User principal = buildUser(1L, "john@example.com", "John", true);
+        setSecurityContext(principal);
         User user = buildUser(1L, "john@example.com", "John", true);
         user.setSurname("Doe");
         user.setProfilePicture("https://example.com/pic.jpg");
-        setSecurityContext(user);
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
         // Act
         UserDTO result = authService.getProfile();
@@ -365,7 +538,8 @@ public class AuthServiceTest {
         assertEquals("John", result.getName());
         assertEquals("Doe", result.getSurname());
         assertEquals("https://example.com/pic.jpg", result.getProfilePicture());
-        Mockito.verifyNoInteractions(userRepository);
+        Mockito.verify(userRepository).findById(1L);
+        Mockito.verifyNoMoreInteractions(userRepository);
     }
 
     // ───────────────────────── updateProfile ─────────────────────────────────
@@ -396,6 +570,8 @@ public class AuthServiceTest {
         assertEquals("https://cloudinary.com/pic.jpg", result.getProfilePicture());
         Mockito.verify(userRepository).findById(1L);
         Mockito.verify(userRepository).save(user);
+        Mockito.verify(principalInvalidationService).invalidate("john@example.com");
+        Mockito.verifyNoInteractions(tokenRevocationService);
         Mockito.verifyNoMoreInteractions(userRepository);
     }
 
@@ -474,6 +650,7 @@ public class AuthServiceTest {
         Mockito.verify(userRepository).findById(1L);
         Mockito.verify(passwordEncoder).matches("rawCurrentPassword", "$2a$10$hashedPassword");
         Mockito.verify(passwordEncoder).encode("newSecurePass");
+        Mockito.verify(tokenRevocationService).revoke(user);
         Mockito.verify(userRepository).save(user);
         Mockito.verifyNoMoreInteractions(userRepository);
     }
@@ -500,6 +677,7 @@ public class AuthServiceTest {
         assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
         Mockito.verify(passwordEncoder).matches("wrongPassword", "$2a$10$hashedPassword");
         Mockito.verify(userRepository, Mockito.never()).save(any(User.class));
+        Mockito.verifyNoInteractions(tokenRevocationService);
     }
 
     @Test
@@ -525,6 +703,47 @@ public class AuthServiceTest {
         Mockito.verify(userRepository, Mockito.never()).save(any(User.class));
     }
 
+    // ───────────────────────── refresh ───────────────────────────────────────
+
+    @Test
+    @DisplayName("refresh consumes the old refresh token and issues a new pair")
+    public void testRefresh() {
+
+        // Arrange
+        User user = buildUser(1L, "john@example.com", "John", true);
+        Mockito.when(refreshTokenService.consume("old-refresh")).thenReturn(1L);
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        Mockito.when(refreshTokenService.create(user)).thenReturn("new-refresh");
+        Mockito.when(jwtUtil.generateToken(user)).thenReturn("new.jwt.token");
+
+        // Act
+        AuthResponseDTO result = authService.refresh("old-refresh");
+
+        // Assert
+        assertEquals("new.jwt.token", result.getToken());
+        assertEquals("new-refresh", result.getRefreshToken());
+        Mockito.verify(refreshTokenService).consume("old-refresh");
+    }
+
+    // ───────────────────────── logoutAll ─────────────────────────────────────
+
+    @Test
+    @DisplayName("logoutAll revokes every token of the authenticated user")
+    public void testLogoutAll() {
+
+        // Arrange
+        User user = buildUser(1L, "john@example.com", "John", true);
+        setSecurityContext(user);
+        Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // Act
+        authService.logoutAll();
+
+        // Assert
+        Mockito.verify(tokenRevocationService).revoke(user);
+        Mockito.verify(userRepository).save(user);
+    }
+
     // ───────────────────────── deleteAccount ─────────────────────────────────
 
     @Test
@@ -535,16 +754,27 @@ public class AuthServiceTest {
         User user = buildUser(1L, "john@example.com", "John", true);
         setSecurityContext(user);
 
+        AccountDeletionDTO queued = new AccountDeletionDTO();
+        queued.setId("deletion-1");
+        queued.setStatus(AccountDeletionStatus.PENDING);
+
         Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         Mockito.when(userRepository.save(user)).thenReturn(user);
+        Mockito.when(accountDeletionService.request(user)).thenAnswer(invocation -> {
+            assertFalse(user.getEnabled(), "Account should be disabled before the purge is requested");
+            return queued;
+        });
 
         // Act
-        authService.deleteAccount();
+        AccountDeletionDTO result = authService.deleteAccount();
 
         // Assert
         assertFalse(user.getEnabled(), "Account should be disabled after deletion");
+        assertEquals(queued, result);
         Mockito.verify(userRepository).findById(1L);
         Mockito.verify(userRepository).save(user);
+        Mockito.verify(accountDeletionService).request(user);
+        Mockito.verify(tokenRevocationService).revoke(user);
         Mockito.verifyNoMoreInteractions(userRepository);
     }
 
@@ -565,5 +795,6 @@ public class AuthServiceTest {
         assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
         Mockito.verify(userRepository).findById(1L);
         Mockito.verifyNoMoreInteractions(userRepository);
+        Mockito.verifyNoInteractions(accountDeletionService);
     }
 }
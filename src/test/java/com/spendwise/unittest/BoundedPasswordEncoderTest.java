@@ -0,0 +1,111 @@
+package com.spendwise.unittest;
+
+import com.spendwise.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bounded Password Encoder Unit Tests")
+public class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Hashes and verifies on the pool and times both")
+    public void testEncodeAndMatches() {
+        // Arrange
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 10, 5000, meterRegistry);
+
+        // Act
+        String hash = encoder.encode("secret-password");
+
+        // Assert
+        assertTrue(encoder.matches("secret-password", hash));
+        assertFalse(encoder.matches("wrong-password", hash));
+        assertEquals(1, meterRegistry.get("auth.password.hash").tag("op", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hash").tag("op", "matches").timer().count());
+        assertEquals(3, meterRegistry.get("auth.password.wait").timers().stream().mapToLong(t -> t.count()).sum());
+    }
+
+    @Test
+    @DisplayName("A hash made at a lower cost than the configured one asks to be upgraded")
+    public void testUpgradeEncoding() {
+        // Arrange
+        String cheap = new BCryptPasswordEncoder(4).encode("secret-password");
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 10, 5000, meterRegistry);
+
+        // Act & Assert
+        assertTrue(encoder.upgradeEncoding(cheap));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("secret-password")));
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+
+    @Test
+    @DisplayName("With the pool busy and the queue full a call is shed at once with 503")
+    public void testQueueFull() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = Mockito.mock(PasswordEncoder.class);
+        Mockito.when(slow.encode(Mockito.any())).thenAnswer(inv -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, 1, 1, 5000, meterRegistry);
+        Future<String> running = callers.submit(() -> encoder.encode("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> queued = callers.submit(() -> encoder.encode("b"));
+        while (meterRegistry.get("auth.password.queue").gauge().value() < 1) {
+            Thread.sleep(5);
+        }
+
+        // Act
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> encoder.encode("c"));
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+        assertEquals(1, meterRegistry.get("auth.password.rejected").tag("reason", "queue_full").counter().count());
+        release.countDown();
+        assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("A hash not done within the wait is given up with 503")
+    public void testTimeout() {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = Mockito.mock(PasswordEncoder.class);
+        Mockito.when(slow.matches(Mockito.any(), Mockito.any())).thenAnswer(inv -> release.await(5, TimeUnit.SECONDS));
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, 1, 1, 50, meterRegistry);
+
+        // Act
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> encoder.matches("a", "hash"));
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+        assertEquals(1, meterRegistry.get("auth.password.rejected").tag("reason", "timeout").counter().count());
+    }
+
+}
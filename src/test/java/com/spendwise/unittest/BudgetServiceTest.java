@@ -11,6 +11,7 @@ import com.spendwise.repository.BudgetRepository;
 import com.spendwise.repository.RecurrentExpenseRecordRepository;
 import com.spendwise.repository.RecurrentExpenseRepository;
 import com.spendwise.service.BudgetService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,8 +28,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -53,6 +56,9 @@ public class BudgetServiceTest {
     @Mock
     private RecurrentExpenseRecordRepository recurrentExpenseRecordRepository;
 
+    @Mock
+    private IDataVersionService dataVersionService;
+
     @InjectMocks
     private BudgetService budgetService;
 
@@ -141,8 +147,8 @@ public class BudgetServiceTest {
         dto.setYear(2025);
         dto.setRecurrentExpenses(List.of(reDTO1, reDTO2));
 
-        Mockito.when(recurrentExpenseRepository.findById(1L)).thenReturn(Optional.of(re1));
-        Mockito.when(recurrentExpenseRepository.findById(2L)).thenReturn(Optional.of(re2));
+        Mockito.when(recurrentExpenseRepository.findAllByIdInAndUser(any(), eq(testUser)))
+                .thenReturn(List.of(re2, re1));
         Mockito.when(budgetRepository.save(any(Budget.class))).thenAnswer(inv -> {
             Budget b = inv.getArgument(0);
             // simulate the resolved list being saved
@@ -165,6 +171,40 @@ public class BudgetServiceTest {
         assertEquals(BigDecimal.ZERO, result.getTotalCancelledARS());
         assertEquals(0, result.getCancelledCount());
         assertEquals(2, result.getPendingCount());
+        assertEquals(1L, result.getRecurrentExpenses().get(0).getId());
+        assertEquals(2L, result.getRecurrentExpenses().get(1).getId());
+        Mockito.verify(recurrentExpenseRepository).findAllByIdInAndUser(any(), eq(testUser));
+        Mockito.verifyNoMoreInteractions(recurrentExpenseRepository);
+    }
+
+    @Test
+    @DisplayName("Create budget with unknown or foreign recurrent expenses reports them in one error")
+    public void testCreateWithForeignRecurrentExpenses() {
+        RecurrentExpenseDTO reDTO1 = new RecurrentExpenseDTO();
+        reDTO1.setId(1L);
+        RecurrentExpenseDTO reDTO3 = new RecurrentExpenseDTO();
+        reDTO3.setId(3L);
+        RecurrentExpenseDTO reDTO4 = new RecurrentExpenseDTO();
+        reDTO4.setId(4L);
+
+        BudgetDTO dto = new BudgetDTO();
+        dto.setDescription("Budget Febrero 2025");
+        dto.setMonth(2);
+        dto.setYear(2025);
+        dto.setRecurrentExpenses(List.of(reDTO1, reDTO3, reDTO4));
+
+        // 3 belongs to another user and 4 does not exist: neither is returned for testUser
+        Mockito.when(recurrentExpenseRepository.findAllByIdInAndUser(any(), eq(testUser)))
+                .thenReturn(List.of(re1));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> budgetService.create(dto));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        assertTrue(ex.getReason().contains("[3, 4]"));
+        Mockito.verify(recurrentExpenseRepository).findAllByIdInAndUser(any(), eq(testUser));
+        Mockito.verifyNoInteractions(budgetRepository);
+        Mockito.verifyNoInteractions(recurrentExpenseRecordRepository);
     }
 
     // ──────────────────────────────────────────────────────────────────────────
@@ -306,6 +346,42 @@ public class BudgetServiceTest {
         assertTrue(result.getContent().isEmpty());
     }
 
+    @Test
+    @DisplayName("List budgets resolves cancelled items of the whole page with one query")
+    public void testListResolvesCancelledWithOneQuery() {
+        Budget january = new Budget();
+        january.setId(1L);
+        january.setDescription("Budget Enero 2025");
+        january.setMonth(1);
+        january.setYear(2025);
+        january.setRecurrentExpenses(List.of(re1, re2));
+
+        Budget february = new Budget();
+        february.setId(2L);
+        february.setDescription("Budget Febrero 2025");
+        february.setMonth(2);
+        february.setYear(2025);
+        february.setRecurrentExpenses(List.of(re1, re2));
+
+        Pageable pageable = PageRequest.of(0, 20);
+        Mockito.when(budgetRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(january, february)));
+        // re1 cancelled in January, re2 cancelled in February
+        Mockito.when(recurrentExpenseRecordRepository.findCancelledPeriods(eq(testUser), any()))
+                .thenReturn(List.of(new Object[]{1L, 1, 2025}, new Object[]{2L, 2, 2025}));
+
+        Page<BudgetDTO> result = budgetService.list(new BudgetFilterDTO(), pageable);
+
+        BudgetDTO januaryDTO = result.getContent().get(0);
+        assertEquals(1, januaryDTO.getCancelledCount());
+        assertEquals(new BigDecimal("100000"), januaryDTO.getTotalCancelledARS());
+        BudgetDTO februaryDTO = result.getContent().get(1);
+        assertEquals(1, februaryDTO.getCancelledCount());
+        assertEquals(new BigDecimal("50000"), februaryDTO.getTotalCancelledARS());
+        Mockito.verify(recurrentExpenseRecordRepository).findCancelledPeriods(eq(testUser), any());
+        Mockito.verifyNoMoreInteractions(recurrentExpenseRecordRepository);
+    }
+
     // ──────────────────────────────────────────────────────────────────────────
     // UPDATE
     // ──────────────────────────────────────────────────────────────────────────
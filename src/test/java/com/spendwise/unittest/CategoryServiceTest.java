@@ -3,9 +3,11 @@ package com.spendwise.unittest;
 import com.spendwise.dto.CategoryDTO;
 import com.spendwise.dto.CategoryFilterDTO;
 import com.spendwise.enums.CategoryType;
+import com.spendwise.mapper.CategoryMapper;
 import com.spendwise.model.Category;
 import com.spendwise.repository.CategoryRepository;
 import com.spendwise.service.CategoryService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.model.auth.User;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,7 +20,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -39,11 +40,13 @@ import static org.mockito.ArgumentMatchers.eq;
 @DisplayName("Category Unit Tests")
 public class CategoryServiceTest {
 
-    private final ModelMapper modelMapper = new ModelMapper();
 
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private IDataVersionService dataVersionService;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -77,7 +80,7 @@ public class CategoryServiceTest {
         categoryDTO.setEnabled(true);
 
         CategoryDTO expected = categoryDTO;
-        Category category = modelMapper.map(categoryDTO, Category.class);
+        Category category = CategoryMapper.toEntity(categoryDTO);
         category.setUser(testUser);
 
         // Act
@@ -88,6 +91,7 @@ public class CategoryServiceTest {
         assertEquals(expected, obtained);
         Mockito.verify(categoryRepository).save(category);
         Mockito.verifyNoMoreInteractions(categoryRepository);
+        Mockito.verify(dataVersionService).bump(testUser);
     }
 
     @Test
@@ -104,7 +108,7 @@ public class CategoryServiceTest {
         categoryDTO.setEnabled(true);
 
         CategoryDTO expected = categoryDTO;
-        Category category = modelMapper.map(categoryDTO, Category.class);
+        Category category = CategoryMapper.toEntity(categoryDTO);
 
         // Act
         Mockito.when(categoryRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(category));
@@ -186,7 +190,7 @@ public class CategoryServiceTest {
         newCategoryDTO.setEnabled(true);
 
         CategoryDTO expected = newCategoryDTO;
-        Category category = modelMapper.map(categoryDTO, Category.class);
+        Category category = CategoryMapper.toEntity(categoryDTO);
 
         Mockito.when(categoryRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(category));
         Mockito.when(categoryRepository.save(any(Category.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -559,7 +563,7 @@ public class CategoryServiceTest {
         categoryDTO.setEnabled(true);
 
         CategoryDTO expected = categoryDTO;
-        Category category = modelMapper.map(categoryDTO, Category.class);
+        Category category = CategoryMapper.toEntity(categoryDTO);
 
         // Act
         Mockito.when(categoryRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(category));
@@ -583,7 +587,7 @@ public class CategoryServiceTest {
         categoryDTO.setName("Groceries");
         categoryDTO.setType(CategoryType.EXPENSE);
         categoryDTO.setEnabled(true);
-        Category category = modelMapper.map(categoryDTO, Category.class);
+        Category category = CategoryMapper.toEntity(categoryDTO);
 
         Mockito.when(categoryRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(category));
         Mockito.when(categoryRepository.save(any(Category.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -609,7 +613,7 @@ public class CategoryServiceTest {
         categoryDTO.setName("Groceries");
         categoryDTO.setType(CategoryType.EXPENSE);
         categoryDTO.setEnabled(false);
-        Category category = modelMapper.map(categoryDTO, Category.class);
+        Category category = CategoryMapper.toEntity(categoryDTO);
 
         Mockito.when(categoryRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(category));
         Mockito.when(categoryRepository.save(any(Category.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -2,9 +2,11 @@ package com.spendwise.unittest;
 
 import com.spendwise.dto.CurrencyDTO;
 import com.spendwise.dto.CurrencyFilterDTO;
+import com.spendwise.mapper.CurrencyMapper;
 import com.spendwise.model.Currency;
 import com.spendwise.repository.CurrencyRepository;
 import com.spendwise.service.CurrencyService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.model.auth.User;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,7 +19,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -38,11 +39,13 @@ import static org.mockito.ArgumentMatchers.eq;
 @DisplayName("Currency Unit Tests")
 public class CurrencyServiceTest {
 
-    private final ModelMapper modelMapper = new ModelMapper();
 
     @Mock
     private CurrencyRepository currencyRepository;
 
+    @Mock
+    private IDataVersionService dataVersionService;
+
     @InjectMocks
     private CurrencyService currencyService;
 
@@ -102,7 +105,7 @@ public class CurrencyServiceTest {
         currencyDTO.setName("Peso Argentino");
         currencyDTO.setSymbol("$");
 
-        Currency currency = modelMapper.map(currencyDTO, Currency.class);
+        Currency currency = CurrencyMapper.toEntity(currencyDTO);
 
         Mockito.when(currencyRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(currency));
 
@@ -178,7 +181,7 @@ public class CurrencyServiceTest {
         newDTO.setName("Peso Argentino Actualizado");
         newDTO.setSymbol("P");
 
-        Currency currency = modelMapper.map(currentDTO, Currency.class);
+        Currency currency = CurrencyMapper.toEntity(currentDTO);
 
         Mockito.when(currencyRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(currency));
         Mockito.when(currencyRepository.save(any(Currency.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -204,7 +207,7 @@ public class CurrencyServiceTest {
         currencyDTO.setName("Peso Argentino");
         currencyDTO.setSymbol("$");
 
-        Currency currency = modelMapper.map(currencyDTO, Currency.class);
+        Currency currency = CurrencyMapper.toEntity(currencyDTO);
 
         Mockito.when(currencyRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(currency));
 
@@ -229,7 +232,7 @@ public class CurrencyServiceTest {
         currencyDTO.setName("Peso Argentino");
         currencyDTO.setSymbol("$");
 
-        Currency currency = modelMapper.map(currencyDTO, Currency.class);
+        Currency currency = CurrencyMapper.toEntity(currencyDTO);
         currency.setEnabled(true);
 
         Mockito.when(currencyRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(currency));
@@ -258,7 +261,7 @@ public class CurrencyServiceTest {
         currencyDTO.setName("Peso Argentino");
         currencyDTO.setSymbol("$");
 
-        Currency currency = modelMapper.map(currencyDTO, Currency.class);
+        Currency currency = CurrencyMapper.toEntity(currencyDTO);
         currency.setEnabled(false);
 
         Mockito.when(currencyRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(currency));
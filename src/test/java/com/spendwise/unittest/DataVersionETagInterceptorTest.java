@@ -0,0 +1,165 @@
+package com.spendwise.unittest;
+
+import com.spendwise.config.DataVersionETagInterceptor;
+import com.spendwise.model.auth.User;
+import com.spendwise.service.interfaces.IDataVersionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DataVersionETagInterceptor Unit Tests")
+public class DataVersionETagInterceptorTest {
+
+    @Mock
+    private IDataVersionService dataVersionService;
+
+    @InjectMocks
+    private DataVersionETagInterceptor interceptor;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(testUser, null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("A first GET proceeds to the controller with a strong ETag")
+    public void testFirstRequest() {
+
+        // Arrange
+        Mockito.when(dataVersionService.current(1L)).thenReturn(4L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/expenses");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        boolean proceed = interceptor.preHandle(request, response, new Object());
+
+        // Assert
+        assertTrue(proceed);
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertTrue(etag.startsWith("\"4-"));
+        assertEquals("private, no-cache", response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    @DisplayName("An unchanged poll gets 304 without reaching the controller")
+    public void testUnchangedPoll() {
+
+        // Arrange
+        Mockito.when(dataVersionService.current(1L)).thenReturn(4L);
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/expenses"), first, new Object());
+
+        MockHttpServletRequest poll = new MockHttpServletRequest("GET", "/expenses");
+        poll.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        boolean proceed = interceptor.preHandle(poll, response, new Object());
+
+        // Assert
+        assertFalse(proceed);
+        assertEquals(304, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("A poll after a write proceeds with a new ETag")
+    public void testPollAfterWrite() {
+
+        // Arrange
+        Mockito.when(dataVersionService.current(1L)).thenReturn(4L, 5L);
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/expenses"), first, new Object());
+
+        MockHttpServletRequest poll = new MockHttpServletRequest("GET", "/expenses");
+        poll.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        boolean proceed = interceptor.preHandle(poll, response, new Object());
+
+        // Assert
+        assertTrue(proceed);
+        assertNotEquals(first.getHeader(HttpHeaders.ETAG), response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("The ETag differs per query string and per user")
+    public void testETagIsPerResource() {
+
+        // Arrange
+        Mockito.when(dataVersionService.current(anyLong())).thenReturn(4L);
+        MockHttpServletRequest pageZero = new MockHttpServletRequest("GET", "/expenses");
+        pageZero.setQueryString("page=0");
+        MockHttpServletRequest pageOne = new MockHttpServletRequest("GET", "/expenses");
+        pageOne.setQueryString("page=1");
+        MockHttpServletResponse pageZeroResponse = new MockHttpServletResponse();
+        MockHttpServletResponse pageOneResponse = new MockHttpServletResponse();
+        MockHttpServletResponse otherUserResponse = new MockHttpServletResponse();
+
+        // Act
+        interceptor.preHandle(pageZero, pageZeroResponse, new Object());
+        interceptor.preHandle(pageOne, pageOneResponse, new Object());
+        User otherUser = new User();
+        otherUser.setId(2L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(otherUser, null, Collections.emptyList()));
+        interceptor.preHandle(pageZero, otherUserResponse, new Object());
+
+        // Assert
+        assertNotEquals(pageZeroResponse.getHeader(HttpHeaders.ETAG), pageOneResponse.getHeader(HttpHeaders.ETAG));
+        assertNotEquals(pageZeroResponse.getHeader(HttpHeaders.ETAG), otherUserResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("Writes and anonymous requests are not touched")
+    public void testNonGetAndAnonymous() {
+
+        // Arrange
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/expenses");
+        MockHttpServletResponse postResponse = new MockHttpServletResponse();
+
+        // Act
+        boolean postProceeds = interceptor.preHandle(post, postResponse, new Object());
+        SecurityContextHolder.clearContext();
+        MockHttpServletResponse anonymousResponse = new MockHttpServletResponse();
+        boolean anonymousProceeds = interceptor.preHandle(
+                new MockHttpServletRequest("GET", "/expenses"), anonymousResponse, new Object());
+
+        // Assert
+        assertTrue(postProceeds);
+        assertTrue(anonymousProceeds);
+        assertNull(postResponse.getHeader(HttpHeaders.ETAG));
+        assertNull(anonymousResponse.getHeader(HttpHeaders.ETAG));
+        Mockito.verifyNoInteractions(dataVersionService);
+    }
+
+}
@@ -0,0 +1,221 @@
+package com.spendwise.unittest;
+
+import com.spendwise.model.UserDataVersion;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.UserDataVersionRepository;
+import com.spendwise.service.DataVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DataVersionService Unit Tests")
+public class DataVersionServiceTest {
+
+    @Mock
+    private UserDataVersionRepository versionRepository;
+
+    private MutableClock clock;
+    private DataVersionService dataVersionService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        dataVersionService = new DataVersionService(versionRepository, Duration.ofSeconds(2), clock);
+        testUser = new User();
+        testUser.setId(1L);
+    }
+
+    // ──────────────────────────────────────────────────────────────────────────
+    // CURRENT
+    // ──────────────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("current loads the version from the database only once per user")
+    public void testCurrentIsServedFromMemory() {
+
+        // Arrange
+        Mockito.when(versionRepository.findVersion(1L)).thenReturn(Optional.of(7L));
+
+        // Act
+        long first = dataVersionService.current(1L);
+        long second = dataVersionService.current(1L);
+
+        // Assert
+        assertEquals(7L, first);
+        assertEquals(7L, second);
+        Mockito.verify(versionRepository, Mockito.times(1)).findVersion(1L);
+    }
+
+    @Test
+    @DisplayName("current re-reads the database once the cached version is older than the TTL")
+    public void testCurrentExpires() {
+
+        // Arrange
+        Mockito.when(versionRepository.findVersion(1L)).thenReturn(Optional.of(7L), Optional.of(9L));
+        dataVersionService.current(1L);
+
+        // Act
+        clock.advance(Duration.ofMillis(1999));
+        long fresh = dataVersionService.current(1L);
+        clock.advance(Duration.ofMillis(1));
+        long expired = dataVersionService.current(1L);
+
+        // Assert
+        assertEquals(7L, fresh);
+        assertEquals(9L, expired);
+        Mockito.verify(versionRepository, Mockito.times(2)).findVersion(1L);
+    }
+
+    @Test
+    @DisplayName("a re-read never moves the version back")
+    public void testCurrentNeverGoesBack() {
+
+        // Arrange
+        Mockito.when(versionRepository.findVersion(1L)).thenReturn(Optional.of(5L), Optional.of(4L));
+        dataVersionService.current(1L);
+
+        // Act
+        clock.advance(Duration.ofSeconds(3));
+        long obtained = dataVersionService.current(1L);
+
+        // Assert
+        assertEquals(5L, obtained);
+    }
+
+    @Test
+    @DisplayName("current is 0 for a user without a version row")
+    public void testCurrentWithoutRow() {
+
+        // Arrange
+        Mockito.when(versionRepository.findVersion(1L)).thenReturn(Optional.empty());
+
+        // Act
+        long obtained = dataVersionService.current(1L);
+
+        // Assert
+        assertEquals(0L, obtained);
+    }
+
+    // ──────────────────────────────────────────────────────────────────────────
+    // BUMP
+    // ──────────────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("bump increments in the database and advances the in-memory version")
+    public void testBump() {
+
+        // Arrange
+        Mockito.when(versionRepository.findVersion(1L)).thenReturn(Optional.of(3L), Optional.of(4L));
+        Mockito.when(versionRepository.increment(1L)).thenReturn(1);
+        dataVersionService.current(1L);
+
+        // Act
+        dataVersionService.bump(testUser);
+
+        // Assert
+        assertEquals(4L, dataVersionService.current(1L));
+        Mockito.verify(versionRepository, Mockito.never()).save(any(UserDataVersion.class));
+    }
+
+    @Test
+    @DisplayName("bump creates the version row at 1 when the user has none")
+    public void testBumpCreatesRow() {
+
+        // Arrange
+        Mockito.when(versionRepository.increment(1L)).thenReturn(0);
+        Mockito.when(versionRepository.findVersion(1L)).thenReturn(Optional.of(1L));
+
+        // Act
+        dataVersionService.bump(testUser);
+
+        // Assert
+        Mockito.verify(versionRepository).save(new UserDataVersion(1L, 1L));
+        assertEquals(1L, dataVersionService.current(1L));
+    }
+
+    @Test
+    @DisplayName("current after a bump is answered without reading the database again")
+    public void testCurrentAfterBump() {
+
+        // Arrange
+        Mockito.when(versionRepository.increment(1L)).thenReturn(1);
+        Mockito.when(versionRepository.findVersion(1L)).thenReturn(Optional.of(5L));
+        dataVersionService.bump(testUser);
+
+        // Act
+        long obtained = dataVersionService.current(1L);
+
+        // Assert
+        assertEquals(5L, obtained);
+        Mockito.verify(versionRepository, Mockito.times(1)).findVersion(1L);
+    }
+
+    // ──────────────────────────────────────────────────────────────────────────
+    // BUMP ALL
+    // ──────────────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("bumpAll creates missing rows, increments every row and every cached version")
+    public void testBumpAll() {
+
+        // Arrange
+        Mockito.when(versionRepository.findVersion(1L)).thenReturn(Optional.of(2L));
+        Mockito.when(versionRepository.incrementAll()).thenReturn(1);
+        dataVersionService.current(1L);
+
+        // Act
+        dataVersionService.bumpAll();
+
+        // Assert
+        Mockito.verify(versionRepository).insertMissing();
+        Mockito.verify(versionRepository).incrementAll();
+        assertEquals(3L, dataVersionService.current(1L));
+    }
+
+    // ──────────────────────────────────────────────────────────────────────────
+    // HELPERS
+    // ──────────────────────────────────────────────────────────────────────────
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+    }
+
+}
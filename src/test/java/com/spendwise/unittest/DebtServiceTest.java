@@ -6,12 +6,18 @@ import com.spendwise.dto.DebtFilterDTO;
 import com.spendwise.dto.IssuingEntityDTO;
 import com.spendwise.dto.PaymentMethodDTO;
 import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.mapper.CurrencyMapper;
+import com.spendwise.mapper.IssuingEntityMapper;
+import com.spendwise.mapper.PaymentMethodMapper;
 import com.spendwise.model.Currency;
 import com.spendwise.model.Debt;
 import com.spendwise.model.IssuingEntity;
 import com.spendwise.model.PaymentMethod;
+import com.spendwise.projection.DebtListRow;
 import com.spendwise.repository.DebtRepository;
+import com.spendwise.repository.SpecificationProjectionExecutor;
 import com.spendwise.service.DebtService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.model.auth.User;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -25,7 +31,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -48,11 +53,16 @@ import static org.mockito.ArgumentMatchers.eq;
 @DisplayName("Debt Unit Tests")
 public class DebtServiceTest {
 
-    private final ModelMapper modelMapper = new ModelMapper();
 
     @Mock
     private DebtRepository debtRepository;
 
+    @Mock
+    private SpecificationProjectionExecutor projectionExecutor;
+
+    @Mock
+    private IDataVersionService dataVersionService;
+
     @InjectMocks
     private DebtService debtService;
 
@@ -136,8 +146,8 @@ public class DebtServiceTest {
         dto.setDate(LocalDate.now());
         dto.setDueDate(LocalDate.now().plusMonths(1));
         dto.setPersonal(false);
-        dto.setIssuingEntity(modelMapper.map(issuingEntity, IssuingEntityDTO.class));
-        dto.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
+        dto.setIssuingEntity(IssuingEntityMapper.toDTO(issuingEntity));
+        dto.setPaymentMethod(PaymentMethodMapper.toDTO(paymentMethod));
 
         Debt saved = new Debt();
         saved.setId(2L);
@@ -235,8 +245,8 @@ public class DebtServiceTest {
         DebtFilterDTO filters = new DebtFilterDTO();
 
         // Act
-        Mockito.when(debtRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(debtPage);
+        Mockito.when(projectionExecutor.findPage(eq(Debt.class), eq(DebtListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(debtPage.map(DebtServiceTest::row));
 
         Page<DebtDTO> result = debtService.list(filters, pageable);
 
@@ -267,8 +277,8 @@ public class DebtServiceTest {
         filters.setDescription("Juan");
 
         // Act
-        Mockito.when(debtRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(debtPage);
+        Mockito.when(projectionExecutor.findPage(eq(Debt.class), eq(DebtListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(debtPage.map(DebtServiceTest::row));
 
         Page<DebtDTO> result = debtService.list(filters, pageable);
 
@@ -298,8 +308,8 @@ public class DebtServiceTest {
         filters.setCancelled(true);
 
         // Act
-        Mockito.when(debtRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(debtPage);
+        Mockito.when(projectionExecutor.findPage(eq(Debt.class), eq(DebtListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(debtPage.map(DebtServiceTest::row));
 
         Page<DebtDTO> result = debtService.list(filters, pageable);
 
@@ -329,8 +339,8 @@ public class DebtServiceTest {
         filters.setPersonal(true);
 
         // Act
-        Mockito.when(debtRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(debtPage);
+        Mockito.when(projectionExecutor.findPage(eq(Debt.class), eq(DebtListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(debtPage.map(DebtServiceTest::row));
 
         Page<DebtDTO> result = debtService.list(filters, pageable);
 
@@ -364,8 +374,8 @@ public class DebtServiceTest {
         filters.setEndDate(today.plusDays(1));
 
         // Act
-        Mockito.when(debtRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(debtPage);
+        Mockito.when(projectionExecutor.findPage(eq(Debt.class), eq(DebtListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(debtPage.map(DebtServiceTest::row));
 
         Page<DebtDTO> result = debtService.list(filters, pageable);
 
@@ -386,8 +396,8 @@ public class DebtServiceTest {
         filters.setDescription("NoExiste");
 
         // Act
-        Mockito.when(debtRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(debtPage);
+        Mockito.when(projectionExecutor.findPage(eq(Debt.class), eq(DebtListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(debtPage.map(DebtServiceTest::row));
 
         Page<DebtDTO> result = debtService.list(filters, pageable);
 
@@ -425,8 +435,8 @@ public class DebtServiceTest {
         DebtFilterDTO filters = new DebtFilterDTO();
 
         // Act
-        Mockito.when(debtRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(debtPage);
+        Mockito.when(projectionExecutor.findPage(eq(Debt.class), eq(DebtListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(debtPage.map(DebtServiceTest::row));
 
         Page<DebtDTO> result = debtService.list(filters, pageable);
 
@@ -511,7 +521,7 @@ public class DebtServiceTest {
         usdCurrency.setName("Dolar");
         usdCurrency.setSymbol("US$");
 
-        CurrencyDTO currencyDTO = modelMapper.map(usdCurrency, CurrencyDTO.class);
+        CurrencyDTO currencyDTO = CurrencyMapper.toDTO(usdCurrency);
 
         DebtDTO dto = new DebtDTO();
         dto.setDescription("Deuda en dólares");
@@ -601,4 +611,23 @@ public class DebtServiceTest {
         Mockito.verifyNoMoreInteractions(debtRepository);
     }
 
+    private static DebtListRow row(Debt debt) {
+        IssuingEntity ie = debt.getIssuingEntity();
+        PaymentMethod pm = debt.getPaymentMethod();
+        IssuingEntity pmIe = pm != null ? pm.getIssuingEntity() : null;
+        Currency cur = debt.getCurrency();
+        return new DebtListRow(debt.getId(), debt.getDescription(),
+                debt.getAmountInPesos(), debt.getAmountInDollars(), debt.getDate(), debt.getDueDate(),
+                debt.getCancelled(), debt.getPersonal(), debt.getCreditor(),
+                ie != null ? ie.getId() : null, ie != null ? ie.getDescription() : null,
+                ie != null ? ie.getEnabled() : null, ie != null ? ie.getIcon() : null,
+                pm != null ? pm.getId() : null, pm != null ? pm.getName() : null,
+                pm != null ? pm.getPaymentMethodType() : null, pm != null ? pm.getEnabled() : null,
+                pm != null ? pm.getIcon() : null,
+                pmIe != null ? pmIe.getId() : null, pmIe != null ? pmIe.getDescription() : null,
+                pmIe != null ? pmIe.getEnabled() : null, pmIe != null ? pmIe.getIcon() : null,
+                cur != null ? cur.getId() : null, cur != null ? cur.getName() : null,
+                cur != null ? cur.getSymbol() : null, cur != null ? cur.getEnabled() : null,
+                cur != null ? cur.getIsDefault() : null, cur != null ? cur.getIcon() : null);
+    }
 }
@@ -0,0 +1,116 @@
+package com.spendwise.unittest;
+
+import com.spendwise.event.DomainEventBus;
+import com.spendwise.event.DomainEventHandler;
+import com.spendwise.event.ExpenseCreated;
+import com.spendwise.event.ExpenseDeleted;
+import com.spendwise.event.ExpenseEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Domain Event Bus Unit Tests")
+public class DomainEventBusTest {
+
+    private final List<Object> created = new ArrayList<>();
+    private final List<Object> any = new ArrayList<>();
+
+    // handlers run on the calling thread, so the assertions need no waiting
+    private final DomainEventBus bus = new DomainEventBus(List.of(
+            handler(ExpenseCreated.class, created::add),
+            handler(ExpenseEvent.class, any::add)), Runnable::run);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Outside a transaction an event goes at once to every handler of its type")
+    public void testPublishWithoutTransaction() {
+        // Act
+        bus.publish(new ExpenseCreated(1L, List.of(10L)));
+        bus.publish(new ExpenseDeleted(1L, 10L));
+
+        // Assert
+        assertEquals(List.of(new ExpenseCreated(1L, List.of(10L))), created);
+        assertEquals(2, any.size());
+    }
+
+    @Test
+    @DisplayName("Inside a transaction an event is only delivered after commit")
+    public void testPublishAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        bus.publish(new ExpenseCreated(1L, List.of(10L)));
+        assertTrue(created.isEmpty());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(1, created.size());
+        assertEquals(1, any.size());
+    }
+
+    @Test
+    @DisplayName("A rolled back transaction delivers nothing")
+    public void testRollbackDeliversNothing() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        bus.publish(new ExpenseCreated(1L, List.of(10L)));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertTrue(created.isEmpty());
+        assertTrue(any.isEmpty());
+    }
+
+    @Test
+    @DisplayName("A failing handler is retried and does not keep the event from the other handlers")
+    public void testFailingHandlerIsRetried() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+        DomainEventBus flaky = new DomainEventBus(List.of(
+                handler(ExpenseCreated.class, event -> {
+                    if (attempts.incrementAndGet() < 3) throw new IllegalStateException("deadlock");
+                }),
+                handler(ExpenseEvent.class, any::add)), Runnable::run);
+
+        // Act
+        flaky.publish(new ExpenseCreated(1L, List.of(10L)));
+
+        // Assert
+        assertEquals(3, attempts.get());
+        assertEquals(1, any.size());
+    }
+
+    private static <E> DomainEventHandler<E> handler(Class<E> type, Consumer<E> action) {
+        return new DomainEventHandler<>() {
+            @Override
+            public Class<E> eventType() {
+                return type;
+            }
+
+            @Override
+            public void handle(E event) {
+                action.accept(event);
+            }
+        };
+    }
+
+}
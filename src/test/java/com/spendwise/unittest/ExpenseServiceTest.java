@@ -5,22 +5,35 @@ import com.spendwise.client.dolarApi.DolarApiDTO;
 import com.spendwise.client.dolarApiHistorical.DolarApiHistoricalClient;
 import com.spendwise.client.dolarApiHistorical.DolarApiHistoricalDTO;
 import com.spendwise.dto.CategoryDTO;
+import com.spendwise.dto.CursorPageDTO;
 import com.spendwise.dto.ExpenseDTO;
 import com.spendwise.dto.ExpenseFilterDTO;
 import com.spendwise.dto.PaymentMethodDTO;
+import com.spendwise.dto.SliceDTO;
 import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.event.DomainEventBus;
+import com.spendwise.event.ExpenseCreated;
+import com.spendwise.event.ExpenseDeleted;
+import com.spendwise.event.ExpenseUpdated;
+import com.spendwise.mapper.CategoryMapper;
+import com.spendwise.mapper.PaymentMethodMapper;
 import com.spendwise.model.Category;
 import com.spendwise.model.Currency;
 import com.spendwise.model.Expense;
+import com.spendwise.model.IssuingEntity;
 import com.spendwise.model.PaymentMethod;
-import com.spendwise.model.RecurrentExpense;
-import com.spendwise.model.RecurrentExpenseRecord;
 import com.spendwise.model.MailImport;
+import com.spendwise.projection.ExpenseListRow;
+import com.spendwise.repository.CategoryRepository;
+import com.spendwise.repository.CurrencyRepository;
+import com.spendwise.repository.DescriptionSearchRepository;
 import com.spendwise.repository.ExpenseRepository;
 import com.spendwise.repository.MailImportRepository;
-import com.spendwise.repository.RecurrentExpenseRecordRepository;
-import com.spendwise.repository.RecurrentExpenseRepository;
+import com.spendwise.repository.PaymentMethodRepository;
+import com.spendwise.repository.SpecificationProjectionExecutor;
 import com.spendwise.service.ExpenseService;
+import com.spendwise.service.interfaces.IDataVersionService;
+import com.spendwise.spec.KeysetCursor;
 import com.spendwise.model.auth.User;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -30,17 +43,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -48,6 +65,7 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -58,7 +76,6 @@ import static org.mockito.ArgumentMatchers.eq;
 @DisplayName("Expense Unit Tests")
 public class ExpenseServiceTest {
 
-    private final ModelMapper modelMapper = new ModelMapper();
 
     @Mock
     private ExpenseRepository expenseRepository;
@@ -70,13 +87,31 @@ public class ExpenseServiceTest {
     private DolarApiHistoricalClient dolarApiHistoricalClient;
 
     @Mock
-    private RecurrentExpenseRepository recurrentExpenseRepository;
+    private MailImportRepository mailImportRepository;
 
     @Mock
-    private RecurrentExpenseRecordRepository recurrentExpenseRecordRepository;
+    private SpecificationProjectionExecutor projectionExecutor;
 
     @Mock
-    private MailImportRepository mailImportRepository;
+    private DescriptionSearchRepository descriptionSearchRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private PaymentMethodRepository paymentMethodRepository;
+
+    @Mock
+    private CurrencyRepository currencyRepository;
+
+    @Mock
+    private IDataVersionService dataVersionService;
+
+    @Mock
+    private DomainEventBus eventBus;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @InjectMocks
     private ExpenseService expenseService;
@@ -146,15 +181,15 @@ public class ExpenseServiceTest {
         dto.setDescription("Greengrocers");
         dto.setInputAmount(inputAmount);
         dto.setDate(today);
-        dto.setCategory(modelMapper.map(category, CategoryDTO.class));
-        dto.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
+        dto.setCategory(CategoryMapper.toDTO(category));
+        dto.setPaymentMethod(PaymentMethodMapper.toDTO(paymentMethod));
         dto.setCurrency(currencyARS);
 
         DolarApiDTO dolarApiDTO = new DolarApiDTO();
         dolarApiDTO.setSellingPrice(sellingPrice);
 
         Mockito.when(dolarApiClient.getRate("oficial")).thenReturn(dolarApiDTO);
-        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> inv.getArgument(0));
+        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> saved(inv.getArgument(0)));
 
         // Act
         ExpenseDTO result = expenseService.create(dto);
@@ -181,15 +216,15 @@ public class ExpenseServiceTest {
         dto.setDescription("Supermercado junio");
         dto.setInputAmount(inputAmount);
         dto.setDate(pastDate);
-        dto.setCategory(modelMapper.map(category, CategoryDTO.class));
-        dto.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
+        dto.setCategory(CategoryMapper.toDTO(category));
+        dto.setPaymentMethod(PaymentMethodMapper.toDTO(paymentMethod));
         dto.setCurrency(currencyARS);
 
         DolarApiHistoricalDTO historicalDTO = new DolarApiHistoricalDTO();
         historicalDTO.setSellingPrice(sellingPrice);
 
         Mockito.when(dolarApiHistoricalClient.getRate("oficial", pastDate.toString())).thenReturn(historicalDTO);
-        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> inv.getArgument(0));
+        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> saved(inv.getArgument(0)));
 
         // Act
         ExpenseDTO result = expenseService.create(dto);
@@ -216,15 +251,15 @@ public class ExpenseServiceTest {
         dto.setDescription("Netflix USD");
         dto.setInputAmount(inputAmount);
         dto.setDate(today);
-        dto.setCategory(modelMapper.map(category, CategoryDTO.class));
-        dto.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
+        dto.setCategory(CategoryMapper.toDTO(category));
+        dto.setPaymentMethod(PaymentMethodMapper.toDTO(paymentMethod));
         dto.setCurrency(currencyUSD);
 
         DolarApiDTO dolarApiDTO = new DolarApiDTO();
         dolarApiDTO.setSellingPrice(sellingPrice);
 
         Mockito.when(dolarApiClient.getRate("oficial")).thenReturn(dolarApiDTO);
-        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> inv.getArgument(0));
+        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> saved(inv.getArgument(0)));
 
         // Act
         ExpenseDTO result = expenseService.create(dto);
@@ -251,15 +286,15 @@ public class ExpenseServiceTest {
         dto.setDescription("Spotify USD marzo");
         dto.setInputAmount(inputAmount);
         dto.setDate(pastDate);
-        dto.setCategory(modelMapper.map(category, CategoryDTO.class));
-        dto.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
+        dto.setCategory(CategoryMapper.toDTO(category));
+        dto.setPaymentMethod(PaymentMethodMapper.toDTO(paymentMethod));
         dto.setCurrency(currencyUSD);
 
         DolarApiHistoricalDTO historicalDTO = new DolarApiHistoricalDTO();
         historicalDTO.setSellingPrice(sellingPrice);
 
         Mockito.when(dolarApiHistoricalClient.getRate("oficial", pastDate.toString())).thenReturn(historicalDTO);
-        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> inv.getArgument(0));
+        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> saved(inv.getArgument(0)));
 
         // Act
         ExpenseDTO result = expenseService.create(dto);
@@ -273,6 +308,196 @@ public class ExpenseServiceTest {
         Mockito.verify(expenseRepository).save(any(Expense.class));
     }
 
+    @Test
+    @DisplayName("Create only writes the expense and leaves recurrent matching to the ExpenseCreated event")
+    public void testCreatePublishesExpenseCreated() {
+        // Arrange
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setDescription("Alquiler");
+        dto.setInputAmount(new BigDecimal("100000"));
+        dto.setDate(LocalDate.now());
+        dto.setCurrency(currencyARS);
+
+        DolarApiDTO dolarApiDTO = new DolarApiDTO();
+        dolarApiDTO.setSellingPrice(new BigDecimal("1500"));
+
+        Mockito.when(dolarApiClient.getRate("oficial")).thenReturn(dolarApiDTO);
+        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> saved(inv.getArgument(0)));
+
+        // Act
+        expenseService.create(dto);
+
+        // Assert
+        Mockito.verify(dataVersionService).bump(testUser);
+        Mockito.verify(eventBus).publish(new ExpenseCreated(1L, List.of(100L)));
+        Mockito.verify(expenseRepository).save(any(Expense.class));
+        Mockito.verifyNoMoreInteractions(expenseRepository);
+    }
+
+    private static Expense saved(Expense expense) {
+        expense.setId(100L);
+        return expense;
+    }
+
+    // ──────────────────────────────────────────────────────────────────────────
+    // BULK CREATE
+    // ──────────────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Bulk create fetches one rate per distinct date and resolves references with one query each")
+    public void testCreateBulkResolvesOncePerRequest() {
+        // Arrange
+        LocalDate march = LocalDate.of(2024, 3, 10);
+        LocalDate june = LocalDate.of(2024, 6, 15);
+        List<ExpenseDTO> dtos = List.of(
+                bulkDto("Coto", "3000", march, currencyARS),
+                bulkDto("Spotify", "10", march, currencyUSD),
+                bulkDto("Dia", "4500", june, currencyARS));
+
+        DolarApiHistoricalDTO marchRate = new DolarApiHistoricalDTO();
+        marchRate.setSellingPrice(new BigDecimal("850"));
+        DolarApiHistoricalDTO juneRate = new DolarApiHistoricalDTO();
+        juneRate.setSellingPrice(new BigDecimal("900"));
+
+        Mockito.when(categoryRepository.findAllByIdInAndUser(List.of(1L), testUser)).thenReturn(List.of(category));
+        Mockito.when(paymentMethodRepository.findAllByIdInAndUser(List.of(1L), testUser)).thenReturn(List.of(paymentMethod));
+        Mockito.when(currencyRepository.findAllByIdInAndUser(List.of(1L, 2L), testUser)).thenReturn(List.of(currencyARS, currencyUSD));
+        Mockito.when(dolarApiHistoricalClient.getRate("oficial", march.toString())).thenReturn(marchRate);
+        Mockito.when(dolarApiHistoricalClient.getRate("oficial", june.toString())).thenReturn(juneRate);
+        Mockito.when(expenseRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        // Act
+        List<ExpenseDTO> result = expenseService.createBulk(dtos);
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals(new BigDecimal("3000").divide(new BigDecimal("850"), 4, RoundingMode.HALF_EVEN), result.get(0).getAmountInDollars());
+        assertEquals(new BigDecimal("10").multiply(new BigDecimal("850")), result.get(1).getAmountInPesos());
+        assertEquals(new BigDecimal("4500").divide(new BigDecimal("900"), 4, RoundingMode.HALF_EVEN), result.get(2).getAmountInDollars());
+        Mockito.verify(dolarApiHistoricalClient).getRate("oficial", march.toString());
+        Mockito.verify(dolarApiHistoricalClient).getRate("oficial", june.toString());
+        Mockito.verify(transactionManager).commit(any());
+        Mockito.verify(categoryRepository).findAllByIdInAndUser(List.of(1L), testUser);
+        Mockito.verify(expenseRepository).saveAll(any());
+        Mockito.verify(expenseRepository, Mockito.never()).save(any(Expense.class));
+        Mockito.verify(dataVersionService).bump(testUser);
+        Mockito.verify(eventBus).publish(Mockito.argThat(event ->
+                event instanceof ExpenseCreated created && created.expenseIds().size() == 3));
+    }
+
+    @Test
+    @DisplayName("Bulk create makes its FX lookups before the transaction starts")
+    public void testCreateBulkRatesBeforeTransaction() {
+        // Arrange
+        LocalDate march = LocalDate.of(2024, 3, 10);
+        DolarApiHistoricalDTO marchRate = new DolarApiHistoricalDTO();
+        marchRate.setSellingPrice(new BigDecimal("850"));
+        Mockito.when(dolarApiHistoricalClient.getRate("oficial", march.toString())).thenReturn(marchRate);
+        Mockito.when(currencyRepository.findAllByIdInAndUser(List.of(1L), testUser)).thenReturn(List.of(currencyARS));
+        Mockito.when(expenseRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+        ExpenseDTO dto = bulkDto("Coto", "3000", march, currencyARS);
+        dto.setCategory(null);
+        dto.setPaymentMethod(null);
+
+        // Act
+        expenseService.createBulk(List.of(dto));
+
+        // Assert
+        InOrder inOrder = Mockito.inOrder(dolarApiHistoricalClient, transactionManager, currencyRepository, expenseRepository);
+        inOrder.verify(dolarApiHistoricalClient).getRate("oficial", march.toString());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(currencyRepository).findAllByIdInAndUser(List.of(1L), testUser);
+        inOrder.verify(expenseRepository).saveAll(any());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Bulk create with resolved rates only looks up the dates missing from them")
+    public void testCreateBulkWithResolvedRates() {
+        // Arrange
+        LocalDate march = LocalDate.of(2024, 3, 10);
+        LocalDate june = LocalDate.of(2024, 6, 15);
+        DolarApiHistoricalDTO juneRate = new DolarApiHistoricalDTO();
+        juneRate.setSellingPrice(new BigDecimal("900"));
+        Mockito.when(dolarApiHistoricalClient.getRate("oficial", june.toString())).thenReturn(juneRate);
+        Mockito.when(currencyRepository.findAllByIdInAndUser(List.of(1L), testUser)).thenReturn(List.of(currencyARS));
+        Mockito.when(expenseRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+        ExpenseDTO coto = bulkDto("Coto", "3000", march, currencyARS);
+        ExpenseDTO dia = bulkDto("Dia", "4500", june, currencyARS);
+        for (ExpenseDTO dto : List.of(coto, dia)) {
+            dto.setCategory(null);
+            dto.setPaymentMethod(null);
+        }
+
+        // Act
+        List<ExpenseDTO> result = expenseService.createBulk(List.of(coto, dia), Map.of(march, new BigDecimal("850")));
+
+        // Assert
+        assertEquals(new BigDecimal("3000").divide(new BigDecimal("850"), 4, RoundingMode.HALF_EVEN), result.get(0).getAmountInDollars());
+        assertEquals(new BigDecimal("4500").divide(new BigDecimal("900"), 4, RoundingMode.HALF_EVEN), result.get(1).getAmountInDollars());
+        Mockito.verify(dolarApiHistoricalClient).getRate("oficial", june.toString());
+        Mockito.verifyNoMoreInteractions(dolarApiHistoricalClient);
+    }
+
+    @Test
+    @DisplayName("Bulk create with a category of another user rolls back before saving anything")
+    public void testCreateBulkUnknownCategory() {
+        // Arrange
+        LocalDate march = LocalDate.of(2024, 3, 10);
+        DolarApiHistoricalDTO marchRate = new DolarApiHistoricalDTO();
+        marchRate.setSellingPrice(new BigDecimal("850"));
+        Mockito.when(dolarApiHistoricalClient.getRate("oficial", march.toString())).thenReturn(marchRate);
+        ExpenseDTO dto = bulkDto("Coto", "3000", march, currencyARS);
+        Mockito.when(categoryRepository.findAllByIdInAndUser(List.of(1L), testUser)).thenReturn(List.of());
+
+        // Act
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> expenseService.createBulk(List.of(dto)));
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+        Mockito.verify(transactionManager).rollback(any());
+        Mockito.verifyNoInteractions(expenseRepository, dataVersionService, eventBus);
+    }
+
+    @Test
+    @DisplayName("Bulk create with a row without date fails before any FX lookup or transaction")
+    public void testCreateBulkMissingDate() {
+        // Arrange
+        ExpenseDTO dto = bulkDto("Coto", "3000", null, currencyARS);
+
+        // Act
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> expenseService.createBulk(List.of(dto)));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        Mockito.verifyNoInteractions(dolarApiHistoricalClient, transactionManager, expenseRepository);
+    }
+
+    @Test
+    @DisplayName("Bulk create with an empty list is a bad request")
+    public void testCreateBulkEmpty() {
+        // Act
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> expenseService.createBulk(List.of()));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        Mockito.verifyNoInteractions(expenseRepository);
+    }
+
+    private static ExpenseDTO bulkDto(String description, String amount, LocalDate date, Currency currency) {
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setDescription(description);
+        dto.setInputAmount(new BigDecimal(amount));
+        dto.setDate(date);
+        dto.setCategory(CategoryMapper.toDTO(category));
+        dto.setPaymentMethod(PaymentMethodMapper.toDTO(paymentMethod));
+        dto.setCurrency(currency);
+        return dto;
+    }
+
     // ──────────────────────────────────────────────────────────────────────────
     // FIND BY ID
     // ──────────────────────────────────────────────────────────────────────────
@@ -351,8 +576,8 @@ public class ExpenseServiceTest {
         ExpenseFilterDTO filters = new ExpenseFilterDTO();
 
         // Act
-        Mockito.when(expenseRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(expensePage);
+        Mockito.when(projectionExecutor.findPage(eq(Expense.class), eq(ExpenseListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(expensePage.map(ExpenseServiceTest::row));
 
         Page<ExpenseDTO> result = expenseService.list(filters, pageable);
 
@@ -385,8 +610,8 @@ public class ExpenseServiceTest {
         filters.setDescription("Supermarket");
 
         // Act
-        Mockito.when(expenseRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(expensePage);
+        Mockito.when(projectionExecutor.findPage(eq(Expense.class), eq(ExpenseListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(expensePage.map(ExpenseServiceTest::row));
 
         Page<ExpenseDTO> result = expenseService.list(filters, pageable);
 
@@ -418,8 +643,8 @@ public class ExpenseServiceTest {
         filters.setMaxAmountInPesos(BigDecimal.valueOf(4000));
 
         // Act
-        Mockito.when(expenseRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(expensePage);
+        Mockito.when(projectionExecutor.findPage(eq(Expense.class), eq(ExpenseListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(expensePage.map(ExpenseServiceTest::row));
 
         Page<ExpenseDTO> result = expenseService.list(filters, pageable);
 
@@ -452,8 +677,8 @@ public class ExpenseServiceTest {
         filters.setMaxAmountInDollars(BigDecimal.valueOf(3));
 
         // Act
-        Mockito.when(expenseRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(expensePage);
+        Mockito.when(projectionExecutor.findPage(eq(Expense.class), eq(ExpenseListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(expensePage.map(ExpenseServiceTest::row));
 
         Page<ExpenseDTO> result = expenseService.list(filters, pageable);
 
@@ -488,8 +713,8 @@ public class ExpenseServiceTest {
         filters.setEndDate(today.plusDays(1));
 
         // Act
-        Mockito.when(expenseRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(expensePage);
+        Mockito.when(projectionExecutor.findPage(eq(Expense.class), eq(ExpenseListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(expensePage.map(ExpenseServiceTest::row));
 
         Page<ExpenseDTO> result = expenseService.list(filters, pageable);
 
@@ -520,8 +745,8 @@ public class ExpenseServiceTest {
         filters.setCategoryId(1L);
 
         // Act
-        Mockito.when(expenseRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(expensePage);
+        Mockito.when(projectionExecutor.findPage(eq(Expense.class), eq(ExpenseListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(expensePage.map(ExpenseServiceTest::row));
 
         Page<ExpenseDTO> result = expenseService.list(filters, pageable);
 
@@ -552,8 +777,8 @@ public class ExpenseServiceTest {
         filters.setPaymentMethodId(1L);
 
         // Act
-        Mockito.when(expenseRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(expensePage);
+        Mockito.when(projectionExecutor.findPage(eq(Expense.class), eq(ExpenseListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(expensePage.map(ExpenseServiceTest::row));
 
         Page<ExpenseDTO> result = expenseService.list(filters, pageable);
 
@@ -592,8 +817,8 @@ public class ExpenseServiceTest {
         filters.setEndDate(today.plusDays(1));
 
         // Act
-        Mockito.when(expenseRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(expensePage);
+        Mockito.when(projectionExecutor.findPage(eq(Expense.class), eq(ExpenseListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(expensePage.map(ExpenseServiceTest::row));
 
         Page<ExpenseDTO> result = expenseService.list(filters, pageable);
 
@@ -616,8 +841,8 @@ public class ExpenseServiceTest {
         filters.setDescription("NonExistentExpense");
 
         // Act
-        Mockito.when(expenseRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(expensePage);
+        Mockito.when(projectionExecutor.findPage(eq(Expense.class), eq(ExpenseListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(expensePage.map(ExpenseServiceTest::row));
 
         Page<ExpenseDTO> result = expenseService.list(filters, pageable);
 
@@ -657,8 +882,8 @@ public class ExpenseServiceTest {
         ExpenseFilterDTO filters = new ExpenseFilterDTO();
 
         // Act
-        Mockito.when(expenseRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(expensePage);
+        Mockito.when(projectionExecutor.findPage(eq(Expense.class), eq(ExpenseListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(expensePage.map(ExpenseServiceTest::row));
 
         Page<ExpenseDTO> result = expenseService.list(filters, pageable);
 
@@ -669,6 +894,200 @@ public class ExpenseServiceTest {
         assertEquals(0, result.getNumber());
     }
 
+    @Test
+    @DisplayName("List expenses maps projected rows without loading entities")
+    public void testListMapsProjectedRows() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        ExpenseListRow projected = new ExpenseListRow(7L, "Coffee", BigDecimal.valueOf(1500), null,
+                LocalDate.now(), true, null, null, null, null, null,
+                3L, "Visa", PaymentMethodType.CREDIT_CARD, true, null,
+                4L, "Galicia", false, null,
+                1L, "Peso", "ARS", true, true, null, null, null);
+        Mockito.when(projectionExecutor.findPage(eq(Expense.class), eq(ExpenseListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(projected), pageable, 1));
+
+        // Act
+        Page<ExpenseDTO> result = expenseService.list(new ExpenseFilterDTO(), pageable);
+
+        // Assert
+        ExpenseDTO dto = result.getContent().get(0);
+        assertEquals(7L, dto.getId());
+        assertTrue(dto.getMicroExpense());
+        assertNull(dto.getCategory());
+        assertEquals("CREDIT_CARD", dto.getPaymentMethod().getPaymentMethodType());
+        assertTrue(dto.getPaymentMethod().getEnabled());
+        assertEquals("Galicia", dto.getPaymentMethod().getIssuingEntity().getDescription());
+        assertFalse(dto.getPaymentMethod().getIssuingEntity().getEnabled());
+        assertEquals("ARS", dto.getCurrency().getSymbol());
+        assertTrue(dto.getCurrency().getIsDefault());
+        Mockito.verifyNoInteractions(expenseRepository);
+    }
+
+    @Test
+    @DisplayName("List expenses as a slice reports hasNext without counting")
+    public void testListSlice() {
+        // Arrange
+        Expense expense1 = new Expense();
+        expense1.setId(1L);
+        expense1.setDescription("Expense 1");
+        expense1.setDate(LocalDate.now());
+
+        Pageable pageable = PageRequest.of(0, 1);
+        Mockito.when(projectionExecutor.findSlice(eq(Expense.class), eq(ExpenseListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(row(expense1)), pageable, true));
+
+        // Act
+        SliceDTO<ExpenseDTO> result = expenseService.listSlice(new ExpenseFilterDTO(), pageable);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertEquals("Expense 1", result.getContent().get(0).getDescription());
+        assertTrue(result.getHasNext());
+        assertEquals(0, result.getPage());
+        Mockito.verifyNoInteractions(expenseRepository);
+    }
+
+    @Test
+    @DisplayName("Search returns rows in rank order and reports hasNext")
+    public void testSearchKeepsRankOrder() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2);
+        ExpenseListRow cafe = new ExpenseListRow(5L, "Café Martínez", BigDecimal.TEN, null, LocalDate.now(),
+                false, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null, null);
+        ExpenseListRow cafeteria = new ExpenseListRow(9L, "Cafetería", BigDecimal.ONE, null, LocalDate.now(),
+                false, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null, null, null);
+        Mockito.when(descriptionSearchRepository.searchIds(DescriptionSearchRepository.Table.EXPENSE, 1L, "cafe", 0L, 2))
+                .thenReturn(List.of(9L, 5L, 3L));
+        Mockito.when(projectionExecutor.findAllByIds(eq(Expense.class), eq(ExpenseListRow.class), any(), eq(List.of(9L, 5L)), any()))
+                .thenReturn(List.of(cafeteria, cafe));
+
+        // Act
+        SliceDTO<ExpenseDTO> result = expenseService.search("cafe", pageable);
+
+        // Assert
+        assertEquals(2, result.getContent().size());
+        assertEquals(9L, result.getContent().get(0).getId());
+        assertEquals(5L, result.getContent().get(1).getId());
+        assertTrue(result.getHasNext());
+    }
+
+    @Test
+    @DisplayName("Search with a blank query throws 400")
+    public void testSearchWithBlankQuery() {
+        // Act & Assert
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> expenseService.search("   ", PageRequest.of(0, 10)));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        Mockito.verifyNoInteractions(descriptionSearchRepository);
+    }
+
+    @Test
+    @DisplayName("Approximate count is cached per user and filters")
+    public void testApproximateCountIsCached() {
+        // Arrange
+        ExpenseFilterDTO filters = new ExpenseFilterDTO();
+        filters.setDescription("super");
+        Mockito.when(expenseRepository.count(any(Specification.class))).thenReturn(42L);
+
+        // Act
+        long first = expenseService.approximateCount(filters);
+        long second = expenseService.approximateCount(filters);
+
+        // Assert
+        assertEquals(42L, first);
+        assertEquals(42L, second);
+        Mockito.verify(expenseRepository, Mockito.times(1)).count(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("An expense event drops the cached counts of its user only")
+    public void testExpenseEventInvalidatesApproximateCount() {
+        // Arrange
+        ExpenseFilterDTO filters = new ExpenseFilterDTO();
+        Mockito.when(expenseRepository.count(any(Specification.class))).thenReturn(42L, 43L);
+        expenseService.approximateCount(filters);
+
+        // Act
+        expenseService.handle(new ExpenseDeleted(2L, 9L));
+        long untouched = expenseService.approximateCount(filters);
+        expenseService.handle(new ExpenseUpdated(1L, 9L));
+        long refreshed = expenseService.approximateCount(filters);
+
+        // Assert
+        assertEquals(42L, untouched);
+        assertEquals(43L, refreshed);
+        Mockito.verify(expenseRepository, Mockito.times(2)).count(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("List expenses by cursor returns a full page and the cursor of its last row")
+    public void testListByCursorWithNextPage() {
+        // Arrange
+        Expense expense1 = new Expense();
+        expense1.setId(3L);
+        expense1.setDescription("Expense 3");
+        expense1.setDate(LocalDate.of(2026, 3, 10));
+        Expense expense2 = new Expense();
+        expense2.setId(2L);
+        expense2.setDescription("Expense 2");
+        expense2.setDate(LocalDate.of(2026, 3, 9));
+        Expense extra = new Expense();
+        extra.setId(1L);
+        extra.setDescription("Expense 1");
+        extra.setDate(LocalDate.of(2026, 3, 9));
+
+        // size + 1 rows come back: the extra one only signals that more exist
+        Mockito.when(expenseRepository.findBy(any(Specification.class), any()))
+                .thenReturn(List.of(expense1, expense2, extra));
+
+        // Act
+        CursorPageDTO<ExpenseDTO> result = expenseService.listByCursor(new ExpenseFilterDTO(), null, 2);
+
+        // Assert
+        assertEquals(2, result.getContent().size());
+        assertEquals("Expense 3", result.getContent().get(0).getDescription());
+        assertEquals("Expense 2", result.getContent().get(1).getDescription());
+        assertTrue(result.getHasNext());
+        assertEquals(KeysetCursor.encode(LocalDate.of(2026, 3, 9), 2L), result.getNextCursor());
+        Mockito.verify(expenseRepository).findBy(any(Specification.class), any());
+        Mockito.verifyNoMoreInteractions(expenseRepository);
+    }
+
+    @Test
+    @DisplayName("List expenses by cursor on the last page returns no next cursor")
+    public void testListByCursorLastPage() {
+        // Arrange
+        Expense expense = new Expense();
+        expense.setId(1L);
+        expense.setDescription("Expense 1");
+        expense.setDate(LocalDate.of(2026, 3, 9));
+
+        Mockito.when(expenseRepository.findBy(any(Specification.class), any()))
+                .thenReturn(List.of(expense));
+
+        // Act
+        String cursor = KeysetCursor.encode(LocalDate.of(2026, 3, 9), 2L);
+        CursorPageDTO<ExpenseDTO> result = expenseService.listByCursor(new ExpenseFilterDTO(), cursor, 2);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.getHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("List expenses by cursor rejects a malformed cursor")
+    public void testListByCursorInvalidCursor() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> expenseService.listByCursor(new ExpenseFilterDTO(), "not-a-cursor", 20));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        Mockito.verifyNoInteractions(expenseRepository);
+    }
+
     // ──────────────────────────────────────────────────────────────────────────
     // UPDATE
     // ──────────────────────────────────────────────────────────────────────────
@@ -696,8 +1115,8 @@ public class ExpenseServiceTest {
         updateDTO.setDescription("Updated description");
         updateDTO.setInputAmount(newAmount);
         updateDTO.setDate(today);
-        updateDTO.setCategory(modelMapper.map(category, CategoryDTO.class));
-        updateDTO.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
+        updateDTO.setCategory(CategoryMapper.toDTO(category));
+        updateDTO.setPaymentMethod(PaymentMethodMapper.toDTO(paymentMethod));
         updateDTO.setCurrency(currencyARS);
 
         DolarApiDTO dolarApiDTO = new DolarApiDTO();
@@ -742,8 +1161,8 @@ public class ExpenseServiceTest {
         updateDTO.setDescription("Updated USD expense");
         updateDTO.setInputAmount(newAmount);
         updateDTO.setDate(pastDate);
-        updateDTO.setCategory(modelMapper.map(category, CategoryDTO.class));
-        updateDTO.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
+        updateDTO.setCategory(CategoryMapper.toDTO(category));
+        updateDTO.setPaymentMethod(PaymentMethodMapper.toDTO(paymentMethod));
         updateDTO.setCurrency(currencyUSD);
 
         DolarApiHistoricalDTO historicalDTO = new DolarApiHistoricalDTO();
@@ -794,229 +1213,27 @@ public class ExpenseServiceTest {
         assertEquals(id, result.getId());
         Mockito.verify(expenseRepository).findByIdAndUser(id, testUser);
         Mockito.verify(expenseRepository).delete(expense);
+        Mockito.verify(eventBus).publish(new ExpenseDeleted(1L, id));
     }
 
-    // ──────────────────────────────────────────────────────────────────────────
-    // AUTO-CANCEL RECURRENT EXPENSE
-    // ──────────────────────────────────────────────────────────────────────────
-
-    @Test
-    @DisplayName("Create expense creates a new RecurrentExpenseRecord when description matches an enabled recurrent expense and no record exists for the current month")
-    public void testCreateAutoCancelsMatchingRecurrentExpenseWithNewRecord() {
-        // Arrange
-        LocalDate today = LocalDate.now();
-        BigDecimal sellingPrice = new BigDecimal("1500");
-
-        ExpenseDTO dto = new ExpenseDTO();
-        dto.setDescription("Alquiler");
-        dto.setInputAmount(new BigDecimal("100000"));
-        dto.setDate(today);
-        dto.setCategory(modelMapper.map(category, CategoryDTO.class));
-        dto.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
-        dto.setCurrency(currencyARS);
-
-        RecurrentExpense recurrentExpense = new RecurrentExpense();
-        recurrentExpense.setId(1L);
-        recurrentExpense.setDescription("Alquiler");
-        recurrentExpense.setEnabled(true);
-        recurrentExpense.setUser(testUser);
-
-        DolarApiDTO dolarApiDTO = new DolarApiDTO();
-        dolarApiDTO.setSellingPrice(sellingPrice);
-
-        Mockito.when(dolarApiClient.getRate("oficial")).thenReturn(dolarApiDTO);
-        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> inv.getArgument(0));
-        Mockito.when(recurrentExpenseRepository.findByDescriptionIgnoreCaseAndUserAndEnabledTrue("Alquiler", testUser))
-                .thenReturn(Optional.of(recurrentExpense));
-        Mockito.when(recurrentExpenseRecordRepository.findByRecurrentExpenseAndMonthAndYear(
-                recurrentExpense, today.getMonthValue(), today.getYear()))
-                .thenReturn(Optional.empty());
-        Mockito.when(recurrentExpenseRecordRepository.save(any(RecurrentExpenseRecord.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
-
-        // Act
-        ExpenseDTO result = expenseService.create(dto);
-
-        // Assert
-        assertNotNull(result);
-        assertEquals("Alquiler", result.getDescription());
-        Mockito.verify(recurrentExpenseRepository).findByDescriptionIgnoreCaseAndUserAndEnabledTrue("Alquiler", testUser);
-        Mockito.verify(recurrentExpenseRecordRepository).findByRecurrentExpenseAndMonthAndYear(
-                recurrentExpense, today.getMonthValue(), today.getYear());
-        Mockito.verify(recurrentExpenseRecordRepository).save(any(RecurrentExpenseRecord.class));
-    }
-
-    @Test
-    @DisplayName("Create expense updates existing RecurrentExpenseRecord when one already exists for the current month")
-    public void testCreateAutoCancelsUpdatingExistingRecord() {
-        // Arrange
-        LocalDate today = LocalDate.now();
-        BigDecimal sellingPrice = new BigDecimal("1500");
-
-        ExpenseDTO dto = new ExpenseDTO();
-        dto.setDescription("alquiler");
-        dto.setInputAmount(new BigDecimal("100000"));
-        dto.setDate(today);
-        dto.setCategory(modelMapper.map(category, CategoryDTO.class));
-        dto.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
-        dto.setCurrency(currencyARS);
-
-        RecurrentExpense recurrentExpense = new RecurrentExpense();
-        recurrentExpense.setId(1L);
-        recurrentExpense.setDescription("Alquiler");
-        recurrentExpense.setEnabled(true);
-        recurrentExpense.setUser(testUser);
-
-        RecurrentExpenseRecord existingRecord = new RecurrentExpenseRecord();
-        existingRecord.setId(5L);
-        existingRecord.setRecurrentExpense(recurrentExpense);
-        existingRecord.setMonth(today.getMonthValue());
-        existingRecord.setYear(today.getYear());
-        existingRecord.setCancelled(false);
-
-        DolarApiDTO dolarApiDTO = new DolarApiDTO();
-        dolarApiDTO.setSellingPrice(sellingPrice);
-
-        Mockito.when(dolarApiClient.getRate("oficial")).thenReturn(dolarApiDTO);
-        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> inv.getArgument(0));
-        Mockito.when(recurrentExpenseRepository.findByDescriptionIgnoreCaseAndUserAndEnabledTrue("alquiler", testUser))
-                .thenReturn(Optional.of(recurrentExpense));
-        Mockito.when(recurrentExpenseRecordRepository.findByRecurrentExpenseAndMonthAndYear(
-                recurrentExpense, today.getMonthValue(), today.getYear()))
-                .thenReturn(Optional.of(existingRecord));
-        Mockito.when(recurrentExpenseRecordRepository.save(any(RecurrentExpenseRecord.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
-
-        // Act
-        ExpenseDTO result = expenseService.create(dto);
-
-        // Assert
-        assertNotNull(result);
-        assertTrue(existingRecord.getCancelled());
-        assertNotNull(existingRecord.getExpense());
-        Mockito.verify(recurrentExpenseRecordRepository).save(existingRecord);
-    }
-
-    @Test
-    @DisplayName("Create expense does not create a RecurrentExpenseRecord when description does not match any recurrent expense")
-    public void testCreateDoesNotCancelWhenNoMatchingRecurrentExpense() {
-        // Arrange
-        LocalDate today = LocalDate.now();
-        BigDecimal sellingPrice = new BigDecimal("1500");
-
-        ExpenseDTO dto = new ExpenseDTO();
-        dto.setDescription("Supermercado");
-        dto.setInputAmount(new BigDecimal("5000"));
-        dto.setDate(today);
-        dto.setCategory(modelMapper.map(category, CategoryDTO.class));
-        dto.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
-        dto.setCurrency(currencyARS);
-
-        DolarApiDTO dolarApiDTO = new DolarApiDTO();
-        dolarApiDTO.setSellingPrice(sellingPrice);
-
-        Mockito.when(dolarApiClient.getRate("oficial")).thenReturn(dolarApiDTO);
-        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> inv.getArgument(0));
-        Mockito.when(recurrentExpenseRepository.findByDescriptionIgnoreCaseAndUserAndEnabledTrue("Supermercado", testUser))
-                .thenReturn(Optional.empty());
-
-        // Act
-        ExpenseDTO result = expenseService.create(dto);
-
-        // Assert
-        assertNotNull(result);
-        assertEquals("Supermercado", result.getDescription());
-        Mockito.verify(recurrentExpenseRepository).findByDescriptionIgnoreCaseAndUserAndEnabledTrue("Supermercado", testUser);
-        Mockito.verify(recurrentExpenseRecordRepository, Mockito.never()).save(any());
-    }
-
-    @Test
-    @DisplayName("Create expense updates recurrent expense amount when it differs from the loaded expense amount")
-    public void testCreateUpdatesRecurrentExpenseAmountWhenDiffers() {
-        // Arrange
-        LocalDate today = LocalDate.now();
-        BigDecimal newAmount = new BigDecimal("120000");
-        BigDecimal oldAmount = new BigDecimal("100000");
-        BigDecimal sellingPrice = new BigDecimal("1500");
-
-        ExpenseDTO dto = new ExpenseDTO();
-        dto.setDescription("Alquiler");
-        dto.setInputAmount(newAmount);
-        dto.setDate(today);
-        dto.setCategory(modelMapper.map(category, CategoryDTO.class));
-        dto.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
-        dto.setCurrency(currencyARS);
-
-        RecurrentExpense recurrentExpense = new RecurrentExpense();
-        recurrentExpense.setId(1L);
-        recurrentExpense.setDescription("Alquiler");
-        recurrentExpense.setAmountInPesos(oldAmount);
-        recurrentExpense.setEnabled(true);
-        recurrentExpense.setUser(testUser);
-
-        DolarApiDTO dolarApiDTO = new DolarApiDTO();
-        dolarApiDTO.setSellingPrice(sellingPrice);
-
-        Mockito.when(dolarApiClient.getRate("oficial")).thenReturn(dolarApiDTO);
-        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> inv.getArgument(0));
-        Mockito.when(recurrentExpenseRepository.findByDescriptionIgnoreCaseAndUserAndEnabledTrue("Alquiler", testUser))
-                .thenReturn(Optional.of(recurrentExpense));
-        Mockito.when(recurrentExpenseRecordRepository.findByRecurrentExpenseAndMonthAndYear(
-                recurrentExpense, today.getMonthValue(), today.getYear()))
-                .thenReturn(Optional.empty());
-        Mockito.when(recurrentExpenseRecordRepository.save(any(RecurrentExpenseRecord.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
-        Mockito.when(recurrentExpenseRepository.save(recurrentExpense))
-                .thenAnswer(inv -> inv.getArgument(0));
-
-        // Act
-        expenseService.create(dto);
-
-        // Assert
-        assertEquals(newAmount, recurrentExpense.getAmountInPesos());
-        Mockito.verify(recurrentExpenseRepository).save(recurrentExpense);
-    }
-
-    @Test
-    @DisplayName("Create expense does not update recurrent expense amount when it matches the loaded expense amount")
-    public void testCreateDoesNotUpdateRecurrentExpenseAmountWhenSame() {
-        // Arrange
-        LocalDate today = LocalDate.now();
-        BigDecimal amount = new BigDecimal("100000");
-        BigDecimal sellingPrice = new BigDecimal("1500");
-
-        ExpenseDTO dto = new ExpenseDTO();
-        dto.setDescription("Alquiler");
-        dto.setInputAmount(amount);
-        dto.setDate(today);
-        dto.setCategory(modelMapper.map(category, CategoryDTO.class));
-        dto.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
-        dto.setCurrency(currencyARS);
-
-        RecurrentExpense recurrentExpense = new RecurrentExpense();
-        recurrentExpense.setId(1L);
-        recurrentExpense.setDescription("Alquiler");
-        recurrentExpense.setAmountInPesos(amount);
-        recurrentExpense.setEnabled(true);
-        recurrentExpense.setUser(testUser);
-
-        DolarApiDTO dolarApiDTO = new DolarApiDTO();
-        dolarApiDTO.setSellingPrice(sellingPrice);
-
-        Mockito.when(dolarApiClient.getRate("oficial")).thenReturn(dolarApiDTO);
-        Mockito.when(expenseRepository.save(any(Expense.class))).thenAnswer(inv -> inv.getArgument(0));
-        Mockito.when(recurrentExpenseRepository.findByDescriptionIgnoreCaseAndUserAndEnabledTrue("Alquiler", testUser))
-                .thenReturn(Optional.of(recurrentExpense));
-        Mockito.when(recurrentExpenseRecordRepository.findByRecurrentExpenseAndMonthAndYear(
-                recurrentExpense, today.getMonthValue(), today.getYear()))
-                .thenReturn(Optional.empty());
-        Mockito.when(recurrentExpenseRecordRepository.save(any(RecurrentExpenseRecord.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
-
-        // Act
-        expenseService.create(dto);
-
-        // Assert
-        Mockito.verify(recurrentExpenseRepository, Mockito.never()).save(any());
+    private static ExpenseListRow row(Expense expense) {
+        Category c = expense.getCategory();
+        PaymentMethod pm = expense.getPaymentMethod();
+        IssuingEntity ie = pm != null ? pm.getIssuingEntity() : null;
+        Currency cur = expense.getCurrency();
+        return new ExpenseListRow(expense.getId(), expense.getDescription(),
+                expense.getAmountInPesos(), expense.getAmountInDollars(), expense.getDate(),
+                expense.getIsMicroExpense(),
+                c != null ? c.getId() : null, c != null ? c.getName() : null, c != null ? c.getEnabled() : null,
+                c != null ? c.getType() : null, c != null ? c.getIcon() : null,
+                pm != null ? pm.getId() : null, pm != null ? pm.getName() : null,
+                pm != null ? pm.getPaymentMethodType() : null, pm != null ? pm.getEnabled() : null,
+                pm != null ? pm.getIcon() : null,
+                ie != null ? ie.getId() : null, ie != null ? ie.getDescription() : null,
+                ie != null ? ie.getEnabled() : null, ie != null ? ie.getIcon() : null,
+                cur != null ? cur.getId() : null, cur != null ? cur.getName() : null,
+                cur != null ? cur.getSymbol() : null, cur != null ? cur.getEnabled() : null,
+                cur != null ? cur.getIsDefault() : null, cur != null ? cur.getIcon() : null,
+                cur != null ? cur.getCreationDate() : null, cur != null ? cur.getLastUpdateDate() : null);
     }
 }
@@ -0,0 +1,65 @@
+package com.spendwise.unittest;
+
+import com.spendwise.repository.PasswordResetTokenRepository;
+import com.spendwise.repository.RefreshTokenRepository;
+import com.spendwise.repository.VerificationTokenRepository;
+import com.spendwise.service.ExpiredTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Expired Token Service Unit Tests")
+public class ExpiredTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private VerificationTokenRepository verificationTokenRepository;
+
+    @Mock
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExpiredTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExpiredTokenService(refreshTokenRepository, verificationTokenRepository,
+                passwordResetTokenRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("purgeExpired deletes in chunks until a chunk comes back short, and publishes the table sizes")
+    public void testPurgeExpired() {
+        // Arrange
+        Mockito.when(refreshTokenRepository.deleteExpired(any(), eq(1000))).thenReturn(1000, 1000, 7);
+        Mockito.when(verificationTokenRepository.deleteExpired(any(), eq(1000))).thenReturn(3);
+        Mockito.when(passwordResetTokenRepository.deleteExpired(any(), eq(1000))).thenReturn(0);
+        Mockito.when(refreshTokenRepository.count()).thenReturn(250L);
+        Mockito.when(verificationTokenRepository.count()).thenReturn(4L);
+        Mockito.when(passwordResetTokenRepository.count()).thenReturn(0L);
+
+        // Act
+        int deleted = service.purgeExpired();
+
+        // Assert
+        assertEquals(2010, deleted);
+        Mockito.verify(refreshTokenRepository, Mockito.times(3)).deleteExpired(any(), eq(1000));
+        assertEquals(250, meterRegistry.get("auth.tokens.stored").tag("type", "refresh").gauge().value());
+        assertEquals(4, meterRegistry.get("auth.tokens.stored").tag("type", "verification").gauge().value());
+        assertEquals(2007, meterRegistry.get("auth.tokens.swept").tag("type", "refresh").counter().count());
+        assertEquals(0, meterRegistry.get("auth.tokens.swept").tag("type", "password_reset").counter().count());
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.spendwise.unittest;
+
+import com.spendwise.security.LoginThrottle;
+import com.spendwise.security.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The client IP the login throttle keys on, as Tomcat resolves it in prod. The
+ * {@code server.tomcat.remoteip.*} settings of application-prod.properties are applied to
+ * Tomcat's {@link RemoteIpFilter}, which shares its algorithm with the valve that
+ * {@code server.forward-headers-strategy=native} installs.
+ */
+@DisplayName("Forwarded Client IP Unit Tests")
+public class ForwardedClientIpTest {
+
+    private static final String RENDER_PROXY = "10.0.3.17";
+    private static final String CLIENT = "203.0.113.7";
+
+    private RemoteIpFilter remoteIpFilter;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Properties prod = new Properties();
+        try (InputStream in = getClass().getResourceAsStream("/application-prod.properties")) {
+            prod.load(in);
+        }
+        assertEquals("native", prod.getProperty("server.forward-headers-strategy"));
+        remoteIpFilter = new RemoteIpFilter();
+        remoteIpFilter.setInternalProxies(prod.getProperty("server.tomcat.remoteip.internal-proxies"));
+        remoteIpFilter.setRemoteIpHeader(prod.getProperty("server.tomcat.remoteip.remote-ip-header"));
+
+        // ip: 3 attempts, then one a second
+        throttle = new LoginThrottle(new SimpleMeterRegistry(), 1024,
+                new LoginThrottle.Limits(3, 60, 100),
+                new LoginThrottle.Limits(100, 600, 100),
+                Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("A forged X-Forwarded-For does not give the client a fresh IP bucket")
+    public void testForgedHeaderKeepsBucket() throws Exception {
+        // Act
+        for (int i = 1; i <= 3; i++) {
+            String ip = clientIp(RENDER_PROXY, "198.51.100." + i + ", " + CLIENT);
+            assertEquals(CLIENT, ip);
+            throttle.acquire(ip, "user" + i + "@example.com");
+        }
+        String forged = clientIp(RENDER_PROXY, "198.51.100.99, " + CLIENT);
+
+        // Assert
+        assertEquals(CLIENT, forged);
+        assertThrows(LoginThrottledException.class, () -> throttle.acquire(forged, "user4@example.com"));
+    }
+
+    @Test
+    @DisplayName("X-Forwarded-For from a peer that is not an internal proxy is ignored")
+    public void testUntrustedPeerHeaderIgnored() throws Exception {
+        // Act
+        String ip = clientIp(CLIENT, "10.0.0.1");
+
+        // Assert
+        assertEquals(CLIENT, ip);
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private String clientIp(String peer, String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setRemoteAddr(peer);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        MockFilterChain chain = new MockFilterChain();
+        remoteIpFilter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain.getRequest().getRemoteAddr();
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.spendwise.unittest;
+
+import com.spendwise.config.IdempotencyFilter;
+import com.spendwise.dto.IdempotentResponseDTO;
+import com.spendwise.model.auth.User;
+import com.spendwise.service.interfaces.IIdempotencyService;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyFilter Unit Tests")
+public class IdempotencyFilterTest {
+
+    @Mock
+    private IIdempotencyService idempotencyService;
+
+    @InjectMocks
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        User testUser = new User();
+        testUser.setId(1L);
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(testUser, null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("A first request runs and its 2xx response is stored")
+    public void testFirstRequestIsStored() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = post("/expenses", "{\"description\":\"Coto\"}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                assertEquals("{\"description\":\"Coto\"}", new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+                resp.setContentType("application/json");
+                resp.getWriter().write("{\"id\":7}");
+            }
+        });
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        ArgumentCaptor<IdempotentResponseDTO> stored = ArgumentCaptor.forClass(IdempotentResponseDTO.class);
+        Mockito.verify(idempotencyService).complete(eq(1L), eq("key-1"), stored.capture());
+        assertEquals(200, stored.getValue().getStatus());
+        assertEquals("{\"id\":7}", stored.getValue().getBody());
+        assertEquals("{\"id\":7}", response.getContentAsString());
+        Mockito.verify(idempotencyService, Mockito.never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("The buffered body can be read with a ReadListener, as async request handling does")
+    public void testReadListener() throws Exception {
+        // Arrange
+        List<String> events = new ArrayList<>();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                ServletInputStream in = req.getInputStream();
+                in.setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        events.add(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                    }
+
+                    @Override
+                    public void onAllDataRead() {
+                        events.add("done");
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        events.add("error");
+                    }
+                });
+                resp.getWriter().write("{\"id\":7}");
+            }
+        });
+
+        // Act
+        filter.doFilter(post("/expenses", "{\"description\":\"Coto\"}"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertEquals(List.of("{\"description\":\"Coto\"}", "done"), events);
+        Mockito.verify(idempotencyService).complete(eq(1L), eq("key-1"), any());
+    }
+
+    @Test
+    @DisplayName("A replay writes the stored response without reaching the controller")
+    public void testReplay() throws Exception {
+        // Arrange
+        Mockito.when(idempotencyService.begin(eq(1L), eq("key-1"), anyString()))
+                .thenReturn(new IdempotentResponseDTO("h", 200, "application/json", "{\"id\":7}"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(post("/expenses", "{}"), response, chain);
+
+        // Assert
+        assertNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals("{\"id\":7}", response.getContentAsString());
+        assertEquals("true", response.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("A failed request releases the key")
+    public void testFailureReleases() throws Exception {
+        // Arrange
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doPost(HttpServletRequest req, HttpServletResponse resp) {
+                resp.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            }
+        });
+
+        // Act
+        filter.doFilter(post("/mail/imports/3/confirm", "{}"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        Mockito.verify(idempotencyService).release(1L, "key-1");
+        Mockito.verify(idempotencyService, Mockito.never()).complete(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Other endpoints and requests without the header are not intercepted")
+    public void testNotIntercepted() throws Exception {
+        // Arrange
+        MockHttpServletRequest noHeader = new MockHttpServletRequest("POST", "/expenses");
+        MockHttpServletRequest otherPath = post("/categories", "{}");
+
+        // Act
+        filter.doFilter(noHeader, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(otherPath, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        Mockito.verifyNoInteractions(idempotencyService);
+    }
+
+    private static MockHttpServletRequest post(String uri, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.addHeader(IdempotencyFilter.HEADER, "key-1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+}
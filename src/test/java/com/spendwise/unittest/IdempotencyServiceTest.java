@@ -0,0 +1,185 @@
+package com.spendwise.unittest;
+
+import com.spendwise.dto.IdempotentResponseDTO;
+import com.spendwise.model.IdempotencyRecord;
+import com.spendwise.repository.IdempotencyRecordRepository;
+import com.spendwise.service.IdempotencyService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency Unit Tests")
+public class IdempotencyServiceTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    @InjectMocks
+    private IdempotencyService idempotencyService;
+
+    @Test
+    @DisplayName("The first request claims the key and a replay is served from memory")
+    public void testClaimThenReplay() {
+        // Arrange
+        Mockito.when(repository.findById("1:k1")).thenReturn(Optional.empty());
+        IdempotentResponseDTO response = new IdempotentResponseDTO(HASH, 200, "application/json", "{\"id\":5}");
+
+        // Act
+        IdempotentResponseDTO first = idempotencyService.begin(1L, "k1", HASH);
+        idempotencyService.complete(1L, "k1", response);
+        IdempotentResponseDTO replay = idempotencyService.begin(1L, "k1", HASH);
+
+        // Assert
+        assertNull(first);
+        assertEquals(response, replay);
+        Mockito.verify(repository).claim(eq("1:k1"), eq(1L), eq(HASH), any(LocalDateTime.class));
+        Mockito.verify(repository).complete(eq("1:k1"), eq(200), eq("application/json"), eq("{\"id\":5}"), any(LocalDateTime.class));
+        Mockito.verify(repository, Mockito.times(1)).findById("1:k1");
+    }
+
+    @Test
+    @DisplayName("A completed key stored by another instance is replayed from the table")
+    public void testReplayFromTable() {
+        // Arrange
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setId("1:k2");
+        record.setRequestHash(HASH);
+        record.setStatusCode(200);
+        record.setResponseBody("{}");
+        record.setExpiresAt(LocalDateTime.now().plusHours(1));
+        Mockito.when(repository.findById("1:k2")).thenReturn(Optional.of(record));
+
+        // Act
+        IdempotentResponseDTO replay = idempotencyService.begin(1L, "k2", HASH);
+
+        // Assert
+        assertEquals(200, replay.getStatus());
+        assertEquals("{}", replay.getBody());
+        Mockito.verify(repository, Mockito.never()).claim(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("A large response is not kept in memory and its replay is read from the table")
+    public void testLargeBodyReplayedFromTable() {
+        // Arrange
+        String body = "x".repeat(64 * 1024);
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setRequestHash(HASH);
+        record.setStatusCode(201);
+        record.setResponseBody(body);
+        record.setExpiresAt(LocalDateTime.now().plusHours(1));
+        Mockito.when(repository.findById("1:k7")).thenReturn(Optional.empty(), Optional.of(record));
+        assertNull(idempotencyService.begin(1L, "k7", HASH));
+
+        // Act
+        idempotencyService.complete(1L, "k7", new IdempotentResponseDTO(HASH, 201, null, body));
+        IdempotentResponseDTO replay = idempotencyService.begin(1L, "k7", HASH);
+
+        // Assert
+        assertEquals(body, replay.getBody());
+        Mockito.verify(repository, Mockito.times(2)).findById("1:k7");
+    }
+
+    @Test
+    @DisplayName("Reusing a key for a different request is unprocessable")
+    public void testHashMismatch() {
+        // Arrange
+        Mockito.when(repository.findById("1:k3")).thenReturn(Optional.empty());
+        idempotencyService.begin(1L, "k3", HASH);
+        idempotencyService.complete(1L, "k3", new IdempotentResponseDTO(HASH, 200, null, "{}"));
+
+        // Act
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> idempotencyService.begin(1L, "k3", "b".repeat(64)));
+
+        // Assert
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, ex.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("A concurrent duplicate waits for the first request and replays its response")
+    public void testConcurrentDuplicateWaits() throws Exception {
+        // Arrange
+        Mockito.when(repository.findById("1:k4")).thenReturn(Optional.empty());
+        assertNull(idempotencyService.begin(1L, "k4", HASH));
+        IdempotentResponseDTO response = new IdempotentResponseDTO(HASH, 201, null, "{\"id\":9}");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+
+        try {
+            // Act
+            Future<IdempotentResponseDTO> duplicate = executor.submit(() -> {
+                started.countDown();
+                return idempotencyService.begin(1L, "k4", HASH);
+            });
+            started.await();
+            Thread.sleep(50);
+            assertFalse(duplicate.isDone());
+            idempotencyService.complete(1L, "k4", response);
+
+            // Assert
+            assertEquals(response, duplicate.get(2, TimeUnit.SECONDS));
+            Mockito.verify(repository, Mockito.times(1)).claim(any(), any(), any(), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A released key can be claimed again")
+    public void testReleaseAllowsRetry() {
+        // Arrange
+        Mockito.when(repository.findById("1:k5")).thenReturn(Optional.empty());
+        idempotencyService.begin(1L, "k5", HASH);
+
+        // Act
+        idempotencyService.release(1L, "k5");
+        IdempotentResponseDTO retry = idempotencyService.begin(1L, "k5", HASH);
+
+        // Assert
+        assertNull(retry);
+        Mockito.verify(repository).release("1:k5");
+        Mockito.verify(repository, Mockito.times(2)).claim(eq("1:k5"), eq(1L), eq(HASH), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Losing the insert race to another instance reads its row instead")
+    public void testClaimRace() {
+        // Arrange
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setRequestHash(HASH);
+        record.setStatusCode(200);
+        record.setExpiresAt(LocalDateTime.now().plusHours(1));
+        Mockito.when(repository.findById("1:k6")).thenReturn(Optional.empty(), Optional.of(record));
+        Mockito.when(repository.claim(any(), any(), any(), any())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // Act
+        IdempotentResponseDTO replay = idempotencyService.begin(1L, "k6", HASH);
+
+        // Assert
+        assertEquals(200, replay.getStatus());
+    }
+
+}
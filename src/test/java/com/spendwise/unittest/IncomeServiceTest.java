@@ -7,10 +7,15 @@ import com.spendwise.dto.CategoryDTO;
 import com.spendwise.enums.CategoryType;
 import com.spendwise.dto.IncomeDTO;
 import com.spendwise.dto.IncomeFilterDTO;
+import com.spendwise.mapper.IncomeMapper;
 import com.spendwise.model.Category;
 import com.spendwise.model.Income;
+import com.spendwise.model.Currency;
+import com.spendwise.projection.IncomeListRow;
 import com.spendwise.repository.IncomeRepository;
+import com.spendwise.repository.SpecificationProjectionExecutor;
 import com.spendwise.service.IncomeService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.model.auth.User;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -24,7 +29,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -48,7 +52,6 @@ import static org.mockito.ArgumentMatchers.eq;
 @DisplayName("Income Unit Tests")
 public class IncomeServiceTest {
 
-    private final ModelMapper modelMapper = new ModelMapper();
 
     @Mock
     private IncomeRepository incomeRepository;
@@ -59,6 +62,12 @@ public class IncomeServiceTest {
     @Mock
     private DolarApiHistoricalClient dolarApiHistoricalClient;
 
+    @Mock
+    private SpecificationProjectionExecutor projectionExecutor;
+
+    @Mock
+    private IDataVersionService dataVersionService;
+
     @InjectMocks
     private IncomeService incomeService;
 
@@ -146,7 +155,7 @@ public class IncomeServiceTest {
         incomeDTO.setSource(sourceDTO);
         incomeDTO.setDate(LocalDate.of(2024, 1, 15));
 
-        Income income = modelMapper.map(incomeDTO, Income.class);
+        Income income = IncomeMapper.toEntity(incomeDTO);
 
         Mockito.when(incomeRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(income));
 
@@ -197,8 +206,8 @@ public class IncomeServiceTest {
         Pageable pageable = PageRequest.of(0, 20);
         IncomeFilterDTO filters = new IncomeFilterDTO();
 
-        Mockito.when(incomeRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(incomePage);
+        Mockito.when(projectionExecutor.findPage(eq(Income.class), eq(IncomeListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(incomePage.map(IncomeServiceTest::row));
 
         // Act
         Page<IncomeDTO> obtained = incomeService.list(filters, pageable);
@@ -267,7 +276,7 @@ public class IncomeServiceTest {
         incomeDTO.setSource(sourceDTO);
         incomeDTO.setDate(LocalDate.of(2024, 1, 15));
 
-        Income income = modelMapper.map(incomeDTO, Income.class);
+        Income income = IncomeMapper.toEntity(incomeDTO);
 
         Mockito.when(incomeRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(income));
 
@@ -299,8 +308,8 @@ public class IncomeServiceTest {
         IncomeFilterDTO filters = new IncomeFilterDTO();
         filters.setDescription("Salario");
 
-        Mockito.when(incomeRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(incomePage);
+        Mockito.when(projectionExecutor.findPage(eq(Income.class), eq(IncomeListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(incomePage.map(IncomeServiceTest::row));
 
         // Act
         Page<IncomeDTO> obtained = incomeService.list(filters, pageable);
@@ -330,8 +339,8 @@ public class IncomeServiceTest {
         IncomeFilterDTO filters = new IncomeFilterDTO();
         filters.setAmountInPesos(amount);
 
-        Mockito.when(incomeRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(incomePage);
+        Mockito.when(projectionExecutor.findPage(eq(Income.class), eq(IncomeListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(incomePage.map(IncomeServiceTest::row));
 
         // Act
         Page<IncomeDTO> obtained = incomeService.list(filters, pageable);
@@ -362,8 +371,8 @@ public class IncomeServiceTest {
         IncomeFilterDTO filters = new IncomeFilterDTO();
         filters.setAmountInDollars(amountInDollars);
 
-        Mockito.when(incomeRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(incomePage);
+        Mockito.when(projectionExecutor.findPage(eq(Income.class), eq(IncomeListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(incomePage.map(IncomeServiceTest::row));
 
         // Act
         Page<IncomeDTO> obtained = incomeService.list(filters, pageable);
@@ -391,8 +400,8 @@ public class IncomeServiceTest {
         IncomeFilterDTO filters = new IncomeFilterDTO();
         filters.setSource(sourceDTO);
 
-        Mockito.when(incomeRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(incomePage);
+        Mockito.when(projectionExecutor.findPage(eq(Income.class), eq(IncomeListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(incomePage.map(IncomeServiceTest::row));
 
         // Act
         Page<IncomeDTO> obtained = incomeService.list(filters, pageable);
@@ -422,8 +431,8 @@ public class IncomeServiceTest {
         IncomeFilterDTO filters = new IncomeFilterDTO();
         filters.setDate(date);
 
-        Mockito.when(incomeRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(incomePage);
+        Mockito.when(projectionExecutor.findPage(eq(Income.class), eq(IncomeListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(incomePage.map(IncomeServiceTest::row));
 
         // Act
         Page<IncomeDTO> obtained = incomeService.list(filters, pageable);
@@ -454,8 +463,8 @@ public class IncomeServiceTest {
         filters.setDescription("Salario");
         filters.setDate(date);
 
-        Mockito.when(incomeRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(incomePage);
+        Mockito.when(projectionExecutor.findPage(eq(Income.class), eq(IncomeListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(incomePage.map(IncomeServiceTest::row));
 
         // Act
         Page<IncomeDTO> obtained = incomeService.list(filters, pageable);
@@ -477,8 +486,8 @@ public class IncomeServiceTest {
         IncomeFilterDTO filters = new IncomeFilterDTO();
         filters.setDescription("NoExiste");
 
-        Mockito.when(incomeRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(incomePage);
+        Mockito.when(projectionExecutor.findPage(eq(Income.class), eq(IncomeListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(incomePage.map(IncomeServiceTest::row));
 
         // Act
         Page<IncomeDTO> obtained = incomeService.list(filters, pageable);
@@ -512,8 +521,8 @@ public class IncomeServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
         IncomeFilterDTO filters = new IncomeFilterDTO();
 
-        Mockito.when(incomeRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(incomePage);
+        Mockito.when(projectionExecutor.findPage(eq(Income.class), eq(IncomeListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(incomePage.map(IncomeServiceTest::row));
 
         // Act
         Page<IncomeDTO> obtained = incomeService.list(filters, pageable);
@@ -542,8 +551,8 @@ public class IncomeServiceTest {
         Pageable pageable = PageRequest.of(0, 5);
         IncomeFilterDTO filters = new IncomeFilterDTO();
 
-        Mockito.when(incomeRepository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(incomePage);
+        Mockito.when(projectionExecutor.findPage(eq(Income.class), eq(IncomeListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(incomePage.map(IncomeServiceTest::row));
 
         // Act
         Page<IncomeDTO> obtained = incomeService.list(filters, pageable);
@@ -553,4 +562,15 @@ public class IncomeServiceTest {
         assertEquals(1, obtained.getContent().size());
     }
 
-}
\ No newline at end of file
+    private static IncomeListRow row(Income income) {
+        Category s = income.getSource();
+        Currency cur = income.getCurrency();
+        return new IncomeListRow(income.getId(), income.getDescription(),
+                income.getAmountInPesos(), income.getAmountInDollars(), income.getDate(),
+                s != null ? s.getId() : null, s != null ? s.getName() : null, s != null ? s.getEnabled() : null,
+                s != null ? s.getType() : null, s != null ? s.getIcon() : null,
+                cur != null ? cur.getId() : null, cur != null ? cur.getName() : null,
+                cur != null ? cur.getSymbol() : null, cur != null ? cur.getEnabled() : null,
+                cur != null ? cur.getIsDefault() : null, cur != null ? cur.getIcon() : null);
+    }
+}
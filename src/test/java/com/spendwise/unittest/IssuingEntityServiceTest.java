@@ -2,9 +2,11 @@ package com.spendwise.unittest;
 
 import com.spendwise.dto.IssuingEntityDTO;
 import com.spendwise.dto.IssuingEntityFilterDTO;
+import com.spendwise.mapper.IssuingEntityMapper;
 import com.spendwise.model.IssuingEntity;
 import com.spendwise.repository.IssuingEntityRepository;
 import com.spendwise.service.IssuingEntityService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.model.auth.User;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,7 +19,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -38,11 +39,13 @@ import static org.mockito.ArgumentMatchers.eq;
 @DisplayName("IssuingEntity Unit Tests")
 public class IssuingEntityServiceTest {
 
-    private final ModelMapper modelMapper = new ModelMapper();
 
     @Mock
     private IssuingEntityRepository issuingEntityRepository;
 
+    @Mock
+    private IDataVersionService dataVersionService;
+
     @InjectMocks
     private IssuingEntityService issuingEntityService;
 
@@ -75,7 +78,7 @@ public class IssuingEntityServiceTest {
         dto.setEnabled(true);
 
         IssuingEntityDTO expected = dto;
-        IssuingEntity entity = modelMapper.map(dto, IssuingEntity.class);
+        IssuingEntity entity = IssuingEntityMapper.toEntity(dto);
         entity.setUser(testUser);
 
         // Act
@@ -101,7 +104,7 @@ public class IssuingEntityServiceTest {
         dto.setEnabled(true);
 
         IssuingEntityDTO expected = dto;
-        IssuingEntity entity = modelMapper.map(dto, IssuingEntity.class);
+        IssuingEntity entity = IssuingEntityMapper.toEntity(dto);
 
         // Act
         Mockito.when(issuingEntityRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(entity));
@@ -348,7 +351,7 @@ public class IssuingEntityServiceTest {
         newDto.setEnabled(true);
 
         IssuingEntityDTO expected = newDto;
-        IssuingEntity entity = modelMapper.map(dto, IssuingEntity.class);
+        IssuingEntity entity = IssuingEntityMapper.toEntity(dto);
 
         Mockito.when(issuingEntityRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(entity));
         Mockito.when(issuingEntityRepository.save(any(IssuingEntity.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -375,7 +378,7 @@ public class IssuingEntityServiceTest {
         dto.setEnabled(true);
 
         IssuingEntityDTO expected = dto;
-        IssuingEntity entity = modelMapper.map(dto, IssuingEntity.class);
+        IssuingEntity entity = IssuingEntityMapper.toEntity(dto);
 
         // Act
         Mockito.when(issuingEntityRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(entity));
@@ -398,7 +401,7 @@ public class IssuingEntityServiceTest {
         dto.setId(id);
         dto.setDescription("Banco Nación");
         dto.setEnabled(true);
-        IssuingEntity entity = modelMapper.map(dto, IssuingEntity.class);
+        IssuingEntity entity = IssuingEntityMapper.toEntity(dto);
 
         Mockito.when(issuingEntityRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(entity));
         Mockito.when(issuingEntityRepository.save(any(IssuingEntity.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -423,7 +426,7 @@ public class IssuingEntityServiceTest {
         dto.setId(id);
         dto.setDescription("Banco Nación");
         dto.setEnabled(false);
-        IssuingEntity entity = modelMapper.map(dto, IssuingEntity.class);
+        IssuingEntity entity = IssuingEntityMapper.toEntity(dto);
 
         Mockito.when(issuingEntityRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(entity));
         Mockito.when(issuingEntityRepository.save(any(IssuingEntity.class))).thenAnswer(inv -> inv.getArgument(0));
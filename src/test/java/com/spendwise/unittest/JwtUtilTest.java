@@ -1,11 +1,18 @@
 package com.spendwise.unittest;
 
+import com.spendwise.enums.Role;
 import com.spendwise.model.auth.User;
 import com.spendwise.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("JwtUtil Unit Tests")
@@ -119,6 +126,56 @@ public class JwtUtilTest {
         assertFalse(shortLivedJwt.isTokenValid(expiredToken));
     }
 
+    // ───────────────────────── verify ───────────────────────────
+
+    @Test
+    @DisplayName("verify returns the claims of a valid token")
+    public void testVerifyReturnsClaims() {
+        String token = jwtUtil.generateToken(user);
+        Claims claims = jwtUtil.verify(token);
+        assertNotNull(claims);
+        assertEquals("john@example.com", claims.getSubject());
+        assertEquals(1L, claims.get("userId", Long.class));
+    }
+
+    @Test
+    @DisplayName("verify returns null for tampered, expired and malformed tokens")
+    public void testVerifyInvalidToken() {
+        String token = jwtUtil.generateToken(user);
+        String expiredToken = new JwtUtil(SECRET, -1L).generateToken(user);
+        assertNull(jwtUtil.verify(token.substring(0, token.length() - 5) + "XXXXX"));
+        assertNull(jwtUtil.verify(expiredToken));
+        assertNull(jwtUtil.verify("this.is.not.a.jwt"));
+        assertNull(jwtUtil.verify(""));
+    }
+
+    // ───────────────────────── toPrincipal ──────────────────────
+
+    @Test
+    @DisplayName("toPrincipal rebuilds id, email, role, enabled and token version from the claims")
+    public void testToPrincipal() {
+        user.setRole(Role.ADMIN);
+        user.setTokenVersion(3L);
+        User principal = jwtUtil.toPrincipal(jwtUtil.verify(jwtUtil.generateToken(user)));
+        assertEquals(1L, principal.getId());
+        assertEquals("john@example.com", principal.getEmail());
+        assertEquals(Role.ADMIN, principal.getRole());
+        assertTrue(principal.getEnabled());
+        assertEquals(3L, principal.getTokenVersion());
+    }
+
+    @Test
+    @DisplayName("toPrincipal returns null for a token without the authorization claims")
+    public void testToPrincipalLegacyToken() {
+        String legacy = Jwts.builder()
+                .subject("john@example.com")
+                .claim("userId", 1L)
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION_MS))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        assertNull(jwtUtil.toPrincipal(jwtUtil.verify(legacy)));
+    }
+
     // ───────────────────────── round-trip ───────────────────────
 
     @Test
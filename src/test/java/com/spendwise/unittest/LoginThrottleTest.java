@@ -0,0 +1,158 @@
+package com.spendwise.unittest;
+
+import com.spendwise.security.LoginThrottle;
+import com.spendwise.security.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Login Throttle Unit Tests")
+public class LoginThrottleTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+        // ip: 3 attempts, then one a second; email: 2 attempts, then one every 10 seconds
+        throttle = new LoginThrottle(meterRegistry, 1024,
+                new LoginThrottle.Limits(3, 60, 100),
+                new LoginThrottle.Limits(2, 6, 2),
+                clock);
+    }
+
+    // ── buckets ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("An email gets its burst, then waits for the bucket to refill, whatever the IP")
+    public void testEmailBucket() {
+        // Act
+        throttle.acquire("10.0.0.1", "john@example.com");
+        throttle.acquire("10.0.0.2", "John@Example.com ");
+        LoginThrottledException ex = assertThrows(LoginThrottledException.class,
+                () -> throttle.acquire("10.0.0.3", "john@example.com"));
+
+        // Assert
+        assertEquals(10, ex.getRetryAfterSeconds());
+        assertEquals("10", ex.getHeaders().getFirst("Retry-After"));
+        clock.advance(Duration.ofSeconds(10));
+        assertDoesNotThrow(() -> throttle.acquire("10.0.0.3", "john@example.com"));
+        assertEquals(1, meterRegistry.get("auth.login.throttled").tag("key", "email").counter().count());
+    }
+
+    @Test
+    @DisplayName("An IP gets its burst across any number of emails")
+    public void testIpBucket() {
+        // Act
+        throttle.acquire("10.0.0.1", "a@example.com");
+        throttle.acquire("10.0.0.1", "b@example.com");
+        throttle.acquire("10.0.0.1", "c@example.com");
+        LoginThrottledException ex = assertThrows(LoginThrottledException.class,
+                () -> throttle.acquire("10.0.0.1", "d@example.com"));
+
+        // Assert
+        assertEquals(1, ex.getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.get("auth.login.throttled").tag("key", "ip").counter().count());
+        assertEquals(0, meterRegistry.get("auth.login.throttled").tag("key", "email").counter().count());
+    }
+
+    // ── failures ──────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Past the free failures every failure blocks the email for twice as long as the last")
+    public void testProgressiveDelay() {
+        // Arrange
+        throttle.recordFailure("10.0.0.1", "john@example.com");
+        throttle.recordFailure("10.0.0.2", "john@example.com");
+        assertDoesNotThrow(() -> throttle.acquire("10.0.0.3", "john@example.com"));
+
+        // Act & Assert
+        throttle.recordFailure("10.0.0.3", "john@example.com");
+        assertEquals(1, retryAfter("john@example.com"));
+        throttle.recordFailure("10.0.0.4", "john@example.com");
+        assertEquals(2, retryAfter("john@example.com"));
+        throttle.recordFailure("10.0.0.5", "john@example.com");
+        assertEquals(4, retryAfter("john@example.com"));
+
+        assertEquals(5, meterRegistry.get("auth.login.failures").tag("key", "email").counter().count());
+        assertEquals(3, meterRegistry.get("auth.login.penalties").tag("key", "email").counter().count());
+        assertEquals(1, meterRegistry.get("auth.login.blocked").tag("key", "email").gauge().value());
+    }
+
+    @Test
+    @DisplayName("A successful login clears the failures of its email")
+    public void testSuccessClearsFailures() {
+        // Arrange
+        throttle.recordFailure("10.0.0.1", "john@example.com");
+        throttle.recordFailure("10.0.0.1", "john@example.com");
+
+        // Act
+        throttle.recordSuccess("john@example.com");
+        throttle.recordFailure("10.0.0.1", "john@example.com");
+
+        // Assert
+        assertEquals(0, meterRegistry.get("auth.login.penalties").tag("key", "email").counter().count());
+        assertDoesNotThrow(() -> throttle.acquire("10.0.0.1", "john@example.com"));
+    }
+
+    @Test
+    @DisplayName("Failures older than the sliding window no longer count")
+    public void testFailuresSlideOut() {
+        // Arrange
+        throttle.recordFailure("10.0.0.1", "john@example.com");
+        throttle.recordFailure("10.0.0.1", "john@example.com");
+
+        // Act
+        clock.advance(Duration.ofMinutes(30));
+        throttle.recordFailure("10.0.0.1", "john@example.com");
+
+        // Assert
+        assertEquals(0, meterRegistry.get("auth.login.penalties").tag("key", "email").counter().count());
+        assertEquals(0, meterRegistry.get("auth.login.blocked").tag("key", "email").gauge().value());
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private long retryAfter(String email) {
+        return assertThrows(LoginThrottledException.class,
+                () -> throttle.acquire("10.0.0.9", email)).getRetryAfterSeconds();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+    }
+
+}
@@ -0,0 +1,258 @@
+package com.spendwise.unittest;
+
+import com.spendwise.dto.ExpenseDTO;
+import com.spendwise.dto.MailImportBulkConfirmDTO;
+import com.spendwise.dto.MailImportDTO;
+import com.spendwise.enums.MailImportStatus;
+import com.spendwise.model.CardExpense;
+import com.spendwise.model.Category;
+import com.spendwise.model.Expense;
+import com.spendwise.model.MailImport;
+import com.spendwise.model.MerchantBinding;
+import com.spendwise.model.PaymentMethod;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.CardExpenseRepository;
+import com.spendwise.repository.CategoryRepository;
+import com.spendwise.repository.ExpenseRepository;
+import com.spendwise.repository.MailImportRepository;
+import com.spendwise.repository.MerchantBindingRepository;
+import com.spendwise.repository.PaymentMethodRepository;
+import com.spendwise.service.MailImportChunkWriter;
+import com.spendwise.service.interfaces.IDataVersionService;
+import com.spendwise.service.interfaces.IExpenseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MailImportChunkWriter Unit Tests")
+public class MailImportChunkWriterTest {
+
+    @Mock private MailImportRepository mailImportRepository;
+    @Mock private CategoryRepository categoryRepository;
+    @Mock private PaymentMethodRepository paymentMethodRepository;
+    @Mock private MerchantBindingRepository merchantBindingRepository;
+    @Mock private CardExpenseRepository cardExpenseRepository;
+    @Mock private ExpenseRepository expenseRepository;
+    @Mock private IExpenseService expenseService;
+    @Mock private IDataVersionService dataVersionService;
+
+    @InjectMocks
+    private MailImportChunkWriter chunkWriter;
+
+    private static final Map<LocalDate, BigDecimal> RATES = Map.of(LocalDate.of(2026, 1, 15), new BigDecimal("1050"));
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setEmail("test@example.com");
+    }
+
+    // ── sellingRates ──────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("sellingRates looks up the dates of the PENDING regular payments only")
+    public void testSellingRates() {
+        MailImport parsedDate = pendingImport(1L, "Coto", false);
+        MailImport itemDate = pendingImport(2L, "Dia", false);
+        MailImport debt = pendingImport(3L, "Pago Visa", true);
+        debt.setParsedDate(LocalDate.of(2026, 1, 20));
+        MailImport ignored = pendingImport(4L, "Jumbo", false);
+        ignored.setStatus(MailImportStatus.IGNORED);
+        ignored.setParsedDate(LocalDate.of(2026, 1, 25));
+        MailImportBulkConfirmDTO dated = item(2L, 10L, null);
+        dated.setDate(LocalDate.of(2026, 2, 1));
+        Mockito.when(mailImportRepository.findAllByIdInAndUser(List.of(1L, 2L, 3L, 4L), testUser))
+                .thenReturn(List.of(parsedDate, itemDate, debt, ignored));
+        Mockito.when(expenseService.sellingRates(Set.of(LocalDate.of(2026, 1, 15), LocalDate.of(2026, 2, 1))))
+                .thenReturn(RATES);
+
+        Map<LocalDate, BigDecimal> rates = chunkWriter.sellingRates(List.of(
+                item(1L, 10L, null), dated, item(3L, null, 20L), item(4L, 10L, null)), testUser);
+
+        assertSame(RATES, rates);
+    }
+
+    @Test
+    @DisplayName("sellingRates of a chunk with no regular payment makes no FX lookup")
+    public void testSellingRates_debtsOnly() {
+        Mockito.when(mailImportRepository.findAllByIdInAndUser(List.of(1L), testUser))
+                .thenReturn(List.of(pendingImport(1L, "Pago Visa", true)));
+
+        Map<LocalDate, BigDecimal> rates = chunkWriter.sellingRates(List.of(item(1L, null, 20L)), testUser);
+
+        assertTrue(rates.isEmpty());
+        Mockito.verifyNoInteractions(expenseService);
+    }
+
+    // ── confirm ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("confirm loads every reference once and writes expenses, card expenses and bindings in batches")
+    public void testConfirm_batches() {
+        MailImport coto = pendingImport(1L, "Coto", false);
+        MailImport cotoAgain = pendingImport(2L, "COTO", false);
+        MailImport visa = pendingImport(3L, "Pago Visa", true);
+        Category category = new Category();
+        category.setId(10L);
+        category.setName("Super");
+        PaymentMethod card = new PaymentMethod();
+        card.setId(20L);
+        card.setName("Visa");
+        MerchantBinding existing = new MerchantBinding();
+        existing.setMerchantName("coto");
+
+        Mockito.when(mailImportRepository.findAllByIdInAndUser(List.of(1L, 2L, 3L), testUser))
+                .thenReturn(List.of(coto, cotoAgain, visa));
+        Mockito.when(categoryRepository.findAllByIdInAndUser(List.of(10L), testUser)).thenReturn(List.of(category));
+        Mockito.when(paymentMethodRepository.findAllByIdInAndUser(List.of(20L), testUser)).thenReturn(List.of(card));
+        Mockito.when(merchantBindingRepository.findAllByUserAndMerchantNamesIgnoreCase(testUser, List.of("coto", "pago visa")))
+                .thenReturn(List.of(existing));
+        Mockito.when(expenseService.createBulk(anyList(), eq(RATES))).thenAnswer(inv -> {
+            List<ExpenseDTO> dtos = inv.getArgument(0);
+            List<ExpenseDTO> created = new ArrayList<>();
+            for (int i = 0; i < dtos.size(); i++) {
+                ExpenseDTO dto = new ExpenseDTO();
+                dto.setId(100L + i);
+                created.add(dto);
+            }
+            return created;
+        });
+        Mockito.when(expenseRepository.getReferenceById(any())).thenAnswer(inv -> {
+            Expense expense = new Expense();
+            expense.setId(inv.getArgument(0));
+            return expense;
+        });
+
+        List<MailImportDTO> result = chunkWriter.confirm(List.of(
+                item(1L, 10L, null), item(2L, 10L, null), item(3L, null, 20L)), testUser, RATES);
+
+        assertEquals(3, result.size());
+        assertTrue(result.stream().allMatch(dto -> dto.getStatus() == MailImportStatus.CONFIRMED));
+        assertEquals(100L, coto.getExpense().getId());
+        assertEquals(101L, cotoAgain.getExpense().getId());
+        Mockito.verify(expenseService).createBulk(anyList(), eq(RATES));
+
+        ArgumentCaptor<List<CardExpense>> cardExpenses = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(cardExpenseRepository).saveAll(cardExpenses.capture());
+        assertEquals(1, cardExpenses.getValue().size());
+        assertSame(card, cardExpenses.getValue().get(0).getPaymentMethod());
+
+        // "Coto" and "COTO" share the existing binding; "Pago Visa" gets a new one
+        ArgumentCaptor<Iterable<MerchantBinding>> bindings = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(merchantBindingRepository).saveAll(bindings.capture());
+        List<MerchantBinding> saved = new ArrayList<>();
+        bindings.getValue().forEach(saved::add);
+        assertEquals(2, saved.size());
+        assertSame(existing, saved.get(0));
+        assertSame(category, existing.getCategory());
+        Mockito.verify(mailImportRepository).saveAll(List.of(coto, cotoAgain, visa));
+        Mockito.verify(merchantBindingRepository, Mockito.never()).findByUserAndMerchantNameIgnoreCase(any(), any());
+        Mockito.verify(dataVersionService).bump(testUser);
+    }
+
+    @Test
+    @DisplayName("confirm returns imports that are no longer PENDING untouched")
+    public void testConfirm_skipsProcessed() {
+        MailImport done = pendingImport(1L, "Coto", false);
+        done.setStatus(MailImportStatus.IGNORED);
+        Mockito.when(mailImportRepository.findAllByIdInAndUser(List.of(1L), testUser)).thenReturn(List.of(done));
+
+        List<MailImportDTO> result = chunkWriter.confirm(List.of(item(1L, 10L, null)), testUser, RATES);
+
+        assertEquals(MailImportStatus.IGNORED, result.get(0).getStatus());
+        Mockito.verifyNoInteractions(expenseService, cardExpenseRepository, dataVersionService);
+        Mockito.verify(mailImportRepository, Mockito.never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("confirm fails the chunk when an import is not the user's")
+    public void testConfirm_unknownImport() {
+        Mockito.when(mailImportRepository.findAllByIdInAndUser(List.of(1L, 2L), testUser))
+                .thenReturn(List.of(pendingImport(1L, "Coto", false)));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> chunkWriter.confirm(List.of(item(1L, 10L, null), item(2L, 10L, null)), testUser, RATES));
+
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+        Mockito.verifyNoInteractions(expenseService, dataVersionService);
+    }
+
+    @Test
+    @DisplayName("confirm of a regular payment without category is a bad request")
+    public void testConfirm_missingCategory() {
+        Mockito.when(mailImportRepository.findAllByIdInAndUser(List.of(1L), testUser))
+                .thenReturn(List.of(pendingImport(1L, "Coto", false)));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> chunkWriter.confirm(List.of(item(1L, null, null)), testUser, RATES));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        Mockito.verifyNoInteractions(expenseService);
+    }
+
+    // ── ignore ────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("ignore marks the PENDING imports IGNORED with one saveAll")
+    public void testIgnore() {
+        MailImport pending = pendingImport(1L, "Coto", false);
+        MailImport confirmed = pendingImport(2L, "Dia", false);
+        confirmed.setStatus(MailImportStatus.CONFIRMED);
+        Mockito.when(mailImportRepository.findAllByIdInAndUser(List.of(1L, 2L), testUser))
+                .thenReturn(List.of(pending, confirmed));
+
+        List<MailImportDTO> result = chunkWriter.ignore(List.of(1L, 2L), testUser);
+
+        assertEquals(MailImportStatus.IGNORED, result.get(0).getStatus());
+        assertEquals(MailImportStatus.CONFIRMED, result.get(1).getStatus());
+        Mockito.verify(mailImportRepository).saveAll(List.of(pending));
+        Mockito.verify(dataVersionService).bump(testUser);
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────────
+
+    private MailImport pendingImport(Long id, String merchant, boolean isDebt) {
+        MailImport m = new MailImport();
+        m.setId(id);
+        m.setUser(testUser);
+        m.setStatus(MailImportStatus.PENDING);
+        m.setParsedMerchant(merchant);
+        m.setParsedAmount(BigDecimal.valueOf(1000));
+        m.setParsedDate(LocalDate.of(2026, 1, 15));
+        m.setParsedIsDebt(isDebt);
+        return m;
+    }
+
+    private static MailImportBulkConfirmDTO item(Long id, Long categoryId, Long paymentMethodId) {
+        MailImportBulkConfirmDTO item = new MailImportBulkConfirmDTO();
+        item.setId(id);
+        item.setCategoryId(categoryId);
+        item.setPaymentMethodId(paymentMethodId);
+        return item;
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.spendwise.unittest;
 
 import com.spendwise.dto.ExpenseDTO;
+import com.spendwise.dto.MailImportBulkConfirmDTO;
 import com.spendwise.dto.MailImportConfirmDTO;
 import com.spendwise.dto.MailImportDTO;
 import com.spendwise.dto.MerchantBindingDTO;
@@ -14,7 +15,9 @@ import com.spendwise.repository.CategoryRepository;
 import com.spendwise.repository.MailImportRepository;
 import com.spendwise.repository.MerchantBindingRepository;
 import com.spendwise.repository.PaymentMethodRepository;
+import com.spendwise.service.MailImportChunkWriter;
 import com.spendwise.service.MailImportService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.service.interfaces.IDebtService;
 import com.spendwise.service.interfaces.IExpenseService;
 import org.junit.jupiter.api.AfterEach;
@@ -22,21 +25,28 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.crossstore.ChangeSetPersister;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("MailImportService Unit Tests")
@@ -48,6 +58,10 @@ public class MailImportServiceTest {
     @Mock private MerchantBindingRepository merchantBindingRepository;
     @Mock private IExpenseService expenseService;
     @Mock private IDebtService debtService;
+    @Mock private MailImportChunkWriter chunkWriter;
+
+    @Mock
+    private IDataVersionService dataVersionService;
 
     @InjectMocks
     private MailImportService mailImportService;
@@ -345,4 +359,62 @@ public class MailImportServiceTest {
         // Should save the existing binding (not create a new one)
         Mockito.verify(merchantBindingRepository).save(existingBinding);
     }
+
+    // ── bulk confirm / ignore ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("confirmBulk hands the items to the chunk writer in chunks of 200, in order")
+    public void testConfirmBulk_chunks() {
+        List<MailImportBulkConfirmDTO> items = LongStream.rangeClosed(1, 450).mapToObj(id -> {
+            MailImportBulkConfirmDTO item = new MailImportBulkConfirmDTO();
+            item.setId(id);
+            item.setCategoryId(10L);
+            return item;
+        }).toList();
+        Map<LocalDate, BigDecimal> rates = Map.of(LocalDate.of(2026, 1, 15), new BigDecimal("1050"));
+        Mockito.when(chunkWriter.sellingRates(any(), eq(testUser))).thenReturn(rates);
+        Mockito.when(chunkWriter.confirm(any(), eq(testUser), eq(rates))).thenAnswer(inv -> {
+            List<MailImportBulkConfirmDTO> chunk = inv.getArgument(0);
+            return chunk.stream().map(item -> {
+                MailImportDTO dto = new MailImportDTO();
+                dto.setId(item.getId());
+                return dto;
+            }).toList();
+        });
+
+        List<MailImportDTO> result = mailImportService.confirmBulk(items);
+
+        assertEquals(450, result.size());
+        assertEquals(450L, result.get(449).getId());
+        // each chunk's FX rates are resolved before its transaction
+        InOrder inOrder = Mockito.inOrder(chunkWriter);
+        for (int from = 0; from < 450; from += 200) {
+            List<MailImportBulkConfirmDTO> chunk = items.subList(from, Math.min(from + 200, 450));
+            inOrder.verify(chunkWriter).sellingRates(chunk, testUser);
+            inOrder.verify(chunkWriter).confirm(chunk, testUser, rates);
+        }
+    }
+
+    @Test
+    @DisplayName("ignoreBulk with an empty list is a bad request")
+    public void testIgnoreBulk_empty() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> mailImportService.ignoreBulk(List.of()));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        Mockito.verifyNoInteractions(chunkWriter);
+    }
+
+    @Test
+    @DisplayName("confirmBulk rejects more than 1000 imports before writing anything")
+    public void testConfirmBulk_tooMany() {
+        List<MailImportBulkConfirmDTO> items = LongStream.rangeClosed(1, 1001)
+                .mapToObj(id -> new MailImportBulkConfirmDTO()).toList();
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> mailImportService.confirmBulk(items));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+        Mockito.verifyNoInteractions(chunkWriter);
+    }
 }
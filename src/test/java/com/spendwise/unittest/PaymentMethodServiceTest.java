@@ -4,11 +4,13 @@ import com.spendwise.dto.IssuingEntityDTO;
 import com.spendwise.dto.PaymentMethodDTO;
 import com.spendwise.dto.PaymentMethodFilterDTO;
 import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.mapper.PaymentMethodMapper;
 import com.spendwise.model.IssuingEntity;
 import com.spendwise.model.PaymentMethod;
 import com.spendwise.repository.IssuingEntityRepository;
 import com.spendwise.repository.PaymentMethodRepository;
 import com.spendwise.service.PaymentMethodService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.model.auth.User;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,7 +23,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -42,7 +43,6 @@ import static org.mockito.ArgumentMatchers.eq;
 @DisplayName("Payment Method Unit Tests")
 public class PaymentMethodServiceTest {
 
-    private final ModelMapper modelMapper = new ModelMapper();
 
     @Mock
     private PaymentMethodRepository paymentMethodRepository;
@@ -50,6 +50,9 @@ public class PaymentMethodServiceTest {
     @Mock
     private IssuingEntityRepository issuingEntityRepository;
 
+    @Mock
+    private IDataVersionService dataVersionService;
+
     @InjectMocks
     private PaymentMethodService paymentMethodService;
 
@@ -83,7 +86,7 @@ public class PaymentMethodServiceTest {
         paymentMethodDTO.setEnabled(true);
 
         PaymentMethodDTO expected = paymentMethodDTO;
-        PaymentMethod paymentMethod = modelMapper.map(paymentMethodDTO, PaymentMethod.class);
+        PaymentMethod paymentMethod = PaymentMethodMapper.toEntity(paymentMethodDTO);
         paymentMethod.setUser(testUser);
 
         // Act
@@ -152,7 +155,7 @@ public class PaymentMethodServiceTest {
         paymentMethodDTO.setEnabled(true);
 
         PaymentMethodDTO expected = paymentMethodDTO;
-        PaymentMethod paymentMethod = modelMapper.map(paymentMethodDTO, PaymentMethod.class);
+        PaymentMethod paymentMethod = PaymentMethodMapper.toEntity(paymentMethodDTO);
 
         // Act
         Mockito.when(paymentMethodRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(paymentMethod));
@@ -507,7 +510,7 @@ public class PaymentMethodServiceTest {
         newPaymentMethodDTO.setEnabled(true);
 
         PaymentMethodDTO expected = newPaymentMethodDTO;
-        PaymentMethod paymentMethod = modelMapper.map(paymentMethodDTO, PaymentMethod.class);
+        PaymentMethod paymentMethod = PaymentMethodMapper.toEntity(paymentMethodDTO);
 
         Mockito.when(paymentMethodRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(paymentMethod));
         Mockito.when(paymentMethodRepository.save(any(PaymentMethod.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -536,7 +539,7 @@ public class PaymentMethodServiceTest {
         paymentMethodDTO.setEnabled(true);
 
         PaymentMethodDTO expected = paymentMethodDTO;
-        PaymentMethod paymentMethod = modelMapper.map(paymentMethodDTO, PaymentMethod.class);
+        PaymentMethod paymentMethod = PaymentMethodMapper.toEntity(paymentMethodDTO);
 
         // Act
         Mockito.when(paymentMethodRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(paymentMethod));
@@ -560,7 +563,7 @@ public class PaymentMethodServiceTest {
         paymentMethodDTO.setName("Mercado Pago");
         paymentMethodDTO.setPaymentMethodType("DEBIT_CARD");
         paymentMethodDTO.setEnabled(true);
-        PaymentMethod paymentMethod = modelMapper.map(paymentMethodDTO, PaymentMethod.class);
+        PaymentMethod paymentMethod = PaymentMethodMapper.toEntity(paymentMethodDTO);
 
         Mockito.when(paymentMethodRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(paymentMethod));
         Mockito.when(paymentMethodRepository.save(any(PaymentMethod.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -587,7 +590,7 @@ public class PaymentMethodServiceTest {
         paymentMethodDTO.setName("Mercado Pago");
         paymentMethodDTO.setPaymentMethodType("DEBIT_CARD");
         paymentMethodDTO.setEnabled(false);
-        PaymentMethod paymentMethod = modelMapper.map(paymentMethodDTO, PaymentMethod.class);
+        PaymentMethod paymentMethod = PaymentMethodMapper.toEntity(paymentMethodDTO);
 
         Mockito.when(paymentMethodRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(paymentMethod));
         Mockito.when(paymentMethodRepository.save(any(PaymentMethod.class))).thenAnswer(inv -> inv.getArgument(0));
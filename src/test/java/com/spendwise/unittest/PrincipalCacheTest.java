@@ -0,0 +1,90 @@
+package com.spendwise.unittest;
+
+import com.spendwise.enums.Role;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.UserRepository;
+import com.spendwise.security.PrincipalCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Principal Cache Unit Tests")
+public class PrincipalCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(userRepository, 100, 60);
+    }
+
+    @Test
+    @DisplayName("A warm user is served without touching the repository")
+    public void testWarmHit() {
+        // Arrange
+        User user = user(true);
+        Mockito.when(userRepository.findByEmail("john@example.com")).thenReturn(Optional.of(user));
+
+        // Act
+        User first = principalCache.load("john@example.com");
+        User second = principalCache.load("john@example.com");
+
+        // Assert
+        assertEquals(1L, second.getId());
+        assertEquals(Role.ADMIN, second.getRole());
+        Mockito.verify(userRepository, Mockito.times(1)).findByEmail("john@example.com");
+        assertNotSame(first, second, "Every caller gets its own copy");
+        assertNotSame(user, first);
+    }
+
+    @Test
+    @DisplayName("Disabled and unknown users are not cached")
+    public void testDisabledNotCached() {
+        // Arrange
+        Mockito.when(userRepository.findByEmail("john@example.com")).thenReturn(Optional.of(user(false)));
+        Mockito.when(userRepository.findByEmail("ghost@example.com")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertNull(principalCache.load("john@example.com"));
+        assertNull(principalCache.load("john@example.com"));
+        assertNull(principalCache.load("ghost@example.com"));
+        Mockito.verify(userRepository, Mockito.times(2)).findByEmail("john@example.com");
+    }
+
+    @Test
+    @DisplayName("An evicted user is loaded again")
+    public void testEvict() {
+        // Arrange
+        Mockito.when(userRepository.findByEmail("john@example.com")).thenReturn(Optional.of(user(true)));
+        principalCache.load("john@example.com");
+
+        // Act
+        principalCache.evict("john@example.com");
+        principalCache.load("john@example.com");
+
+        // Assert
+        Mockito.verify(userRepository, Mockito.times(2)).findByEmail("john@example.com");
+    }
+
+    private static User user(boolean enabled) {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("john@example.com");
+        user.setEnabled(enabled);
+        user.setRole(Role.ADMIN);
+        return user;
+    }
+
+}
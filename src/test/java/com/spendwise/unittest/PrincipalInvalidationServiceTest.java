@@ -0,0 +1,91 @@
+package com.spendwise.unittest;
+
+import com.spendwise.model.auth.PrincipalInvalidation;
+import com.spendwise.repository.PrincipalInvalidationRepository;
+import com.spendwise.security.PrincipalCache;
+import com.spendwise.service.PrincipalInvalidationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Principal Invalidation Service Unit Tests")
+public class PrincipalInvalidationServiceTest {
+
+    @Mock
+    private PrincipalInvalidationRepository repository;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @InjectMocks
+    private PrincipalInvalidationService service;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("invalidate writes a row and evicts locally only after commit")
+    public void testInvalidateAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        service.invalidate("john@example.com");
+
+        // Assert
+        Mockito.verify(repository).save(Mockito.argThat(row ->
+                row.getEmail().equals("john@example.com") && row.getCreatedAt() != null));
+        Mockito.verifyNoInteractions(principalCache);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        Mockito.verify(principalCache).evict("john@example.com");
+    }
+
+    @Test
+    @DisplayName("The first poll only records where to start; later polls evict the new rows once")
+    public void testApplyRemote() {
+        // Arrange
+        Mockito.when(repository.findMaxId()).thenReturn(Optional.of(7L));
+        Mockito.when(repository.findAllByIdGreaterThanOrderByIdAsc(7L))
+                .thenReturn(List.of(row(8L, "a@example.com"), row(9L, "b@example.com")));
+        Mockito.when(repository.findAllByIdGreaterThanOrderByIdAsc(9L)).thenReturn(List.of());
+
+        // Act
+        int first = service.applyRemote();
+        int second = service.applyRemote();
+        int third = service.applyRemote();
+
+        // Assert
+        assertEquals(0, first);
+        assertEquals(2, second);
+        assertEquals(0, third);
+        Mockito.verify(principalCache).evict("a@example.com");
+        Mockito.verify(principalCache).evict("b@example.com");
+        Mockito.verify(principalCache, Mockito.times(2)).evict(any());
+    }
+
+    private static PrincipalInvalidation row(Long id, String email) {
+        PrincipalInvalidation row = new PrincipalInvalidation();
+        row.setId(id);
+        row.setEmail(email);
+        return row;
+    }
+
+}
@@ -0,0 +1,234 @@
+package com.spendwise.unittest;
+
+import com.spendwise.event.ExpenseCreated;
+import com.spendwise.model.Currency;
+import com.spendwise.model.Expense;
+import com.spendwise.model.RecurrentExpense;
+import com.spendwise.model.RecurrentExpenseRecord;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.ExpenseRepository;
+import com.spendwise.repository.RecurrentExpenseRecordRepository;
+import com.spendwise.repository.RecurrentExpenseRepository;
+import com.spendwise.repository.UserRepository;
+import com.spendwise.service.RecurrentExpenseMatcher;
+import com.spendwise.service.interfaces.IDataVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Recurrent Expense Matcher Unit Tests")
+public class RecurrentExpenseMatcherTest {
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private RecurrentExpenseRepository recurrentExpenseRepository;
+
+    @Mock
+    private RecurrentExpenseRecordRepository recurrentExpenseRecordRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private IDataVersionService dataVersionService;
+
+    @InjectMocks
+    private RecurrentExpenseMatcher matcher;
+
+    private User testUser;
+    private Currency currencyARS;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setEmail("test@example.com");
+
+        currencyARS = new Currency();
+        currencyARS.setId(1L);
+        currencyARS.setName("Peso Argentino");
+        currencyARS.setSymbol("$");
+    }
+
+    // ──────────────────────────────────────────────────────────────────────────
+    // SINGLE EXPENSE
+    // ──────────────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("A new expense matching an enabled recurrent expense creates the current month's cancelled record")
+    public void testMatchCreatesNewRecord() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        Expense expense = expense(10L, "alquiler", "100000");
+        RecurrentExpense recurrentExpense = recurrentExpense("Alquiler", "100000");
+        givenExpenses(expense);
+        Mockito.when(recurrentExpenseRepository.findByDescriptionIgnoreCaseAndUserAndEnabledTrue("alquiler", testUser))
+                .thenReturn(Optional.of(recurrentExpense));
+        Mockito.when(recurrentExpenseRecordRepository.findByRecurrentExpenseAndMonthAndYear(
+                recurrentExpense, today.getMonthValue(), today.getYear()))
+                .thenReturn(Optional.empty());
+
+        // Act
+        matcher.handle(new ExpenseCreated(1L, List.of(10L)));
+
+        // Assert
+        Mockito.verify(recurrentExpenseRecordRepository).save(Mockito.argThat(record ->
+                record.getCancelled() && record.getExpense() == expense && record.getMonth() == today.getMonthValue()));
+        Mockito.verify(recurrentExpenseRepository, Mockito.never()).save(any());
+        Mockito.verify(dataVersionService).bump(testUser);
+    }
+
+    @Test
+    @DisplayName("An existing record for the current month is cancelled in place")
+    public void testMatchUpdatesExistingRecord() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        Expense expense = expense(10L, "Alquiler", "100000");
+        RecurrentExpense recurrentExpense = recurrentExpense("Alquiler", "100000");
+        RecurrentExpenseRecord existingRecord = new RecurrentExpenseRecord();
+        existingRecord.setId(5L);
+        existingRecord.setRecurrentExpense(recurrentExpense);
+        existingRecord.setCancelled(false);
+        givenExpenses(expense);
+        Mockito.when(recurrentExpenseRepository.findByDescriptionIgnoreCaseAndUserAndEnabledTrue("Alquiler", testUser))
+                .thenReturn(Optional.of(recurrentExpense));
+        Mockito.when(recurrentExpenseRecordRepository.findByRecurrentExpenseAndMonthAndYear(
+                recurrentExpense, today.getMonthValue(), today.getYear()))
+                .thenReturn(Optional.of(existingRecord));
+
+        // Act
+        matcher.handle(new ExpenseCreated(1L, List.of(10L)));
+
+        // Assert
+        assertTrue(existingRecord.getCancelled());
+        assertSame(expense, existingRecord.getExpense());
+        Mockito.verify(recurrentExpenseRecordRepository).save(existingRecord);
+    }
+
+    @Test
+    @DisplayName("A new expense with a different amount updates the recurrent expense amount")
+    public void testMatchSyncsAmount() {
+        // Arrange
+        Expense expense = expense(10L, "Alquiler", "120000");
+        RecurrentExpense recurrentExpense = recurrentExpense("Alquiler", "100000");
+        givenExpenses(expense);
+        Mockito.when(recurrentExpenseRepository.findByDescriptionIgnoreCaseAndUserAndEnabledTrue("Alquiler", testUser))
+                .thenReturn(Optional.of(recurrentExpense));
+        Mockito.when(recurrentExpenseRecordRepository.findByRecurrentExpenseAndMonthAndYear(eq(recurrentExpense), any(Integer.class), any(Integer.class)))
+                .thenReturn(Optional.empty());
+
+        // Act
+        matcher.handle(new ExpenseCreated(1L, List.of(10L)));
+
+        // Assert
+        assertEquals(new BigDecimal("120000"), recurrentExpense.getAmountInPesos());
+        Mockito.verify(recurrentExpenseRepository).save(recurrentExpense);
+    }
+
+    @Test
+    @DisplayName("An expense matching no recurrent expense changes nothing and does not bump the data version")
+    public void testNoMatch() {
+        // Arrange
+        givenExpenses(expense(10L, "Supermercado", "5000"));
+        Mockito.when(recurrentExpenseRepository.findByDescriptionIgnoreCaseAndUserAndEnabledTrue("Supermercado", testUser))
+                .thenReturn(Optional.empty());
+
+        // Act
+        matcher.handle(new ExpenseCreated(1L, List.of(10L)));
+
+        // Assert
+        Mockito.verify(recurrentExpenseRecordRepository, Mockito.never()).save(any());
+        Mockito.verifyNoInteractions(dataVersionService);
+    }
+
+    @Test
+    @DisplayName("An expense deleted before the handler ran is skipped")
+    public void testDeletedExpenseIsSkipped() {
+        // Arrange
+        Mockito.when(expenseRepository.findAllById(List.of(10L))).thenReturn(List.of());
+
+        // Act
+        matcher.handle(new ExpenseCreated(1L, List.of(10L)));
+
+        // Assert
+        Mockito.verifyNoInteractions(recurrentExpenseRepository, recurrentExpenseRecordRepository, dataVersionService);
+    }
+
+    // ──────────────────────────────────────────────────────────────────────────
+    // BULK
+    // ──────────────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Bulk creation cancels a matching recurrent expense once, with the last matching expense")
+    public void testBulkMatchesOnce() {
+        // Arrange
+        RecurrentExpense netflix = recurrentExpense("Netflix", "3000");
+        Expense first = expense(10L, "netflix", "3000");
+        Expense other = expense(11L, "Coto", "1000");
+        Expense last = expense(12L, "NETFLIX", "3000");
+        // the repository does not return rows in the order of the event
+        Mockito.when(expenseRepository.findAllById(List.of(10L, 11L, 12L))).thenReturn(List.of(last, first, other));
+        Mockito.when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        Mockito.when(recurrentExpenseRepository.findAllByUserAndEnabledTrue(testUser)).thenReturn(List.of(netflix));
+        Mockito.when(recurrentExpenseRecordRepository.findByRecurrentExpenseAndMonthAndYear(eq(netflix), any(Integer.class), any(Integer.class)))
+                .thenReturn(Optional.empty());
+
+        // Act
+        matcher.handle(new ExpenseCreated(1L, List.of(10L, 11L, 12L)));
+
+        // Assert
+        Mockito.verify(recurrentExpenseRecordRepository).save(Mockito.argThat(record ->
+                record.getCancelled() && record.getExpense() == last));
+        Mockito.verify(recurrentExpenseRepository, Mockito.never())
+                .findByDescriptionIgnoreCaseAndUserAndEnabledTrue(any(), any());
+        Mockito.verify(dataVersionService).bump(testUser);
+    }
+
+    // ──────────────────────────────────────────────────────────────────────────
+    // HELPERS
+    // ──────────────────────────────────────────────────────────────────────────
+
+    private void givenExpenses(Expense expense) {
+        Mockito.when(expenseRepository.findAllById(List.of(expense.getId()))).thenReturn(List.of(expense));
+        Mockito.when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+    }
+
+    private Expense expense(Long id, String description, String amount) {
+        Expense expense = new Expense();
+        expense.setId(id);
+        expense.setDescription(description);
+        expense.setAmountInPesos(new BigDecimal(amount));
+        expense.setDate(LocalDate.now());
+        expense.setCurrency(currencyARS);
+        expense.setUser(testUser);
+        return expense;
+    }
+
+    private RecurrentExpense recurrentExpense(String description, String amount) {
+        RecurrentExpense recurrentExpense = new RecurrentExpense();
+        recurrentExpense.setId(1L);
+        recurrentExpense.setDescription(description);
+        recurrentExpense.setAmountInPesos(new BigDecimal(amount));
+        recurrentExpense.setEnabled(true);
+        recurrentExpense.setUser(testUser);
+        return recurrentExpense;
+    }
+
+}
@@ -3,12 +3,16 @@ package com.spendwise.unittest;
 import com.spendwise.dto.RecurrentExpenseDTO;
 import com.spendwise.dto.RecurrentExpenseRecordDTO;
 import com.spendwise.dto.RecurrentExpenseRecordFilterDTO;
+import com.spendwise.mapper.ExpenseMapper;
+import com.spendwise.mapper.RecurrentExpenseMapper;
 import com.spendwise.model.Expense;
 import com.spendwise.model.RecurrentExpense;
 import com.spendwise.model.RecurrentExpenseRecord;
 import com.spendwise.model.auth.User;
 import com.spendwise.repository.RecurrentExpenseRecordRepository;
+import com.spendwise.repository.RecurrentExpenseRepository;
 import com.spendwise.service.RecurrentExpenseRecordService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,15 +22,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -40,11 +46,16 @@ import static org.mockito.ArgumentMatchers.eq;
 @DisplayName("RecurrentExpenseRecord Unit Tests")
 public class RecurrentExpenseRecordServiceTest {
 
-    private final ModelMapper modelMapper = new ModelMapper();
 
     @Mock
     private RecurrentExpenseRecordRepository recordRepository;
 
+    @Mock
+    private RecurrentExpenseRepository recurrentExpenseRepository;
+
+    @Mock
+    private IDataVersionService dataVersionService;
+
     @InjectMocks
     private RecurrentExpenseRecordService recordService;
 
@@ -87,12 +98,12 @@ public class RecurrentExpenseRecordServiceTest {
         RecurrentExpense recurrentExpense = buildRecurrentExpense();
 
         RecurrentExpenseRecordDTO dto = new RecurrentExpenseRecordDTO();
-        dto.setRecurrentExpense(modelMapper.map(recurrentExpense, RecurrentExpenseDTO.class));
+        dto.setRecurrentExpense(RecurrentExpenseMapper.toDTO(recurrentExpense));
         dto.setMonth(3);
         dto.setYear(2026);
         dto.setCancelled(false);
 
-        Mockito.when(recordRepository.save(any(RecurrentExpenseRecord.class)))
+        Mockito.when(recordRepository.saveAndFlush(any(RecurrentExpenseRecord.class)))
                 .thenAnswer(inv -> inv.getArgument(0));
 
         // Act
@@ -103,10 +114,98 @@ public class RecurrentExpenseRecordServiceTest {
         assertEquals(3, result.getMonth());
         assertEquals(2026, result.getYear());
         assertFalse(result.getCancelled());
-        Mockito.verify(recordRepository).save(any(RecurrentExpenseRecord.class));
+        Mockito.verify(recordRepository).findByRecurrentExpenseIdAndMonthAndYearAndUser(1L, 3, 2026, testUser);
+        Mockito.verify(recordRepository).saveAndFlush(any(RecurrentExpenseRecord.class));
         Mockito.verifyNoMoreInteractions(recordRepository);
     }
 
+    @Test
+    @DisplayName("Create for a period the monthly job already materialized updates that record")
+    public void testCreateExistingPeriod() {
+        // Arrange
+        RecurrentExpenseRecord materialized = new RecurrentExpenseRecord();
+        materialized.setId(10L);
+        materialized.setRecurrentExpense(buildRecurrentExpense());
+        materialized.setMonth(3);
+        materialized.setYear(2026);
+        materialized.setCancelled(false);
+        materialized.setUser(testUser);
+
+        Expense expense = new Expense();
+        expense.setId(7L);
+        RecurrentExpenseRecordDTO dto = new RecurrentExpenseRecordDTO();
+        dto.setRecurrentExpense(RecurrentExpenseMapper.toDTO(buildRecurrentExpense()));
+        dto.setExpense(ExpenseMapper.toDTO(expense));
+        dto.setMonth(3);
+        dto.setYear(2026);
+        dto.setCancelled(true);
+
+        Mockito.when(recordRepository.findByRecurrentExpenseIdAndMonthAndYearAndUser(1L, 3, 2026, testUser))
+                .thenReturn(Optional.of(materialized));
+        Mockito.when(recordRepository.save(materialized)).thenReturn(materialized);
+
+        // Act
+        RecurrentExpenseRecordDTO result = recordService.create(dto);
+
+        // Assert
+        assertEquals(10L, result.getId());
+        assertTrue(materialized.getCancelled());
+        assertEquals(7L, materialized.getExpense().getId());
+        Mockito.verify(recordRepository, Mockito.never()).saveAndFlush(any());
+        Mockito.verify(dataVersionService).bump(testUser);
+    }
+
+    @Test
+    @DisplayName("Create linking another expense to a period that already has one is a conflict")
+    public void testCreateExistingPeriodOtherExpense() {
+        // Arrange
+        Expense linked = new Expense();
+        linked.setId(5L);
+        RecurrentExpenseRecord materialized = new RecurrentExpenseRecord();
+        materialized.setId(10L);
+        materialized.setMonth(3);
+        materialized.setYear(2026);
+        materialized.setCancelled(true);
+        materialized.setExpense(linked);
+
+        Expense other = new Expense();
+        other.setId(7L);
+        RecurrentExpenseRecordDTO dto = new RecurrentExpenseRecordDTO();
+        dto.setRecurrentExpense(RecurrentExpenseMapper.toDTO(buildRecurrentExpense()));
+        dto.setExpense(ExpenseMapper.toDTO(other));
+        dto.setMonth(3);
+        dto.setYear(2026);
+        dto.setCancelled(true);
+
+        Mockito.when(recordRepository.findByRecurrentExpenseIdAndMonthAndYearAndUser(1L, 3, 2026, testUser))
+                .thenReturn(Optional.of(materialized));
+
+        // Act & Assert
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> recordService.create(dto));
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        assertEquals(5L, materialized.getExpense().getId());
+        Mockito.verify(recordRepository, Mockito.never()).save(any());
+        Mockito.verifyNoInteractions(dataVersionService);
+    }
+
+    @Test
+    @DisplayName("Create that loses the race against the monthly job is a conflict, not a 500")
+    public void testCreateConcurrentPeriod() {
+        // Arrange
+        RecurrentExpenseRecordDTO dto = new RecurrentExpenseRecordDTO();
+        dto.setRecurrentExpense(RecurrentExpenseMapper.toDTO(buildRecurrentExpense()));
+        dto.setMonth(3);
+        dto.setYear(2026);
+        dto.setCancelled(false);
+
+        Mockito.when(recordRepository.saveAndFlush(any(RecurrentExpenseRecord.class)))
+                .thenThrow(new DataIntegrityViolationException("UK_RECURRENT_EXPENSE_RECORD_PERIOD"));
+
+        // Act & Assert
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> recordService.create(dto));
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+    }
+
     // ──────────────────────────────────────────────────────────────────────────
     // FIND BY ID
     // ──────────────────────────────────────────────────────────────────────────
@@ -312,4 +411,42 @@ public class RecurrentExpenseRecordServiceTest {
         Mockito.verifyNoMoreInteractions(recordRepository);
     }
 
+    // ──────────────────────────────────────────────────────────────────────────
+    // MATERIALIZE MONTH
+    // ──────────────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Materialize month inserts missing records in id windows and returns the total")
+    public void testMaterializeMonth() {
+        // Arrange
+        Mockito.when(recurrentExpenseRepository.findMaxId()).thenReturn(2500L);
+        Mockito.when(recordRepository.insertMissingForPeriod(4, 2026, 0L, 1000L)).thenReturn(700);
+        Mockito.when(recordRepository.insertMissingForPeriod(4, 2026, 1000L, 2000L)).thenReturn(650);
+        Mockito.when(recordRepository.insertMissingForPeriod(4, 2026, 2000L, 3000L)).thenReturn(120);
+
+        // Act
+        int created = recordService.materializeMonth(4, 2026);
+
+        // Assert
+        assertEquals(1470, created);
+        Mockito.verify(recordRepository).insertMissingForPeriod(4, 2026, 0L, 1000L);
+        Mockito.verify(recordRepository).insertMissingForPeriod(4, 2026, 1000L, 2000L);
+        Mockito.verify(recordRepository).insertMissingForPeriod(4, 2026, 2000L, 3000L);
+        Mockito.verifyNoMoreInteractions(recordRepository);
+    }
+
+    @Test
+    @DisplayName("Materialize month does nothing when there are no recurrent expenses")
+    public void testMaterializeMonthWithoutRecurrentExpenses() {
+        // Arrange
+        Mockito.when(recurrentExpenseRepository.findMaxId()).thenReturn(0L);
+
+        // Act
+        int created = recordService.materializeMonth(4, 2026);
+
+        // Assert
+        assertEquals(0, created);
+        Mockito.verifyNoInteractions(recordRepository);
+    }
+
 }
@@ -5,13 +5,17 @@ import com.spendwise.dto.PaymentMethodDTO;
 import com.spendwise.dto.RecurrentExpenseDTO;
 import com.spendwise.dto.RecurrentExpenseFilterDTO;
 import com.spendwise.enums.PaymentMethodType;
+import com.spendwise.mapper.CategoryMapper;
+import com.spendwise.mapper.PaymentMethodMapper;
 import com.spendwise.model.Category;
 import com.spendwise.model.Currency;
 import com.spendwise.model.PaymentMethod;
 import com.spendwise.model.RecurrentExpense;
 import com.spendwise.model.auth.User;
+import com.spendwise.repository.RecurrentExpenseRecordRepository;
 import com.spendwise.repository.RecurrentExpenseRepository;
 import com.spendwise.service.RecurrentExpenseService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +26,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -33,6 +36,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -46,11 +50,16 @@ import static org.mockito.ArgumentMatchers.eq;
 @DisplayName("RecurrentExpense Unit Tests")
 public class RecurrentExpenseServiceTest {
 
-    private final ModelMapper modelMapper = new ModelMapper();
 
     @Mock
     private RecurrentExpenseRepository recurrentExpenseRepository;
 
+    @Mock
+    private RecurrentExpenseRecordRepository recordRepository;
+
+    @Mock
+    private IDataVersionService dataVersionService;
+
     @InjectMocks
     private RecurrentExpenseService recurrentExpenseService;
 
@@ -109,12 +118,12 @@ public class RecurrentExpenseServiceTest {
         dto.setAmountInPesos(new BigDecimal("100000"));
         dto.setAmountInDollars(new BigDecimal("80"));
         dto.setDayOfMonth(10);
-        dto.setCategory(modelMapper.map(category, CategoryDTO.class));
-        dto.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
+        dto.setCategory(CategoryMapper.toDTO(category));
+        dto.setPaymentMethod(PaymentMethodMapper.toDTO(paymentMethod));
         dto.setCurrency(currency);
 
         Mockito.when(recurrentExpenseRepository.save(any(RecurrentExpense.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
+                .thenAnswer(inv -> withId(inv.getArgument(0), 7L));
 
         // Act
         RecurrentExpenseDTO result = recurrentExpenseService.create(dto);
@@ -127,6 +136,9 @@ public class RecurrentExpenseServiceTest {
         assertNull(result.getIcon());
         Mockito.verify(recurrentExpenseRepository).save(any(RecurrentExpense.class));
         Mockito.verifyNoMoreInteractions(recurrentExpenseRepository);
+        // the monthly job has already run, so the new expense gets this month's record here
+        LocalDate today = LocalDate.now();
+        Mockito.verify(recordRepository).insertMissingForPeriod(today.getMonthValue(), today.getYear(), 6L, 7L);
     }
 
     @Test
@@ -137,13 +149,13 @@ public class RecurrentExpenseServiceTest {
         dto.setDescription("Netflix");
         dto.setAmountInPesos(new BigDecimal("5000"));
         dto.setDayOfMonth(15);
-        dto.setCategory(modelMapper.map(category, CategoryDTO.class));
-        dto.setPaymentMethod(modelMapper.map(paymentMethod, PaymentMethodDTO.class));
+        dto.setCategory(CategoryMapper.toDTO(category));
+        dto.setPaymentMethod(PaymentMethodMapper.toDTO(paymentMethod));
         dto.setCurrency(currency);
         dto.setIcon("https://res.cloudinary.com/demo/image/upload/netflix.png");
 
         Mockito.when(recurrentExpenseRepository.save(any(RecurrentExpense.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
+                .thenAnswer(inv -> withId(inv.getArgument(0), 7L));
 
         // Act
         RecurrentExpenseDTO result = recurrentExpenseService.create(dto);
@@ -388,7 +400,7 @@ public class RecurrentExpenseServiceTest {
         entity.setUser(testUser);
 
         Mockito.when(recurrentExpenseRepository.findByIdAndUser(id, testUser)).thenReturn(Optional.of(entity));
-        Mockito.when(recurrentExpenseRepository.save(any(RecurrentExpense.class))).thenAnswer(inv -> inv.getArgument(0));
+        Mockito.when(recurrentExpenseRepository.saveAndFlush(any(RecurrentExpense.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // Act
         RecurrentExpenseDTO result = recurrentExpenseService.enable(id);
@@ -396,8 +408,10 @@ public class RecurrentExpenseServiceTest {
         // Assert
         assertTrue(result.getEnabled());
         Mockito.verify(recurrentExpenseRepository).findByIdAndUser(id, testUser);
-        Mockito.verify(recurrentExpenseRepository).save(entity);
+        Mockito.verify(recurrentExpenseRepository).saveAndFlush(entity);
         Mockito.verifyNoMoreInteractions(recurrentExpenseRepository);
+        LocalDate today = LocalDate.now();
+        Mockito.verify(recordRepository).insertMissingForPeriod(today.getMonthValue(), today.getYear(), 0L, 1L);
     }
 
     @Test
@@ -424,4 +438,9 @@ public class RecurrentExpenseServiceTest {
         Mockito.verifyNoMoreInteractions(recurrentExpenseRepository);
     }
 
+    private static RecurrentExpense withId(RecurrentExpense recurrentExpense, Long id) {
+        recurrentExpense.setId(id);
+        return recurrentExpense;
+    }
+
 }
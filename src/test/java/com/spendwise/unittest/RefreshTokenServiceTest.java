@@ -0,0 +1,138 @@
+package com.spendwise.unittest;
+
+import com.spendwise.model.auth.RefreshToken;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.RefreshTokenRepository;
+import com.spendwise.security.TokenHasher;
+import com.spendwise.service.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Refresh Token Service Unit Tests")
+public class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+        user.setEmail("john@example.com");
+    }
+
+    // ───────────────────────── create ───────────────────────────
+
+    @Test
+    @DisplayName("create stores only the hash of the token it returns")
+    public void testCreateStoresHash() {
+        // Arrange
+        RefreshTokenService service = service(false);
+        Mockito.when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // Act
+        String token = service.create(user);
+
+        // Assert
+        Mockito.verify(refreshTokenRepository).save(Mockito.argThat(rt ->
+                rt.getToken().equals(TokenHasher.hash(token)) && !rt.getToken().equals(token)));
+    }
+
+    // ───────────────────────── consume ──────────────────────────
+
+    @Test
+    @DisplayName("consume looks the hash up, deletes the row and returns its user")
+    public void testConsume() {
+        // Arrange
+        RefreshTokenService service = service(false);
+        Mockito.when(refreshTokenRepository.findByToken(TokenHasher.hash("raw")))
+                .thenReturn(Optional.of(stored(5L, Instant.now().plusSeconds(60))));
+        Mockito.when(refreshTokenRepository.deleteByIdReturningCount(5L)).thenReturn(1);
+
+        // Act & Assert
+        assertEquals(1L, service.consume("raw"));
+    }
+
+    @Test
+    @DisplayName("consume rejects a token that a concurrent refresh already used")
+    public void testConsumeAlreadyUsed() {
+        // Arrange
+        RefreshTokenService service = service(false);
+        Mockito.when(refreshTokenRepository.findByToken(anyString()))
+                .thenReturn(Optional.of(stored(5L, Instant.now().plusSeconds(60))));
+        Mockito.when(refreshTokenRepository.deleteByIdReturningCount(5L)).thenReturn(0);
+
+        // Act & Assert
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> service.consume("raw"));
+        assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("consume rejects an expired token and leaves the row to the sweeper")
+    public void testConsumeExpired() {
+        // Arrange
+        RefreshTokenService service = service(false);
+        Mockito.when(refreshTokenRepository.findByToken(anyString()))
+                .thenReturn(Optional.of(stored(5L, Instant.now().minusSeconds(1))));
+
+        // Act & Assert
+        assertThrows(ResponseStatusException.class, () -> service.consume("raw"));
+        Mockito.verify(refreshTokenRepository, Mockito.never()).deleteByIdReturningCount(any());
+    }
+
+    @Test
+    @DisplayName("With the index enabled a token issued by this node is consumed without a lookup")
+    public void testConsumeFromIndex() {
+        // Arrange
+        RefreshTokenService service = service(true);
+        Mockito.when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> {
+            RefreshToken rt = inv.getArgument(0);
+            rt.setId(9L);
+            return rt;
+        });
+        Mockito.when(refreshTokenRepository.deleteByIdReturningCount(9L)).thenReturn(1);
+        String token = service.create(user);
+
+        // Act
+        Long userId = service.consume(token);
+
+        // Assert
+        assertEquals(1L, userId);
+        Mockito.verify(refreshTokenRepository, Mockito.never()).findByToken(any());
+    }
+
+    // ───────────────────────── helpers ──────────────────────────
+
+    private RefreshTokenService service(boolean indexEnabled) {
+        RefreshTokenService service = new RefreshTokenService(refreshTokenRepository, indexEnabled, 100, 60);
+        ReflectionTestUtils.setField(service, "refreshExpirationMs", 60_000L);
+        return service;
+    }
+
+    private RefreshToken stored(Long id, Instant expiresAt) {
+        RefreshToken rt = new RefreshToken();
+        rt.setId(id);
+        rt.setUser(user);
+        rt.setExpiresAt(expiresAt);
+        return rt;
+    }
+
+}
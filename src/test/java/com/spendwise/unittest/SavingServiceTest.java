@@ -4,8 +4,13 @@ import com.spendwise.dto.SavingDTO;
 import com.spendwise.dto.SavingFilterDTO;
 import com.spendwise.model.Currency;
 import com.spendwise.model.Saving;
+import com.spendwise.model.SavingsWallet;
+import com.spendwise.projection.SavingListRow;
+import com.spendwise.repository.DescriptionSearchRepository;
 import com.spendwise.repository.SavingRepository;
+import com.spendwise.repository.SpecificationProjectionExecutor;
 import com.spendwise.service.SavingService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.model.auth.User;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -19,7 +24,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -42,11 +46,19 @@ import static org.mockito.ArgumentMatchers.eq;
 @DisplayName("Saving Unit Tests")
 public class SavingServiceTest {
 
-    private final ModelMapper modelMapper = new ModelMapper();
 
     @Mock
     private SavingRepository savingRespository;
 
+    @Mock
+    private SpecificationProjectionExecutor projectionExecutor;
+
+    @Mock
+    private DescriptionSearchRepository descriptionSearchRepository;
+
+    @Mock
+    private IDataVersionService dataVersionService;
+
     @InjectMocks
     private SavingService savingService;
 
@@ -210,8 +222,8 @@ public class SavingServiceTest {
         Pageable pageable = PageRequest.of(0, 20);
         SavingFilterDTO filters = new SavingFilterDTO();
 
-        Mockito.when(savingRespository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(page);
+        Mockito.when(projectionExecutor.findPage(eq(Saving.class), eq(SavingListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(page.map(SavingServiceTest::row));
 
         // Act
         Page<SavingDTO> result = savingService.list(filters, pageable);
@@ -238,8 +250,8 @@ public class SavingServiceTest {
         SavingFilterDTO filters = new SavingFilterDTO();
         filters.setDescription("enero");
 
-        Mockito.when(savingRespository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(page);
+        Mockito.when(projectionExecutor.findPage(eq(Saving.class), eq(SavingListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(page.map(SavingServiceTest::row));
 
         // Act
         Page<SavingDTO> result = savingService.list(filters, pageable);
@@ -265,8 +277,8 @@ public class SavingServiceTest {
         SavingFilterDTO filters = new SavingFilterDTO();
         filters.setMinAmountInPesos(new BigDecimal("500000"));
 
-        Mockito.when(savingRespository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(page);
+        Mockito.when(projectionExecutor.findPage(eq(Saving.class), eq(SavingListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(page.map(SavingServiceTest::row));
 
         // Act
         Page<SavingDTO> result = savingService.list(filters, pageable);
@@ -292,8 +304,8 @@ public class SavingServiceTest {
         SavingFilterDTO filters = new SavingFilterDTO();
         filters.setMaxAmountInPesos(new BigDecimal("300000"));
 
-        Mockito.when(savingRespository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(page);
+        Mockito.when(projectionExecutor.findPage(eq(Saving.class), eq(SavingListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(page.map(SavingServiceTest::row));
 
         // Act
         Page<SavingDTO> result = savingService.list(filters, pageable);
@@ -321,8 +333,8 @@ public class SavingServiceTest {
         filters.setMinAmountInDollars(new BigDecimal("300"));
         filters.setMaxAmountInDollars(new BigDecimal("500"));
 
-        Mockito.when(savingRespository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(page);
+        Mockito.when(projectionExecutor.findPage(eq(Saving.class), eq(SavingListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(page.map(SavingServiceTest::row));
 
         // Act
         Page<SavingDTO> result = savingService.list(filters, pageable);
@@ -350,8 +362,8 @@ public class SavingServiceTest {
         filters.setStartDate(LocalDate.of(2024, 3, 1));
         filters.setEndDate(LocalDate.of(2024, 3, 31));
 
-        Mockito.when(savingRespository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(page);
+        Mockito.when(projectionExecutor.findPage(eq(Saving.class), eq(SavingListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(page.map(SavingServiceTest::row));
 
         // Act
         Page<SavingDTO> result = savingService.list(filters, pageable);
@@ -378,8 +390,8 @@ public class SavingServiceTest {
         SavingFilterDTO filters = new SavingFilterDTO();
         filters.setCurrencyId(1L);
 
-        Mockito.when(savingRespository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(page);
+        Mockito.when(projectionExecutor.findPage(eq(Saving.class), eq(SavingListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(page.map(SavingServiceTest::row));
 
         // Act
         Page<SavingDTO> result = savingService.list(filters, pageable);
@@ -409,8 +421,8 @@ public class SavingServiceTest {
         filters.setStartDate(LocalDate.of(2024, 5, 1));
         filters.setCurrencyId(1L);
 
-        Mockito.when(savingRespository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(page);
+        Mockito.when(projectionExecutor.findPage(eq(Saving.class), eq(SavingListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(page.map(SavingServiceTest::row));
 
         // Act
         Page<SavingDTO> result = savingService.list(filters, pageable);
@@ -430,8 +442,8 @@ public class SavingServiceTest {
         SavingFilterDTO filters = new SavingFilterDTO();
         filters.setDescription("Inexistente");
 
-        Mockito.when(savingRespository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(page);
+        Mockito.when(projectionExecutor.findPage(eq(Saving.class), eq(SavingListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(page.map(SavingServiceTest::row));
 
         // Act
         Page<SavingDTO> result = savingService.list(filters, pageable);
@@ -463,8 +475,8 @@ public class SavingServiceTest {
         Page<Saving> page = new PageImpl<>(Arrays.asList(saving1, saving2), pageable, 10);
         SavingFilterDTO filters = new SavingFilterDTO();
 
-        Mockito.when(savingRespository.findAll(any(Specification.class), eq(pageable)))
-                .thenReturn(page);
+        Mockito.when(projectionExecutor.findPage(eq(Saving.class), eq(SavingListRow.class), any(), any(Specification.class), eq(pageable)))
+                .thenReturn(page.map(SavingServiceTest::row));
 
         // Act
         Page<SavingDTO> result = savingService.list(filters, pageable);
@@ -544,4 +556,19 @@ public class SavingServiceTest {
         Mockito.verify(savingRespository).delete(saving);
         Mockito.verifyNoMoreInteractions(savingRespository);
     }
+
+    private static SavingListRow row(Saving saving) {
+        Currency cur = saving.getCurrency();
+        SavingsWallet w = saving.getSavingsWallet();
+        return new SavingListRow(saving.getId(), saving.getDescription(),
+                saving.getAmountInPesos(), saving.getAmountInDollars(), saving.getDate(),
+                cur != null ? cur.getId() : null, cur != null ? cur.getName() : null,
+                cur != null ? cur.getSymbol() : null, cur != null ? cur.getEnabled() : null,
+                cur != null ? cur.getIsDefault() : null, cur != null ? cur.getIcon() : null,
+                cur != null ? cur.getCreationDate() : null, cur != null ? cur.getLastUpdateDate() : null,
+                w != null ? w.getId() : null, w != null ? w.getName() : null,
+                w != null ? w.getSavingsWalletType() : null, w != null ? w.getEnabled() : null,
+                w != null ? w.getIcon() : null,
+                w != null ? w.getCreationDate() : null, w != null ? w.getLastUpdateDate() : null);
+    }
 }
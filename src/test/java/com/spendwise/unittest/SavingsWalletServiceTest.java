@@ -6,6 +6,7 @@ import com.spendwise.enums.SavingsWalletType;
 import com.spendwise.model.SavingsWallet;
 import com.spendwise.repository.SavingsWalletRepository;
 import com.spendwise.service.SavingsWalletService;
+import com.spendwise.service.interfaces.IDataVersionService;
 import com.spendwise.model.auth.User;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,7 +19,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.crossstore.ChangeSetPersister;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -39,11 +39,13 @@ import static org.mockito.ArgumentMatchers.eq;
 @DisplayName("SavingsWallet Unit Tests")
 public class SavingsWalletServiceTest {
 
-    private final ModelMapper modelMapper = new ModelMapper();
 
     @Mock
     private SavingsWalletRepository savingsWalletRepository;
 
+    @Mock
+    private IDataVersionService dataVersionService;
+
     @InjectMocks
     private SavingsWalletService savingsWalletService;
 
@@ -0,0 +1,42 @@
+package com.spendwise.unittest;
+
+import com.spendwise.model.Expense;
+import com.spendwise.spec.SearchText;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SearchText Unit Tests")
+public class SearchTextTest {
+
+    @Test
+    @DisplayName("normalize lower-cases, strips accents and collapses whitespace")
+    public void testNormalize() {
+        assertEquals("cafe martinez", SearchText.normalize("  Café   MARTÍNEZ "));
+        assertEquals("pinguino nandu", SearchText.normalize("Pingüino Ñandú"));
+        assertNull(SearchText.normalize(null));
+    }
+
+    @Test
+    @DisplayName("LIKE patterns escape wildcards typed by the user")
+    public void testPatternsEscapeWildcards() {
+        assertEquals("%50\\% off%", SearchText.containsPattern("50% OFF"));
+        assertEquals("a\\_b%", SearchText.prefixPattern("A_B"));
+    }
+
+    @Test
+    @DisplayName("setDescription keeps the search column in sync")
+    public void testEntityKeepsSearchColumnInSync() {
+        // Arrange
+        Expense expense = new Expense();
+
+        // Act
+        expense.setDescription("Panadería Ñoño");
+
+        // Assert
+        assertEquals("Panadería Ñoño", expense.getDescription());
+        assertEquals("panaderia nono", expense.getDescriptionSearch());
+    }
+
+}
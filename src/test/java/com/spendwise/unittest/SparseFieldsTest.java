@@ -0,0 +1,39 @@
+package com.spendwise.unittest;
+
+import com.spendwise.projection.ExpenseListRow;
+import com.spendwise.projection.SparseFields;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SparseFields Unit Tests")
+public class SparseFieldsTest {
+
+    @Test
+    @DisplayName("refs defaults to embed and accepts id in any case")
+    public void testRefMode() {
+        assertEquals(SparseFields.RefMode.EMBED, SparseFields.refMode(null));
+        assertEquals(SparseFields.RefMode.EMBED, SparseFields.refMode("embed"));
+        assertEquals(SparseFields.RefMode.ID, SparseFields.refMode("ID"));
+    }
+
+    @Test
+    @DisplayName("An unknown refs mode is a bad request")
+    public void testUnknownRefMode() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> SparseFields.refMode("inline"));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("An unknown field is a bad request")
+    public void testUnknownField() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> ExpenseListRow.SPARSE_FIELDS.select("description,user"));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.spendwise.unittest;
+
+import com.spendwise.statement.StatementDedup;
+import com.spendwise.statement.StatementHash;
+import com.spendwise.statement.StatementRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StatementDedup Unit Tests")
+public class StatementDedupTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 2, 3);
+
+    @Test
+    @DisplayName("The hash ignores case, accents, spacing, sign and trailing zeros")
+    public void testHashNormalizes() {
+        assertEquals(StatementHash.of(DATE, new BigDecimal("-1500.00"), "Café  Martínez"),
+                StatementHash.of(DATE, new BigDecimal("1500"), "cafe martinez"));
+        assertNotEquals(StatementHash.of(DATE, new BigDecimal("1500"), "Cafe"),
+                StatementHash.of(DATE.plusDays(1), new BigDecimal("1500"), "Cafe"));
+    }
+
+    @Test
+    @DisplayName("Rows beyond the recorded count of the same hash are new, numbered by occurrence")
+    public void testClaimCountsOccurrences() {
+        // Arrange
+        StatementDedup dedup = new StatementDedup();
+        Set<LocalDate> missing = dedup.retain(Set.of(DATE));
+        dedup.load(missing, List.<Object[]>of(
+                new Object[]{DATE, new BigDecimal("3000.00"), "coto"},
+                new Object[]{DATE, new BigDecimal("3000.00"), "coto"}));
+        StatementRow row = new StatementRow();
+        row.setDate(DATE);
+        row.setDescription("COTO");
+        row.setAmount(new BigDecimal("-3000"));
+        String hash = StatementHash.of(row.getDate(), row.getAmount(), row.getDescription());
+
+        // Act & Assert
+        assertEquals(0, dedup.claim(row, hash));
+        assertEquals(0, dedup.claim(row, hash));
+        assertEquals(3, dedup.claim(row, hash));
+    }
+
+    @Test
+    @DisplayName("Only dates that are not loaded yet are reported as missing")
+    public void testRetain() {
+        // Arrange
+        StatementDedup dedup = new StatementDedup();
+        dedup.load(dedup.retain(Set.of(DATE)), List.of());
+
+        // Act
+        Set<LocalDate> missing = dedup.retain(Set.of(DATE, DATE.plusDays(1)));
+
+        // Assert
+        assertEquals(Set.of(DATE.plusDays(1)), missing);
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.spendwise.unittest;
+
+import com.spendwise.dto.StatementImportDTO;
+import com.spendwise.enums.StatementFormat;
+import com.spendwise.enums.StatementImportStatus;
+import com.spendwise.model.auth.User;
+import com.spendwise.service.StatementImportService;
+import com.spendwise.statement.StatementChunkWriter;
+import com.spendwise.statement.StatementParser;
+import com.spendwise.statement.StatementParserRegistry;
+import com.spendwise.statement.StatementRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatementImport Unit Tests")
+public class StatementImportServiceTest {
+
+    @Mock
+    private StatementParserRegistry parserRegistry;
+
+    @Mock
+    private StatementChunkWriter chunkWriter;
+
+    @InjectMocks
+    private StatementImportService statementImportService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setEmail("test@example.com");
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(testUser, null, Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // ──────────────────────────────────────────────────────────────────────────
+    // IMPORT
+    // ──────────────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Debits are written in chunks of 500 and credits or unreadable rows are skipped")
+    public void testImportWritesInChunks() {
+        // Arrange
+        List<StatementRow> rows = new ArrayList<>();
+        for (int i = 0; i < 1100; i++) rows.add(row("Compra " + i, "-100"));
+        rows.add(row("Sueldo", "500000"));
+        rows.add(row(null, "-100"));
+        Mockito.when(parserRegistry.get(StatementFormat.SANTANDER_CSV)).thenReturn(emitting(rows));
+
+        Map<LocalDate, BigDecimal> rates = Map.of(LocalDate.of(2026, 3, 1), new BigDecimal("1050"));
+        Mockito.when(chunkWriter.sellingRates(any(), eq(testUser))).thenReturn(rates);
+        List<Integer> chunkSizes = new ArrayList<>();
+        Mockito.when(chunkWriter.write(any(), eq(StatementFormat.SANTANDER_CSV), eq(testUser), any(), eq(rates)))
+                .thenAnswer(inv -> {
+                    List<StatementRow> chunk = inv.getArgument(0);
+                    chunkSizes.add(chunk.size());
+                    return new StatementChunkWriter.Result(chunk.size() - 1, 0, 1);
+                });
+
+        // Act
+        StatementImportDTO result = statementImportService.importStatement(StatementFormat.SANTANDER_CSV,
+                new ByteArrayInputStream(new byte[0]), StandardCharsets.UTF_8);
+
+        // Assert
+        assertEquals(List.of(500, 500, 100), chunkSizes);
+        Mockito.verify(chunkWriter, Mockito.times(3)).sellingRates(any(), eq(testUser));
+        assertEquals(StatementImportStatus.DONE, result.getStatus());
+        assertEquals(1102, result.getRowsRead());
+        assertEquals(1097, result.getImported());
+        assertEquals(3, result.getDuplicates());
+        assertEquals(2, result.getSkipped());
+        assertEquals(result, statementImportService.progress());
+    }
+
+    @Test
+    @DisplayName("A failing chunk marks the import as failed and is rethrown")
+    public void testImportFailure() {
+        // Arrange
+        Mockito.when(parserRegistry.get(StatementFormat.OFX)).thenReturn(emitting(List.of(row("Coto", "-100"))));
+        Mockito.when(chunkWriter.write(any(), any(), any(), any(), any()))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Category 9 not found"));
+
+        // Act
+        assertThrows(ResponseStatusException.class, () -> statementImportService.importStatement(StatementFormat.OFX,
+                new ByteArrayInputStream(new byte[0]), StandardCharsets.UTF_8));
+
+        // Assert
+        StatementImportDTO progress = statementImportService.progress();
+        assertEquals(StatementImportStatus.FAILED, progress.getStatus());
+        assertNotNull(progress.getError());
+    }
+
+    @Test
+    @DisplayName("Progress without any import is not found")
+    public void testProgressNotFound() {
+        // Act
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> statementImportService.progress());
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+    }
+
+    private static StatementRow row(String description, String amount) {
+        StatementRow row = new StatementRow();
+        row.setDate(LocalDate.of(2025, 2, 3));
+        row.setDescription(description);
+        row.setAmount(new BigDecimal(amount));
+        return row;
+    }
+
+    private static StatementParser emitting(List<StatementRow> rows) {
+        return new StatementParser() {
+            @Override
+            public StatementFormat getFormat() {
+                return StatementFormat.SANTANDER_CSV;
+            }
+
+            @Override
+            public void parse(Reader reader, Consumer<StatementRow> sink) {
+                rows.forEach(sink);
+            }
+        };
+    }
+
+}
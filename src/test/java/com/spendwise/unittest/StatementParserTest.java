@@ -0,0 +1,157 @@
+package com.spendwise.unittest;
+
+import com.spendwise.statement.StatementParser;
+import com.spendwise.statement.StatementRow;
+import com.spendwise.statement.impl.MercadoPagoCsvParser;
+import com.spendwise.statement.impl.OfxStatementParser;
+import com.spendwise.statement.impl.SantanderCsvParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Statement Parser Unit Tests")
+public class StatementParserTest {
+
+    // ── Santander CSV ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Santander CSV skips the title lines and reads Argentine amounts")
+    public void testSantanderCsv() throws IOException {
+        String csv = """
+                Movimientos de Caja de Ahorro en Pesos
+                Cuenta 123-456789/0
+
+                Fecha;Sucursal origen;Descripción;Referencia;Importe;Saldo
+                03/02/2025;Casa central;Compra con tarjeta de debito COTO;0001;-45.000,50;100.000,00
+                04/02/2025;Casa central;"Transferencia; recibida";0002;250.000,00;350.000,00
+                """;
+
+        List<StatementRow> rows = parse(new SantanderCsvParser(), csv);
+
+        assertEquals(2, rows.size());
+        assertEquals(LocalDate.of(2025, 2, 3), rows.get(0).getDate());
+        assertEquals("Compra con tarjeta de debito COTO", rows.get(0).getDescription());
+        assertEquals(new BigDecimal("-45000.50"), rows.get(0).getAmount());
+        assertEquals("0001", rows.get(0).getReference());
+        assertEquals("Transferencia; recibida", rows.get(1).getDescription());
+        assertEquals(new BigDecimal("250000.00"), rows.get(1).getAmount());
+    }
+
+    @Test
+    @DisplayName("An unreadable line still yields a row, with the unreadable fields left null")
+    public void testSantanderCsvBadLine() throws IOException {
+        String csv = """
+                Fecha;Descripción;Importe
+                mañana;Kiosco;-1.500,00
+                """;
+
+        List<StatementRow> rows = parse(new SantanderCsvParser(), csv);
+
+        assertEquals(1, rows.size());
+        assertNull(rows.get(0).getDate());
+        assertEquals(new BigDecimal("-1500.00"), rows.get(0).getAmount());
+    }
+
+    @Test
+    @DisplayName("A file without the expected header is a bad request")
+    public void testWrongFormat() {
+        String csv = """
+                RELEASE_DATE;TRANSACTION_TYPE;REFERENCE_ID;TRANSACTION_NET_AMOUNT;PARTIAL_BALANCE
+                01-02-2025;Pago Coto;123;-1500.00;1000.00
+                """;
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> parse(new SantanderCsvParser(), csv));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
+    // ── MercadoPago CSV ───────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("MercadoPago CSV uses the transaction type as description")
+    public void testMercadoPagoCsv() throws IOException {
+        String csv = """
+                RELEASE_DATE;TRANSACTION_TYPE;REFERENCE_ID;TRANSACTION_NET_AMOUNT;PARTIAL_BALANCE
+                01-02-2025;Pago Coto;123;-1,234.56;1000.00
+                """;
+
+        List<StatementRow> rows = parse(new MercadoPagoCsvParser(), csv);
+
+        assertEquals(1, rows.size());
+        assertEquals(LocalDate.of(2025, 2, 1), rows.get(0).getDate());
+        assertEquals("Pago Coto", rows.get(0).getDescription());
+        assertEquals(new BigDecimal("-1234.56"), rows.get(0).getAmount());
+        assertEquals("123", rows.get(0).getReference());
+    }
+
+    // ── OFX ───────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("OFX 1.x without closing leaf tags yields one row per STMTTRN")
+    public void testOfxSgml() throws IOException {
+        String ofx = """
+                OFXHEADER:100
+                DATA:OFXSGML
+
+                <OFX>
+                <BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20250203120000[-3:ART]
+                <TRNAMT>-4500.00
+                <FITID>A1
+                <MEMO>Farmacity
+                </STMTTRN>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20250204
+                <TRNAMT>-120.5
+                <FITID>A2
+                <NAME>YPF
+                <MEMO>Combustible
+                </STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1>
+                </OFX>
+                """;
+
+        List<StatementRow> rows = parse(new OfxStatementParser(), ofx);
+
+        assertEquals(2, rows.size());
+        assertEquals(LocalDate.of(2025, 2, 3), rows.get(0).getDate());
+        assertEquals("Farmacity", rows.get(0).getDescription());
+        assertEquals(new BigDecimal("-4500.00"), rows.get(0).getAmount());
+        assertEquals("YPF", rows.get(1).getDescription());
+        assertEquals("A2", rows.get(1).getReference());
+    }
+
+    @Test
+    @DisplayName("OFX 2.x XML with closing tags is read the same way")
+    public void testOfxXml() throws IOException {
+        String ofx = "<?xml version=\"1.0\"?><OFX><STMTTRN><DTPOSTED>20250110</DTPOSTED>"
+                + "<TRNAMT>-99.90</TRNAMT><NAME>Netflix</NAME></STMTTRN></OFX>";
+
+        List<StatementRow> rows = parse(new OfxStatementParser(), ofx);
+
+        assertEquals(1, rows.size());
+        assertEquals(LocalDate.of(2025, 1, 10), rows.get(0).getDate());
+        assertEquals("Netflix", rows.get(0).getDescription());
+        assertEquals(new BigDecimal("-99.90"), rows.get(0).getAmount());
+    }
+
+    private static List<StatementRow> parse(StatementParser parser, String content) throws IOException {
+        List<StatementRow> rows = new ArrayList<>();
+        parser.parse(new StringReader(content), rows::add);
+        return rows;
+    }
+
+}
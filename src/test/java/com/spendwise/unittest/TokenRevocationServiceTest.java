@@ -0,0 +1,112 @@
+package com.spendwise.unittest;
+
+import com.spendwise.model.auth.TokenRevocation;
+import com.spendwise.model.auth.User;
+import com.spendwise.repository.TokenRevocationRepository;
+import com.spendwise.service.RefreshTokenService;
+import com.spendwise.service.TokenRevocationService;
+import com.spendwise.service.interfaces.IPrincipalInvalidationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Token Revocation Service Unit Tests")
+public class TokenRevocationServiceTest {
+
+    @Mock
+    private TokenRevocationRepository repository;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private IPrincipalInvalidationService principalInvalidationService;
+
+    private TokenRevocationService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        service = new TokenRevocationService(repository, refreshTokenService, principalInvalidationService, 3_600_000L);
+        user = new User();
+        user.setId(1L);
+        user.setEmail("john@example.com");
+        user.setTokenVersion(2L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("revoke bumps the token version and rejects older tokens once committed")
+    public void testRevoke() {
+        // Arrange
+        Mockito.when(repository.findAllByRevokedAtAfter(any())).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        service.revoke(user);
+
+        // Assert
+        assertEquals(3L, user.getTokenVersion());
+        Mockito.verify(repository).save(Mockito.argThat(row -> row.getUserId() == 1L && row.getMinTokenVersion() == 3L));
+        Mockito.verify(refreshTokenService).deleteAllForUser(user);
+        Mockito.verify(principalInvalidationService).invalidate("john@example.com");
+        assertFalse(service.isRevoked(1L, 2L), "Not applied before commit");
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(service.isRevoked(1L, 2L));
+        assertFalse(service.isRevoked(1L, 3L));
+        assertFalse(service.isRevoked(2L, 0L));
+    }
+
+    @Test
+    @DisplayName("revokeAll rejects every token version of the user")
+    public void testRevokeAll() {
+        // Act
+        service.revokeAll(user);
+
+        // Assert
+        assertTrue(service.isRevoked(1L, 1_000L));
+        Mockito.verify(refreshTokenService).deleteAllForUser(user);
+    }
+
+    @Test
+    @DisplayName("refresh picks up the revocations written by other nodes")
+    public void testRefresh() {
+        // Arrange
+        TokenRevocation row = new TokenRevocation();
+        row.setUserId(5L);
+        row.setMinTokenVersion(4L);
+        row.setRevokedAt(LocalDateTime.now());
+        Mockito.when(repository.findAllByRevokedAtAfter(any())).thenReturn(List.of(row));
+
+        // Act
+        int loaded = service.refresh();
+
+        // Assert
+        assertEquals(1, loaded);
+        assertTrue(service.isRevoked(5L, 3L));
+        assertFalse(service.isRevoked(5L, 4L));
+        Mockito.verify(repository, Mockito.times(1)).findAllByRevokedAtAfter(any());
+    }
+
+}
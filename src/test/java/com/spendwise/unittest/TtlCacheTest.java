@@ -0,0 +1,115 @@
+package com.spendwise.unittest;
+
+import com.spendwise.cache.TtlCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TtlCache Unit Tests")
+public class TtlCacheTest {
+
+    private MutableClock clock;
+    private TtlCache<String, Long> cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        cache = new TtlCache<>(2, Duration.ofSeconds(60), clock);
+    }
+
+    @Test
+    @DisplayName("get returns the stored value before the TTL elapses")
+    public void testGetBeforeExpiry() {
+        cache.put("a", 1L);
+        clock.advance(Duration.ofSeconds(59));
+        assertEquals(1L, cache.get("a"));
+    }
+
+    @Test
+    @DisplayName("get returns null once the TTL elapses")
+    public void testGetAfterExpiry() {
+        cache.put("a", 1L);
+        clock.advance(Duration.ofSeconds(60));
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("put evicts the least recently used entry when the size bound is reached")
+    public void testSizeBound() {
+        cache.put("a", 1L);
+        cache.put("b", 2L);
+        cache.get("a");
+        cache.put("c", 3L);
+
+        assertEquals(2, cache.size());
+        assertEquals(1L, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3L, cache.get("c"));
+    }
+
+    @Test
+    @DisplayName("getOrCompute only runs the loader on a miss")
+    public void testGetOrCompute() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(42L, cache.getOrCompute("a", k -> { loads.incrementAndGet(); return 42L; }));
+        assertEquals(42L, cache.getOrCompute("a", k -> { loads.incrementAndGet(); return 0L; }));
+        assertEquals(1, loads.get());
+
+        cache.invalidate("a");
+        assertEquals(7L, cache.getOrCompute("a", k -> { loads.incrementAndGet(); return 7L; }));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("invalidateIf removes only the matching keys")
+    public void testInvalidateIf() {
+        TtlCache<String, Long> byUser = new TtlCache<>(10, Duration.ofSeconds(60), clock);
+        byUser.put("1|a", 1L);
+        byUser.put("1|b", 2L);
+        byUser.put("2|a", 3L);
+
+        byUser.invalidateIf(key -> key.startsWith("1|"));
+
+        assertNull(byUser.get("1|a"));
+        assertNull(byUser.get("1|b"));
+        assertEquals(3L, byUser.get("2|a"));
+        assertEquals(1, byUser.size());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+    }
+
+}
@@ -5,6 +5,8 @@ import com.spendwise.dto.UserFilterDTO;
 import com.spendwise.model.auth.User;
 import com.spendwise.repository.UserRepository;
 import com.spendwise.service.UserService;
+import com.spendwise.service.interfaces.IPrincipalInvalidationService;
+import com.spendwise.service.interfaces.ITokenRevocationService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +41,12 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private IPrincipalInvalidationService principalInvalidationService;
+
+    @Mock
+    private ITokenRevocationService tokenRevocationService;
+
     @InjectMocks
     private UserService userService;
 
@@ -390,7 +398,34 @@ public class UserServiceTest {
         assertEquals(expected, obtained);
         Mockito.verify(userRepository).findById(id);
         Mockito.verify(userRepository).save(existingUser);
-        Mockito.verifyNoMoreInteractions(userRepository);
+        Mockito.verify(principalInvalidationService).invalidate("old@example.com");
+        Mockito.verify(tokenRevocationService).revoke(existingUser);
+        Mockito.verifyNoMoreInteractions(userRepository, principalInvalidationService, tokenRevocationService);
+    }
+
+    @Test
+    @DisplayName("Update user without changing email or password keeps the issued tokens")
+    public void testUpdateProfileOnlyKeepsTokens() throws Exception {
+
+        // Arrange
+        Long id = 1L;
+        User existingUser = buildUser(id, "john@example.com", "John", "Doe", "$2a$10$oldHash", true);
+
+        UserDTO updateDTO = new UserDTO();
+        updateDTO.setEmail("john@example.com");
+        updateDTO.setName("Johnny");
+        updateDTO.setSurname("Doe");
+
+        Mockito.when(userRepository.findById(id)).thenReturn(Optional.of(existingUser));
+        Mockito.when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // Act
+        UserDTO obtained = userService.update(id, updateDTO);
+
+        // Assert
+        assertEquals("Johnny", obtained.getName());
+        Mockito.verify(principalInvalidationService).invalidate("john@example.com");
+        Mockito.verifyNoInteractions(tokenRevocationService);
     }
 
     @Test
@@ -422,6 +457,7 @@ public class UserServiceTest {
         Mockito.verify(passwordEncoder).encode("newPassword");
         Mockito.verify(userRepository).findById(id);
         Mockito.verify(userRepository).save(existingUser);
+        Mockito.verify(tokenRevocationService).revoke(existingUser);
         Mockito.verifyNoMoreInteractions(userRepository);
     }
 
@@ -450,6 +486,7 @@ public class UserServiceTest {
         assertEquals(expected, deleted);
         Mockito.verify(userRepository).findById(id);
         Mockito.verify(userRepository).delete(user);
+        Mockito.verify(tokenRevocationService).revokeAll(user);
         Mockito.verifyNoMoreInteractions(userRepository);
     }
 
@@ -473,6 +510,7 @@ public class UserServiceTest {
         assertFalse(obtained.getEnabled());
         Mockito.verify(userRepository).findById(id);
         Mockito.verify(userRepository).save(user);
+        Mockito.verify(tokenRevocationService).revoke(user);
         Mockito.verifyNoMoreInteractions(userRepository);
     }
 
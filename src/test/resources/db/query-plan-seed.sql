@@ -0,0 +1,88 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- Dataset para QueryPlanTest: 500 usuarios con volúmenes parecidos a un usuario
+-- activo, de modo que el planner elija índice sólo si existe uno que sirva.
+-- ─────────────────────────────────────────────────────────────────────────────
+INSERT INTO APP_USER (EMAIL, PASSWORD_HASH, NAME, SURNAME, ENABLED, ROLE, CREATION_DATE, LAST_UPDATE_DATE)
+SELECT 'user' || u || '@test.com', 'hash', 'Name ' || u, 'Surname', true, 'USER', now(), now()
+FROM generate_series(1, 500) u;
+
+INSERT INTO CURRENCY (NAME, SYMBOL, ENABLED, IS_DEFAULT, USER_ID)
+SELECT 'Currency ' || c, 'C' || c, true, c = 1, u.ID
+FROM APP_USER u, generate_series(1, 3) c;
+
+INSERT INTO CATEGORY (NAME, ENABLED, TYPE, USER_ID)
+SELECT 'Category ' || c, true, CASE WHEN c <= 6 THEN 'EXPENSE' ELSE 'INCOME' END, u.ID
+FROM APP_USER u, generate_series(1, 8) c;
+
+INSERT INTO ISSUING_ENTITY (DESCRIPTION, ENABLED, USER_ID)
+SELECT 'Bank ' || i, true, u.ID
+FROM APP_USER u, generate_series(1, 3) i;
+
+INSERT INTO PAYMENT_METHOD (NAME, PAYMENT_METHOD_TYPE, ENABLED, USER_ID)
+SELECT 'Card ' || p, p % 3, true, u.ID
+FROM APP_USER u, generate_series(1, 5) p;
+
+INSERT INTO SAVINGS_WALLET (NAME, SAVINGS_WALLET_TYPE, ENABLED, USER_ID)
+SELECT 'Wallet ' || w, w % 2, true, u.ID
+FROM APP_USER u, generate_series(1, 2) w;
+
+INSERT INTO EXPENSE (DESCRIPTION, DESCRIPTION_SEARCH, AMOUNT_ARS, AMOUNT_USD, DATE, MICRO_EXPENSE, USER_ID)
+SELECT 'Compra ' || e, 'compra ' || e, e * 10, e / 100.0, DATE '2024-01-01' + (e % 730), e % 7 = 0, u.ID
+FROM APP_USER u, generate_series(1, 400) e;
+
+INSERT INTO INCOME (DESCRIPTION, AMOUNT_ARS, AMOUNT_USD, DATE, USER_ID)
+SELECT 'Ingreso ' || i, i * 1000, i, DATE '2024-01-01' + (i * 14), u.ID
+FROM APP_USER u, generate_series(1, 50) i;
+
+INSERT INTO CARD_EXPENSE (DESCRIPTION, AMOUNT_ARS, AMOUNT_USD, DATE, DUE_DATE, CANCELLED, USER_ID)
+SELECT 'Cuota ' || c, c * 100, c, DATE '2024-01-01' + (c * 7), DATE '2024-01-10' + (c * 7), c % 4 = 0, u.ID
+FROM APP_USER u, generate_series(1, 100) c;
+
+INSERT INTO DEBT (DESCRIPTION, AMOUNT_ARS, AMOUNT_USD, DATE, DUE_DATE, CANCELLED, PERSONAL, USER_ID)
+SELECT 'Deuda ' || d, d * 100, d, DATE '2024-01-01' + (d * 14), DATE '2024-02-01' + (d * 14), d % 3 = 0, d % 2 = 0, u.ID
+FROM APP_USER u, generate_series(1, 50) d;
+
+INSERT INTO PERSONAL_DEBT (DESCRIPTION, AMOUNT_ARS, AMOUNT_USD, DATE, DUE_DATE, CANCELLED, CREDITOR, USER_ID)
+SELECT 'Préstamo ' || d, d * 100, d, DATE '2024-01-01' + (d * 30), DATE '2024-02-01' + (d * 30), d % 2 = 0, 'Creditor ' || d, u.ID
+FROM APP_USER u, generate_series(1, 20) d;
+
+INSERT INTO SAVING (DESCRIPTION, DESCRIPTION_SEARCH, AMOUNT_ARS, AMOUNT_USD, DATE, USER_ID)
+SELECT 'Ahorro ' || s, 'ahorro ' || s, s * 1000, s, DATE '2024-01-01' + (s * 18), u.ID
+FROM APP_USER u, generate_series(1, 40) s;
+
+INSERT INTO RECURRENT_EXPENSE (DESCRIPTION, AMOUNT_ARS, AMOUNT_USD, DAY_OF_MONTH, ENABLED, USER_ID)
+SELECT 'Suscripción ' || r, r * 1000, r, r, r % 5 <> 0, u.ID
+FROM APP_USER u, generate_series(1, 10) r;
+
+INSERT INTO RECURRENT_EXPENSE_RECORD (RECURRENT_EXPENSE_ID, MONTH, YEAR, CANCELLED, USER_ID)
+SELECT re.ID, m, y, (re.ID + m) % 6 = 0, re.USER_ID
+FROM RECURRENT_EXPENSE re, generate_series(1, 12) m, generate_series(2024, 2025) y;
+
+INSERT INTO BUDGET (DESCRIPTION, MONTH, YEAR, ENABLED, USER_ID)
+SELECT 'Presupuesto ' || b, (b - 1) % 12 + 1, 2024 + (b - 1) / 12, true, u.ID
+FROM APP_USER u, generate_series(1, 24) b;
+
+INSERT INTO BUDGET_RECURRENT_EXPENSE (BUDGET_ID, RECURRENT_EXPENSE_ID)
+SELECT b.ID, re.ID
+FROM BUDGET b JOIN RECURRENT_EXPENSE re ON re.USER_ID = b.USER_ID AND re.DAY_OF_MONTH <= 3;
+
+INSERT INTO MAIL_IMPORT (USER_ID, IMAP_MESSAGE_ID, SENDER_ENTITY, PARSED_MERCHANT, PARSED_AMOUNT, PARSED_DATE, STATUS)
+SELECT u.ID, '<' || u.ID || '.' || m || '@mail>', 'SANTANDER', 'Comercio ' || (m % 30), m * 10, DATE '2024-01-01' + m,
+       CASE WHEN m % 25 = 0 THEN 'PENDING' WHEN m % 10 = 0 THEN 'IGNORED' ELSE 'CONFIRMED' END
+FROM APP_USER u, generate_series(1, 100) m;
+
+INSERT INTO MERCHANT_BINDING (USER_ID, MERCHANT_NAME, DESCRIPTION)
+SELECT u.ID, 'Comercio ' || b, 'Binding ' || b
+FROM APP_USER u, generate_series(1, 30) b;
+
+INSERT INTO REFRESH_TOKEN (USER_ID, TOKEN, EXPIRES_AT)
+SELECT u.ID, 'refresh-' || u.ID || '-' || t, now() + interval '90 days'
+FROM APP_USER u, generate_series(1, 5) t;
+
+INSERT INTO PASSWORD_RESET_TOKEN (TOKEN, USER_ID, EXPIRY_DATE)
+SELECT 'reset-' || u.ID || '-' || t, u.ID, now() + interval '1 day'
+FROM APP_USER u, generate_series(1, 5) t;
+
+INSERT INTO VERIFICATION_TOKEN (TOKEN, USER_ID, EXPIRY_DATE)
+SELECT 'verify-' || u.ID, u.ID, now() + interval '1 day'
+FROM APP_USER u;